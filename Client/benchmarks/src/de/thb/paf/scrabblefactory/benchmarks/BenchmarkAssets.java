@@ -0,0 +1,83 @@
+package de.thb.paf.scrabblefactory.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import de.thb.paf.scrabblefactory.models.assets.AssetFileType;
+import de.thb.paf.scrabblefactory.models.assets.AssetTargetType;
+import de.thb.paf.scrabblefactory.models.assets.AssetType;
+
+import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_COMPONENTS;
+import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_NAME;
+
+/**
+ * Helper class dedicated to read the game's asset files without a running libGDX application.
+ * (Note: the assets directory is given by the system property 'benchmark.assetsDir')
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+final class BenchmarkAssets {
+
+    /**
+     * The assets directory used if no system property is set
+     */
+    private static final String DEFAULT_ASSETS_DIR = "../android/assets";
+
+    /**
+     * The init configuration's file name
+     */
+    private static final String INIT_CONFIG_FILE_NAME = "init";
+
+    /**
+     * Private constructor.
+     */
+    private BenchmarkAssets() {
+        // this is a raw static class
+    }
+
+    /**
+     * Read the raw content of an asset's init configuration file.
+     * @param assetTargetType The asset's target type
+     * @param assetID The asset's unique identifier
+     * @return The configuration file's content
+     */
+    static String readInitConfiguration(AssetTargetType assetTargetType, int assetID) {
+        String assetsDir = System.getProperty("benchmark.assetsDir", DEFAULT_ASSETS_DIR);
+        String configFilePath = AssetType.CONFIG.path + "/" + assetTargetType.path + "/" + assetID + "/" + INIT_CONFIG_FILE_NAME + AssetFileType.JSON.fileEnding;
+        try {
+            byte[] content = Files.readAllBytes(Paths.get(assetsDir, configFilePath));
+            return new String(content, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read " + configFilePath, e);
+        }
+    }
+
+    /**
+     * Get a component definition of an asset's init configuration.
+     * @param assetTargetType The asset's target type
+     * @param assetID The asset's unique identifier
+     * @param componentName The component's class name
+     * @return The component's JSON definition
+     */
+    static JsonObject getComponentDefinition(AssetTargetType assetTargetType, int assetID, String componentName) {
+        JsonObject config = new JsonParser().parse(readInitConfiguration(assetTargetType, assetID)).getAsJsonObject();
+        JsonArray componentDefinitions = config.get(JSON_KEY_COMPONENTS).getAsJsonArray();
+        for(int i=0; i<componentDefinitions.size(); i++) {
+            JsonObject componentDef = componentDefinitions.get(i).getAsJsonObject();
+            if(componentDef.get(JSON_KEY_NAME).getAsString().equals(componentName)) {
+                return componentDef;
+            }
+        }
+        throw new IllegalArgumentException("No component " + componentName + " defined for " + assetTargetType.path + " " + assetID);
+    }
+}
@@ -0,0 +1,140 @@
+package de.thb.paf.scrabblefactory.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Command line tool comparing JMH results against a stored baseline.
+ *
+ * A benchmark has regressed if it's score got worse than the baseline's score by more
+ * than the given relative threshold, i.e. the time per operation increased or the throughput
+ * decreased. The tool exits with a non-zero status if any benchmark has regressed or if no
+ * baseline has been stored yet, so a missing baseline never passes the comparison silently.
+ *
+ * Usage: BenchmarkBaselineComparator [results file] [baseline file] [threshold, e.g. 0.10]
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class BenchmarkBaselineComparator {
+
+    /**
+     * The throughput mode's name (Note: all other modes measure time, so lower scores are better)
+     */
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    public static void main(String[] args) throws IOException {
+        if(args.length < 3) {
+            System.err.println("Usage: BenchmarkBaselineComparator [results file] [baseline file] [threshold]");
+            System.exit(2);
+        }
+
+        Path resultsFile = Paths.get(args[0]);
+        Path baselineFile = Paths.get(args[1]);
+        double threshold = Double.parseDouble(args[2]);
+
+        if(!Files.exists(resultsFile)) {
+            System.err.println("No results found at " + resultsFile + " (run 'jmh' to create them)");
+            System.exit(2);
+        }
+        if(!Files.exists(baselineFile)) {
+            System.err.println("No baseline found at " + baselineFile + " (run 'updateBenchmarkBaseline' to store one)");
+            System.exit(2);
+        }
+
+        Map<String, JsonObject> results = readResults(resultsFile);
+        Map<String, JsonObject> baseline = readResults(baselineFile);
+
+        int regressionCount = 0;
+        for(Map.Entry<String, JsonObject> entry : results.entrySet()) {
+            JsonObject baselineResult = baseline.get(entry.getKey());
+            if(baselineResult == null) {
+                System.out.println(String.format(Locale.US, "%-8s %s", "NEW", entry.getKey()));
+                continue;
+            }
+
+            JsonObject result = entry.getValue();
+            double score = getScore(result);
+            double baselineScore = getScore(baselineResult);
+            double change = baselineScore != 0 ? (score - baselineScore) / baselineScore : 0;
+            boolean isThroughput = THROUGHPUT_MODE.equals(result.get("mode").getAsString());
+            boolean hasRegressed = isThroughput ? change < -threshold : change > threshold;
+
+            if(hasRegressed) {
+                regressionCount++;
+            }
+            System.out.println(String.format(Locale.US, "%-8s %s: %.4f -> %.4f %s (%+.1f%%)",
+                    hasRegressed ? "REGRESS" : "OK",
+                    entry.getKey(),
+                    baselineScore,
+                    score,
+                    result.getAsJsonObject("primaryMetric").get("scoreUnit").getAsString(),
+                    change * 100));
+        }
+
+        if(regressionCount > 0) {
+            System.err.println(String.format(Locale.US, "%d benchmark(s) regressed by more than %.1f%%", regressionCount, threshold * 100));
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Read a JMH JSON result file.
+     * @param file The result file to read
+     * @return The results indexed by their benchmark and parameters
+     * @throws IOException Thrown if the file could not be read
+     */
+    private static Map<String, JsonObject> readResults(Path file) throws IOException {
+        Map<String, JsonObject> results = new TreeMap<>();
+        try(Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonArray resultList = new JsonParser().parse(reader).getAsJsonArray();
+            for(JsonElement element : resultList) {
+                JsonObject result = element.getAsJsonObject();
+                results.put(getKey(result), result);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Get the unique key of a benchmark result consisting of it's name, mode and parameters.
+     * @param result The benchmark result
+     * @return The result's key
+     */
+    private static String getKey(JsonObject result) {
+        StringBuilder key = new StringBuilder(result.get("benchmark").getAsString())
+                .append(" [").append(result.get("mode").getAsString()).append(']');
+
+        if(result.has("params")) {
+            Map<String, String> params = new TreeMap<>();
+            for(Map.Entry<String, JsonElement> param : result.getAsJsonObject("params").entrySet()) {
+                params.put(param.getKey(), param.getValue().getAsString());
+            }
+            key.append(' ').append(params);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Get the primary score of a benchmark result.
+     * @param result The benchmark result
+     * @return The result's primary score
+     */
+    private static double getScore(JsonObject result) {
+        return result.getAsJsonObject("primaryMetric").get("score").getAsDouble();
+    }
+}
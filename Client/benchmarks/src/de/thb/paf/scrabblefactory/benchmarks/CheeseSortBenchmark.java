@@ -0,0 +1,85 @@
+package de.thb.paf.scrabblefactory.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import de.thb.paf.scrabblefactory.gameplay.sort.CheeseComparator;
+import de.thb.paf.scrabblefactory.models.entities.Cheese;
+import de.thb.paf.scrabblefactory.models.entities.EntityType;
+
+/**
+ * Benchmark of sorting cheese items by their activation state and x-position.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+@State(Scope.Thread)
+public class CheeseSortBenchmark {
+
+    /**
+     * The seed of the random cheese item placement
+     */
+    private static final long SEED = 42;
+
+    /**
+     * The number of cheese items to sort
+     */
+    @Param({"8", "32", "128"})
+    public int itemCount;
+
+    /**
+     * The unsorted cheese items
+     */
+    private List<Cheese> items;
+
+    /**
+     * The cheese items to sort (Note: refilled from the unsorted items before each sort)
+     */
+    private List<Cheese> sortedItems;
+
+    /**
+     * The cheese comparator to sort with
+     */
+    private CheeseComparator comparator;
+
+    /**
+     * Create the cheese items at random positions with random activation states.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(SEED);
+        this.items = new ArrayList<>(this.itemCount);
+        for(int i=0; i<this.itemCount; i++) {
+            Cheese cheese = new Cheese(i, EntityType.CHEESE, (char)('A' + random.nextInt(26)));
+            cheese.setPosition(new Vector2(random.nextFloat() * 15f, random.nextFloat() * 10f));
+            cheese.setActive(random.nextBoolean());
+            this.items.add(cheese);
+        }
+        this.sortedItems = new ArrayList<>(this.itemCount);
+        this.comparator = new CheeseComparator();
+    }
+
+    /**
+     * Sort a copy of the unsorted cheese items.
+     * @return The sorted cheese items
+     */
+    @Benchmark
+    public List<Cheese> sortCheeseItems() {
+        this.sortedItems.clear();
+        this.sortedItems.addAll(this.items);
+        Collections.sort(this.sortedItems, this.comparator);
+        return this.sortedItems;
+    }
+}
@@ -0,0 +1,119 @@
+package de.thb.paf.scrabblefactory.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import de.thb.paf.scrabblefactory.models.assets.AssetTargetType;
+import de.thb.paf.scrabblefactory.models.components.IComponent;
+import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
+import de.thb.paf.scrabblefactory.utils.CloneComponentHelper;
+import de.thb.paf.scrabblefactory.utils.ScrabbleFactoryClassLoader;
+
+import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_JAVA_PACKAGE;
+import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_NAME;
+
+/**
+ * Benchmark of the reflective component creation performed by the component factories,
+ * i.e. resolving the component's class, invoking it's constructor and cloning the parsed
+ * field values into the created instance.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+@State(Scope.Thread)
+public class ComponentReflectionBenchmark {
+
+    /**
+     * The asset target type of the entity owning the component
+     */
+    @Param({"ITEM", "CHARACTER"})
+    public AssetTargetType assetTargetType;
+
+    /**
+     * The component's JSON definition
+     */
+    private JsonObject componentDef;
+
+    /**
+     * The component's java package
+     */
+    private String javaPackageName;
+
+    /**
+     * The component's class name
+     */
+    private String componentName;
+
+    /**
+     * The component parsed from it's JSON definition
+     */
+    private IComponent parsedComponent;
+
+    /**
+     * The component to clone the parsed field values into
+     */
+    private IComponent component;
+
+    /**
+     * Parse the entity's physics component definition.
+     */
+    @Setup
+    public void setup() {
+        this.componentDef = BenchmarkAssets.getComponentDefinition(this.assetTargetType, 1, RigidBodyPhysicsComponent.class.getSimpleName());
+        this.javaPackageName = this.componentDef.get(JSON_KEY_JAVA_PACKAGE).getAsString();
+        this.componentName = this.componentDef.get(JSON_KEY_NAME).getAsString();
+        this.parsedComponent = new GsonBuilder().create().fromJson(this.componentDef, RigidBodyPhysicsComponent.class);
+        this.component = (IComponent) ScrabbleFactoryClassLoader.createInstance(RigidBodyPhysicsComponent.class, 1);
+    }
+
+    /**
+     * Resolve the component's class by it's package and class name.
+     * @return The resolved class
+     */
+    @Benchmark
+    public Class<?> getClassForName() {
+        return ScrabbleFactoryClassLoader.getClassForName(this.javaPackageName, this.componentName);
+    }
+
+    /**
+     * Create a component instance by the reflective constructor lookup.
+     * @return The created component
+     */
+    @Benchmark
+    public Object createInstance() {
+        return ScrabbleFactoryClassLoader.createInstance(RigidBodyPhysicsComponent.class, 1);
+    }
+
+    /**
+     * Clone the parsed field values into the created component.
+     * @return The component holding the cloned field values
+     */
+    @Benchmark
+    public IComponent cloneFieldValues() {
+        CloneComponentHelper.cloneFieldValues(this.parsedComponent, this.component);
+        return this.component;
+    }
+
+    /**
+     * Create a component the way the physics component factory does before initializing it's body.
+     * @return The created component
+     */
+    @Benchmark
+    public IComponent createComponent() {
+        Class<?> componentType = ScrabbleFactoryClassLoader.getClassForName(this.javaPackageName, this.componentName);
+        Gson gson = new GsonBuilder().create();
+        IComponent component = (IComponent) ScrabbleFactoryClassLoader.createInstance(componentType, 1);
+        IComponent parsedComponent = (IComponent) gson.fromJson(this.componentDef, component.getClass());
+        CloneComponentHelper.cloneFieldValues(parsedComponent, component);
+        return component;
+    }
+}
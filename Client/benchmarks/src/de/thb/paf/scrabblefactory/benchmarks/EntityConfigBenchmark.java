@@ -0,0 +1,92 @@
+package de.thb.paf.scrabblefactory.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import de.thb.paf.scrabblefactory.models.assets.AssetTargetType;
+import de.thb.paf.scrabblefactory.models.entities.Cheese;
+import de.thb.paf.scrabblefactory.models.entities.IEntity;
+import de.thb.paf.scrabblefactory.models.entities.Player;
+import de.thb.paf.scrabblefactory.models.prototypes.GameObjectPrototype;
+
+/**
+ * Benchmark of parsing an entity's init configuration the way the entity factory does,
+ * i.e. parsing the JSON tree and deserializing the entity with a new Gson instance, compared to
+ * creating the entity from a cached prototype.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+@State(Scope.Thread)
+public class EntityConfigBenchmark {
+
+    /**
+     * The asset target type of the entity to parse
+     */
+    @Param({"ITEM", "CHARACTER"})
+    public AssetTargetType assetTargetType;
+
+    /**
+     * The raw init configuration
+     */
+    private String rawConfig;
+
+    /**
+     * The entity class to deserialize
+     */
+    private Class<? extends IEntity> entityClass;
+
+    /**
+     * The entity's prototype built from the parsed init configuration
+     */
+    private GameObjectPrototype prototype;
+
+    /**
+     * Read the entity's init configuration.
+     */
+    @Setup
+    public void setup() {
+        this.rawConfig = BenchmarkAssets.readInitConfiguration(this.assetTargetType, 1);
+        this.entityClass = this.assetTargetType == AssetTargetType.ITEM ? Cheese.class : Player.class;
+        this.prototype = new GameObjectPrototype(this.assetTargetType, 1, this.parseConfig());
+    }
+
+    /**
+     * Parse the raw init configuration to a JSON tree.
+     * @return The parsed JSON tree
+     */
+    @Benchmark
+    public JsonObject parseConfig() {
+        return new JsonParser().parse(this.rawConfig).getAsJsonObject();
+    }
+
+    /**
+     * Parse the raw init configuration and deserialize the entity.
+     * @return The deserialized entity
+     */
+    @Benchmark
+    public IEntity parseEntity() {
+        JsonObject entityConfig = new JsonParser().parse(this.rawConfig).getAsJsonObject();
+        Gson gson = new GsonBuilder().create();
+        return gson.fromJson(entityConfig, this.entityClass);
+    }
+
+    /**
+     * Create the entity from it's cached prototype.
+     * @return The created entity
+     */
+    @Benchmark
+    public IEntity parsePrototypeEntity() {
+        return this.prototype.parse(this.entityClass);
+    }
+}
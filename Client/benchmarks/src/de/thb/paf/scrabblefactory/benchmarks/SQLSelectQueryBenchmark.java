@@ -0,0 +1,46 @@
+package de.thb.paf.scrabblefactory.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import de.thb.paf.scrabblefactory.persistence.sql.builder.SQLRelationalOperator;
+import de.thb.paf.scrabblefactory.persistence.sql.builder.SQLSelectQueryBuilder;
+
+/**
+ * Benchmark of assembling SQL select queries with the query builder.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+@State(Scope.Thread)
+public class SQLSelectQueryBenchmark {
+
+    /**
+     * Create a select query on a single table.
+     * @return The created SQL query
+     */
+    @Benchmark
+    public String createSimpleQuery() {
+        return new SQLSelectQueryBuilder("*")
+                .from("USERS")
+                .where("nickname", SQLRelationalOperator.EQUAL_TO, "'cheesy'")
+                .create();
+    }
+
+    /**
+     * Create a select query joining the user scores with their users and scores.
+     * @return The created SQL query
+     */
+    @Benchmark
+    public String createJoinQuery() {
+        return new SQLSelectQueryBuilder("userID", "nickname", "score", "createdAt")
+                .from("USER_SCORES")
+                .join("USER_SCORES", "userID", "USERS", "userID")
+                .join("USER_SCORES", "scoreID", "SCORES", "scoreID")
+                .where("userID", SQLRelationalOperator.EQUAL_TO, "1")
+                .create();
+    }
+}
@@ -0,0 +1,143 @@
+package de.thb.paf.scrabblefactory.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import de.thb.paf.scrabblefactory.persistence.entities.User;
+import de.thb.paf.scrabblefactory.persistence.entities.UserScore;
+import de.thb.paf.scrabblefactory.persistence.sqlite.ISQLiteQueryResult;
+import de.thb.paf.scrabblefactory.persistence.sqlite.SQLiteORMapper;
+
+/**
+ * Benchmark of mapping a SQLite query result to the database entities.
+ * (Note: the query result is an in-memory row, so only the O/R-mapping itself is measured)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+@State(Scope.Thread)
+public class SQLiteORMapperBenchmark {
+
+    /**
+     * The query result's single row
+     */
+    private InMemoryQueryResult queryResult;
+
+    /**
+     * Create the query result's row containing the columns of all mapped entities.
+     */
+    @Setup
+    public void setup() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("userID", 1);
+        row.put("name", "Schiller");
+        row.put("firstname", "Dominic");
+        row.put("nickname", "cheesy");
+        row.put("password", "secret");
+        row.put("dateOfBirth", 631152000000L);
+        row.put("genderID", 1);
+        row.put("shortcut", "m");
+        row.put("description", "male");
+        row.put("id", 1);
+        row.put("score", 4200);
+        row.put("createdAt", 1514764800000L);
+        this.queryResult = new InMemoryQueryResult(row);
+    }
+
+    /**
+     * Map the row to a user including it's gender.
+     * @return The mapped user
+     */
+    @Benchmark
+    public User applyUserResultSet() {
+        User user = new User();
+        SQLiteORMapper.applyResultSet(this.queryResult, user);
+        return user;
+    }
+
+    /**
+     * Map the row to a user score including it's user and score.
+     * @return The mapped user score
+     */
+    @Benchmark
+    public UserScore applyUserScoreResultSet() {
+        UserScore userScore = new UserScore();
+        SQLiteORMapper.applyResultSet(this.queryResult, userScore);
+        return userScore;
+    }
+
+    /**
+     * SQLite query result holding a single in-memory row.
+     *
+     * @author Dominic Schiller - Technische Hochschule Brandenburg
+     * @version 1.0
+     * @since 1.0
+     */
+    private static class InMemoryQueryResult implements ISQLiteQueryResult {
+
+        /**
+         * The row's values indexed by their column name
+         */
+        private final Map<String, Object> row;
+
+        /**
+         * Constructor.
+         * @param row The row's values indexed by their column name
+         */
+        InMemoryQueryResult(Map<String, Object> row) {
+            this.row = row;
+        }
+
+        @Override
+        public int getInt(String columnName) throws SQLException {
+            return ((Number)this.getValue(columnName)).intValue();
+        }
+
+        @Override
+        public long getLong(String columnName) throws SQLException {
+            return ((Number)this.getValue(columnName)).longValue();
+        }
+
+        @Override
+        public String getString(String columnName) throws SQLException {
+            return (String)this.getValue(columnName);
+        }
+
+        @Override
+        public int getCount() {
+            return 1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+
+        /**
+         * Get a column's value.
+         * @param columnName The column's name
+         * @return The column's value
+         * @throws SQLException Thrown if the row has no such column
+         */
+        private Object getValue(String columnName) throws SQLException {
+            Object value = this.row.get(columnName);
+            if(value == null) {
+                throw new SQLException("no such column: " + columnName);
+            }
+            return value;
+        }
+    }
+}
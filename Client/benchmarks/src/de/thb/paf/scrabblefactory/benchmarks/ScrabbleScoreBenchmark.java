@@ -0,0 +1,41 @@
+package de.thb.paf.scrabblefactory.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import de.thb.paf.scrabblefactory.gameplay.ScrabbleScoreCalculator;
+
+/**
+ * Benchmark of the scrabble score calculation performed when a challenge is won.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+@State(Scope.Thread)
+public class ScrabbleScoreBenchmark {
+
+    /**
+     * The solved search word
+     */
+    @Param({"CAT", "SCRABBLE", "QUIZZICALLY"})
+    public String searchWord;
+
+    /**
+     * The remaining time in milliseconds
+     */
+    @Param({"42000"})
+    public long remainingTime;
+
+    /**
+     * Calculate the score of the solved search word.
+     * @return The calculated scrabble score
+     */
+    @Benchmark
+    public int calculateScore() {
+        return ScrabbleScoreCalculator.calculateScore(this.searchWord, this.remainingTime);
+    }
+}
@@ -0,0 +1,145 @@
+package de.thb.paf.scrabblefactory.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import de.thb.paf.scrabblefactory.models.components.physics.CollisionCategory;
+import de.thb.paf.scrabblefactory.settings.Settings;
+
+import static de.thb.paf.scrabblefactory.settings.Settings.Game.PPM;
+
+/**
+ * Benchmark of a single Box2D world step with a given number of cheese bodies falling
+ * onto the level's ground, using the level's gravity and collision filter.
+ * (Note: the world is rebuilt before each iteration, so every iteration covers falling and landing cheese items)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+@State(Scope.Thread)
+public class WorldStepBenchmark {
+
+    /**
+     * The level's gravity
+     */
+    private static final Vector2 GRAVITY = new Vector2(0, -5.8f);
+
+    /**
+     * The cheese's edge length in meters
+     */
+    private static final float CHEESE_SIZE = 28 / PPM;
+
+    /**
+     * The number of velocity iterations per step
+     */
+    private static final int VELOCITY_ITERATIONS = 6;
+
+    /**
+     * The number of position iterations per step
+     */
+    private static final int POSITION_ITERATIONS = 2;
+
+    /**
+     * The number of cheese bodies
+     */
+    @Param({"10", "50", "200"})
+    public int cheeseCount;
+
+    /**
+     * The physical world to step
+     */
+    private World world;
+
+    /**
+     * Load the Box2D natives.
+     */
+    @Setup(Level.Trial)
+    public void loadNatives() {
+        Box2D.init();
+    }
+
+    /**
+     * Build the world containing the ground and the cheese bodies.
+     */
+    @Setup(Level.Iteration)
+    public void createWorld() {
+        this.world = new World(GRAVITY, true);
+
+        float worldWidth = Settings.Game.VIRTUAL_WIDTH;
+        this.createBox(BodyDef.BodyType.StaticBody, CollisionCategory.GROUND,
+                worldWidth / 2, 0.5f, worldWidth / 2, 0.5f,
+                CollisionCategory.toMaskBits(new CollisionCategory[] {CollisionCategory.PLAYER, CollisionCategory.CHEESE}));
+
+        int columns = (int)(worldWidth / (CHEESE_SIZE * 1.5f));
+        short cheeseMask = CollisionCategory.toMaskBits(new CollisionCategory[] {CollisionCategory.GROUND, CollisionCategory.PLAYER});
+        for(int i=0; i<this.cheeseCount; i++) {
+            float x = CHEESE_SIZE + (i % columns) * CHEESE_SIZE * 1.5f;
+            float y = Settings.Game.VIRTUAL_HEIGHT + (i / columns) * CHEESE_SIZE * 1.5f;
+            this.createBox(BodyDef.BodyType.DynamicBody, CollisionCategory.CHEESE,
+                    x, y, CHEESE_SIZE / 2, CHEESE_SIZE / 2, cheeseMask);
+        }
+    }
+
+    /**
+     * Dispose the world.
+     */
+    @TearDown(Level.Iteration)
+    public void disposeWorld() {
+        this.world.dispose();
+    }
+
+    /**
+     * Perform a single fixed time step.
+     * @return The stepped world
+     */
+    @Benchmark
+    public World step() {
+        this.world.step(1f / Settings.Game.PHYSICS_SPS, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+        return this.world;
+    }
+
+    /**
+     * Create a box shaped body.
+     * @param type The body's type
+     * @param category The body's collision category
+     * @param x The body's center on the x-axis
+     * @param y The body's center on the y-axis
+     * @param halfWidth The box's half width
+     * @param halfHeight The box's half height
+     * @param maskBits The categories the body collides with
+     * @return The created body
+     */
+    private Body createBox(BodyDef.BodyType type, CollisionCategory category, float x, float y, float halfWidth, float halfHeight, short maskBits) {
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = type;
+        bodyDef.position.set(x, y);
+        Body body = this.world.createBody(bodyDef);
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(halfWidth, halfHeight);
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        fixtureDef.density = 1f;
+        fixtureDef.friction = 0.5f;
+        fixtureDef.filter.categoryBits = category.bits;
+        fixtureDef.filter.maskBits = maskBits;
+        body.createFixture(fixtureDef);
+        shape.dispose();
+        return body;
+    }
+}
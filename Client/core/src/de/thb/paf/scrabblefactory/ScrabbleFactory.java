@@ -1,6 +1,7 @@
 package de.thb.paf.scrabblefactory;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -10,7 +11,13 @@ import net.spookygames.gdx.nativefilechooser.NativeFileChooser;
 
 import java.lang.annotation.Native;
 
+import de.thb.paf.scrabblefactory.io.AssetCache;
+import de.thb.paf.scrabblefactory.io.PhysicsShapeRegistry;
+import de.thb.paf.scrabblefactory.managers.GameClockManager;
 import de.thb.paf.scrabblefactory.managers.GameScreenManager;
+import de.thb.paf.scrabblefactory.managers.LevelPreloadManager;
+import de.thb.paf.scrabblefactory.managers.PrototypeManager;
+import de.thb.paf.scrabblefactory.managers.UIResourceManager;
 import de.thb.paf.scrabblefactory.screens.LandingScreen;
 import de.thb.paf.scrabblefactory.screens.PlayScreen;
 import de.thb.paf.scrabblefactory.settings.Settings;
@@ -71,6 +78,11 @@ public class ScrabbleFactory extends Game {
 
 	@Override
 	public void render () {
+		// advance the application-wide clock driving the screens' timers on the game thread
+		GameClockManager.getInstance().update(Gdx.graphics.getDeltaTime());
+		// collect the levels prepared in the background and load the requested assets within the frame's time budget
+		LevelPreloadManager.getInstance().update();
+		AssetCache.getInstance().update();
 		super.render();
 	}
 
@@ -85,6 +97,11 @@ public class ScrabbleFactory extends Game {
 
 	@Override
 	public void dispose () {
+		LevelPreloadManager.getInstance().dispose();
+		PrototypeManager.getInstance().dispose();
+		UIResourceManager.getInstance().dispose();
+		AssetCache.getInstance().dispose();
+		PhysicsShapeRegistry.getInstance().dispose();
 		batch.dispose();
 	}
 
@@ -1,20 +1,14 @@
 package de.thb.paf.scrabblefactory.factories;
 
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 
 import de.thb.paf.scrabblefactory.models.actions.IGameAction;
 import de.thb.paf.scrabblefactory.models.components.IComponent;
 import de.thb.paf.scrabblefactory.models.events.GameEventType;
-import de.thb.paf.scrabblefactory.models.events.IGameEvent;
-import de.thb.paf.scrabblefactory.utils.CloneComponentHelper;
+import de.thb.paf.scrabblefactory.models.prototypes.ActionPrototype;
 import de.thb.paf.scrabblefactory.utils.ScrabbleFactoryClassLoader;
 
-import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_JAVA_PACKAGE;
-import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_NAME;
-
 /**
  * Factory class dedicated to create and assemble new game actions.
  *
@@ -37,14 +31,23 @@ public class ActionFactory {
      * @return The requested game action instance
      */
     public IGameAction getGameAction(JsonObject actionDef, IComponent parent) {
-        Gson gson = new GsonBuilder().create();
-        String actionName = actionDef.get(JSON_KEY_NAME).getAsString();
-        String javaPackageName = actionDef.get(JSON_KEY_JAVA_PACKAGE).getAsString();
+        return this.getGameAction(new ActionPrototype(actionDef), parent);
+    }
+
+    /**
+     * Get the game action instance defined by it's prototype.
+     * @param actionPrototype The action's prototype
+     * @param parent The component object which will be controllbed by the game action instance
+     * @return The requested game action instance (Note: null if the action's class does not exist)
+     */
+    public IGameAction getGameAction(ActionPrototype actionPrototype, IComponent parent) {
+        if(actionPrototype.getActionType() == null) {
+            return null;
+        }
 
-        IGameAction action = (IGameAction) ScrabbleFactoryClassLoader.createInstance(javaPackageName, actionName, parent);
+        IGameAction action = (IGameAction) ScrabbleFactoryClassLoader.createInstance(actionPrototype.getActionType(), parent);
         if(action != null) {
-            IGameAction parsedAction = gson.fromJson(actionDef, action.getClass());
-            CloneComponentHelper.cloneFieldValues(parsedAction, action);
+            actionPrototype.populate(action);
             this.registerToEvents(action);
         }
 
@@ -58,8 +61,14 @@ public class ActionFactory {
     public void registerToEvents(IGameAction action) {
         EventFactory eventFactory = new EventFactory();
         for(GameEventType eventType : action.getEventTypesToHandle()) {
-            IGameEvent event = eventFactory.getGameEvent(eventType);
-            event.addListener(action);
+            // make sure the event is registered with the game event manager
+            eventFactory.getGameEvent(eventType);
         }
+
+        action.getEventHandlers().subscribe(
+                action.getEventTypesToHandle(),
+                action.getEventPriority(),
+                action.getEventTarget()
+        );
     }
 }
@@ -1,10 +1,6 @@
 package de.thb.paf.scrabblefactory.factories;
 
 import com.badlogic.gdx.math.Vector2;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,6 +8,7 @@ import java.util.List;
 import de.thb.paf.scrabblefactory.managers.PlayScreenRestoreManager;
 import de.thb.paf.scrabblefactory.io.AssetLoader;
 import de.thb.paf.scrabblefactory.managers.GameObjectManager;
+import de.thb.paf.scrabblefactory.managers.PrototypeManager;
 import de.thb.paf.scrabblefactory.models.assets.AssetTargetType;
 import de.thb.paf.scrabblefactory.models.components.IComponent;
 import de.thb.paf.scrabblefactory.models.components.graphics.IGraphicsComponent;
@@ -20,16 +17,15 @@ import de.thb.paf.scrabblefactory.models.entities.Cheese;
 import de.thb.paf.scrabblefactory.models.entities.EntityType;
 import de.thb.paf.scrabblefactory.models.entities.IEntity;
 import de.thb.paf.scrabblefactory.models.entities.Player;
+import de.thb.paf.scrabblefactory.models.prototypes.ComponentPrototype;
+import de.thb.paf.scrabblefactory.models.prototypes.GameObjectPrototype;
 import de.thb.paf.scrabblefactory.settings.Settings;
-import de.thb.paf.scrabblefactory.utils.ScrabbleFactoryClassLoader;
 
-import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_COMPONENTS;
-import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_JAVA_PACKAGE;
-import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_NAME;
 import static de.thb.paf.scrabblefactory.settings.Settings.Game.PPM;
 
 /**
  * Factory class dedicated to create and assemble new entity instances.
+ * (Note: the entities are created from cached prototypes, so each entity's configuration is loaded only once)
  *
  * @author Dominic Schiller - Technische Hochschule Brandenburg
  * @version 1.0
@@ -45,6 +41,7 @@ public class EntityFactory {
 
     /**
      * Get the entity instance defined by it's entity type and unique identifier.
+     * (Note: the entity's prototype is built on the first request and cached by the prototype manager)
      * @param entityType The entity's type
      * @param entityID The entity's unique identifier
      * @return The requested entity instance
@@ -55,7 +52,7 @@ public class EntityFactory {
         }
 
         AssetTargetType assetTargetType;
-        Class entityClass;
+        Class<? extends IEntity> entityClass;
         switch(entityType) {
             case PLAYER:
                 assetTargetType = AssetTargetType.CHARACTER;
@@ -71,11 +68,11 @@ public class EntityFactory {
                 entityClass = Player.class;
                 break;
         }
-        JsonObject entityConfig = this.assetLoader.loadInitConfiguration(assetTargetType, entityID);
-        Gson gson = new GsonBuilder().create();
+        GameObjectPrototype prototype = PrototypeManager.getInstance()
+                .getPrototype(assetTargetType, entityID, this.assetLoader);
 
         // init entity
-        IEntity entity = (IEntity) gson.fromJson(entityConfig, entityClass);
+        IEntity entity = prototype.parse(entityClass);
         entity.setScale(
                 new Vector2(
                         Settings.Game.VIRTUAL_SCALE,
@@ -90,21 +87,19 @@ public class EntityFactory {
 
         // init components
         List<IComponent> components = new ArrayList<>();
-        JsonArray componentDefinitions = entityConfig.get(JSON_KEY_COMPONENTS).getAsJsonArray();
+        List<ComponentPrototype> componentPrototypes = prototype.getComponents();
 
-        for(int i=0; i<componentDefinitions.size(); i++) {
-            JsonObject componentDef = componentDefinitions.get(i).getAsJsonObject();
-            String componentName = componentDef.get(JSON_KEY_NAME).getAsString();
-            String javaPackageName = componentDef.get(JSON_KEY_JAVA_PACKAGE).getAsString();
-            Class<?> componentType = ScrabbleFactoryClassLoader.getClassForName(javaPackageName, componentName);
+        for(int i=0; i<componentPrototypes.size(); i++) {
+            ComponentPrototype componentPrototype = componentPrototypes.get(i);
+            Class<?> componentType = componentPrototype.getComponentType();
 
             IComponent component = null;
             if(IPhysicsComponent.class.isAssignableFrom(componentType)) {
                 component = new PhysicsComponentFactory(this.assetLoader)
-                        .getPhysComponent(componentType, componentDef, entity);
-            } else if(IGraphicsComponent.class.isAssignableFrom(componentType)) {
+                        .getPhysComponent(componentPrototype, entity);
+            } else if(IGraphicsComponent.class.isAssignableFrom(componentType) && Settings.App.isGraphicsEnabled) {
                 component = new GraphicsComponentFactory(this.assetLoader)
-                        .getGfxComponent(componentType, componentDef, entity);
+                        .getGfxComponent(componentPrototype, entity);
             }
 
             if(component != null) {
@@ -6,16 +6,15 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import de.thb.paf.scrabblefactory.io.AssetLoader;
 import de.thb.paf.scrabblefactory.models.IGameObject;
@@ -31,14 +30,12 @@ import de.thb.paf.scrabblefactory.models.components.graphics.IGraphicsComponent;
 import de.thb.paf.scrabblefactory.models.components.graphics.LayeredTexturesGraphicsComponent;
 import de.thb.paf.scrabblefactory.models.components.graphics.SpriteAnimationGraphicsComponent;
 import de.thb.paf.scrabblefactory.models.components.graphics.TextureLayer;
-import de.thb.paf.scrabblefactory.utils.CloneComponentHelper;
+import de.thb.paf.scrabblefactory.models.prototypes.ActionPrototype;
+import de.thb.paf.scrabblefactory.models.prototypes.ComponentPrototype;
 import de.thb.paf.scrabblefactory.utils.ScrabbleFactoryClassLoader;
 import de.thb.paf.scrabblefactory.utils.graphics.AlignmentHelper;
 import de.thb.paf.scrabblefactory.utils.graphics.ColorRandom;
 
-import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_COMPONENTS;
-import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_JAVA_PACKAGE;
-import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_NAME;
 import static de.thb.paf.scrabblefactory.settings.Settings.Game.PPM;
 import static de.thb.paf.scrabblefactory.settings.Settings.Game.RESOLUTION;
 import static de.thb.paf.scrabblefactory.settings.Settings.Game.VIRTUAL_PIXEL_DENSITY_MULTIPLIER;
@@ -81,30 +78,37 @@ public class GraphicsComponentFactory {
      * @return The requested graphic component instance
      */
     public IComponent getGfxComponent(Class<?> classType, JsonObject componentDef, IGameObject parent) {
-        Gson gson = new GsonBuilder().create();
+        return this.getGfxComponent(new ComponentPrototype(classType, componentDef), parent);
+    }
 
+    /**
+     * Get graphics component instance defined by component prototype.
+     * @param componentPrototype The component's prototype
+     * @param parent The parent game object
+     * @return The requested graphic component instance
+     */
+    public IComponent getGfxComponent(ComponentPrototype componentPrototype, IGameObject parent) {
         //TODO: implement id calculation
-        IComponent component = (IComponent) ScrabbleFactoryClassLoader.createInstance(classType, 1);
-        IComponent parsedComponent = gson.fromJson(componentDef, component.getClass());
-
-        CloneComponentHelper.cloneFieldValues(parsedComponent, component);
+        IComponent component = (IComponent) ScrabbleFactoryClassLoader.createInstance(componentPrototype.getComponentType(), 1);
+        componentPrototype.populate(component);
         component.setParent(parent);
 
         // initialize the component's special content
-        this.initGfxComponent(componentDef, component, parent);
+        this.initGfxComponent(componentPrototype, component, parent);
 
         // initialize associated game actions
-        this.initActions(componentDef, component);
+        this.initActions(componentPrototype, component);
 
         return component;
     }
 
     /**
      * Initializes the content of the passed graphics components.
+     * @param componentPrototype The graphics component's prototype
      * @param graphicsComponent The graphics component to setup
      * @param parent The parent game object
      */
-    private void initGfxComponent(JsonObject componentDef, IComponent graphicsComponent, IGameObject parent) {
+    private void initGfxComponent(ComponentPrototype componentPrototype, IComponent graphicsComponent, IGameObject parent) {
         if(graphicsComponent instanceof BasicGraphicsComponent) {
             initBasicGraphicsComponent(graphicsComponent, parent);
         } else if(graphicsComponent instanceof LayeredTexturesGraphicsComponent) {
@@ -114,7 +118,7 @@ public class GraphicsComponentFactory {
         } else if(graphicsComponent instanceof FontGraphicsComponent) {
             initFontGraphicsComponent(graphicsComponent, parent);
         } else if(graphicsComponent instanceof GroupedGraphicsComponent) {
-            initGroupedGraphicsComponent(componentDef, graphicsComponent);
+            initGroupedGraphicsComponent(componentPrototype, graphicsComponent);
         }
     }
 
@@ -132,6 +136,7 @@ public class GraphicsComponentFactory {
         );
 
         if(textureAtlas != null) {
+            graphicsComponent.addAssetReference(textureAtlas);
             BasicGraphicsComponent basicGraphicsComponent = (BasicGraphicsComponent)graphicsComponent;
             basicGraphicsComponent.texture = this.initSprite(
                     textureAtlas,
@@ -182,17 +187,16 @@ public class GraphicsComponentFactory {
             borderColor = Color.BLACK;
         }
 
-        BitmapFont font = new AssetLoader().loadFont(
+        float scaleFactor = RESOLUTION.virtualScaleFactor * 1/VIRTUAL_PIXEL_DENSITY_MULTIPLIER;
+        BitmapFont font = new AssetLoader().loadScaledFont(
                 fontGraphicsComponent.fontAsset,
                 (int)(fontGraphicsComponent.fontSize * VIRTUAL_PIXEL_DENSITY_MULTIPLIER),
+                scaleFactor,
                 (int)(fontGraphicsComponent.borderWidth * VIRTUAL_PIXEL_DENSITY_MULTIPLIER),
                 fillColor,
                 borderColor
         );
-
-        font.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        float scaleFactor = RESOLUTION.virtualScaleFactor * 1/VIRTUAL_PIXEL_DENSITY_MULTIPLIER;
-        font.getData().setScale(scaleFactor);
+        graphicsComponent.addAssetReference(font);
 
         if(fontGraphicsComponent.isRelativeToParent) {
             GlyphLayout glyphLayout = new GlyphLayout();
@@ -223,24 +227,20 @@ public class GraphicsComponentFactory {
 
     /**
      * Initializes the content of a grouped graphics component.
-     * @param componentDef The graphics component's JSON definition object
+     * @param componentPrototype The graphics component's prototype holding the sub component prototypes
      * @param graphicsComponent The graphics component to assemble the content for
      */
-    private void initGroupedGraphicsComponent(JsonObject componentDef, IComponent graphicsComponent) {
+    private void initGroupedGraphicsComponent(ComponentPrototype componentPrototype, IComponent graphicsComponent) {
 
         GroupedGraphicsComponent groupedGfxComponent = (GroupedGraphicsComponent)graphicsComponent;
         GroupLayout grpLayout = groupedGfxComponent.getGroupLayout();
 
 
         List<IGraphicsComponent> components = new ArrayList<>();
-        JsonArray componentDefinitions = componentDef.get(JSON_KEY_COMPONENTS).getAsJsonArray();
+        List<ComponentPrototype> subComponentPrototypes = componentPrototype.getComponents();
 
-        for(int i=0; i<componentDefinitions.size(); i++) {
-            JsonObject subComponentDef = componentDefinitions.get(i).getAsJsonObject();
-            String componentName = subComponentDef.get(JSON_KEY_NAME).getAsString();
-            String javaPackageName = subComponentDef.get(JSON_KEY_JAVA_PACKAGE).getAsString();
-            Class<?> subComponentType = ScrabbleFactoryClassLoader.getClassForName(javaPackageName, componentName);
-            IGraphicsComponent subGfxComponent = (IGraphicsComponent) this.getGfxComponent(subComponentType, subComponentDef, grpLayout);
+        for(int i=0; i<subComponentPrototypes.size(); i++) {
+            IGraphicsComponent subGfxComponent = (IGraphicsComponent) this.getGfxComponent(subComponentPrototypes.get(i), grpLayout);
 
             if(subGfxComponent != null) {
                 components.add(subGfxComponent);
@@ -259,6 +259,7 @@ public class GraphicsComponentFactory {
     private void initLayeredGraphicsComponent(IComponent graphicsComponent, IGameObject parent) {
         //TODO: atlas name generalisieren!!!! <--- LEVEL_ATLAS_NAME schon spezialisiert
         TextureAtlas textureAtlas = this.assetLoader.loadTextureAtlas(parent.getAssetTargetType(), parent.getAssetTargetType().path, parent.getID());
+        graphicsComponent.addAssetReference(textureAtlas);
 
         List<TextureLayer> layers = new ArrayList<>();
         Collections.addAll(layers, ((LayeredTexturesGraphicsComponent) graphicsComponent).getStaticLayers());
@@ -293,13 +294,18 @@ public class GraphicsComponentFactory {
     private void initSpriteAnimationGraphicsComponent(IComponent graphicsComponent, IGameObject parent) {
         // init texture atlases
         SpriteAnimationGraphicsComponent animationGraphicsComponent = (SpriteAnimationGraphicsComponent)graphicsComponent;
-        animationGraphicsComponent.setTextures(
-                this.assetLoader.loadTextureAtlases(
-                        parent.getAssetTargetType(),
-                        animationGraphicsComponent.atlasNames,
-                        parent.getID()
-                )
+        Map<String, TextureAtlas> textureAtlases = this.assetLoader.loadTextureAtlases(
+                parent.getAssetTargetType(),
+                animationGraphicsComponent.atlasNames,
+                parent.getID()
         );
+
+        Map<String, TextureRegion[]> textures = new HashMap<>();
+        for(Map.Entry<String, TextureAtlas> entry : textureAtlases.entrySet()) {
+            graphicsComponent.addAssetReference(entry.getValue());
+            textures.put(entry.getKey(), entry.getValue().getRegions().toArray());
+        }
+        animationGraphicsComponent.setTextures(textures);
     }
 
     /**
@@ -331,16 +337,15 @@ public class GraphicsComponentFactory {
 
     /**
      * Registers the component to listen for defined events.
+     * @param componentPrototype The component's prototype holding the action prototypes
      * @param component The component to register for event observing
      */
-    private void initActions(JsonObject componentDef, IComponent component) {
-        JsonArray actionDefs = componentDef.getAsJsonArray("actions");
+    private void initActions(ComponentPrototype componentPrototype, IComponent component) {
+        List<ActionPrototype> actionPrototypes = componentPrototype.getActions();
         ActionFactory actionFactory = new ActionFactory();
-        if(actionDefs != null) {
-            for(JsonElement actionDef : actionDefs) {
-                IGameAction action = actionFactory.getGameAction(actionDef.getAsJsonObject(), component);
-                component.addAction(action);
-            }
+        for(int i=0; i<actionPrototypes.size(); i++) {
+            IGameAction action = actionFactory.getGameAction(actionPrototypes.get(i), component);
+            component.addAction(action);
         }
     }
 }
@@ -1,25 +1,22 @@
 package de.thb.paf.scrabblefactory.factories;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import de.thb.paf.scrabblefactory.io.AssetLoader;
+import de.thb.paf.scrabblefactory.io.PreparedAssets;
 import de.thb.paf.scrabblefactory.managers.GameObjectManager;
+import de.thb.paf.scrabblefactory.managers.LevelPreloadManager;
+import de.thb.paf.scrabblefactory.managers.PrototypeManager;
 import de.thb.paf.scrabblefactory.models.assets.AssetTargetType;
 import de.thb.paf.scrabblefactory.models.components.IComponent;
 import de.thb.paf.scrabblefactory.models.components.graphics.IGraphicsComponent;
 import de.thb.paf.scrabblefactory.models.components.physics.IPhysicsComponent;
 import de.thb.paf.scrabblefactory.models.level.BasicLevel;
 import de.thb.paf.scrabblefactory.models.level.ILevel;
-import de.thb.paf.scrabblefactory.utils.ScrabbleFactoryClassLoader;
-
-import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_COMPONENTS;
-import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_JAVA_PACKAGE;
-import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_NAME;
+import de.thb.paf.scrabblefactory.models.prototypes.ComponentPrototype;
+import de.thb.paf.scrabblefactory.models.prototypes.GameObjectPrototype;
+import de.thb.paf.scrabblefactory.settings.Settings;
 
 /**
  * Factory class dedicated to create and assemble new level instances.
@@ -38,38 +35,36 @@ public class LevelFactory {
 
     /**
      * Get level instance defined by it's unique identifier.
+     * (Note: takes the level's assets prepared by the level preload manager if it has been preloaded)
      * @param levelID The level's unique identifier to load it's content for
      * @return The requested level instance
      */
     public ILevel getLevel(int levelID) {
-        if(this.assetLoader == null) {
-            this.assetLoader = new AssetLoader();
-        }
+        PreparedAssets preparedAssets = LevelPreloadManager.getInstance().obtainPreparedAssets(levelID);
+        this.assetLoader = new AssetLoader(preparedAssets);
 
-        JsonObject levelConfig = this.assetLoader.loadInitConfiguration(AssetTargetType.LEVEL, levelID);
-        Gson gson = new GsonBuilder().create();
+        GameObjectPrototype prototype = PrototypeManager.getInstance()
+                .getPrototype(AssetTargetType.LEVEL, levelID, this.assetLoader);
 
         // init level
-        BasicLevel level = gson.fromJson(levelConfig, BasicLevel.class);
+        BasicLevel level = prototype.parse(BasicLevel.class);
         GameObjectManager.getInstance().addGameObject(level);
 
         // init components
         List<IComponent> components = new ArrayList<>();
-        JsonArray componentDefinitions = levelConfig.get(JSON_KEY_COMPONENTS).getAsJsonArray();
+        List<ComponentPrototype> componentPrototypes = prototype.getComponents();
 
-        for(int i=0; i<componentDefinitions.size(); i++) {
-            JsonObject componentDef = componentDefinitions.get(i).getAsJsonObject();
-            String componentName = componentDef.get(JSON_KEY_NAME).getAsString();
-            String javaPackageName = componentDef.get(JSON_KEY_JAVA_PACKAGE).getAsString();
-            Class<?> componentType = ScrabbleFactoryClassLoader.getClassForName(javaPackageName, componentName);
+        for(int i=0; i<componentPrototypes.size(); i++) {
+            ComponentPrototype componentPrototype = componentPrototypes.get(i);
+            Class<?> componentType = componentPrototype.getComponentType();
 
             IComponent component = null;
             if(IPhysicsComponent.class.isAssignableFrom(componentType)) {
                 component = new PhysicsComponentFactory(this.assetLoader)
-                        .getPhysComponent(componentType, componentDef, level);
-            } else if(IGraphicsComponent.class.isAssignableFrom(componentType)) {
+                        .getPhysComponent(componentPrototype, level);
+            } else if(IGraphicsComponent.class.isAssignableFrom(componentType) && Settings.App.isGraphicsEnabled) {
                 component = new GraphicsComponentFactory(this.assetLoader)
-                        .getGfxComponent(componentType, componentDef, level);
+                        .getGfxComponent(componentPrototype, level);
             }
 
             if(component != null) {
@@ -78,6 +73,11 @@ public class LevelFactory {
         }
 
         level.addComponents(components);
+
+        // release the prepared assets which have not been taken by the level's components
+        if(preparedAssets != null) {
+            preparedAssets.dispose();
+        }
         return level;
     }
 }
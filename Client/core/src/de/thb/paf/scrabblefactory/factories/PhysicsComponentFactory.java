@@ -5,24 +5,24 @@ import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
-import com.codeandweb.physicseditor.PhysicsShapeCache;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
+import java.util.List;
+
 import de.thb.paf.scrabblefactory.gameplay.GameContactListener;
 import de.thb.paf.scrabblefactory.io.AssetLoader;
+import de.thb.paf.scrabblefactory.io.PhysicsShapes;
 import de.thb.paf.scrabblefactory.managers.WorldPhysicsManager;
 import de.thb.paf.scrabblefactory.models.IGameObject;
 import de.thb.paf.scrabblefactory.models.actions.IGameAction;
 import de.thb.paf.scrabblefactory.models.components.IComponent;
+import de.thb.paf.scrabblefactory.models.components.physics.CollisionCategory;
 import de.thb.paf.scrabblefactory.models.components.physics.IPhysicsComponent;
 import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
 import de.thb.paf.scrabblefactory.models.components.physics.WorldPhysicsComponent;
+import de.thb.paf.scrabblefactory.models.prototypes.ActionPrototype;
+import de.thb.paf.scrabblefactory.models.prototypes.ComponentPrototype;
 import de.thb.paf.scrabblefactory.settings.Settings;
-import de.thb.paf.scrabblefactory.utils.CloneComponentHelper;
 import de.thb.paf.scrabblefactory.utils.ScrabbleFactoryClassLoader;
 
 import static de.thb.paf.scrabblefactory.settings.Settings.Game.RESOLUTION;
@@ -65,20 +65,26 @@ public class PhysicsComponentFactory {
      * @return The requested graphic component instance
      */
     public IComponent getPhysComponent(Class<?> classType, JsonObject componentDef, IGameObject parent) {
-        Gson gson = new GsonBuilder().create();
+        return this.getPhysComponent(new ComponentPrototype(classType, componentDef), parent);
+    }
 
+    /**
+     * Get physics component instance defined by component prototype.
+     * @param componentPrototype The component's prototype
+     * @param parent The parent game object
+     * @return The requested physics component instance
+     */
+    public IComponent getPhysComponent(ComponentPrototype componentPrototype, IGameObject parent) {
         //TODO: implement id calculation
-        IComponent component = (IComponent) ScrabbleFactoryClassLoader.createInstance(classType, 1);
-        IComponent parsedComponent = gson.fromJson(componentDef, component.getClass());
-
-        CloneComponentHelper.cloneFieldValues(parsedComponent, component);
+        IComponent component = (IComponent) ScrabbleFactoryClassLoader.createInstance(componentPrototype.getComponentType(), 1);
+        componentPrototype.populate(component);
         component.setParent(parent);
 
         // initialize the component's special content
         this.initPhysComponent(component, parent);
 
         // initialize associated game actions
-        this.initActions(componentDef, component);
+        this.initActions(componentPrototype, component);
 
         return component;
     }
@@ -109,7 +115,9 @@ public class PhysicsComponentFactory {
         world.setContactListener(gameContactListener);
 
         physicsComponent.setWorld(world);
-        physicsComponent.setSPS(Settings.App.FPS);
+        physicsComponent.setSPS(Settings.Game.PHYSICS_SPS);
+        physicsComponent.setMaxSubSteps(Settings.Game.PHYSICS_MAX_SUB_STEPS);
+        physicsComponent.setTimeScale(Settings.Game.PHYSICS_TIME_SCALE);
     }
 
     /**
@@ -121,34 +129,37 @@ public class PhysicsComponentFactory {
         Vector2 position = parent.getPosition();
         float scale = VIRTUAL_SCALE * RESOLUTION.virtualScaleFactor;
 
-        PhysicsShapeCache shapeCache = this.assetLoader.loadPhysicsConfiguration(
+        PhysicsShapes physicsShapes = this.assetLoader.loadPhysicsShapes(
                 parent.getAssetTargetType(),
-                parent.getID());
+                parent.getID(),
+                scale);
 
         World world = WorldPhysicsManager.getInstance().getPhysicalWorld();
-        Body body = shapeCache.createBody(
-                physicsComponent.getActiveBodyName(),
-                world,
-                scale, scale);
+        Body body = physicsShapes.createBody(physicsComponent.getActiveBodyName(), world);
         body.setTransform(position.x, position.y, 0);
         this.initFixtureWithUserData(body, physicsComponent);
 
-        physicsComponent.setPhysicsShapeShapeCache(shapeCache);
+        if(physicsComponent.getCollisionCategory() == null) {
+            physicsComponent.setCollisionCategory(CollisionCategory.of(parent));
+        }
+        physicsComponent.applyCollisionFilter(body);
+
+        physicsComponent.setPhysicsShapes(physicsShapes);
         physicsComponent.setBody(body);
+        physicsComponent.prebuildPoseBodies();
     }
 
     /**
      * Registers the component to listen for defined events.
+     * @param componentPrototype The component's prototype holding the action prototypes
      * @param component The component to register for event observing
      */
-    private void initActions(JsonObject componentDef, IComponent component) {
-        JsonArray actionDefs = componentDef.getAsJsonArray("actions");
+    private void initActions(ComponentPrototype componentPrototype, IComponent component) {
+        List<ActionPrototype> actionPrototypes = componentPrototype.getActions();
         ActionFactory actionFactory = new ActionFactory();
-        if(actionDefs != null) {
-            for(JsonElement actionDef : actionDefs) {
-                IGameAction action = actionFactory.getGameAction(actionDef.getAsJsonObject(), component);
-                component.addAction(action);
-            }
+        for(int i=0; i<actionPrototypes.size(); i++) {
+            IGameAction action = actionFactory.getGameAction(actionPrototypes.get(i), component);
+            component.addAction(action);
         }
     }
 
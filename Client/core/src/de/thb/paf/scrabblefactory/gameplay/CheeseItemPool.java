@@ -0,0 +1,168 @@
+package de.thb.paf.scrabblefactory.gameplay;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Fixture;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.thb.paf.scrabblefactory.factories.EntityFactory;
+import de.thb.paf.scrabblefactory.managers.PlayScreenRestoreManager;
+import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
+import de.thb.paf.scrabblefactory.models.entities.Cheese;
+import de.thb.paf.scrabblefactory.models.entities.EntityType;
+import de.thb.paf.scrabblefactory.models.entities.Player;
+
+/**
+ * Object pool of pre-warmed cheese entities.
+ *
+ * All cheese entities are created while loading the level, so spawning and resetting
+ * cheese items neither reads any configuration nor loads any asset or resolves any class.
+ * Reusing a cheese entity only changes it's letter glyph and it's body's transform.
+ * (Note: must only be used from the game thread)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class CheeseItemPool {
+
+    /**
+     * The unique identifier of the cheese entities to create
+     */
+    private final int cheeseID;
+
+    /**
+     * List of free cheese entities ready to be obtained
+     */
+    private List<Cheese> freeItems;
+
+    /**
+     * List of obtained cheese entities not freed yet
+     */
+    private List<Cheese> obtainedItems;
+
+    /**
+     * The entity factory required to create new cheese entities
+     */
+    private EntityFactory entityFactory;
+
+    /**
+     * Constructor.
+     * @param cheeseID The unique identifier of the cheese entities to create
+     */
+    public CheeseItemPool(int cheeseID) {
+        this.cheeseID = cheeseID;
+        this.freeItems = new ArrayList<>();
+        this.obtainedItems = new ArrayList<>();
+        this.entityFactory = new EntityFactory();
+    }
+
+    /**
+     * Create new cheese entities until the pool holds at least the given number of entities.
+     * (Note: should be called while loading the level)
+     * @param count The number of cheese entities to hold
+     */
+    public void prewarm(int count) {
+        int createCount = count - this.freeItems.size() - this.obtainedItems.size();
+        for(int i=0; i<createCount; i++) {
+            Cheese cheese = (Cheese) this.entityFactory.getEntity(EntityType.CHEESE, this.cheeseID);
+            this.resetItem(cheese);
+            this.freeItems.add(cheese);
+        }
+    }
+
+    /**
+     * Obtain an inactive cheese entity associated with the given letter.
+     * (Note: creates a new cheese entity if the pool is exhausted)
+     * @param letter The cheese's associated letter
+     * @return The obtained cheese entity
+     */
+    public Cheese obtain(char letter) {
+        if(this.freeItems.isEmpty()) {
+            this.prewarm(this.obtainedItems.size() + 1);
+        }
+
+        Cheese cheese = this.freeItems.remove(this.freeItems.size() - 1);
+        if(cheese.getLetter() != letter) {
+            cheese.setLetter(letter);
+        }
+        this.obtainedItems.add(cheese);
+        return cheese;
+    }
+
+    /**
+     * Return an obtained cheese entity to the pool.
+     * @param cheese The cheese entity to free
+     * @return The success status
+     */
+    public boolean free(Cheese cheese) {
+        if(!this.obtainedItems.remove(cheese)) {
+            return false;
+        }
+
+        this.resetItem(cheese);
+        this.freeItems.add(cheese);
+        return true;
+    }
+
+    /**
+     * Return all obtained cheese entities to the pool.
+     */
+    public void freeAll() {
+        for(int i=this.obtainedItems.size()-1; i>=0; i--) {
+            this.free(this.obtainedItems.get(i));
+        }
+    }
+
+    /**
+     * Clear the pool.
+     * (Note: the cheese entities are disposed by the game object manager)
+     */
+    public void clear() {
+        this.freeItems.clear();
+        this.obtainedItems.clear();
+    }
+
+    /**
+     * Get the number of free cheese entities.
+     * @return The number of free cheese entities
+     */
+    public int getFreeCount() {
+        return this.freeItems.size();
+    }
+
+    /**
+     * Reset a cheese entity to it's initial, inactive state.
+     * @param cheese The cheese entity to reset
+     */
+    private void resetItem(Cheese cheese) {
+        Player carrier = cheese.getCarrier();
+        if(carrier != null) {
+            carrier.removeCheeseItem(cheese);
+        }
+        cheese.setCarrier(null);
+        cheese.setCaught(false);
+        cheese.setActive(false);
+
+        RigidBodyPhysicsComponent physicsComponent = cheese.getComponent(RigidBodyPhysicsComponent.class);
+        if(physicsComponent != null) {
+            Body body = physicsComponent.getBody();
+            body.setType(BodyDef.BodyType.DynamicBody);
+            for(Fixture fixture : body.getFixtureList()) {
+                fixture.setSensor(false);
+            }
+            physicsComponent.setResting(false);
+            body.setLinearVelocity(0, 0);
+            body.setAngularVelocity(0);
+
+            Vector2 restorePosition = PlayScreenRestoreManager.getInstance().getRestorePosition(cheese);
+            if(restorePosition != null) {
+                body.setTransform(restorePosition.x, restorePosition.y, 0);
+            }
+        }
+    }
+}
@@ -1,30 +1,48 @@
 package de.thb.paf.scrabblefactory.gameplay;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Contact;
 import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.badlogic.gdx.physics.box2d.ContactListener;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.Manifold;
-import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.List;
 
 import de.thb.paf.scrabblefactory.managers.GameEventManager;
+import de.thb.paf.scrabblefactory.managers.GameObjectManager;
 import de.thb.paf.scrabblefactory.managers.WorldPhysicsManager;
 import de.thb.paf.scrabblefactory.models.IGameObject;
 import de.thb.paf.scrabblefactory.models.components.IComponent;
+import de.thb.paf.scrabblefactory.models.components.physics.CollisionCategory;
+import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
+import de.thb.paf.scrabblefactory.models.components.physics.SpatialHashGrid;
 import de.thb.paf.scrabblefactory.models.entities.Cheese;
+import de.thb.paf.scrabblefactory.models.entities.EntityType;
+import de.thb.paf.scrabblefactory.models.entities.IEntity;
 import de.thb.paf.scrabblefactory.models.entities.Player;
-import de.thb.paf.scrabblefactory.models.events.GroundContactEvent;
-import de.thb.paf.scrabblefactory.models.events.ItemContactEvent;
-import de.thb.paf.scrabblefactory.models.level.ILevel;
 
+import static de.thb.paf.scrabblefactory.models.components.physics.CollisionCategory.CHEESE;
+import static de.thb.paf.scrabblefactory.models.components.physics.CollisionCategory.GROUND;
+import static de.thb.paf.scrabblefactory.models.components.physics.CollisionCategory.LANDED_CHEESE;
+import static de.thb.paf.scrabblefactory.models.components.physics.CollisionCategory.PLAYER;
 import static de.thb.paf.scrabblefactory.models.events.GameEventType.GROUND_CONTACT;
 import static de.thb.paf.scrabblefactory.models.events.GameEventType.ITEM_CONTACT;
+import static de.thb.paf.scrabblefactory.settings.Settings.Game.PPM;
 
 
 /**
  * Basic game contact listener dedicated to handle collisions between game objects.
  *
+ * Irrelevant pairs of game objects are filtered by the fixtures' collision categories and masks,
+ * so they never produce contacts, e.g. cheese items which have landed on the ground switch to a
+ * resting category colliding neither with the ground nor with each other. Contacts which do begin
+ * are dispatched by a table of handlers indexed by the collision categories of both fixtures.
+ * (Note: pairs which only collide physically, e.g. cheese items falling on top of each other, have no handler)
+ *
  * @author Dominic Schiller - Technische Hochschule Brandenburg
  * @version 1.0
  * @since 1.0
@@ -32,6 +50,90 @@ import static de.thb.paf.scrabblefactory.models.events.GameEventType.ITEM_CONTAC
 
 public class GameContactListener implements ContactListener {
 
+    /**
+     * The margin in meters to widen proximity queries by (Note: must cover the largest item's size)
+     */
+    private static final float ITEM_SEARCH_MARGIN = 1f;
+
+    /**
+     * The contact handlers indexed by the collision categories of both contact fixtures
+     */
+    private final IContactHandler[][] contactHandlers;
+
+    /**
+     * Status per pair of collision categories if the handler expects the game objects swapped
+     */
+    private final boolean[][] isSwappedContact;
+
+    /**
+     * Reusable array of entities found by spatial hash queries
+     */
+    private final Array<IEntity> nearbyEntities = new Array<>();
+
+    /**
+     * The position of the player the Box2D AABB query is running for
+     */
+    private final Vector2 queriedPlayerPosition = new Vector2();
+
+    /**
+     * The size in meters of the player the Box2D AABB query is running for
+     */
+    private final Vector2 queriedPlayerSize = new Vector2();
+
+    /**
+     * The cheese item found by the Box2D AABB query
+     */
+    private Cheese queriedCheese;
+
+    /**
+     * Box2D AABB query callback looking for a dismissed cheese item overlapping the player
+     */
+    private final QueryCallback carryUpQuery = new QueryCallback() {
+        @Override
+        public boolean reportFixture(Fixture fixture) {
+            if(!(fixture.getUserData() instanceof IComponent)) {
+                return true;
+            }
+
+            IGameObject gameObject = ((IComponent)fixture.getUserData()).getParent();
+            if(gameObject instanceof IEntity && isCarriable((IEntity)gameObject,
+                    queriedPlayerPosition, queriedPlayerSize.x, queriedPlayerSize.y)) {
+                queriedCheese = (Cheese)gameObject;
+                return false;
+            }
+            return true;
+        }
+    };
+
+    /**
+     * Default Constructor
+     */
+    public GameContactListener() {
+        int categoryCount = CollisionCategory.values().length;
+        this.contactHandlers = new IContactHandler[categoryCount][categoryCount];
+        this.isSwappedContact = new boolean[categoryCount][categoryCount];
+
+        IContactHandler groundContactHandler = new IContactHandler() {
+            @Override
+            public void onBeginContact(IGameObject ground, IGameObject contact) {
+                postGroundContactEvent(contact);
+            }
+        };
+        this.registerContactHandler(GROUND, PLAYER, groundContactHandler);
+        this.registerContactHandler(GROUND, CHEESE, groundContactHandler);
+
+        IContactHandler itemContactHandler = new IContactHandler() {
+            @Override
+            public void onBeginContact(IGameObject player, IGameObject cheese) {
+                if(!((Cheese)cheese).isCaught()) {
+                    postItemContactEvent(player, cheese);
+                }
+            }
+        };
+        this.registerContactHandler(PLAYER, CHEESE, itemContactHandler);
+        this.registerContactHandler(PLAYER, LANDED_CHEESE, itemContactHandler);
+    }
+
     @Override
     public void beginContact(Contact contact) {
         Fixture fA = contact.getFixtureA();
@@ -46,17 +148,20 @@ public class GameContactListener implements ContactListener {
         if(fA.getUserData() == null || fB.getUserData() == null)
             return;
 
-        IGameObject goA = ((IComponent) fA.getUserData()).getParent();
-        IGameObject goB = ((IComponent) fB.getUserData()).getParent();
+        RigidBodyPhysicsComponent componentA = (RigidBodyPhysicsComponent) fA.getUserData();
+        RigidBodyPhysicsComponent componentB = (RigidBodyPhysicsComponent) fB.getUserData();
+        int categoryA = componentA.getCollisionCategory().ordinal();
+        int categoryB = componentB.getCollisionCategory().ordinal();
 
-        if(this.isGroundContact(goA, goB)) {
-            this.triggerGroundContactEventAsync(goB);
+        IContactHandler contactHandler = this.contactHandlers[categoryA][categoryB];
+        if(contactHandler == null) {
+            return;
         }
-        else if(this.isItemContact(goA, goB) || this.isItemContact(goB, goA)) {
-            this.triggerItemContactEventAsync(
-                    (goA instanceof Player) ? goA : goB,
-                    !(goB instanceof Player) ? goB : goA
-            );
+
+        if(this.isSwappedContact[categoryA][categoryB]) {
+            contactHandler.onBeginContact(componentB.getParent(), componentA.getParent());
+        } else {
+            contactHandler.onBeginContact(componentA.getParent(), componentB.getParent());
         }
     }
 
@@ -77,96 +182,130 @@ public class GameContactListener implements ContactListener {
      * Try to carry up caught and dismissed cheese item
      */
     public void tryToCarryUpCheeseItem() {
-        World w = WorldPhysicsManager.getInstance().getPhysicalWorld();
-        for(Contact contact : w.getContactList()) {
-            Fixture fA = contact.getFixtureA();
-            Fixture fB = contact.getFixtureB();
-
-            // if one of the collision objects does not have a fixture we cancel here
-            if(fA == null || fB == null)
-                continue;
-
-            // if one of the collision objects does not have any user data attached
-            // to further define the collision object we cancel here also
-            if(fA.getUserData() == null || fB.getUserData() == null)
-                continue;
-
-            IGameObject goA = ((IComponent) fA.getUserData()).getParent();
-            IGameObject goB = ((IComponent) fB.getUserData()).getParent();
-
-            boolean isPlayerAndCheese = (fA.isSensor() || fB.isSensor())
-                    && (goA instanceof Player || goA instanceof Cheese)
-                    && (goB instanceof Player || goB instanceof Cheese);
-
-            if(isPlayerAndCheese) {
-                Cheese cheese = goA instanceof Cheese ? (Cheese)goA : (Cheese)goB;
-                Player player = goA instanceof Player ? (Player)goA : (Player)goB;
+        List<IEntity> players = GameObjectManager.getInstance().getActiveGameEntities(EntityType.PLAYER);
+        for(int i=0; i<players.size(); i++) {
+            Player player = (Player)players.get(i);
+            Cheese cheese = this.findCheeseToCarryUp(player);
 
-                this.triggerItemContactEventAsync(player, cheese);
+            if(cheese != null) {
+                this.postItemContactEvent(player, cheese);
                 break;
             }
         }
     }
 
     /**
-     * Verify if the collided object hit the game world's ground.
-     * @param goA The first game object involved in the collision
-     * @param goB The second game object involved in the collision
-     * @return Status if ground contact happened
+     * Find a dismissed cheese item overlapping the player by querying the spatial hash of entities.
+     * (Note: falls back to a Box2D AABB query if the spatial hash has not been built yet)
+     * @param player The player to carry up the cheese item
+     * @return The cheese item to carry up (Note: null if no cheese item overlaps the player)
      */
-    private boolean isGroundContact(IGameObject goA, IGameObject goB) {
-        return (goA instanceof ILevel && goB instanceof Player)
-                || (goA instanceof ILevel && goB instanceof Cheese);
+    private Cheese findCheeseToCarryUp(Player player) {
+        RigidBodyPhysicsComponent physicsComponent = player.getComponent(RigidBodyPhysicsComponent.class);
+        if(physicsComponent == null) {
+            return null;
+        }
+
+        Vector2 position = physicsComponent.getBody().getPosition();
+        float width = player.getSize().x / PPM;
+        float height = player.getSize().y / PPM;
+
+        SpatialHashGrid entityGrid = WorldPhysicsManager.getInstance().getEntityGrid();
+        if(entityGrid.isBuilt()) {
+            // entities are hashed by their bottom left corner, so widen the player's bounds by the item's size
+            entityGrid.queryArea(
+                    position.x - ITEM_SEARCH_MARGIN, position.y - ITEM_SEARCH_MARGIN,
+                    position.x + width, position.y + height,
+                    this.nearbyEntities
+            );
+            for(int i=0; i<this.nearbyEntities.size; i++) {
+                IEntity entity = this.nearbyEntities.get(i);
+                if(this.isCarriable(entity, position, width, height)) {
+                    this.nearbyEntities.clear();
+                    return (Cheese)entity;
+                }
+            }
+            this.nearbyEntities.clear();
+            return null;
+        }
+
+        this.queriedPlayerPosition.set(position);
+        this.queriedPlayerSize.set(width, height);
+        this.queriedCheese = null;
+        WorldPhysicsManager.getInstance().getPhysicalWorld().QueryAABB(
+                this.carryUpQuery,
+                position.x, position.y,
+                position.x + width, position.y + height
+        );
+        return this.queriedCheese;
     }
 
     /**
-     * Verify if a player collided with an game item.
-     * @param goA The first game object involved in the collision
-     * @param goB The second game object involved in the collision
-     * @return Status if ground contact happened
+     * Verify if the entity is a dismissed cheese item overlapping the player's bounds.
+     * @param entity The entity to verify
+     * @param playerPosition The player's bottom left corner
+     * @param playerWidth The player's width in meters
+     * @param playerHeight The player's height in meters
+     * @return Status if the entity can be carried up by the player
      */
-    private boolean isItemContact(IGameObject goA, IGameObject goB) {
-         boolean isItemContact = false;
+    private boolean isCarriable(IEntity entity, Vector2 playerPosition, float playerWidth, float playerHeight) {
+        if(!(entity instanceof Cheese) || ((Cheese)entity).getCarrier() != null) {
+            return false;
+        }
 
-        if(goA instanceof Player) {
-            if(goB instanceof Cheese) {
-                 if(!((Cheese)goB).isCaught()) {
-                     isItemContact = true;
-                 } else {
+        RigidBodyPhysicsComponent physicsComponent = entity.getComponent(RigidBodyPhysicsComponent.class);
+        if(physicsComponent == null) {
+            return false;
+        }
 
-                 }
-            }
+        // only dismissed cheese items are sensors
+        Body body = physicsComponent.getBody();
+        boolean isSensor = false;
+        for(Fixture fixture : body.getFixtureList()) {
+            isSensor |= fixture.isSensor();
+        }
+        if(!isSensor) {
+            return false;
         }
 
-        return isItemContact;
+        Vector2 position = body.getPosition();
+        float width = entity.getSize().x / PPM;
+        float height = entity.getSize().y / PPM;
+        return position.x < playerPosition.x + playerWidth && position.x + width > playerPosition.x
+                && position.y < playerPosition.y + playerHeight && position.y + height > playerPosition.y;
+    }
+
+    /**
+     * Register a handler for contacts between game objects of the given collision categories.
+     * (Note: the handler gets the game objects in the order of the given categories)
+     * @param categoryA The first collision category
+     * @param categoryB The second collision category
+     * @param contactHandler The contact handler to register
+     */
+    private void registerContactHandler(CollisionCategory categoryA, CollisionCategory categoryB,
+                                        IContactHandler contactHandler) {
+        this.contactHandlers[categoryA.ordinal()][categoryB.ordinal()] = contactHandler;
+        this.contactHandlers[categoryB.ordinal()][categoryA.ordinal()] = contactHandler;
+        this.isSwappedContact[categoryA.ordinal()][categoryB.ordinal()] = false;
+        this.isSwappedContact[categoryB.ordinal()][categoryA.ordinal()] = categoryA != categoryB;
     }
 
     /**
-     * Asynchronously trigger a ground contact event.
+     * Post a ground contact event dispatched at the end of the current frame update.
      * @param contact The game object which hit the ground
      */
-    private void triggerGroundContactEventAsync(IGameObject contact) {
-        new Thread(() -> Gdx.app.postRunnable(() -> {
-                ((GroundContactEvent) GameEventManager.getInstance()
-                        .getGameEvent(GROUND_CONTACT)).setContact(contact);
-                GameEventManager.getInstance().triggerEvent(GROUND_CONTACT);
-            })
-        ).start();
+    private void postGroundContactEvent(IGameObject contact) {
+        GameEventManager gem = GameEventManager.getInstance();
+        gem.postEvent(gem.obtainEvent(GROUND_CONTACT).setContact(contact));
     }
 
     /**
-     * Asynchronously trigger a item contact event.
+     * Post a item contact event dispatched at the end of the current frame update.
      * @param contact The game object which hit the item
      * @param item The item which got hit by the contact
      */
-    private void triggerItemContactEventAsync(IGameObject contact, IGameObject item) {
-        new Thread(() -> Gdx.app.postRunnable(() -> {
-                ItemContactEvent event = ((ItemContactEvent) GameEventManager.getInstance()
-                        .getGameEvent(ITEM_CONTACT));
-                event.setContact(contact);
-                event.setItem(item);
-                GameEventManager.getInstance().triggerEvent(ITEM_CONTACT);
-            })
-        ).start();
+    private void postItemContactEvent(IGameObject contact, IGameObject item) {
+        GameEventManager gem = GameEventManager.getInstance();
+        gem.postEvent(gem.obtainEvent(ITEM_CONTACT).setContact(contact).setItem(item));
     }
 }
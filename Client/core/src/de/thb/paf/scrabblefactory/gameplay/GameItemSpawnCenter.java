@@ -1,23 +1,11 @@
 package de.thb.paf.scrabblefactory.gameplay;
 
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.Fixture;
-
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import de.thb.paf.scrabblefactory.factories.EntityFactory;
 import de.thb.paf.scrabblefactory.gameplay.timer.ICountdownListener;
-import de.thb.paf.scrabblefactory.managers.*;
-import de.thb.paf.scrabblefactory.models.components.ComponentType;
-import de.thb.paf.scrabblefactory.models.components.IComponent;
-import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
-import de.thb.paf.scrabblefactory.models.entities.Cheese;
 import de.thb.paf.scrabblefactory.models.entities.EntityType;
-import de.thb.paf.scrabblefactory.models.entities.IEntity;
 
 
 /**
@@ -47,12 +35,18 @@ public class GameItemSpawnCenter implements ICountdownListener {
      */
     private boolean isRunning;
 
+    /**
+     * The pool of pre-warmed cheese entities to spawn from
+     */
+    private CheeseItemPool cheesePool;
+
     /**
      * Private Default Constructor.
      */
     private GameItemSpawnCenter() {
         this.isRunning = false;
         this.spawnPools = new ArrayList<>();
+        this.cheesePool = new CheeseItemPool(1);
     }
 
     /**
@@ -64,6 +58,7 @@ public class GameItemSpawnCenter implements ICountdownListener {
         this();
         this.searchWord = searchWord;
         this.spawnPools.addAll(Arrays.asList(spawnPools));
+        this.prewarmSpawnPools();
         this.initSpawnPools();
     }
 
@@ -79,6 +74,7 @@ public class GameItemSpawnCenter implements ICountdownListener {
         for(GameItemSpawnPool spawnPool : this.spawnPools) {
             spawnPool.clear();
         }
+        this.cheesePool.freeAll();
         this.initSpawnPools();
     }
 
@@ -120,58 +116,29 @@ public class GameItemSpawnCenter implements ICountdownListener {
         }
 
         this.spawnPools.clear();
+        this.cheesePool.clear();
     }
 
     /**
-     * Initialize all associated game item spawn pools by creating inactive game items
-     * to spawn from.
+     * Pre-warm the game item pools, so resetting the spawn pools does not create any game items.
      */
-    private void initSpawnPools() {
-        EntityFactory entityFactory = new EntityFactory();
-        GameObjectManager gom = GameObjectManager.getInstance();
-        de.thb.paf.scrabblefactory.managers.PlayScreenRestoreManager restoreManager = de.thb.paf.scrabblefactory.managers.PlayScreenRestoreManager.getInstance();
-
+    private void prewarmSpawnPools() {
         for(GameItemSpawnPool spawnPool : this.spawnPools) {
-
-            List<IEntity> gameItems = gom.getGameEntity(spawnPool.itemType);
-            int remainingItems = spawnPool.maxAllowedItemsCount - gameItems.size();
-            int minItems = remainingItems < 0 ? spawnPool.maxAllowedItemsCount : gameItems.size();
-            for(int i=0; i<minItems; i++) {
-                IEntity gameItem = gameItems.get(i);
-                if(gameItem.getType() == EntityType.CHEESE) {
-                    ((Cheese)gameItem).setLetter(this.searchWord.charAt(i));
-                    ((Cheese)gameItem).setCarrier(null);
-                    ((Cheese)gameItem).setCaught(false);
-                    gameItem.setActive(false);
-                    Vector2 restorePosition = restoreManager.getRestorePosition(gameItem);
-                    if(restorePosition != null) {
-                        for(IComponent component : gameItem.getAllComponents(ComponentType.PHYS_COMPONENT)) {
-                            if(component instanceof RigidBodyPhysicsComponent) {
-                                Body body = ((RigidBodyPhysicsComponent) component).getBody();
-                                body.setType(BodyDef.BodyType.DynamicBody);
-                                for(Fixture fixture : body.getFixtureList()) {
-                                    fixture.setSensor(false);
-                                }
-                                body.setTransform(
-                                        restorePosition.x,
-                                        restorePosition.y,
-                                        0
-                                );
-                            }
-                        }
-                    }
-                }
-                spawnPool.addGameItem(gameItem);
+            if(spawnPool.itemType == EntityType.CHEESE) {
+                this.cheesePool.prewarm(Math.max(spawnPool.maxAllowedItemsCount, this.searchWord.length()));
             }
+        }
+    }
 
-            if(remainingItems > 0) {
-                for(int i = gameItems.size(); i<remainingItems; i++) {
-                    IEntity gameItem = entityFactory.getEntity(spawnPool.itemType, 1);
-                    gameItem.setActive(false);
-                    if(gameItem.getType() == EntityType.CHEESE) {
-                        ((Cheese)gameItem).setLetter(this.searchWord.charAt(i));
-                    }
-                    spawnPool.addGameItem(gameItem);
+    /**
+     * Initialize all associated game item spawn pools by obtaining inactive game items
+     * to spawn from.
+     */
+    private void initSpawnPools() {
+        for(GameItemSpawnPool spawnPool : this.spawnPools) {
+            if(spawnPool.itemType == EntityType.CHEESE) {
+                for(int i=0; i<this.searchWord.length(); i++) {
+                    spawnPool.addGameItem(this.cheesePool.obtain(this.searchWord.charAt(i)));
                 }
             }
         }
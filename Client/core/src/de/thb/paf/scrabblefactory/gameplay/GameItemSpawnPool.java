@@ -7,8 +7,6 @@ import com.badlogic.gdx.audio.Sound;
 import java.util.ArrayList;
 import java.util.List;
 
-import de.thb.paf.scrabblefactory.models.components.ComponentType;
-import de.thb.paf.scrabblefactory.models.components.IComponent;
 import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
 import de.thb.paf.scrabblefactory.models.entities.EntityType;
 import de.thb.paf.scrabblefactory.models.entities.IEntity;
@@ -134,12 +132,11 @@ public class GameItemSpawnPool {
                 0, (int)(Settings.Game.VIRTUAL_WIDTH - gameItem.getSize().x / PPM));
         int yPosition = (int)(Settings.Game.VIRTUAL_HEIGHT + 10 * (gameItem.getSize().y / PPM));
 
-        for(IComponent component : gameItem.getAllComponents(ComponentType.PHYS_COMPONENT)) {
-            if(component instanceof RigidBodyPhysicsComponent) {
-                ((RigidBodyPhysicsComponent)component).getBody().setTransform(
-                        xPosition, yPosition, 0
-                );
-            }
+        RigidBodyPhysicsComponent physicsComponent = gameItem.getComponent(RigidBodyPhysicsComponent.class);
+        if(physicsComponent != null) {
+            physicsComponent.getBody().setTransform(
+                    xPosition, yPosition, 0
+            );
         }
 
         this.spawnSound.play();
@@ -0,0 +1,400 @@
+package de.thb.paf.scrabblefactory.gameplay;
+
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.thb.paf.scrabblefactory.factories.EntityFactory;
+import de.thb.paf.scrabblefactory.factories.LevelFactory;
+import de.thb.paf.scrabblefactory.gameplay.timer.CountdownTimer;
+import de.thb.paf.scrabblefactory.gameplay.timer.GameClock;
+import de.thb.paf.scrabblefactory.gameplay.timer.ICountdownListener;
+import de.thb.paf.scrabblefactory.managers.GameEventManager;
+import de.thb.paf.scrabblefactory.managers.GameObjectManager;
+import de.thb.paf.scrabblefactory.managers.LevelPreloadManager;
+import de.thb.paf.scrabblefactory.managers.PlayScreenRestoreManager;
+import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
+import de.thb.paf.scrabblefactory.models.entities.EntityType;
+import de.thb.paf.scrabblefactory.models.entities.IEntity;
+import de.thb.paf.scrabblefactory.models.level.BasicLevel;
+import de.thb.paf.scrabblefactory.models.level.ILevel;
+import de.thb.paf.scrabblefactory.utils.Randomizer;
+import de.thb.paf.scrabblefactory.utils.debug.FrameMetric;
+import de.thb.paf.scrabblefactory.utils.debug.FrameProfiler;
+
+/**
+ * Represents the state of a single player scrabble game session, i.e. the level, the player,
+ * the item spawning and the challenge evaluation.
+ *
+ * The session does neither render anything nor play audio, so it can be driven by the play
+ * screen as well as by a headless simulation. All timing is derived from the session's own
+ * game clock advanced by {@link #update(float)}, so all callbacks run on the game thread.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class GameSession implements ICountdownListener {
+
+    /**
+     * The minimum delay in seconds before spawning the next cheese item
+     */
+    private static final int MIN_CHEESE_DELAY = 2;
+
+    /**
+     * The maximum delay in seconds before spawning the next cheese item
+     */
+    private static final int MAX_CHEESE_DELAY = 10;
+
+    /**
+     * The level's unique identifier
+     */
+    private final int levelID;
+
+    /**
+     * The current game level
+     */
+    private ILevel level;
+
+    /**
+     * The current player entity
+     */
+    private IEntity player;
+
+    /**
+     * The level's challenge search word
+     */
+    private String searchWord;
+
+    /**
+     * The spawn center required to spawn cheese items
+     */
+    private GameItemSpawnCenter spawnCenter;
+
+    /**
+     * The watchdog observing if the challenge is won or not
+     */
+    private ScrabbleChallengeWatchdog challengeWatchdog;
+
+    /**
+     * The game clock advanced by the session's frame updates
+     */
+    private GameClock clock;
+
+    /**
+     * The countdown timer counting down the current round's time-frame
+     */
+    private CountdownTimer countdown;
+
+    /**
+     * The session's current state
+     */
+    private GameSessionState state;
+
+    /**
+     * The score achieved within the current round
+     */
+    private int score;
+
+    /**
+     * List of registered listeners which will be notified about the challenge's result
+     */
+    private List<IGameSessionListener> sessionListeners;
+
+    /**
+     * List of registered listeners which will be notified about the round's countdown
+     */
+    private List<ICountdownListener> countdownListeners;
+
+    /**
+     * Constructor.
+     * @param levelID The level's unique identifier
+     */
+    public GameSession(int levelID) {
+        this.levelID = levelID;
+        this.state = GameSessionState.IDLE;
+        this.score = 0;
+        this.sessionListeners = new ArrayList<>();
+        this.countdownListeners = new ArrayList<>();
+        this.clock = new GameClock();
+        this.countdown = null;
+    }
+
+    /**
+     * Create the level, the player and all spawnable items and start preloading the next level.
+     */
+    public void init() {
+        this.level = new LevelFactory().getLevel(this.levelID);
+        this.player = new EntityFactory().getEntity(EntityType.PLAYER, 1);
+        this.searchWord = this.nextSearchWord();
+
+        this.spawnCenter = new GameItemSpawnCenter(
+                this.searchWord,
+                new GameItemSpawnPool(EntityType.CHEESE, MIN_CHEESE_DELAY, MAX_CHEESE_DELAY, this.searchWord.length())
+        );
+        this.challengeWatchdog = new ScrabbleChallengeWatchdog(this.searchWord);
+
+        // register all game objects created while initializing the session
+        GameObjectManager.getInstance().applyPendingChanges();
+
+        // prepare the next level in the background while this one is played
+        LevelPreloadManager.getInstance().preload(this.levelID + 1);
+    }
+
+    /**
+     * Start a new round counting down the level's time-frame.
+     */
+    public void start() {
+        this.start(this.getCountdown());
+    }
+
+    /**
+     * Start a new round.
+     * @param duration The round's time-frame in milliseconds
+     */
+    public void start(long duration) {
+        this.score = 0;
+        this.state = GameSessionState.RUNNING;
+        this.spawnCenter.startSpawning();
+
+        this.countdown = new CountdownTimer(this.clock, duration);
+        for(int i=0; i<this.countdownListeners.size(); i++) {
+            this.countdown.addCountdownListener(this.countdownListeners.get(i));
+        }
+        this.countdown.addCountdownListener(this);
+        this.countdown.start();
+    }
+
+    /**
+     * Reset the session for a new round with a new search word.
+     * (Note: the round must be started afterwards)
+     */
+    public void reset() {
+        this.state = GameSessionState.IDLE;
+        this.stopCountdown();
+        this.searchWord = this.nextSearchWord();
+        this.challengeWatchdog.dispose();
+        this.challengeWatchdog = new ScrabbleChallengeWatchdog(this.searchWord);
+
+        // reset player position
+        PlayScreenRestoreManager restoreManager = PlayScreenRestoreManager.getInstance();
+        for(IEntity player : GameObjectManager.getInstance().getGameEntity(EntityType.PLAYER)) {
+            Vector2 playerPosition = restoreManager.getRestorePosition(player);
+            RigidBodyPhysicsComponent physicsComponent = player.getComponent(RigidBodyPhysicsComponent.class);
+            if(physicsComponent != null) {
+                physicsComponent.getBody().setTransform(
+                        playerPosition.x,
+                        playerPosition.y,
+                        0
+                );
+            }
+        }
+
+        //reset spawn center
+        this.spawnCenter.reset(this.searchWord);
+    }
+
+    /**
+     * Update all game objects, dispatch the events posted meanwhile (e.g. by contacts
+     * within the physics step), verify the challenge and advance the session's game clock afterwards.
+     * (Note: the level is registered as game object and hence updated first)
+     * @param deltaTime The time passed between the last and the current frame in seconds
+     */
+    public void update(float deltaTime) {
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        profiler.begin(FrameMetric.GAME_OBJECTS_UPDATE);
+        GameObjectManager.getInstance().updateGameObjects(deltaTime);
+        profiler.end(FrameMetric.GAME_OBJECTS_UPDATE);
+
+        profiler.begin(FrameMetric.EVENT_DISPATCH);
+        GameEventManager.getInstance().dispatchQueuedEvents();
+        profiler.end(FrameMetric.EVENT_DISPATCH);
+        this.verifyChallenge();
+        this.clock.update(deltaTime);
+    }
+
+    /**
+     * Pause the session's game clock.
+     */
+    public void pause() {
+        this.clock.pause();
+    }
+
+    /**
+     * Resume the session's game clock.
+     */
+    public void resume() {
+        this.clock.resume();
+    }
+
+    /**
+     * Stop spawning and release the session's resources.
+     */
+    public void dispose() {
+        this.state = GameSessionState.IDLE;
+        this.stopCountdown();
+        this.clock.clear();
+        this.spawnCenter.clear();
+        this.challengeWatchdog.dispose();
+    }
+
+    /**
+     * Register a new listener to get notified.
+     * @param listener The new listener to register
+     */
+    public void addSessionListener(IGameSessionListener listener) {
+        this.sessionListeners.add(listener);
+    }
+
+    /**
+     * Remove a listener.
+     * @param listener The listener which will be removed from the list of listeners
+     * @return The success state
+     */
+    public boolean removeSessionListener(IGameSessionListener listener) {
+        return this.sessionListeners.remove(listener);
+    }
+
+    /**
+     * Register a new listener to get notified about the countdown of all following rounds.
+     * @param listener The new listener to register
+     */
+    public void addCountdownListener(ICountdownListener listener) {
+        this.countdownListeners.add(listener);
+    }
+
+    /**
+     * Remove a countdown listener.
+     * @param listener The listener which will be removed from the list of listeners
+     * @return The success state
+     */
+    public boolean removeCountdownListener(ICountdownListener listener) {
+        if(this.countdown != null) {
+            this.countdown.removeCountdownListener(listener);
+        }
+        return this.countdownListeners.remove(listener);
+    }
+
+    @Override
+    public void onCountdownStarted(long time) {}
+
+    @Override
+    public void onCountdownTick(long time) {
+        if(this.state != GameSessionState.RUNNING) {
+            return;
+        }
+
+        this.spawnCenter.onCountdownTick(time);
+    }
+
+    @Override
+    public void onCountdownFinished(long time) {
+        if(this.state != GameSessionState.RUNNING) {
+            return;
+        }
+
+        this.spawnCenter.stopSpawning();
+        this.state = GameSessionState.LOST;
+
+        for(IGameSessionListener listener : this.sessionListeners) {
+            listener.onChallengeLost();
+        }
+    }
+
+    /**
+     * Get the current game level.
+     * @return The current game level
+     */
+    public ILevel getLevel() {
+        return this.level;
+    }
+
+    /**
+     * Get the current player entity.
+     * @return The current player entity
+     */
+    public IEntity getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * Get the level's challenge search word.
+     * @return The level's challenge search word
+     */
+    public String getSearchWord() {
+        return this.searchWord;
+    }
+
+    /**
+     * Get the level's countdown time.
+     * @return The level's countdown time in milliseconds
+     */
+    public long getCountdown() {
+        return this.level.getCountdown();
+    }
+
+    /**
+     * Get the game clock advanced by the session's frame updates, e.g. to apply a time scale.
+     * @return The session's game clock
+     */
+    public GameClock getClock() {
+        return this.clock;
+    }
+
+    /**
+     * Get the session's current state.
+     * @return The session's current state
+     */
+    public GameSessionState getState() {
+        return this.state;
+    }
+
+    /**
+     * Get the score achieved within the current round.
+     * @return The achieved score (Note: only set if the challenge has been won)
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * Verify if the challenge has been won within the current round.
+     * (Note: cheap enough to be called once per frame)
+     */
+    private void verifyChallenge() {
+        if(this.state != GameSessionState.RUNNING || !this.challengeWatchdog.isChallengeWon()) {
+            return;
+        }
+
+        long time = this.countdown.getRemainingTime();
+        this.spawnCenter.stopSpawning();
+        this.score = ScrabbleScoreCalculator.calculateScore(this.searchWord, time);
+        this.state = GameSessionState.WON;
+        this.stopCountdown();
+
+        for(IGameSessionListener listener : this.sessionListeners) {
+            listener.onChallengeWon(this.score, time);
+        }
+    }
+
+    /**
+     * Stop the current round's countdown timer if running.
+     */
+    private void stopCountdown() {
+        if(this.countdown != null) {
+            this.countdown.stopTimer();
+        }
+    }
+
+    /**
+     * Randomly pick the next search word from the level's word pool.
+     * @return The next search word
+     */
+    private String nextSearchWord() {
+        String[] searchWords = ((BasicLevel)this.level).getWordPool();
+        int randomIndex = Randomizer.nextRandomInt(0, searchWords.length - 1);
+        return searchWords[randomIndex].toUpperCase();
+    }
+}
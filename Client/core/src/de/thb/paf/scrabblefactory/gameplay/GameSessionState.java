@@ -0,0 +1,15 @@
+package de.thb.paf.scrabblefactory.gameplay;
+
+/**
+ * Enumeration of all states a game session can be in.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+public enum GameSessionState {
+    IDLE,
+    RUNNING,
+    WON,
+    LOST
+}
@@ -0,0 +1,22 @@
+package de.thb.paf.scrabblefactory.gameplay;
+
+import de.thb.paf.scrabblefactory.models.IGameObject;
+
+/**
+ * Interface declaring a handler for the begin of a contact between game objects
+ * of two specific collision categories.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public interface IContactHandler {
+
+    /**
+     * Handle the begin of a contact.
+     * @param goA The game object of the handler's first collision category
+     * @param goB The game object of the handler's second collision category
+     */
+    void onBeginContact(IGameObject goA, IGameObject goB);
+}
@@ -0,0 +1,25 @@
+package de.thb.paf.scrabblefactory.gameplay;
+
+/**
+ * This interface defines methods a game session will call
+ * back for registered session listeners.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public interface IGameSessionListener {
+
+    /**
+     * Called when the scrabble challenge has been mastered.
+     * @param score The achieved scrabble score
+     * @param time The remaining time
+     */
+    void onChallengeWon(int score, long time);
+
+    /**
+     * Called when the countdown has been finished without mastering the scrabble challenge.
+     */
+    void onChallengeLost();
+}
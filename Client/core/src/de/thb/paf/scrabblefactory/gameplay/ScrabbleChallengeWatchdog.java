@@ -1,25 +1,26 @@
 package de.thb.paf.scrabblefactory.gameplay;
 
 
+import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
-import de.thb.paf.scrabblefactory.gameplay.sort.CheeseComparator;
-import de.thb.paf.scrabblefactory.managers.GameObjectManager;
+import de.thb.paf.scrabblefactory.managers.GameEventManager;
 import de.thb.paf.scrabblefactory.models.IGameObject;
-import de.thb.paf.scrabblefactory.models.components.ComponentType;
-import de.thb.paf.scrabblefactory.models.components.IComponent;
 import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
 import de.thb.paf.scrabblefactory.models.entities.Cheese;
-import de.thb.paf.scrabblefactory.models.entities.EntityType;
+import de.thb.paf.scrabblefactory.models.events.DiscardEvent;
+import de.thb.paf.scrabblefactory.models.events.GroundContactEvent;
+import de.thb.paf.scrabblefactory.models.events.IGameEventListener;
+import de.thb.paf.scrabblefactory.models.events.ItemContactEvent;
 
 /**
  * A basic watchdog dedicated to determine if the player has mastered the
  * scrabble challenge.
  *
+ * The watchdog keeps the letters of all landed cheese items ordered by their x-position and
+ * updates them incrementally when a cheese item lands on the ground, gets caught or discarded.
+ * Hence verifying the challenge neither allocates anything nor iterates any game object.
+ *
  * @author Dominic Schiller - Technische Hochschule Brandenburg
  * @version 1.0
  * @since 1.0
@@ -27,17 +28,70 @@ import de.thb.paf.scrabblefactory.models.entities.EntityType;
 
 public class ScrabbleChallengeWatchdog {
 
+    /**
+     * The event priority (Note: lower than the cheese's actions, so the landed body is already placed)
+     */
+    private static final int EVENT_PRIORITY = -10;
+
     /**
      * The goal search word
      */
     private String searchWord;
 
+    /**
+     * The landed cheese items ordered by their x-position
+     */
+    private Cheese[] landedItems;
+
+    /**
+     * The x-positions of the landed cheese items
+     */
+    private float[] landedPositions;
+
+    /**
+     * The number of landed cheese items
+     */
+    private int landedCount;
+
+    /**
+     * The number of landed cheese items matching the search word's letter at their position
+     */
+    private int matchCount;
+
+    /**
+     * The listener inserting cheese items which landed on the ground
+     */
+    private final IGameEventListener<GroundContactEvent> groundContactListener;
+
+    /**
+     * The listener removing caught cheese items
+     */
+    private final IGameEventListener<ItemContactEvent> itemContactListener;
+
+    /**
+     * The listener removing discarded cheese items
+     */
+    private final IGameEventListener<DiscardEvent> discardListener;
+
     /**
      * Constructor.
      * @param searchWord The goal search word
      */
     public ScrabbleChallengeWatchdog(String searchWord) {
         this.searchWord = searchWord;
+        this.landedItems = new Cheese[searchWord.length() * 2];
+        this.landedPositions = new float[this.landedItems.length];
+        this.landedCount = 0;
+        this.matchCount = 0;
+
+        this.groundContactListener = event -> this.handleLandedItem(event.getContact());
+        this.itemContactListener = event -> this.removeLandedItem(event.getItem());
+        this.discardListener = event -> this.removeLandedItem(event.getDiscardTarget());
+
+        GameEventManager gem = GameEventManager.getInstance();
+        gem.subscribe(GroundContactEvent.class, this.groundContactListener, EVENT_PRIORITY, null);
+        gem.subscribe(ItemContactEvent.class, this.itemContactListener, EVENT_PRIORITY, null);
+        gem.subscribe(DiscardEvent.class, this.discardListener, EVENT_PRIORITY, null);
     }
 
     /**
@@ -45,29 +99,119 @@ public class ScrabbleChallengeWatchdog {
      * @return Status if the player has won
      */
     public boolean isChallengeWon() {
-        GameObjectManager gom = GameObjectManager.getInstance();
-        List<Cheese> cheeseItems = new ArrayList<>();
-        for(IGameObject gameObject : gom.getGameEntity(EntityType.CHEESE)) {
-            if(gameObject instanceof Cheese && ((Cheese) gameObject).isActive()) {
-                cheeseItems.add((Cheese)gameObject);
-            }
+        return this.landedCount == this.searchWord.length() && this.matchCount == this.landedCount;
+    }
+
+    /**
+     * Stop observing the game events.
+     */
+    public void dispose() {
+        GameEventManager gem = GameEventManager.getInstance();
+        gem.unsubscribe(this.groundContactListener);
+        gem.unsubscribe(this.itemContactListener);
+        gem.unsubscribe(this.discardListener);
+        for(int i=0; i<this.landedCount; i++) {
+            this.landedItems[i] = null;
         }
+        this.landedCount = 0;
+        this.matchCount = 0;
+    }
 
-        Collections.sort(cheeseItems, new CheeseComparator());
+    /**
+     * Insert a cheese item which landed on the ground by it's x-position.
+     * (Note: only cheese items not carried by the player with a kinematic body have landed)
+     * @param gameObject The game object which hit the ground
+     */
+    private void handleLandedItem(IGameObject gameObject) {
+        if(!(gameObject instanceof Cheese) || this.indexOf(gameObject) >= 0) {
+            return;
+        }
 
-        StringBuilder searchWordBuilder = new StringBuilder();
-        for(Cheese cheese : cheeseItems) {
-            BodyDef.BodyType bodyType = BodyDef.BodyType.StaticBody;
-            for(IComponent component : cheese.getAllComponents(ComponentType.PHYS_COMPONENT)) {
-                if(component instanceof RigidBodyPhysicsComponent) {
-                    bodyType = ((RigidBodyPhysicsComponent) component).getBody().getType();
-                }
+        Cheese cheese = (Cheese)gameObject;
+        RigidBodyPhysicsComponent physicsComponent = cheese.getComponent(RigidBodyPhysicsComponent.class);
+        if(cheese.getCarrier() != null || physicsComponent == null) {
+            return;
+        }
+
+        Body body = physicsComponent.getBody();
+        if(body.getType() != BodyDef.BodyType.KinematicBody) {
+            return;
+        }
+
+        if(this.landedCount == this.landedItems.length) {
+            this.growCapacity();
+        }
+
+        float x = body.getPosition().x;
+        int insertIndex = this.landedCount;
+        while(insertIndex > 0 && this.landedPositions[insertIndex - 1] > x) {
+            insertIndex--;
+        }
+
+        System.arraycopy(this.landedItems, insertIndex, this.landedItems, insertIndex + 1, this.landedCount - insertIndex);
+        System.arraycopy(this.landedPositions, insertIndex, this.landedPositions, insertIndex + 1, this.landedCount - insertIndex);
+        this.landedItems[insertIndex] = cheese;
+        this.landedPositions[insertIndex] = x;
+        this.landedCount++;
+
+        this.updateMatchCount();
+    }
+
+    /**
+     * Remove a cheese item which does not lie on the ground any more.
+     * @param gameObject The caught or discarded game object
+     */
+    private void removeLandedItem(IGameObject gameObject) {
+        int index = this.indexOf(gameObject);
+        if(index < 0) {
+            return;
+        }
+
+        System.arraycopy(this.landedItems, index + 1, this.landedItems, index, this.landedCount - index - 1);
+        System.arraycopy(this.landedPositions, index + 1, this.landedPositions, index, this.landedCount - index - 1);
+        this.landedItems[--this.landedCount] = null;
+
+        this.updateMatchCount();
+    }
+
+    /**
+     * Get the index of a landed cheese item.
+     * @param gameObject The game object to look for
+     * @return The landed item's index (Note: -1 if the game object has not landed)
+     */
+    private int indexOf(IGameObject gameObject) {
+        for(int i=0; i<this.landedCount; i++) {
+            if(this.landedItems[i] == gameObject) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Count the landed cheese items matching the search word's letter at their position.
+     */
+    private void updateMatchCount() {
+        int count = 0;
+        int length = Math.min(this.landedCount, this.searchWord.length());
+        for(int i=0; i<length; i++) {
+            if(this.landedItems[i].getLetter() == this.searchWord.charAt(i)) {
+                count++;
             }
-            // just verify a cheese item if it is not caught by the player
-            if(cheese.getCarrier() == null && bodyType == BodyDef.BodyType.KinematicBody)
-                searchWordBuilder.append(cheese.getLetter());
         }
+        this.matchCount = count;
+    }
 
-        return searchWordBuilder.toString().equals(this.searchWord);
+    /**
+     * Double the capacity of the landed cheese items.
+     */
+    private void growCapacity() {
+        int capacity = Math.max(1, this.landedItems.length * 2);
+        Cheese[] items = new Cheese[capacity];
+        float[] positions = new float[capacity];
+        System.arraycopy(this.landedItems, 0, items, 0, this.landedCount);
+        System.arraycopy(this.landedPositions, 0, positions, 0, this.landedCount);
+        this.landedItems = items;
+        this.landedPositions = positions;
     }
 }
@@ -0,0 +1,184 @@
+package de.thb.paf.scrabblefactory.gameplay.simulation;
+
+import de.thb.paf.scrabblefactory.gameplay.GameSession;
+import de.thb.paf.scrabblefactory.gameplay.GameSessionState;
+import de.thb.paf.scrabblefactory.gameplay.IGameSessionListener;
+import de.thb.paf.scrabblefactory.managers.GameEventManager;
+import de.thb.paf.scrabblefactory.managers.GameObjectManager;
+import de.thb.paf.scrabblefactory.managers.WorldPhysicsManager;
+import de.thb.paf.scrabblefactory.settings.Settings;
+
+/**
+ * Headless gameplay simulation engine running the complete gameplay loop (level, item spawning,
+ * Box2D world, contact events, challenge evaluation and scoring) without any rendering or audio.
+ *
+ * Simulated time advances in fixed frames as fast as the CPU allows and drives the session's
+ * game clock exactly like the play screen's render loop does, so the reported
+ * simulated-seconds-per-wall-second can be used to measure gameplay logic performance changes.
+ * (Note: requires a running (headless) LibGDX application backend providing files and audio)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class GameplaySimulator implements IGameSessionListener {
+
+    /**
+     * The virtual screen width used to calculate the game's scaling settings
+     */
+    private static final int SIMULATED_SCREEN_WIDTH = 1920;
+
+    /**
+     * The virtual screen height used to calculate the game's scaling settings
+     */
+    private static final int SIMULATED_SCREEN_HEIGHT = 1080;
+
+    /**
+     * The level's unique identifier to simulate
+     */
+    private final int levelID;
+
+    /**
+     * The simulated time passing per frame in seconds
+     */
+    private final float frameTime;
+
+    /**
+     * The simulated round length in milliseconds (Note: the level's countdown is used if not positive)
+     */
+    private long roundDuration;
+
+    /**
+     * Hook executed after every simulated frame, e.g. to execute the backend's posted runnables
+     */
+    private Runnable frameHook;
+
+    /**
+     * The number of rounds won within the current run
+     */
+    private int wonRounds;
+
+    /**
+     * The summed up score of all rounds won within the current run
+     */
+    private long totalScore;
+
+    /**
+     * Constructor.
+     * @param levelID The level's unique identifier to simulate
+     */
+    public GameplaySimulator(int levelID) {
+        this(levelID, 1f / Settings.App.FPS);
+    }
+
+    /**
+     * Constructor.
+     * @param levelID The level's unique identifier to simulate
+     * @param frameTime The simulated time passing per frame in seconds
+     */
+    public GameplaySimulator(int levelID, float frameTime) {
+        this.levelID = levelID;
+        this.frameTime = frameTime;
+        this.roundDuration = 0;
+        this.frameHook = null;
+    }
+
+    /**
+     * Set the simulated round length.
+     * @param roundDuration The round length in milliseconds (Note: the level's countdown is used if not positive)
+     */
+    public void setRoundDuration(long roundDuration) {
+        this.roundDuration = roundDuration;
+    }
+
+    /**
+     * Set the hook executed after every simulated frame.
+     * @param frameHook The hook to execute (Note: might be null)
+     */
+    public void setFrameHook(Runnable frameHook) {
+        this.frameHook = frameHook;
+    }
+
+    /**
+     * Simulate the given number of rounds.
+     * @param rounds The number of rounds to simulate
+     * @return The simulation's throughput report
+     */
+    public SimulationReport run(int rounds) {
+        boolean wasGraphicsEnabled = Settings.App.isGraphicsEnabled;
+        Settings.App.isGraphicsEnabled = false;
+        Settings.update(SIMULATED_SCREEN_WIDTH, SIMULATED_SCREEN_HEIGHT);
+
+        this.wonRounds = 0;
+        this.totalScore = 0;
+
+        GameSession session = new GameSession(this.levelID);
+        session.addSessionListener(this);
+
+        long frames = 0;
+        long startTime = System.nanoTime();
+        try {
+            session.init();
+            for(int i=0; i<rounds; i++) {
+                if(i > 0) {
+                    session.reset();
+                }
+                frames += this.simulateRound(session);
+            }
+        } finally {
+            // (Note: the level is registered as game object and hence disposed by the manager)
+            GameObjectManager.getInstance().dispose();
+            GameEventManager.getInstance().dispose();
+            session.dispose();
+            WorldPhysicsManager.getInstance().dispose();
+            Settings.App.isGraphicsEnabled = wasGraphicsEnabled;
+        }
+        long wallTime = System.nanoTime() - startTime;
+
+        return new SimulationReport(
+                rounds,
+                this.wonRounds,
+                this.totalScore,
+                frames,
+                frames * (double)this.frameTime,
+                wallTime / 1e9
+        );
+    }
+
+    @Override
+    public void onChallengeWon(int score, long time) {
+        this.wonRounds++;
+        this.totalScore += score;
+    }
+
+    @Override
+    public void onChallengeLost() {}
+
+    /**
+     * Simulate a single round until the challenge has been won or the countdown has finished.
+     * @param session The game session to simulate
+     * @return The number of simulated frames
+     */
+    private long simulateRound(GameSession session) {
+        GameObjectManager gom = GameObjectManager.getInstance();
+        long frames = 0;
+
+        if(this.roundDuration > 0) {
+            session.start(this.roundDuration);
+        } else {
+            session.start();
+        }
+
+        while(session.getState() == GameSessionState.RUNNING) {
+            session.update(this.frameTime);
+            if(this.frameHook != null) {
+                this.frameHook.run();
+            }
+            gom.applyPendingChanges();
+            frames++;
+        }
+
+        return frames;
+    }
+}
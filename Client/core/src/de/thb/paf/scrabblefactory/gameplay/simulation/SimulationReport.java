@@ -0,0 +1,96 @@
+package de.thb.paf.scrabblefactory.gameplay.simulation;
+
+import java.util.Locale;
+
+/**
+ * Represents the throughput results of a headless gameplay simulation run.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ * @see GameplaySimulator
+ */
+
+public class SimulationReport {
+
+    /**
+     * The number of simulated rounds
+     */
+    public final int rounds;
+
+    /**
+     * The number of simulated rounds in which the challenge has been won
+     */
+    public final int wonRounds;
+
+    /**
+     * The summed up score of all won rounds
+     */
+    public final long totalScore;
+
+    /**
+     * The number of simulated frames
+     */
+    public final long frames;
+
+    /**
+     * The simulated game time in seconds
+     */
+    public final double simulatedSeconds;
+
+    /**
+     * The elapsed wall-clock time in seconds
+     */
+    public final double wallSeconds;
+
+    /**
+     * Constructor.
+     * @param rounds The number of simulated rounds
+     * @param wonRounds The number of simulated rounds in which the challenge has been won
+     * @param totalScore The summed up score of all won rounds
+     * @param frames The number of simulated frames
+     * @param simulatedSeconds The simulated game time in seconds
+     * @param wallSeconds The elapsed wall-clock time in seconds
+     */
+    public SimulationReport(int rounds, int wonRounds, long totalScore, long frames, double simulatedSeconds, double wallSeconds) {
+        this.rounds = rounds;
+        this.wonRounds = wonRounds;
+        this.totalScore = totalScore;
+        this.frames = frames;
+        this.simulatedSeconds = simulatedSeconds;
+        this.wallSeconds = wallSeconds;
+    }
+
+    /**
+     * Get the simulation's throughput.
+     * @return The simulated seconds per wall-clock second
+     */
+    public double getSimulatedSecondsPerWallSecond() {
+        return this.wallSeconds > 0 ? this.simulatedSeconds / this.wallSeconds : 0;
+    }
+
+    /**
+     * Get the number of simulated rounds per wall-clock minute.
+     * @return The simulated rounds per minute
+     */
+    public double getRoundsPerMinute() {
+        return this.wallSeconds > 0 ? this.rounds / this.wallSeconds * 60 : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                Locale.ROOT,
+                "rounds: %d (won: %d, total score: %d), frames: %d, simulated: %.1f s, wall: %.3f s, "
+                        + "throughput: %.1f simulated s/s, %.1f rounds/min",
+                this.rounds,
+                this.wonRounds,
+                this.totalScore,
+                this.frames,
+                this.simulatedSeconds,
+                this.wallSeconds,
+                this.getSimulatedSecondsPerWallSecond(),
+                this.getRoundsPerMinute()
+        );
+    }
+}
@@ -3,20 +3,25 @@ package de.thb.paf.scrabblefactory.gameplay.timer;
 import java.util.ArrayList;
 import java.util.List;
 
+import de.thb.paf.scrabblefactory.managers.GameClockManager;
+
 /**
  * Represents the countdown timer for handling a game level's time constraints.
  *
+ * The timer counts down on a frame-driven game clock, so all listeners get notified on the
+ * thread advancing the clock (i.e. the game thread) and pausing keeps the exact remaining time.
+ *
  * @author Dominic Schiller - Technische Hochschule Brandenburg, Melanie Steiner - Technische Hochschule Brandenburg
  * @version 1.0
  * @since 1.0
  */
 
-public class CountdownTimer extends Thread {
+public class CountdownTimer {
 
     /**
      * Default time interval of 1 second used for each countdown tick
      */
-    private final short SLEEP_INTERVAL;
+    private final long TICK_INTERVAL;
 
     /**
      * The set time to countdown from
@@ -24,19 +29,19 @@ public class CountdownTimer extends Thread {
     private final long MILLISECONDS;
 
     /**
-     * Status indicating if the countdown timer has been stopped
+     * The game clock the timer counts down on
      */
-    private boolean isStopped;
+    private final GameClock clock;
 
     /**
-     * Status indicating if the timer has been paused or not
+     * The clock task ticking the countdown (Note: null if the timer is not running)
      */
-    private volatile boolean isPaused;
+    private GameClockTask tickTask;
 
     /**
-     * Status indicating if a restart of the timer was requested or not
+     * The milliseconds passed since the timer has been started
      */
-    private volatile boolean isRestartRequested;
+    private long passedMilliseconds;
 
     /**
      * List of registered listeners which will be notified for certain events
@@ -48,11 +53,7 @@ public class CountdownTimer extends Thread {
      * @param milliseconds The time interval in milliseconds the timer is count down from
      */
     public CountdownTimer(long milliseconds) {
-        this.MILLISECONDS = milliseconds;
-        this.SLEEP_INTERVAL = 1000;
-        this.isPaused = false;
-        this.isStopped = false;
-        this.countdownListeners = new ArrayList<>();
+        this(GameClockManager.getInstance().getClock(), milliseconds, 1000);
     }
 
     /**
@@ -61,65 +62,96 @@ public class CountdownTimer extends Thread {
      * @param countInterval The count down interval in milliseconds
      */
     public CountdownTimer(long milliseconds, int countInterval) {
+        this(GameClockManager.getInstance().getClock(), milliseconds, countInterval);
+    }
+
+    /**
+     * Constructor.
+     * @param clock The game clock to count down on
+     * @param milliseconds The time interval in milliseconds the timer is count down from
+     */
+    public CountdownTimer(GameClock clock, long milliseconds) {
+        this(clock, milliseconds, 1000);
+    }
+
+    /**
+     * Constructor.
+     * @param clock The game clock to count down on
+     * @param milliseconds The milliseconds to count down
+     * @param countInterval The count down interval in milliseconds
+     */
+    public CountdownTimer(GameClock clock, long milliseconds, int countInterval) {
+        this.clock = clock;
         this.MILLISECONDS = milliseconds;
-        this.SLEEP_INTERVAL = (short)countInterval;
-        this.isPaused = false;
-        this.isStopped = false;
+        this.TICK_INTERVAL = Math.max(1, countInterval);
+        this.tickTask = null;
+        this.passedMilliseconds = 0;
         this.countdownListeners = new ArrayList<>();
     }
 
-    @Override
-    public void run() {
-        super.run();
-        long passedMilliseconds = 0;
-
-        notifyListeners(CountdownEvent.STARTED, (this.MILLISECONDS - passedMilliseconds));
-        while(passedMilliseconds < this.MILLISECONDS && !this.isRestartRequested && !this.isStopped) {
-            if(!this.isPaused) {
-                try {
-                    Thread.sleep(SLEEP_INTERVAL);
-                    passedMilliseconds += SLEEP_INTERVAL;
-                    notifyListeners(CountdownEvent.TICKED, (this.MILLISECONDS - passedMilliseconds));
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-            }
+    /**
+     * Start counting down.
+     * (Note: a running countdown gets restarted)
+     */
+    public void start() {
+        if(this.tickTask != null) {
+            this.tickTask.cancel();
         }
-        notifyListeners(CountdownEvent.FINISHED, (this.MILLISECONDS - passedMilliseconds));
 
-        // restart our self if requested
-        if(this.isRestartRequested) {
-            this.isRestartRequested = false;
-            this.start();
-        }
+        this.passedMilliseconds = 0;
+        this.tickTask = this.clock.schedule(this.TICK_INTERVAL, this.TICK_INTERVAL, this::tick);
+        notifyListeners(CountdownEvent.STARTED, this.MILLISECONDS);
     }
 
     /**
      * Stop the timer.
      */
     public void stopTimer() {
-        this.isStopped = true;
+        if(this.tickTask != null) {
+            this.finish();
+        }
     }
 
     /**
      * Pause the timer.
      */
     public void pauseTimer() {
-        isPaused = true;
+        if(this.tickTask != null) {
+            this.tickTask.pause();
+        }
     }
 
     /**
      * Resume the timer.
      */
     public void resumeTimer() {
-        isPaused = false;
+        if(this.tickTask != null) {
+            this.tickTask.resume();
+        }
     }
 
     /**
      * Restart the timer.
      */
     public void restartTimer() {
-        isRestartRequested = true;
+        this.stopTimer();
+        this.start();
+    }
+
+    /**
+     * Get the status if the timer is counting down or not.
+     * @return The running status
+     */
+    public boolean isRunning() {
+        return this.tickTask != null;
+    }
+
+    /**
+     * Get the remaining time.
+     * @return The remaining time in milliseconds
+     */
+    public long getRemainingTime() {
+        return this.MILLISECONDS - this.passedMilliseconds;
     }
 
     /**
@@ -138,13 +170,35 @@ public class CountdownTimer extends Thread {
         return countdownListeners.remove(listener);
     }
 
+    /**
+     * Count down by one tick interval.
+     */
+    private void tick() {
+        this.passedMilliseconds += this.TICK_INTERVAL;
+        notifyListeners(CountdownEvent.TICKED, this.getRemainingTime());
+
+        if(this.passedMilliseconds >= this.MILLISECONDS && this.tickTask != null) {
+            this.finish();
+        }
+    }
+
+    /**
+     * Cancel the ticking clock task and notify the listeners about the finished countdown.
+     */
+    private void finish() {
+        this.tickTask.cancel();
+        this.tickTask = null;
+        notifyListeners(CountdownEvent.FINISHED, this.getRemainingTime());
+    }
+
     /**
      * Notifies all registered listeners.
      * @param event The fired countdown event
      * @param time The current countdown time
      */
     private void notifyListeners(CountdownEvent event, long time) {
-        for(ICountdownListener listener : countdownListeners) {
+        for(int i=0; i<this.countdownListeners.size(); i++) {
+            ICountdownListener listener = this.countdownListeners.get(i);
             switch(event) {
                 case STARTED:
                     listener.onCountdownStarted(time);
@@ -0,0 +1,208 @@
+package de.thb.paf.scrabblefactory.gameplay.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Frame-driven game clock advanced by the render loop's delta time.
+ *
+ * The clock accounts passed time in whole milliseconds and carries the sub-millisecond
+ * remainder over to the next frame, so no time gets lost neither between frames nor while
+ * being paused. Scheduled tasks are executed on the thread advancing the clock (i.e. the
+ * game thread) in order of their due time, even if several of them are due within one frame.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class GameClock {
+
+    /**
+     * The elapsed clock time in milliseconds
+     */
+    private long elapsedTime;
+
+    /**
+     * The scaled frame time in milliseconds not yet accounted as elapsed time
+     */
+    private double pendingTime;
+
+    /**
+     * The factor passed frame time gets scaled with
+     */
+    private float timeScale;
+
+    /**
+     * Status indicating if the clock has been paused or not
+     */
+    private boolean isPaused;
+
+    /**
+     * List of all scheduled tasks
+     */
+    private final List<GameClockTask> tasks;
+
+    /**
+     * Default Constructor
+     */
+    public GameClock() {
+        this.elapsedTime = 0;
+        this.pendingTime = 0;
+        this.timeScale = 1f;
+        this.isPaused = false;
+        this.tasks = new ArrayList<>();
+    }
+
+    /**
+     * Advance the clock by the frame's delta time and execute all tasks getting due.
+     * @param deltaTime The time passed between the last and the current frame in seconds
+     */
+    public void update(float deltaTime) {
+        if(this.isPaused || deltaTime <= 0) {
+            return;
+        }
+
+        this.pendingTime += deltaTime * 1000d * this.timeScale;
+        long passedTime = (long) this.pendingTime;
+        if(passedTime > 0) {
+            this.pendingTime -= passedTime;
+            this.advance(passedTime);
+        }
+    }
+
+    /**
+     * Advance the clock by the given time and execute all tasks getting due.
+     * (Note: the time scale is not applied)
+     * @param milliseconds The time to advance the clock by in milliseconds
+     */
+    public void advance(long milliseconds) {
+        long targetTime = this.elapsedTime + milliseconds;
+
+        GameClockTask task;
+        while((task = this.nextDueTask(targetTime)) != null) {
+            this.elapsedTime = task.getDueTime();
+            task.execute();
+
+            // keep the time not advanced yet if a task paused the clock
+            if(this.isPaused) {
+                this.pendingTime += targetTime - this.elapsedTime;
+                this.removeCancelledTasks();
+                return;
+            }
+        }
+
+        this.elapsedTime = targetTime;
+        this.removeCancelledTasks();
+    }
+
+    /**
+     * Schedule a task executed once after the given delay.
+     * @param delay The delay in milliseconds
+     * @param callback The callback to execute
+     * @return The scheduled task
+     */
+    public GameClockTask schedule(long delay, Runnable callback) {
+        return this.schedule(delay, 0, callback);
+    }
+
+    /**
+     * Schedule a task executed after the given delay and repeated in the given interval.
+     * @param delay The delay in milliseconds
+     * @param interval The repeat interval in milliseconds (Note: the task is executed once if not positive)
+     * @param callback The callback to execute
+     * @return The scheduled task
+     */
+    public GameClockTask schedule(long delay, long interval, Runnable callback) {
+        GameClockTask task = new GameClockTask(this, callback, this.elapsedTime + Math.max(0, delay), interval);
+        this.tasks.add(task);
+        return task;
+    }
+
+    /**
+     * Pause the clock.
+     */
+    public void pause() {
+        this.isPaused = true;
+    }
+
+    /**
+     * Resume the clock.
+     */
+    public void resume() {
+        this.isPaused = false;
+    }
+
+    /**
+     * Cancel all scheduled tasks.
+     */
+    public void clear() {
+        for(int i=0; i<this.tasks.size(); i++) {
+            this.tasks.get(i).cancel();
+        }
+        this.tasks.clear();
+    }
+
+    /**
+     * Set the factor passed frame time gets scaled with.
+     * @param timeScale The time scale factor (e.g. 0.5 for half speed)
+     */
+    public void setTimeScale(float timeScale) {
+        this.timeScale = Math.max(0, timeScale);
+    }
+
+    /**
+     * Get the factor passed frame time gets scaled with.
+     * @return The time scale factor
+     */
+    public float getTimeScale() {
+        return this.timeScale;
+    }
+
+    /**
+     * Get the elapsed clock time.
+     * @return The elapsed clock time in milliseconds
+     */
+    public long getElapsedTime() {
+        return this.elapsedTime;
+    }
+
+    /**
+     * Get the status if the clock has been paused or not.
+     * @return The paused status
+     */
+    public boolean isPaused() {
+        return this.isPaused;
+    }
+
+    /**
+     * Find the scheduled task getting due first until the given time.
+     * (Note: tasks due at the same time are returned in order of their scheduling)
+     * @param targetTime The time in milliseconds to look for due tasks until
+     * @return The found task (Note: might be null)
+     */
+    private GameClockTask nextDueTask(long targetTime) {
+        GameClockTask nextTask = null;
+        for(int i=0; i<this.tasks.size(); i++) {
+            GameClockTask task = this.tasks.get(i);
+            if(task.isCancelled() || task.isPaused() || task.getDueTime() > targetTime) {
+                continue;
+            }
+            if(nextTask == null || task.getDueTime() < nextTask.getDueTime()) {
+                nextTask = task;
+            }
+        }
+        return nextTask;
+    }
+
+    /**
+     * Remove all cancelled tasks from the list of scheduled tasks.
+     */
+    private void removeCancelledTasks() {
+        for(int i=this.tasks.size()-1; i>=0; i--) {
+            if(this.tasks.get(i).isCancelled()) {
+                this.tasks.remove(i);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package de.thb.paf.scrabblefactory.gameplay.timer;
+
+/**
+ * Represents a task scheduled on a game clock.
+ * @see GameClock
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class GameClockTask {
+
+    /**
+     * The game clock the task is scheduled on
+     */
+    private final GameClock clock;
+
+    /**
+     * The callback to execute when the task gets due
+     */
+    private final Runnable callback;
+
+    /**
+     * The repeat interval in milliseconds (Note: the task is executed once if not positive)
+     */
+    private final long interval;
+
+    /**
+     * The clock time in milliseconds the task gets due
+     */
+    private long dueTime;
+
+    /**
+     * The time in milliseconds remaining until the task gets due while being paused
+     */
+    private long remainingTime;
+
+    /**
+     * Status indicating if the task has been paused or not
+     */
+    private boolean isPaused;
+
+    /**
+     * Status indicating if the task has been cancelled or not
+     */
+    private boolean isCancelled;
+
+    /**
+     * Constructor.
+     * @param clock The game clock the task is scheduled on
+     * @param callback The callback to execute when the task gets due
+     * @param dueTime The clock time in milliseconds the task gets due
+     * @param interval The repeat interval in milliseconds
+     */
+    GameClockTask(GameClock clock, Runnable callback, long dueTime, long interval) {
+        this.clock = clock;
+        this.callback = callback;
+        this.dueTime = dueTime;
+        this.interval = interval;
+        this.remainingTime = 0;
+        this.isPaused = false;
+        this.isCancelled = false;
+    }
+
+    /**
+     * Execute the task's callback and schedule the next repetition.
+     */
+    void execute() {
+        if(this.interval > 0) {
+            this.dueTime += this.interval;
+        } else {
+            this.isCancelled = true;
+        }
+        this.callback.run();
+    }
+
+    /**
+     * Pause the task while keeping the exact time remaining until it gets due.
+     */
+    public void pause() {
+        if(!this.isPaused && !this.isCancelled) {
+            this.remainingTime = this.dueTime - this.clock.getElapsedTime();
+            this.isPaused = true;
+        }
+    }
+
+    /**
+     * Resume the task with the time remaining when it has been paused.
+     */
+    public void resume() {
+        if(this.isPaused) {
+            this.dueTime = this.clock.getElapsedTime() + this.remainingTime;
+            this.isPaused = false;
+        }
+    }
+
+    /**
+     * Cancel the task.
+     */
+    public void cancel() {
+        this.isCancelled = true;
+    }
+
+    /**
+     * Get the clock time the task gets due.
+     * @return The clock time in milliseconds
+     */
+    public long getDueTime() {
+        return this.dueTime;
+    }
+
+    /**
+     * Get the status if the task has been paused or not.
+     * @return The paused status
+     */
+    public boolean isPaused() {
+        return this.isPaused;
+    }
+
+    /**
+     * Get the status if the task has been cancelled or not.
+     * @return The cancelled status
+     */
+    public boolean isCancelled() {
+        return this.isCancelled;
+    }
+}
@@ -0,0 +1,258 @@
+package de.thb.paf.scrabblefactory.io;
+
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGeneratorLoader;
+import com.badlogic.gdx.graphics.g2d.freetype.FreetypeFontLoader;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Application-wide cache of reference counted assets backed by libGDX' asset manager.
+ *
+ * Each asset is loaded once per path (Note: the paths contain the resolution tier) and shared by
+ * all of it's users. Every acquisition increases the asset's reference count and every release
+ * decreases it again, so the asset gets disposed when it's last user has released it. Assets can
+ * be requested asynchronously, which decodes them in the background and uploads them within the
+ * frame's time budget, or loaded synchronously by waiting for a single asset.
+ * Fonts with a path ending in ".ttf" get generated by FreeType, so each path must describe the
+ * font's generation parameters (see {@link AssetLoader#loadFont}). A file can be loaded as several
+ * independent assets by appending a variant to it's path (see {@link #getVariantPath}), while the
+ * asset's dependencies, e.g. a bitmap font's pages, are still shared.
+ * (Note: must only be used from the GL thread)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class AssetCache {
+
+    /**
+     * The time budget in milliseconds to spend per frame on loading requested assets
+     */
+    public static final int FRAME_BUDGET = 4;
+
+    /**
+     * The file ending of fonts generated by FreeType
+     */
+    public static final String FREE_TYPE_FONT_SUFFIX = ".ttf";
+
+    /**
+     * The separator between an asset's file name and it's variant
+     */
+    public static final String VARIANT_SEPARATOR = "#";
+
+    /**
+     * The singleton instance of the AssetCache
+     */
+    private static AssetCache instance;
+
+    /**
+     * The asset manager loading the cached assets
+     */
+    private AssetManager assetManager;
+
+    /**
+     * The number of users per cached asset indexed by the asset's path
+     */
+    private Map<String, Integer> referenceCounts;
+
+    /**
+     * static initializer: called when the class is loaded by the JVM
+     */
+    static {
+        instance = new AssetCache();
+    }
+
+    /**
+     * Private singleton constructor.
+     */
+    private AssetCache() {
+        final FileHandleResolver internalResolver = new InternalFileHandleResolver();
+        FileHandleResolver resolver = new FileHandleResolver() {
+            @Override
+            public FileHandle resolve(String fileName) {
+                return internalResolver.resolve(getFilePath(fileName));
+            }
+        };
+        this.assetManager = new AssetManager(resolver);
+        this.assetManager.setLoader(FreeTypeFontGenerator.class, new FreeTypeFontGeneratorLoader(resolver));
+        this.assetManager.setLoader(BitmapFont.class, FREE_TYPE_FONT_SUFFIX, new FreetypeFontLoader(resolver));
+        this.referenceCounts = new HashMap<>();
+    }
+
+    /**
+     * Get the global AssetCache instance.
+     * @return The global asset cache instance
+     */
+    public static AssetCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the path of an asset's variant, which is loaded from the same file as an independent asset.
+     * @param path The asset's path
+     * @param variant The variant's name, e.g. a font's scale
+     * @return The variant's path
+     */
+    public static String getVariantPath(String path, String variant) {
+        int fileEndingIndex = path.lastIndexOf('.');
+        return path.substring(0, fileEndingIndex) + VARIANT_SEPARATOR + variant + path.substring(fileEndingIndex);
+    }
+
+    /**
+     * Acquire an asset and request it to be loaded asynchronously if it's not cached yet.
+     * @param path The asset's path
+     * @param type The asset's class type
+     */
+    public void load(String path, Class<?> type) {
+        this.load(path, type, null);
+    }
+
+    /**
+     * Acquire an asset and request it to be loaded asynchronously with custom parameters if it's not cached yet.
+     * (Note: the parameters are ignored if the asset is already cached)
+     * @param path The asset's path
+     * @param type The asset's class type
+     * @param parameters The asset loader's parameters (Note: might be null)
+     * @param <T> The asset's type
+     */
+    public <T> void load(String path, Class<T> type, AssetLoaderParameters<T> parameters) {
+        Integer referenceCount = this.referenceCounts.get(path);
+        if(referenceCount == null) {
+            this.assetManager.load(path, type, parameters);
+            referenceCount = 0;
+        }
+        this.referenceCounts.put(path, referenceCount + 1);
+    }
+
+    /**
+     * Acquire an asset and wait until it has been loaded.
+     * @param path The asset's path
+     * @param type The asset's class type
+     * @param <T> The asset's type
+     * @return The loaded asset
+     */
+    public <T> T get(String path, Class<T> type) {
+        return this.get(path, type, null);
+    }
+
+    /**
+     * Acquire an asset loaded with custom parameters and wait until it has been loaded.
+     * (Note: the parameters are ignored if the asset is already cached)
+     * @param path The asset's path
+     * @param type The asset's class type
+     * @param parameters The asset loader's parameters (Note: might be null)
+     * @param <T> The asset's type
+     * @return The loaded asset
+     */
+    public <T> T get(String path, Class<T> type, AssetLoaderParameters<T> parameters) {
+        this.load(path, type, parameters);
+        this.finishLoading(path);
+        return this.assetManager.get(path, type);
+    }
+
+    /**
+     * Wait until an acquired asset has been loaded.
+     * @param path The asset's path
+     */
+    public void finishLoading(String path) {
+        if(!this.assetManager.isLoaded(path)) {
+            this.assetManager.finishLoadingAsset(path);
+        }
+    }
+
+    /**
+     * Continue loading the requested assets within the frame's time budget.
+     * (Note: must be called once per frame)
+     * @return Status if all requested assets have been loaded
+     */
+    public boolean update() {
+        return this.assetManager.update(FRAME_BUDGET);
+    }
+
+    /**
+     * Get the status if an asset has been loaded.
+     * @param path The asset's path
+     * @return The loading status
+     */
+    public boolean isLoaded(String path) {
+        return this.assetManager.isLoaded(path);
+    }
+
+    /**
+     * Get the number of users of an asset.
+     * @param path The asset's path
+     * @return The asset's reference count
+     */
+    public int getReferenceCount(String path) {
+        Integer referenceCount = this.referenceCounts.get(path);
+        return referenceCount != null ? referenceCount : 0;
+    }
+
+    /**
+     * Get the number of distinct cached assets.
+     * @return The number of cached assets
+     */
+    public int getSize() {
+        return this.referenceCounts.size();
+    }
+
+    /**
+     * Release an asset and dispose it if it has no users any more.
+     * @param path The asset's path
+     * @return The success status (Note: false if the asset has not been acquired)
+     */
+    public boolean release(String path) {
+        Integer referenceCount = this.referenceCounts.get(path);
+        if(referenceCount == null) {
+            return false;
+        }
+
+        if(referenceCount > 1) {
+            this.referenceCounts.put(path, referenceCount - 1);
+        } else {
+            this.referenceCounts.remove(path);
+            this.assetManager.unload(path);
+        }
+        return true;
+    }
+
+    /**
+     * Release a loaded asset and dispose it if it has no users any more.
+     * @param asset The loaded asset
+     * @return The success status (Note: false if the asset is not cached)
+     */
+    public boolean release(Object asset) {
+        String path = this.assetManager.getAssetFileName(asset);
+        return path != null && this.release(path);
+    }
+
+    /**
+     * Dispose all cached assets regardless of their users.
+     */
+    public void dispose() {
+        this.assetManager.clear();
+        this.referenceCounts.clear();
+    }
+
+    /**
+     * Get the path of the file an asset or it's variant is loaded from.
+     * @param path The asset's or variant's path
+     * @return The asset's file path
+     */
+    private static String getFilePath(String path) {
+        int separatorIndex = path.indexOf(VARIANT_SEPARATOR);
+        if(separatorIndex < 0) {
+            return path;
+        }
+        return path.substring(0, separatorIndex) + path.substring(path.lastIndexOf('.'));
+    }
+}
@@ -1,18 +1,22 @@
 package de.thb.paf.scrabblefactory.io;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.BitmapFontLoader;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreetypeFontLoader;
 import com.codeandweb.physicseditor.PhysicsShapeCache;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import de.thb.paf.scrabblefactory.models.assets.AssetFileType;
@@ -44,10 +48,40 @@ public class AssetLoader {
      */
     private static final String PHY_CONFIG_FILE_NAME = "physics";
 
+    /**
+     * The directory of the pre-baked bitmap fonts (relative to the font directory)
+     */
+    public static final String BAKED_FONT_DIRECTORY = "baked";
+
     /**
      * Default character set a bitmap font will be assigned with
      */
-    private static final String DEFAULT_FONT_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789!?.-+*/=ß\"()ÄÖÜäöü";
+    public static final String DEFAULT_FONT_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789!?.-+*/=ß\"()ÄÖÜäöü";
+
+    /**
+     * The character sets of all loaded fonts indexed by their unique identifier (Note: keeps the font keys short)
+     */
+    private static final List<String> CHARSETS = new ArrayList<>();
+
+    /**
+     * The assets prepared in advance which are taken instead of loading them (Note: optional, might be null)
+     */
+    private PreparedAssets preparedAssets;
+
+    /**
+     * Default Constructor
+     */
+    public AssetLoader() {
+        this.preparedAssets = null;
+    }
+
+    /**
+     * Constructor
+     * @param preparedAssets The assets prepared in advance to take instead of loading them (Note: might be null)
+     */
+    public AssetLoader(PreparedAssets preparedAssets) {
+        this.preparedAssets = preparedAssets;
+    }
 
     /**
      * Loads JSON init configuration file for a given asset target.
@@ -56,8 +90,14 @@ public class AssetLoader {
      * @return The asset's JSON configuration
      */
     public JsonObject loadInitConfiguration(AssetTargetType assetTargetType, int assetID) {
-        String configFilePath = AssetType.CONFIG.path + "/" + assetTargetType.path + "/" + assetID + "/" + INIT_CONFIG_FILE_NAME + AssetFileType.JSON.fileEnding;
-        FileHandle fileHandle = this.getFileHandle(configFilePath);
+        if(this.preparedAssets != null) {
+            JsonObject initConfiguration = this.preparedAssets.getInitConfiguration(assetTargetType, assetID);
+            if(initConfiguration != null) {
+                return initConfiguration;
+            }
+        }
+
+        FileHandle fileHandle = this.getFileHandle(this.getInitConfigurationPath(assetTargetType, assetID));
 
         JsonParser jsonParser = new JsonParser();
         return jsonParser.parse(fileHandle.readString()).getAsJsonObject();
@@ -65,6 +105,7 @@ public class AssetLoader {
 
     /**
      * Loads parsed XML physics configuration file for a given asset target
+     * (Note: parses the file on every call, use {@link #loadPhysicsShapes} to share the parsed shapes)
      * @param assetTargetType The asset's target type
      * @param assetID The asset's unique identifier
      * @return The asset's parsed XML physics configuration
@@ -75,59 +116,113 @@ public class AssetLoader {
         return new PhysicsShapeCache(fileHandle);
     }
 
+    /**
+     * Loads the shared physics shapes of a given asset target pre-scaled to the given scale.
+     * (Note: the shapes are acquired from the shared physics shape registry and must be released by their user)
+     * @param assetTargetType The asset's target type
+     * @param assetID The asset's unique identifier
+     * @param scale The scale to create the bodies with
+     * @return The asset's shared physics shapes
+     */
+    public PhysicsShapes loadPhysicsShapes(AssetTargetType assetTargetType, int assetID, float scale) {
+        PhysicsShapeRegistry physicsShapeRegistry = PhysicsShapeRegistry.getInstance();
+        if(this.preparedAssets != null) {
+            PhysicsShapes physicsShapes = this.preparedAssets.takePhysicsShapes(assetTargetType, assetID);
+            if(physicsShapes != null) {
+                if(physicsShapes.getScale() == scale) {
+                    return physicsShapes;
+                }
+                physicsShapeRegistry.release(physicsShapes);
+            }
+        }
+
+        return physicsShapeRegistry.acquire(assetTargetType, assetID, scale);
+    }
+
+    /**
+     * Check if an init configuration file exists for a given asset target.
+     * @param assetTargetType The asset's target type
+     * @param assetID The asset's unique identifier
+     * @return Status if the init configuration file exists
+     */
+    public boolean hasInitConfiguration(AssetTargetType assetTargetType, int assetID) {
+        return this.getFileHandle(this.getInitConfigurationPath(assetTargetType, assetID)).exists();
+    }
+
     /**
      * Loads a all texture atlases from asset target's directory.
+     * (Note: each atlas is acquired from the shared asset cache and must be released by it's user)
      * @param assetTargetType The asset's target type
      * @param atlasNames List of atlas names to load
      * @param assetID The asset's unique identifier (optional parameter)
      * @return Map of all loaded texture atlases organized by it's atlas name
+     * @see AssetCache
      */
-    public Map<String, TextureRegion[]> loadTextureAtlases(AssetTargetType assetTargetType, String[] atlasNames, int... assetID) {
-        String atlasesRootPath = AssetType.TEXTURE.path + "/" + Settings.Game.RESOLUTION.name + "/" + assetTargetType.path;
-        if(assetID.length > 0) {
-            atlasesRootPath += "/" + assetID[0] + "/";
+    public Map<String, TextureAtlas> loadTextureAtlases(AssetTargetType assetTargetType, String[] atlasNames, int... assetID) {
+        HashMap<String, TextureAtlas> textureAtlases = new HashMap<>();
+        for(String atlasName: atlasNames) {
+            textureAtlases.put(
+                    atlasName,
+                    this.loadTextureAtlas(assetTargetType, atlasName, assetID)
+            );
         }
 
-        HashMap<String, TextureRegion[]> textures = new HashMap<>();
-        if(atlasNames.length > 0) {
-            for(String atlasName: atlasNames) {
-                String filePath;
-                if(!atlasName.contains(TEXTURE_ATLAS.fileEnding)) {
-                    filePath = atlasesRootPath + atlasName + TEXTURE_ATLAS.fileEnding;
-                } else {
-                    filePath = atlasesRootPath + atlasName;
-                }
-
-                textures.put(
-                        atlasName,
-                        new TextureAtlas(this.getFileHandle(filePath)).getRegions().toArray()
-                );
-            }
-        }
-
-        return textures;
+        return textureAtlases;
     }
 
     /**
      * Loads a specific texture atlas file for a given asset target.
+     * (Note: the atlas is acquired from the shared asset cache and must be released by it's user)
      * @param assetTargetType The asset's target type
      * @param atlasName The atlas file's name
      * @param assetID The asset's unique identifier (optional parameter)
      * @return The loaded texture atlas
+     * @see AssetCache
      */
     public TextureAtlas loadTextureAtlas(AssetTargetType assetTargetType, String atlasName, int... assetID) {
+        String atlasPath = this.getTextureAtlasPath(assetTargetType, atlasName, assetID);
+        return AssetCache.getInstance().get(atlasPath, TextureAtlas.class);
+    }
+
+    /**
+     * Request a specific texture atlas file to be loaded asynchronously for a given asset target.
+     * (Note: the atlas is acquired from the shared asset cache and must be released by it's user)
+     * @param assetTargetType The asset's target type
+     * @param atlasName The atlas file's name
+     * @param assetID The asset's unique identifier (optional parameter)
+     * @return The texture atlas' path to wait for or to get the loaded atlas with
+     * @see AssetCache
+     */
+    public String requestTextureAtlas(AssetTargetType assetTargetType, String atlasName, int... assetID) {
+        String atlasPath = this.getTextureAtlasPath(assetTargetType, atlasName, assetID);
+        AssetCache.getInstance().load(atlasPath, TextureAtlas.class);
+        return atlasPath;
+    }
+
+    /**
+     * Get the path of a texture atlas file for the current resolution.
+     * @param assetTargetType The asset's target type
+     * @param atlasName The atlas file's name
+     * @param assetID The asset's unique identifier (optional parameter)
+     * @return The texture atlas file's path
+     */
+    public String getTextureAtlasPath(AssetTargetType assetTargetType, String atlasName, int... assetID) {
         String atlasPath = AssetType.TEXTURE.path + "/" + Settings.Game.RESOLUTION.name + "/" + assetTargetType.path;
         if(assetID.length > 0) {
             atlasPath += "/" + assetID[0];
         }
-        atlasPath += "/" + atlasName + TEXTURE_ATLAS.fileEnding;
-
-        TextureAtlas textureAtlas = new TextureAtlas(this.getFileHandle(atlasPath));
-        return textureAtlas;
+        atlasPath += "/" + atlasName;
+        if(!atlasName.contains(TEXTURE_ATLAS.fileEnding)) {
+            atlasPath += TEXTURE_ATLAS.fileEnding;
+        }
+        return atlasPath;
     }
 
     /**
-     * Loads a specific Font with given properties
+     * Loads a specific Font with given properties.
+     * The font is taken from the pre-baked bitmap fonts of the current resolution if available,
+     * otherwise it gets generated by FreeType.
+     * (Note: the font is acquired from the shared asset cache and must be released by it's user)
      * @param font The font to load
      * @param fontSize The font size to set
      * @param borderWidth The font's character's outline width
@@ -135,11 +230,73 @@ public class AssetLoader {
      * @param borderColor The font's outline color
      * @param chars A custom set of characters that can be written with this font (optional parameter)
      * @return The loaded font
+     * @see AssetCache
      */
     public BitmapFont loadFont(FontAsset font, int fontSize, int borderWidth, Color fillColor, Color borderColor, String... chars) {
-        String fontPath = AssetType.FONT.path + "/" + font.fileName + AssetFileType.TRUE_TYPE_FONT.fileEnding;
+        FreeTypeFontGenerator.FreeTypeFontParameter fontParameter = createFontParameter(
+                fontSize, borderWidth, fillColor, borderColor, chars
+        );
+
+        String bakedFontPath = this.getBakedFontPath(font, fontParameter);
+        if(bakedFontPath != null) {
+            return AssetCache.getInstance().get(bakedFontPath, BitmapFont.class, this.createBakedFontParameter());
+        }
+
+        String fontKey = this.getFontKey(font, fontParameter, 1);
+        return AssetCache.getInstance().get(fontKey, BitmapFont.class, this.createFreeTypeFontParameter(font, fontParameter));
+    }
+
+    /**
+     * Loads a specific Font with given properties which is linearly filtered and scaled for rendering in world units.
+     * The font is taken from the pre-baked bitmap fonts of the current resolution if available,
+     * otherwise it gets generated by FreeType.
+     * (Note: the font is acquired from the shared asset cache and must be released by it's user)
+     * @param font The font to load
+     * @param fontSize The font size to set
+     * @param scale The font's scale factor
+     * @param borderWidth The font's character's outline width
+     * @param fillColor The font's fill color
+     * @param borderColor The font's outline color
+     * @param chars A custom set of characters that can be written with this font (optional parameter)
+     * @return The loaded font
+     * @see AssetCache
+     */
+    public BitmapFont loadScaledFont(FontAsset font, int fontSize, float scale, int borderWidth, Color fillColor, Color borderColor, String... chars) {
+        FreeTypeFontGenerator.FreeTypeFontParameter fontParameter = createFontParameter(
+                fontSize, borderWidth, fillColor, borderColor, chars
+        );
+        fontParameter.minFilter = Texture.TextureFilter.Linear;
+        fontParameter.magFilter = Texture.TextureFilter.Linear;
+
+        BitmapFont bitmapFont;
+        String bakedFontPath = this.getBakedFontPath(font, fontParameter);
+        if(bakedFontPath != null) {
+            // (Note: each scale gets it's own variant sharing the baked font's pages, so the font data may be scaled)
+            bitmapFont = AssetCache.getInstance().get(
+                    AssetCache.getVariantPath(bakedFontPath, String.valueOf(scale)),
+                    BitmapFont.class,
+                    this.createBakedFontParameter()
+            );
+        } else {
+            // (Note: fonts are only shared with equal scales, so the shared font data may be scaled)
+            String fontKey = this.getFontKey(font, fontParameter, scale);
+            bitmapFont = AssetCache.getInstance().get(fontKey, BitmapFont.class, this.createFreeTypeFontParameter(font, fontParameter));
+        }
+
+        bitmapFont.getData().setScale(scale);
+        return bitmapFont;
+    }
 
-        FreeTypeFontGenerator fontGenerator = new FreeTypeFontGenerator(this.getFileHandle(fontPath));
+    /**
+     * Creates the FreeType parameters to generate a specific font with.
+     * @param fontSize The font size to set
+     * @param borderWidth The font's character's outline width
+     * @param fillColor The font's fill color
+     * @param borderColor The font's outline color
+     * @param chars A custom set of characters that can be written with this font (optional parameter)
+     * @return The FreeType font parameters
+     */
+    public static FreeTypeFontGenerator.FreeTypeFontParameter createFontParameter(int fontSize, int borderWidth, Color fillColor, Color borderColor, String... chars) {
         FreeTypeFontGenerator.FreeTypeFontParameter fontParameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
 
         if(chars.length > 0) {
@@ -150,13 +307,111 @@ public class AssetLoader {
 
         fontParameter.size = fontSize;
         fontParameter.borderWidth = borderWidth;
-        fontParameter.color = fillColor;
-        fontParameter.borderColor = borderColor;
+        fontParameter.color = new Color(fillColor);
+        fontParameter.borderColor = new Color(borderColor);
+        return fontParameter;
+    }
+
+    /**
+     * Get the file name of a pre-baked bitmap font (Note: without file ending).
+     * @param font The baked font
+     * @param fontParameter The FreeType parameters the font has been baked with
+     * @return The baked font's file name
+     */
+    public static String getBakedFontName(FontAsset font, FreeTypeFontGenerator.FreeTypeFontParameter fontParameter) {
+        return font.fileName
+                + "_" + fontParameter.size
+                + "_" + fontParameter.borderWidth
+                + "_" + fontParameter.color
+                + "_" + fontParameter.borderColor;
+    }
 
-        BitmapFont bitmapFont = fontGenerator.generateFont(fontParameter);
-        fontGenerator.dispose();
+    /**
+     * Get the path of a font's pre-baked bitmap font of the current resolution.
+     * @param font The font to load
+     * @param fontParameter The FreeType parameters to generate the font with
+     * @return The baked font's path (Note: null if the font has not been baked)
+     */
+    private String getBakedFontPath(FontAsset font, FreeTypeFontGenerator.FreeTypeFontParameter fontParameter) {
+        if(!DEFAULT_FONT_CHARS.equals(fontParameter.characters)) {
+            return null;
+        }
 
-        return bitmapFont;
+        String bakedFontPath = AssetType.FONT.path + "/" + BAKED_FONT_DIRECTORY + "/" + Settings.Game.RESOLUTION.name
+                + "/" + getBakedFontName(font, fontParameter) + AssetFileType.BITMAP_FONT.fileEnding;
+        if(AssetCache.getInstance().getReferenceCount(bakedFontPath) > 0 || this.getFileHandle(bakedFontPath).exists()) {
+            return bakedFontPath;
+        }
+        return null;
+    }
+
+    /**
+     * Creates the asset loader parameters of a pre-baked bitmap font.
+     * (Note: baked fonts are linearly filtered, so their pages can be shared by all scales)
+     * @return The bitmap font loader's parameters
+     */
+    private BitmapFontLoader.BitmapFontParameter createBakedFontParameter() {
+        BitmapFontLoader.BitmapFontParameter loaderParameter = new BitmapFontLoader.BitmapFontParameter();
+        loaderParameter.minFilter = Texture.TextureFilter.Linear;
+        loaderParameter.magFilter = Texture.TextureFilter.Linear;
+        return loaderParameter;
+    }
+
+    /**
+     * Creates the asset loader parameters of a font generated by FreeType.
+     * @param font The font to generate
+     * @param fontParameter The FreeType parameters to generate the font with
+     * @return The FreeType font loader's parameters
+     */
+    private FreetypeFontLoader.FreeTypeFontLoaderParameter createFreeTypeFontParameter(FontAsset font, FreeTypeFontGenerator.FreeTypeFontParameter fontParameter) {
+        FreetypeFontLoader.FreeTypeFontLoaderParameter loaderParameter = new FreetypeFontLoader.FreeTypeFontLoaderParameter();
+        loaderParameter.fontFileName = AssetType.FONT.path + "/" + font.fileName + AssetFileType.TRUE_TYPE_FONT.fileEnding;
+        loaderParameter.fontParameters = fontParameter;
+        return loaderParameter;
+    }
+
+    /**
+     * Get the unique key of a generated font to share it via the asset cache.
+     * (Note: the key's file ending selects the asset cache's FreeType font loader)
+     * @param font The font to generate
+     * @param fontParameter The FreeType parameters to generate the font with
+     * @param scale The font's scale factor
+     * @return The generated font's unique key
+     */
+    private String getFontKey(FontAsset font, FreeTypeFontGenerator.FreeTypeFontParameter fontParameter, float scale) {
+        return AssetType.FONT.path + "/" + font.fileName
+                + "_" + fontParameter.size
+                + "_" + fontParameter.borderWidth
+                + "_" + fontParameter.color
+                + "_" + fontParameter.borderColor
+                + "_" + this.getCharsetID(fontParameter.characters)
+                + "_" + fontParameter.minFilter.name().toLowerCase()
+                + "_" + scale
+                + AssetCache.FREE_TYPE_FONT_SUFFIX;
+    }
+
+    /**
+     * Get the unique identifier of a font's character set.
+     * @param characters The font's character set
+     * @return The character set's unique identifier
+     */
+    private int getCharsetID(String characters) {
+        int charsetID = CHARSETS.indexOf(characters);
+        if(charsetID < 0) {
+            CHARSETS.add(characters);
+            charsetID = CHARSETS.size() - 1;
+        }
+        return charsetID;
+    }
+
+    /**
+     * Get the path of an asset target's init configuration file.
+     * @param assetTargetType The asset's target type
+     * @param assetID The asset's unique identifier
+     * @return The init configuration file's path
+     */
+    private String getInitConfigurationPath(AssetTargetType assetTargetType, int assetID) {
+        return AssetType.CONFIG.path + "/" + assetTargetType.path + "/" + assetID + "/" + INIT_CONFIG_FILE_NAME + AssetFileType.JSON.fileEnding;
     }
 
     /**
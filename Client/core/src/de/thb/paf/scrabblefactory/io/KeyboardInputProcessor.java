@@ -2,6 +2,7 @@ package de.thb.paf.scrabblefactory.io;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.files.FileHandle;
 
 import java.util.List;
 
@@ -15,6 +16,7 @@ import de.thb.paf.scrabblefactory.models.events.DiscardEvent;
 import de.thb.paf.scrabblefactory.models.actions.MoveActionType;
 import de.thb.paf.scrabblefactory.models.actions.MoveDirectionType;
 import de.thb.paf.scrabblefactory.models.events.MoveEvent;
+import de.thb.paf.scrabblefactory.utils.debug.FrameProfiler;
 
 import static com.badlogic.gdx.Input.Keys.*;
 import static de.thb.paf.scrabblefactory.models.entities.EntityType.PLAYER;
@@ -68,6 +70,16 @@ public class KeyboardInputProcessor implements InputProcessor {
                 WorldPhysicsManager.getInstance()
                         .getContactListener().tryToCarryUpCheeseItem();
                 break;
+            case F2:
+                FrameProfiler.getInstance().toggleEnabled();
+                break;
+            case F3:
+                FrameProfiler.getInstance().toggleOverlay();
+                break;
+            case F4:
+                FileHandle exportFile = FrameProfiler.getInstance().export();
+                Gdx.app.log("FrameProfiler", "exported frame metrics to " + exportFile.path());
+                break;
         }
 
         return true;
@@ -0,0 +1,146 @@
+package de.thb.paf.scrabblefactory.io;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import de.thb.paf.scrabblefactory.models.assets.AssetTargetType;
+
+/**
+ * Application-wide registry of reference counted physics shapes.
+ *
+ * Each asset's physics configuration is parsed once per scale and shared by all bodies created
+ * from it, e.g. by all spawned items of the same kind. Every acquisition increases the shapes'
+ * reference count and every release decreases it again, so the shapes get disposed when their
+ * last user has released them.
+ * (Note: thread-safe, so levels can acquire their physics shapes while being prepared in the background)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class PhysicsShapeRegistry {
+
+    /**
+     * The singleton instance of the PhysicsShapeRegistry
+     */
+    private static PhysicsShapeRegistry instance;
+
+    /**
+     * The shared physics shapes indexed by their asset key and scale
+     */
+    private Map<String, PhysicsShapes> physicsShapes;
+
+    /**
+     * The keys of the shared physics shapes indexed by their physics shapes
+     */
+    private Map<PhysicsShapes, String> keys;
+
+    /**
+     * The number of users per shared physics shapes indexed by their key
+     */
+    private Map<String, Integer> referenceCounts;
+
+    /**
+     * static initializer: called when the class is loaded by the JVM
+     */
+    static {
+        instance = new PhysicsShapeRegistry();
+    }
+
+    /**
+     * Private singleton constructor.
+     */
+    private PhysicsShapeRegistry() {
+        this.physicsShapes = new HashMap<>();
+        this.keys = new IdentityHashMap<>();
+        this.referenceCounts = new HashMap<>();
+    }
+
+    /**
+     * Get the global PhysicsShapeRegistry instance.
+     * @return The global physics shape registry instance
+     */
+    public static PhysicsShapeRegistry getInstance() {
+        return instance;
+    }
+
+    /**
+     * Acquire the physics shapes of an asset and parse it's physics configuration if not done yet.
+     * @param assetTargetType The asset's target type
+     * @param assetID The asset's unique identifier
+     * @param scale The scale to create the bodies with
+     * @return The shared physics shapes
+     */
+    public synchronized PhysicsShapes acquire(AssetTargetType assetTargetType, int assetID, float scale) {
+        String key = toKey(assetTargetType, assetID, scale);
+        PhysicsShapes physicsShapes = this.physicsShapes.get(key);
+        if(physicsShapes == null) {
+            physicsShapes = new PhysicsShapes(
+                    new AssetLoader().loadPhysicsConfiguration(assetTargetType, assetID),
+                    scale
+            );
+            this.physicsShapes.put(key, physicsShapes);
+            this.keys.put(physicsShapes, key);
+            this.referenceCounts.put(key, 0);
+        }
+
+        this.referenceCounts.put(key, this.referenceCounts.get(key) + 1);
+        return physicsShapes;
+    }
+
+    /**
+     * Release physics shapes and dispose them if they have no users any more.
+     * @param physicsShapes The shared physics shapes
+     * @return The success status (Note: false if the physics shapes have not been acquired)
+     */
+    public synchronized boolean release(PhysicsShapes physicsShapes) {
+        String key = this.keys.get(physicsShapes);
+        if(key == null) {
+            return false;
+        }
+
+        int referenceCount = this.referenceCounts.get(key);
+        if(referenceCount > 1) {
+            this.referenceCounts.put(key, referenceCount - 1);
+        } else {
+            this.referenceCounts.remove(key);
+            this.keys.remove(physicsShapes);
+            this.physicsShapes.remove(key);
+            physicsShapes.dispose();
+        }
+        return true;
+    }
+
+    /**
+     * Get the number of distinct shared physics shapes.
+     * @return The number of shared physics shapes
+     */
+    public synchronized int getSize() {
+        return this.physicsShapes.size();
+    }
+
+    /**
+     * Dispose all shared physics shapes regardless of their users.
+     */
+    public synchronized void dispose() {
+        for(PhysicsShapes physicsShapes : this.physicsShapes.values()) {
+            physicsShapes.dispose();
+        }
+        this.physicsShapes.clear();
+        this.keys.clear();
+        this.referenceCounts.clear();
+    }
+
+    /**
+     * Create the unique key of an asset's physics shapes.
+     * @param assetTargetType The asset's target type
+     * @param assetID The asset's unique identifier
+     * @param scale The scale to create the bodies with
+     * @return The physics shapes' unique key
+     */
+    private static String toKey(AssetTargetType assetTargetType, int assetID, float scale) {
+        return assetTargetType.path + "/" + assetID + "@" + scale;
+    }
+}
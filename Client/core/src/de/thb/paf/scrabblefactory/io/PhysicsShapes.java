@@ -0,0 +1,190 @@
+package de.thb.paf.scrabblefactory.io;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.Filter;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.codeandweb.physicseditor.PhysicsShapeCache;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pre-scaled Box2D body definitions of a parsed PhysicsEditor physics configuration.
+ *
+ * PhysicsEditor's shape cache scales and allocates every fixture shape again whenever it creates a
+ * body. The first body of each name is still created by the shape cache, but it's body definition
+ * and fixture definitions including the scaled shapes get captured right afterwards, so all further
+ * bodies of that name are created from the pre-scaled definitions directly.
+ * (Note: bodies must only be created from the GL thread)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ * @see PhysicsShapeRegistry
+ */
+
+public class PhysicsShapes {
+
+    /**
+     * The parsed physics configuration creating the first body of each name
+     */
+    private final PhysicsShapeCache shapeCache;
+
+    /**
+     * The scale all bodies are created with
+     */
+    private final float scale;
+
+    /**
+     * The captured body definitions indexed by their body name
+     */
+    private final Map<String, BodyDef> bodyDefs;
+
+    /**
+     * The captured fixture definitions with pre-scaled shapes indexed by their body name
+     */
+    private final Map<String, FixtureDef[]> fixtureDefs;
+
+    /**
+     * Constructor.
+     * @param shapeCache The parsed physics configuration (Note: owned by the physics shapes afterwards)
+     * @param scale The scale to create all bodies with
+     */
+    public PhysicsShapes(PhysicsShapeCache shapeCache, float scale) {
+        this.shapeCache = shapeCache;
+        this.scale = scale;
+        this.bodyDefs = new HashMap<>();
+        this.fixtureDefs = new HashMap<>();
+    }
+
+    /**
+     * Create a new Box2D body with the pre-scaled definitions of the given name.
+     * @param bodyName The body's name in the physics configuration
+     * @param world The Box2D world to create the body in
+     * @return The created body (Note: null if the physics configuration does not define it)
+     */
+    public Body createBody(String bodyName, World world) {
+        BodyDef bodyDef = this.bodyDefs.get(bodyName);
+        if(bodyDef == null) {
+            Body body = this.shapeCache.createBody(bodyName, world, this.scale, this.scale);
+            if(body != null) {
+                this.captureDefinitions(bodyName, body);
+            }
+            return body;
+        }
+
+        Body body = world.createBody(bodyDef);
+        FixtureDef[] fixtureDefs = this.fixtureDefs.get(bodyName);
+        for(int i=0; i<fixtureDefs.length; i++) {
+            body.createFixture(fixtureDefs[i]);
+        }
+        return body;
+    }
+
+    /**
+     * Get the scale all bodies are created with.
+     * @return The bodies' scale
+     */
+    public float getScale() {
+        return this.scale;
+    }
+
+    /**
+     * Dispose the pre-scaled shapes and the parsed physics configuration.
+     */
+    public void dispose() {
+        for(FixtureDef[] fixtureDefs : this.fixtureDefs.values()) {
+            for(int i=0; i<fixtureDefs.length; i++) {
+                fixtureDefs[i].shape.dispose();
+            }
+        }
+        this.fixtureDefs.clear();
+        this.bodyDefs.clear();
+        this.shapeCache.dispose();
+    }
+
+    /**
+     * Capture the body definition and fixture definitions of a body freshly created by the shape cache.
+     * (Note: bodies with unsupported shape types keep being created by the shape cache)
+     * @param bodyName The body's name in the physics configuration
+     * @param body The body created by the shape cache
+     */
+    private void captureDefinitions(String bodyName, Body body) {
+        Array<Fixture> fixtures = body.getFixtureList();
+        FixtureDef[] fixtureDefs = new FixtureDef[fixtures.size];
+        for(int i=0; i<fixtures.size; i++) {
+            Fixture fixture = fixtures.get(i);
+            Shape shape = copyShape(fixture.getShape());
+            if(shape == null) {
+                for(int j=0; j<i; j++) {
+                    fixtureDefs[j].shape.dispose();
+                }
+                return;
+            }
+
+            FixtureDef fixtureDef = new FixtureDef();
+            fixtureDef.shape = shape;
+            fixtureDef.density = fixture.getDensity();
+            fixtureDef.friction = fixture.getFriction();
+            fixtureDef.restitution = fixture.getRestitution();
+            fixtureDef.isSensor = fixture.isSensor();
+
+            Filter filter = fixture.getFilterData();
+            fixtureDef.filter.categoryBits = filter.categoryBits;
+            fixtureDef.filter.maskBits = filter.maskBits;
+            fixtureDef.filter.groupIndex = filter.groupIndex;
+            fixtureDefs[i] = fixtureDef;
+        }
+
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = body.getType();
+        bodyDef.position.set(body.getPosition());
+        bodyDef.angle = body.getAngle();
+        bodyDef.linearDamping = body.getLinearDamping();
+        bodyDef.angularDamping = body.getAngularDamping();
+        bodyDef.gravityScale = body.getGravityScale();
+        bodyDef.fixedRotation = body.isFixedRotation();
+        bodyDef.bullet = body.isBullet();
+        bodyDef.allowSleep = body.isSleepingAllowed();
+
+        this.bodyDefs.put(bodyName, bodyDef);
+        this.fixtureDefs.put(bodyName, fixtureDefs);
+    }
+
+    /**
+     * Copy a fixture's shape (Note: PhysicsEditor only exports polygons and circles).
+     * @param shape The shape to copy
+     * @return The copied shape (Note: null if the shape type is not supported)
+     */
+    private static Shape copyShape(Shape shape) {
+        if(shape instanceof PolygonShape) {
+            PolygonShape polygon = (PolygonShape) shape;
+            Vector2 vertex = new Vector2();
+            float[] vertices = new float[polygon.getVertexCount() * 2];
+            for(int i=0; i<polygon.getVertexCount(); i++) {
+                polygon.getVertex(i, vertex);
+                vertices[2 * i] = vertex.x;
+                vertices[2 * i + 1] = vertex.y;
+            }
+
+            PolygonShape polygonCopy = new PolygonShape();
+            polygonCopy.set(vertices);
+            return polygonCopy;
+        } else if(shape instanceof CircleShape) {
+            CircleShape circle = (CircleShape) shape;
+            CircleShape circleCopy = new CircleShape();
+            circleCopy.setRadius(circle.getRadius());
+            circleCopy.setPosition(circle.getPosition());
+            return circleCopy;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,208 @@
+package de.thb.paf.scrabblefactory.io;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.thb.paf.scrabblefactory.models.assets.AssetTargetType;
+
+/**
+ * Container of assets prepared in advance, i.e. parsed configurations, physics shapes and texture atlases.
+ *
+ * The configurations are parsed and the required texture atlases are collected by a background
+ * thread without touching the GL context. The texture atlases get requested from the asset cache
+ * on the GL thread afterwards, which decodes them in the background and uploads them within the
+ * frame's time budget. An asset loader created with the prepared assets takes the parsed
+ * configurations and physics shapes instead of loading them again.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class PreparedAssets {
+
+    /**
+     * The parsed init configurations indexed by their asset key
+     */
+    private Map<String, JsonObject> initConfigurations;
+
+    /**
+     * The acquired physics shapes indexed by their asset key
+     */
+    private Map<String, PhysicsShapes> physicsShapes;
+
+    /**
+     * The paths of the required texture atlases
+     */
+    private List<String> textureAtlasPaths;
+
+    /**
+     * Status if the texture atlases have been requested from the asset cache
+     */
+    private boolean isRequested;
+
+    /**
+     * Constructor.
+     */
+    public PreparedAssets() {
+        this.initConfigurations = new HashMap<>();
+        this.physicsShapes = new HashMap<>();
+        this.textureAtlasPaths = new ArrayList<>();
+        this.isRequested = false;
+    }
+
+    /**
+     * Add a parsed init configuration.
+     * @param assetTargetType The asset's target type
+     * @param assetID The asset's unique identifier
+     * @param initConfiguration The parsed init configuration
+     */
+    public void addInitConfiguration(AssetTargetType assetTargetType, int assetID, JsonObject initConfiguration) {
+        this.initConfigurations.put(toKey(assetTargetType, assetID), initConfiguration);
+    }
+
+    /**
+     * Add physics shapes acquired from the physics shape registry (Note: keeps the shapes already added).
+     * @param assetTargetType The asset's target type
+     * @param assetID The asset's unique identifier
+     * @param physicsShapes The acquired physics shapes (Note: owned by the prepared assets if added)
+     * @return The success status
+     */
+    public boolean addPhysicsShapes(AssetTargetType assetTargetType, int assetID, PhysicsShapes physicsShapes) {
+        String key = toKey(assetTargetType, assetID);
+        if(this.physicsShapes.containsKey(key)) {
+            return false;
+        }
+
+        this.physicsShapes.put(key, physicsShapes);
+        return true;
+    }
+
+    /**
+     * Check if the physics shapes of an asset have been added.
+     * @param assetTargetType The asset's target type
+     * @param assetID The asset's unique identifier
+     * @return Status if the physics shapes have been added
+     */
+    public boolean hasPhysicsShapes(AssetTargetType assetTargetType, int assetID) {
+        return this.physicsShapes.containsKey(toKey(assetTargetType, assetID));
+    }
+
+    /**
+     * Add a required texture atlas (Note: keeps a texture atlas already added).
+     * @param atlasPath The texture atlas' path
+     * @return The success status
+     */
+    public boolean addTextureAtlas(String atlasPath) {
+        if(this.textureAtlasPaths.contains(atlasPath)) {
+            return false;
+        }
+
+        this.textureAtlasPaths.add(atlasPath);
+        return true;
+    }
+
+    /**
+     * Request all required texture atlases to be loaded asynchronously by the asset cache.
+     * (Note: must be called from the GL thread)
+     */
+    public void requestTextureAtlases() {
+        if(this.isRequested) {
+            return;
+        }
+
+        AssetCache assetCache = AssetCache.getInstance();
+        for(int i=0; i<this.textureAtlasPaths.size(); i++) {
+            assetCache.load(this.textureAtlasPaths.get(i), TextureAtlas.class);
+        }
+        this.isRequested = true;
+    }
+
+    /**
+     * Wait until all required texture atlases have been loaded.
+     * (Note: must be called from the GL thread)
+     */
+    public void finishLoading() {
+        this.requestTextureAtlases();
+
+        AssetCache assetCache = AssetCache.getInstance();
+        for(int i=0; i<this.textureAtlasPaths.size(); i++) {
+            assetCache.finishLoading(this.textureAtlasPaths.get(i));
+        }
+    }
+
+    /**
+     * Get the status if all required texture atlases have been loaded.
+     * @return The loading status
+     */
+    public boolean isLoaded() {
+        if(!this.isRequested) {
+            return false;
+        }
+
+        AssetCache assetCache = AssetCache.getInstance();
+        for(int i=0; i<this.textureAtlasPaths.size(); i++) {
+            if(!assetCache.isLoaded(this.textureAtlasPaths.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Release all assets which have not been taken, including the requested texture atlases.
+     * (Note: the texture atlases and physics shapes stay cached as long as they are used by the created components)
+     */
+    public void dispose() {
+        if(this.isRequested) {
+            AssetCache assetCache = AssetCache.getInstance();
+            for(int i=0; i<this.textureAtlasPaths.size(); i++) {
+                assetCache.release(this.textureAtlasPaths.get(i));
+            }
+            this.isRequested = false;
+        }
+        PhysicsShapeRegistry physicsShapeRegistry = PhysicsShapeRegistry.getInstance();
+        for(PhysicsShapes physicsShapes : this.physicsShapes.values()) {
+            physicsShapeRegistry.release(physicsShapes);
+        }
+
+        this.textureAtlasPaths.clear();
+        this.physicsShapes.clear();
+        this.initConfigurations.clear();
+    }
+
+    /**
+     * Get a parsed init configuration.
+     * @param assetTargetType The asset's target type
+     * @param assetID The asset's unique identifier
+     * @return The parsed init configuration (Note: null if it has not been prepared)
+     */
+    JsonObject getInitConfiguration(AssetTargetType assetTargetType, int assetID) {
+        return this.initConfigurations.get(toKey(assetTargetType, assetID));
+    }
+
+    /**
+     * Take acquired physics shapes, so they are owned by the caller afterwards.
+     * @param assetTargetType The asset's target type
+     * @param assetID The asset's unique identifier
+     * @return The acquired physics shapes (Note: null if they have not been prepared)
+     */
+    PhysicsShapes takePhysicsShapes(AssetTargetType assetTargetType, int assetID) {
+        return this.physicsShapes.remove(toKey(assetTargetType, assetID));
+    }
+
+    /**
+     * Create the unique key of an asset.
+     * @param assetTargetType The asset's target type
+     * @param assetID The asset's unique identifier
+     * @return The asset's unique key
+     */
+    private static String toKey(AssetTargetType assetTargetType, int assetID) {
+        return assetTargetType.path + "/" + assetID;
+    }
+}
@@ -17,6 +17,7 @@ import de.thb.paf.scrabblefactory.models.events.DiscardEvent;
 import de.thb.paf.scrabblefactory.models.events.MoveEvent;
 import de.thb.paf.scrabblefactory.models.events.MoveToEvent;
 import de.thb.paf.scrabblefactory.settings.Settings;
+import de.thb.paf.scrabblefactory.utils.debug.FrameProfiler;
 
 import static de.thb.paf.scrabblefactory.models.actions.MoveActionType.JUMP;
 import static de.thb.paf.scrabblefactory.models.entities.EntityType.PLAYER;
@@ -34,8 +35,20 @@ import static de.thb.paf.scrabblefactory.models.events.GameEventType.MOVE_TO;
 
 public class TouchInputProcessor implements GestureDetector.GestureListener {
 
+    /**
+     * The pointer index of the second finger touching the screen
+     */
+    private static final int SECOND_POINTER = 1;
+
     @Override
     public boolean touchDown(float x, float y, int pointer, int button) {
+        // a two finger touch toggles the frame profiler's overlay
+        // (Note: the gesture detector cancels the tap once a second finger touches down,
+        // so no move-to gets triggered)
+        if(pointer == SECOND_POINTER) {
+            FrameProfiler.getInstance().toggleOverlay();
+            return true;
+        }
         return false;
     }
 
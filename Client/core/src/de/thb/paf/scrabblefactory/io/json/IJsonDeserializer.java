@@ -0,0 +1,36 @@
+package de.thb.paf.scrabblefactory.io.json;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+
+/**
+ * Interface that declares methods a generated JSON deserializer implements in order to populate
+ * an existing instance from a streaming JSON reader.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ * @param <T> The type of the instances to populate
+ */
+
+public interface IJsonDeserializer<T> {
+
+    /**
+     * Read the reader's next JSON object into the target instance (Note: unknown keys are skipped).
+     * @param reader The JSON reader positioned at the object to read
+     * @param target The instance to populate
+     * @throws IOException if the JSON can't be read
+     */
+    void read(JsonReader reader, T target) throws IOException;
+
+    /**
+     * Read the value of a single JSON key into the target instance.
+     * @param reader The JSON reader positioned at the key's value
+     * @param name The JSON key
+     * @param target The instance to populate
+     * @return Status if the key has been read (Note: false if the key is unknown and the value has not been consumed)
+     * @throws IOException if the JSON can't be read
+     */
+    boolean readField(JsonReader reader, String name, T target) throws IOException;
+}
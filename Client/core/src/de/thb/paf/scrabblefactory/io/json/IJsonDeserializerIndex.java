@@ -0,0 +1,20 @@
+package de.thb.paf.scrabblefactory.io.json;
+
+import java.util.Map;
+
+/**
+ * Interface that declares methods the generated index of all JSON deserializers implements.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public interface IJsonDeserializerIndex {
+
+    /**
+     * Register the generated JSON deserializers of all concrete classes.
+     * @param deserializers The JSON deserializers indexed by the class they populate
+     */
+    void register(Map<Class<?>, IJsonDeserializer<?>> deserializers);
+}
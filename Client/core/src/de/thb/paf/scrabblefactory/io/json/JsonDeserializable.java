@@ -0,0 +1,26 @@
+package de.thb.paf.scrabblefactory.io.json;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class (and all of it's sub classes) to get a JSON deserializer generated at compile time,
+ * which populates the class' fields annotated with {@link JsonField} from a streaming JSON reader.
+ * (Note: retained at runtime, so a missing deserializer can be detected)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ * @see JsonDeserializers
+ */
+
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JsonDeserializable {
+}
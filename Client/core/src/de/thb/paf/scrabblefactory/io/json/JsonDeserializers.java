@@ -0,0 +1,116 @@
+package de.thb.paf.scrabblefactory.io.json;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+
+import de.thb.paf.scrabblefactory.utils.ScrabbleFactoryClassLoader;
+
+/**
+ * Registry of the JSON deserializers generated at compile time for all {@link JsonDeserializable} classes.
+ *
+ * The deserializers populate an existing instance directly from a streaming JSON reader, so neither a
+ * second instance has to be parsed by Gson nor it's field values have to be copied by reflection.
+ * (Note: the registry is empty if the sources have been compiled without the annotation processor)
+ *
+ * Once the generated index has been registered, populating an instance of a deserializable class
+ * without a generated deserializer fails instead of silently falling back to reflection.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class JsonDeserializers {
+
+    /**
+     * The full class name of the generated deserializer index
+     */
+    public static final String INDEX_CLASS_NAME = "de.thb.paf.scrabblefactory.io.json.JsonDeserializerIndex";
+
+    /**
+     * The generated deserializers indexed by the class they populate
+     */
+    private static final Map<Class<?>, IJsonDeserializer<?>> DESERIALIZERS = new HashMap<>();
+
+    /**
+     * Status if the generated deserializer index has been registered
+     */
+    private static final boolean IS_INDEXED;
+
+    /**
+     * static initializer: called when the class is loaded by the JVM
+     */
+    static {
+        boolean isIndexed = false;
+        Class<?> indexType = ScrabbleFactoryClassLoader.getClassForName(INDEX_CLASS_NAME);
+        if(indexType != null) {
+            IJsonDeserializerIndex index = (IJsonDeserializerIndex) ScrabbleFactoryClassLoader.createInstance(indexType);
+            if(index != null) {
+                index.register(DESERIALIZERS);
+                isIndexed = true;
+            }
+        }
+        IS_INDEXED = isIndexed;
+    }
+
+    /**
+     * Private Constructor
+     */
+    private JsonDeserializers() {
+        // this is a raw static class
+    }
+
+    /**
+     * Get the generated deserializer of a class.
+     * @param type The class type to get the deserializer for
+     * @param <T> The class' type
+     * @return The class' deserializer (Note: null if none has been generated)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> IJsonDeserializer<T> get(Class<T> type) {
+        return (IJsonDeserializer<T>) DESERIALIZERS.get(type);
+    }
+
+    /**
+     * Populate an instance from a JSON object with the instance's generated deserializer.
+     * @param json The JSON object's text
+     * @param target The instance to populate
+     * @return The success status (Note: false if the instance's class is not deserializable)
+     * @throws IllegalStateException if no deserializer has been generated for a deserializable class
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean read(String json, Object target) {
+        IJsonDeserializer<Object> deserializer = (IJsonDeserializer<Object>) get(target.getClass());
+        if(deserializer == null) {
+            // (Note: without the index all classes fall back, since the processor didn't run at all)
+            if(IS_INDEXED && target.getClass().isAnnotationPresent(JsonDeserializable.class)) {
+                throw new IllegalStateException(
+                        "No JSON deserializer has been generated for " + target.getClass().getName()
+                );
+            }
+            return false;
+        }
+
+        try {
+            JsonReader reader = new JsonReader(new StringReader(json));
+            deserializer.read(reader, target);
+            reader.close();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Get the number of registered deserializers.
+     * @return The number of registered deserializers
+     */
+    public static int getSize() {
+        return DESERIALIZERS.size();
+    }
+}
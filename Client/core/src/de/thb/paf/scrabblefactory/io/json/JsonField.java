@@ -0,0 +1,28 @@
+package de.thb.paf.scrabblefactory.io.json;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field of a {@link JsonDeserializable} class to be populated by the generated JSON deserializer.
+ * (Note: the field must neither be private, nor final, nor static)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface JsonField {
+
+    /**
+     * The field's JSON key (Note: defaults to the field's serialized name or else it's name)
+     * @return The field's JSON key
+     */
+    String value() default "";
+}
@@ -0,0 +1,47 @@
+package de.thb.paf.scrabblefactory.io.json;
+
+import com.badlogic.gdx.math.Vector2;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+
+/**
+ * Utility class which helps the generated JSON deserializers reading library types.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class JsonReaderHelper {
+
+    /**
+     * Private Constructor
+     */
+    private JsonReaderHelper() {
+        // this is a raw static class
+    }
+
+    /**
+     * Read a vector from a JSON object with the keys 'x' and 'y'.
+     * @param reader The JSON reader positioned at the vector's object
+     * @return The read vector
+     * @throws IOException if the JSON can't be read
+     */
+    public static Vector2 readVector2(JsonReader reader) throws IOException {
+        Vector2 vector = new Vector2();
+        reader.beginObject();
+        while(reader.hasNext()) {
+            String name = reader.nextName();
+            if(name.equals("x")) {
+                vector.x = (float)reader.nextDouble();
+            } else if(name.equals("y")) {
+                vector.y = (float)reader.nextDouble();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return vector;
+    }
+}
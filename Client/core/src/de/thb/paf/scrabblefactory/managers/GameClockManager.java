@@ -0,0 +1,69 @@
+package de.thb.paf.scrabblefactory.managers;
+
+import de.thb.paf.scrabblefactory.gameplay.timer.GameClock;
+
+/**
+ * Manager class holding the application-wide game clock advanced once per rendered frame,
+ * e.g. used by the screens' UI timers.
+ * (Note: a game session advances it's own clock, so pausing a level does not affect UI timers)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class GameClockManager implements IGameManager {
+
+    /**
+     * The singleton instance of the GameClockManager
+     */
+    private static GameClockManager instance;
+
+    /**
+     * The application-wide game clock
+     */
+    private GameClock clock;
+
+    /**
+     * static initializer: called when the class is loaded by the JVM
+     */
+    static {
+        instance = new GameClockManager();
+    }
+
+    /**
+     * Private singleton constructor.
+     */
+    private GameClockManager() {
+        this.clock = new GameClock();
+    }
+
+    /**
+     * Get the global GameClockManager instance.
+     * @return The global game clock manager instance
+     */
+    public static GameClockManager getInstance() {
+        return instance;
+    }
+
+    /**
+     * Advance the application-wide game clock.
+     * @param deltaTime The time passed between the last and the current frame in seconds
+     */
+    public void update(float deltaTime) {
+        this.clock.update(deltaTime);
+    }
+
+    /**
+     * Get the application-wide game clock.
+     * @return The application-wide game clock
+     */
+    public GameClock getClock() {
+        return this.clock;
+    }
+
+    @Override
+    public void dispose() {
+        this.clock.clear();
+    }
+}
@@ -0,0 +1,185 @@
+package de.thb.paf.scrabblefactory.managers;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import de.thb.paf.scrabblefactory.models.IGameObject;
+import de.thb.paf.scrabblefactory.models.events.GameEventType;
+import de.thb.paf.scrabblefactory.models.events.IGameEvent;
+import de.thb.paf.scrabblefactory.models.events.IGameEventListener;
+
+/**
+ * Dispatcher routing triggered game events to the listeners subscribed to their event class.
+ *
+ * Listeners are typed by the concrete event class they subscribe to, so they receive the
+ * triggered event without switching on it's type or casting it themselves.
+ * Subscriptions are kept in one array per event type sorted by priority. The arrays get
+ * replaced as a whole when subscribing or unsubscribing, so dispatching an event neither
+ * allocates anything nor takes a lock and listeners may (un)subscribe while being notified.
+ * Subscriptions with a target only get notified about events targeting this game object.
+ * (Note: must only be used from the game thread)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class GameEventDispatcher {
+
+    /**
+     * The empty subscription array shared by all event types without subscriptions
+     */
+    private static final GameEventSubscription<?>[] NO_SUBSCRIPTIONS = new GameEventSubscription<?>[0];
+
+    /**
+     * The subscriptions organized by their event type and sorted by their priority
+     */
+    private final Map<GameEventType, GameEventSubscription<?>[]> subscriptions;
+
+    /**
+     * The sequence number assigned to the next subscription
+     */
+    private int nextSequence;
+
+    /**
+     * Default Constructor
+     */
+    public GameEventDispatcher() {
+        this.subscriptions = new EnumMap<>(GameEventType.class);
+        this.nextSequence = 0;
+
+        for(GameEventType eventType : GameEventType.values()) {
+            this.subscriptions.put(eventType, NO_SUBSCRIPTIONS);
+        }
+    }
+
+    /**
+     * Subscribe a listener to all events of the given event class.
+     * @param eventClass The event class to subscribe to
+     * @param listener The listener to notify
+     * @param <T> The event class to subscribe to
+     */
+    public <T extends IGameEvent> void subscribe(Class<T> eventClass, IGameEventListener<? super T> listener) {
+        this.subscribe(eventClass, listener, 0, null);
+    }
+
+    /**
+     * Subscribe a listener to events of the given event class.
+     * @param eventClass The event class to subscribe to
+     * @param listener The listener to notify
+     * @param priority The subscription's priority (Note: higher priorities get notified first)
+     * @param target The game object the listener is interested in (Note: null to receive all events)
+     * @param <T> The event class to subscribe to
+     */
+    public <T extends IGameEvent> void subscribe(Class<T> eventClass, IGameEventListener<? super T> listener,
+                                                 int priority, IGameObject target) {
+        GameEventSubscription<T> subscription = new GameEventSubscription<>(
+                eventClass,
+                listener,
+                priority,
+                target,
+                this.nextSequence++
+        );
+
+        GameEventType eventType = GameEventType.of(eventClass);
+        GameEventSubscription<?>[] current = this.subscriptions.get(eventType);
+        GameEventSubscription<?>[] updated = new GameEventSubscription<?>[current.length + 1];
+
+        int insertIndex = 0;
+        while(insertIndex < current.length && current[insertIndex].precedes(subscription)) {
+            insertIndex++;
+        }
+
+        System.arraycopy(current, 0, updated, 0, insertIndex);
+        updated[insertIndex] = subscription;
+        System.arraycopy(current, insertIndex, updated, insertIndex + 1, current.length - insertIndex);
+
+        this.subscriptions.put(eventType, updated);
+    }
+
+    /**
+     * Unsubscribe a listener from events of the given event class.
+     * @param eventClass The event class to unsubscribe from
+     * @param listener The listener to unsubscribe
+     * @return The success state
+     */
+    public boolean unsubscribe(Class<? extends IGameEvent> eventClass, IGameEventListener<?> listener) {
+        return this.unsubscribe(GameEventType.of(eventClass), listener);
+    }
+
+    /**
+     * Unsubscribe a listener from all event classes.
+     * @param listener The listener to unsubscribe
+     */
+    public void unsubscribe(IGameEventListener<?> listener) {
+        for(GameEventType eventType : GameEventType.values()) {
+            this.unsubscribe(eventType, listener);
+        }
+    }
+
+    /**
+     * Notify all listeners subscribed to the event's class.
+     * @param event The triggered event
+     */
+    public void dispatch(IGameEvent event) {
+        GameEventSubscription<?>[] current = this.subscriptions.get(event.getEventType());
+
+        for(int i=0; i<current.length; i++) {
+            GameEventSubscription<?> subscription = current[i];
+            if(subscription.target == null || event.isTargeting(subscription.target)) {
+                subscription.deliver(event);
+            }
+        }
+    }
+
+    /**
+     * Get the number of subscriptions to the given event class.
+     * @param eventClass The event class to look for
+     * @return The number of subscriptions
+     */
+    public int getSubscriptionCount(Class<? extends IGameEvent> eventClass) {
+        return this.subscriptions.get(GameEventType.of(eventClass)).length;
+    }
+
+    /**
+     * Remove all subscriptions.
+     */
+    public void clear() {
+        for(GameEventType eventType : GameEventType.values()) {
+            this.subscriptions.put(eventType, NO_SUBSCRIPTIONS);
+        }
+    }
+
+    /**
+     * Unsubscribe a listener from events of the given type.
+     * @param eventType The event type to unsubscribe from
+     * @param listener The listener to unsubscribe
+     * @return The success state
+     */
+    private boolean unsubscribe(GameEventType eventType, IGameEventListener<?> listener) {
+        GameEventSubscription<?>[] current = this.subscriptions.get(eventType);
+
+        int removeCount = 0;
+        for(int i=0; i<current.length; i++) {
+            if(current[i].listener == listener) {
+                removeCount++;
+            }
+        }
+        if(removeCount == 0) {
+            return false;
+        }
+
+        GameEventSubscription<?>[] updated = removeCount == current.length
+                ? NO_SUBSCRIPTIONS
+                : new GameEventSubscription<?>[current.length - removeCount];
+        int index = 0;
+        for(int i=0; i<current.length; i++) {
+            if(current[i].listener != listener) {
+                updated[index++] = current[i];
+            }
+        }
+
+        this.subscriptions.put(eventType, updated);
+        return true;
+    }
+}
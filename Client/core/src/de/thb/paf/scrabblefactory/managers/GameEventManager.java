@@ -3,13 +3,23 @@ package de.thb.paf.scrabblefactory.managers;
 import java.util.HashMap;
 import java.util.Map;
 
+import de.thb.paf.scrabblefactory.models.IGameObject;
+import de.thb.paf.scrabblefactory.models.events.GameEventPayload;
+import de.thb.paf.scrabblefactory.models.events.GameEventQueue;
 import de.thb.paf.scrabblefactory.models.events.GameEventType;
 import de.thb.paf.scrabblefactory.models.events.IGameEvent;
+import de.thb.paf.scrabblefactory.models.events.IGameEventListener;
 
 /**
  * Manager class responsible to manage all registered game objects listening for certain events
  * and route those triggered events to the listening targets.
  *
+ * Events raised while the game state is being updated (e.g. within Box2D contact callbacks)
+ * are posted to a pooled event queue and dispatched once per frame on the game thread
+ * (see {@link #dispatchQueuedEvents()}), so each posted event keeps it's own payload.
+ * Triggered events are routed to the listeners subscribed to their event class by a typed
+ * game event dispatcher.
+ *
  * @author Dominic Schiller - Technische Hochschule Brandenburg
  * @version 1.0
  * @since 1.0
@@ -27,6 +37,16 @@ public class GameEventManager implements IGameManager {
      */
     private Map<GameEventType, IGameEvent> events;
 
+    /**
+     * The queue of posted events waiting to be dispatched
+     */
+    private GameEventQueue eventQueue;
+
+    /**
+     * The dispatcher routing triggered events to their subscribed listeners
+     */
+    private GameEventDispatcher dispatcher;
+
     /**
      * static initializer: called when the class is loaded by the JVM
      */
@@ -39,6 +59,8 @@ public class GameEventManager implements IGameManager {
      */
     private GameEventManager() {
         this.events = new HashMap<>();
+        this.eventQueue = new GameEventQueue();
+        this.dispatcher = new GameEventDispatcher();
     }
 
     /**
@@ -74,12 +96,85 @@ public class GameEventManager implements IGameManager {
         IGameEvent gameEvent = this.events.get(eventType);
         // if we found a registered event, we're going to trigger it
         if(gameEvent != null) {
-            gameEvent.invoke();
+            this.dispatcher.dispatch(gameEvent);
+        }
+    }
+
+    /**
+     * Subscribe a listener to events of the given event class.
+     * @param eventClass The event class to subscribe to
+     * @param listener The listener to notify
+     * @param priority The subscription's priority (Note: higher priorities get notified first)
+     * @param target The game object the listener is interested in (Note: null to receive all events)
+     * @param <T> The event class to subscribe to
+     */
+    public <T extends IGameEvent> void subscribe(Class<T> eventClass, IGameEventListener<? super T> listener,
+                                                 int priority, IGameObject target) {
+        this.dispatcher.subscribe(eventClass, listener, priority, target);
+    }
+
+    /**
+     * Unsubscribe a listener from all event classes.
+     * @param listener The listener to unsubscribe
+     */
+    public void unsubscribe(IGameEventListener<?> listener) {
+        this.dispatcher.unsubscribe(listener);
+    }
+
+    /**
+     * Get the dispatcher routing triggered events to their subscribed listeners.
+     * @return The game event dispatcher
+     */
+    public GameEventDispatcher getDispatcher() {
+        return this.dispatcher;
+    }
+
+    /**
+     * Obtain a pooled payload to post an event of the given type.
+     * (Note: the payload must be posted before obtaining the next one)
+     * @param eventType The event type to post
+     * @return The payload to fill
+     */
+    public GameEventPayload obtainEvent(GameEventType eventType) {
+        return this.eventQueue.obtain(eventType);
+    }
+
+    /**
+     * Post an event to be triggered when the queued events get dispatched next time.
+     * @param payload The obtained and filled event payload
+     */
+    public void postEvent(GameEventPayload payload) {
+        this.eventQueue.post(payload);
+    }
+
+    /**
+     * Trigger all posted events in order of their posting.
+     * (Note: must be called once per frame from the game thread)
+     */
+    public void dispatchQueuedEvents() {
+        GameEventPayload payload;
+        while((payload = this.eventQueue.poll()) != null) {
+            IGameEvent gameEvent = this.events.get(payload.getEventType());
+            if(gameEvent != null) {
+                gameEvent.applyPayload(payload);
+            }
+            this.eventQueue.release(payload);
+
+            if(gameEvent != null) {
+                this.dispatcher.dispatch(gameEvent);
+            }
         }
     }
 
     @Override
     public void dispose() {
-        // nothing to dispose here
+        // the game objects subscribed so far get disposed, too
+        this.dispatcher.clear();
+
+        // discard all posted events not dispatched yet
+        GameEventPayload payload;
+        while((payload = this.eventQueue.poll()) != null) {
+            this.eventQueue.release(payload);
+        }
     }
 }
@@ -0,0 +1,79 @@
+package de.thb.paf.scrabblefactory.managers;
+
+import de.thb.paf.scrabblefactory.models.IGameObject;
+import de.thb.paf.scrabblefactory.models.events.IGameEvent;
+import de.thb.paf.scrabblefactory.models.events.IGameEventListener;
+
+/**
+ * Represents a listener's subscription to the events of a certain event class.
+ * @see GameEventDispatcher
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+class GameEventSubscription<T extends IGameEvent> {
+
+    /**
+     * The event class the listener is subscribed to
+     */
+    final Class<T> eventClass;
+
+    /**
+     * The subscribed listener
+     */
+    final IGameEventListener<? super T> listener;
+
+    /**
+     * The subscription's priority (Note: higher priorities get notified first)
+     */
+    final int priority;
+
+    /**
+     * The game object the listener is interested in (Note: null to receive all events)
+     */
+    final IGameObject target;
+
+    /**
+     * The sequence number keeping the subscription order for equal priorities
+     */
+    final int sequence;
+
+    /**
+     * Constructor.
+     * @param eventClass The event class the listener is subscribed to
+     * @param listener The subscribed listener
+     * @param priority The subscription's priority
+     * @param target The game object the listener is interested in
+     * @param sequence The sequence number keeping the subscription order for equal priorities
+     */
+    GameEventSubscription(Class<T> eventClass, IGameEventListener<? super T> listener,
+                          int priority, IGameObject target, int sequence) {
+        this.eventClass = eventClass;
+        this.listener = listener;
+        this.priority = priority;
+        this.target = target;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Notify the subscribed listener about a triggered event of the subscribed event class.
+     * @param event The triggered event
+     */
+    void deliver(IGameEvent event) {
+        this.listener.onGameEvent(this.eventClass.cast(event));
+    }
+
+    /**
+     * Get the status if the subscription has to be notified before the given one.
+     * @param other The subscription to compare with
+     * @return The precedence status
+     */
+    boolean precedes(GameEventSubscription<?> other) {
+        if(this.priority != other.priority) {
+            return this.priority > other.priority;
+        }
+        return this.sequence < other.sequence;
+    }
+}
@@ -1,17 +1,23 @@
 package de.thb.paf.scrabblefactory.managers;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import de.thb.paf.scrabblefactory.models.IGameObject;
-import de.thb.paf.scrabblefactory.models.components.ComponentType;
-import de.thb.paf.scrabblefactory.models.components.IComponent;
 import de.thb.paf.scrabblefactory.models.entities.EntityType;
 import de.thb.paf.scrabblefactory.models.entities.IEntity;
 
 /**
  * Manager class responsible managing all registered game objects.
  *
+ * Entities are additionally bucketed by their entity type and activation state, so lookups
+ * hand out pre-built read-only views instead of scanning and copying the list of game objects.
+ * Additions, removals and activation changes are queued and applied at a safe point at the end
+ * of a frame (see {@link #applyPendingChanges()}), so no list gets mutated while it is iterated.
+ *
  * @author Dominic Schiller - Technische Hochschule Brandenburg
  * @version 1.0
  * @since 1.0
@@ -29,6 +35,51 @@ public class GameObjectManager implements IGameManager {
      */
     private List<IGameObject> gameObjects;
 
+    /**
+     * All registered entities organized by their entity type
+     */
+    private Map<EntityType, List<IEntity>> entities;
+
+    /**
+     * All registered active entities organized by their entity type
+     */
+    private Map<EntityType, List<IEntity>> activeEntities;
+
+    /**
+     * All registered inactive entities organized by their entity type
+     */
+    private Map<EntityType, List<IEntity>> inactiveEntities;
+
+    /**
+     * Read-only views on the registered entities organized by their entity type
+     */
+    private Map<EntityType, List<IEntity>> entityViews;
+
+    /**
+     * Read-only views on the registered active entities organized by their entity type
+     */
+    private Map<EntityType, List<IEntity>> activeEntityViews;
+
+    /**
+     * Read-only views on the registered inactive entities organized by their entity type
+     */
+    private Map<EntityType, List<IEntity>> inactiveEntityViews;
+
+    /**
+     * List of game objects waiting to be registered at the next safe point
+     */
+    private final List<IGameObject> pendingAdditions;
+
+    /**
+     * List of game objects waiting to be unregistered at the next safe point
+     */
+    private final List<IGameObject> pendingRemovals;
+
+    /**
+     * List of entities whose activation state changed since the last safe point
+     */
+    private final List<IEntity> pendingActivationChanges;
+
     /**
      * static initializer: called when the class is loaded by the JVM
      */
@@ -41,6 +92,29 @@ public class GameObjectManager implements IGameManager {
      */
     private GameObjectManager() {
         this.gameObjects = new ArrayList<>();
+        this.pendingAdditions = new ArrayList<>();
+        this.pendingRemovals = new ArrayList<>();
+        this.pendingActivationChanges = new ArrayList<>();
+
+        this.entities = new EnumMap<>(EntityType.class);
+        this.activeEntities = new EnumMap<>(EntityType.class);
+        this.inactiveEntities = new EnumMap<>(EntityType.class);
+        this.entityViews = new EnumMap<>(EntityType.class);
+        this.activeEntityViews = new EnumMap<>(EntityType.class);
+        this.inactiveEntityViews = new EnumMap<>(EntityType.class);
+
+        for(EntityType entityType : EntityType.values()) {
+            List<IEntity> all = new ArrayList<>();
+            List<IEntity> active = new ArrayList<>();
+            List<IEntity> inactive = new ArrayList<>();
+
+            this.entities.put(entityType, all);
+            this.activeEntities.put(entityType, active);
+            this.inactiveEntities.put(entityType, inactive);
+            this.entityViews.put(entityType, Collections.unmodifiableList(all));
+            this.activeEntityViews.put(entityType, Collections.unmodifiableList(active));
+            this.inactiveEntityViews.put(entityType, Collections.unmodifiableList(inactive));
+        }
     }
 
     /**
@@ -53,35 +127,77 @@ public class GameObjectManager implements IGameManager {
 
     /**
      * Add game object to the managed list of registered game objects.
+     * (Note: the game object gets registered at the next safe point)
      * @param gameObject The game object to add
      */
     public void addGameObject(IGameObject gameObject) {
-        this.gameObjects.add(gameObject);
+        synchronized(this.pendingAdditions) {
+            this.pendingAdditions.add(gameObject);
+        }
     }
 
     /**
      * Remove game object from the managed list of registered game objects.
+     * (Note: the game object gets unregistered at the next safe point)
      * @param gameObject The game object to remove
      * @return The success state
      */
     public boolean removeGameObject(IGameObject gameObject) {
-        return this.gameObjects.remove(gameObject);
+        synchronized(this.pendingAdditions) {
+            if(this.pendingAdditions.remove(gameObject)) {
+                return true;
+            }
+        }
+
+        if(!this.gameObjects.contains(gameObject)) {
+            return false;
+        }
+
+        synchronized(this.pendingRemovals) {
+            this.pendingRemovals.add(gameObject);
+        }
+        return true;
     }
 
+    /**
+     * Notify the manager that an entity's activation state has changed, so the entity
+     * gets moved to the matching active/inactive bucket at the next safe point.
+     * @param entity The entity whose activation state has changed
+     */
+    public void onActivationChanged(IEntity entity) {
+        synchronized(this.pendingActivationChanges) {
+            this.pendingActivationChanges.add(entity);
+        }
+    }
 
     /**
      * Get list of specific registered entities.
+     * (Note: the returned list is a read-only view which must not be modified)
      * @param entityType The entities' type to look for
      * @return List of found entities
      */
     public List<IEntity> getGameEntity(EntityType entityType) {
-        List<IEntity> foundObjects = new ArrayList<>();
-        for(IGameObject gameObject : this.gameObjects) {
-            if(gameObject instanceof IEntity && ((IEntity) gameObject).getType().equals(entityType)) {
-                foundObjects.add((IEntity) gameObject);
-            }
-        }
-        return foundObjects;
+        return this.entityViews.get(entityType);
+    }
+
+    /**
+     * Get list of specific registered entities which are currently active.
+     * (Note: the returned list is a read-only view which must not be modified)
+     * @param entityType The entities' type to look for
+     * @return List of found active entities
+     */
+    public List<IEntity> getActiveGameEntities(EntityType entityType) {
+        return this.activeEntityViews.get(entityType);
+    }
+
+    /**
+     * Get list of specific registered entities which are currently inactive.
+     * (Note: the returned list is a read-only view which must not be modified)
+     * @param entityType The entities' type to look for
+     * @return List of found inactive entities
+     */
+    public List<IEntity> getInactiveGameEntities(EntityType entityType) {
+        return this.inactiveEntityViews.get(entityType);
     }
 
     /**
@@ -89,17 +205,110 @@ public class GameObjectManager implements IGameManager {
      * @param deltaTime The time passed between the last and the current frame in seconds
      */
     public void updateGameObjects(float deltaTime) {
-        for(IGameObject gameObject : this.gameObjects) {
-            gameObject.update(deltaTime);
+        for(int i=0; i<this.gameObjects.size(); i++) {
+            this.gameObjects.get(i).update(deltaTime);
+        }
+    }
+
+    /**
+     * Apply all queued additions, removals and activation changes.
+     * (Note: must only be called from the game thread at a point where no
+     * registered list is being iterated, e.g. at the end of a frame)
+     */
+    public void applyPendingChanges() {
+        synchronized(this.pendingRemovals) {
+            for(int i=0; i<this.pendingRemovals.size(); i++) {
+                this.unregister(this.pendingRemovals.get(i));
+            }
+            this.pendingRemovals.clear();
+        }
+
+        synchronized(this.pendingAdditions) {
+            for(int i=0; i<this.pendingAdditions.size(); i++) {
+                this.register(this.pendingAdditions.get(i));
+            }
+            this.pendingAdditions.clear();
+        }
+
+        synchronized(this.pendingActivationChanges) {
+            for(int i=0; i<this.pendingActivationChanges.size(); i++) {
+                this.updateActivationBucket(this.pendingActivationChanges.get(i));
+            }
+            this.pendingActivationChanges.clear();
         }
     }
 
     @Override
     public void dispose() {
+        this.applyPendingChanges();
+
         for(IGameObject gameObject : this.gameObjects) {
             gameObject.dispose();
         }
 
         this.gameObjects.clear();
+        for(EntityType entityType : EntityType.values()) {
+            this.entities.get(entityType).clear();
+            this.activeEntities.get(entityType).clear();
+            this.inactiveEntities.get(entityType).clear();
+        }
+    }
+
+    /**
+     * Register a game object and sort it into the matching entity buckets.
+     * @param gameObject The game object to register
+     */
+    private void register(IGameObject gameObject) {
+        if(this.gameObjects.contains(gameObject)) {
+            return;
+        }
+
+        this.gameObjects.add(gameObject);
+        if(gameObject instanceof IEntity) {
+            IEntity entity = (IEntity) gameObject;
+            this.entities.get(entity.getType()).add(entity);
+            if(entity.isActive()) {
+                this.activeEntities.get(entity.getType()).add(entity);
+            } else {
+                this.inactiveEntities.get(entity.getType()).add(entity);
+            }
+        }
+    }
+
+    /**
+     * Unregister a game object and remove it from all entity buckets.
+     * @param gameObject The game object to unregister
+     */
+    private void unregister(IGameObject gameObject) {
+        this.gameObjects.remove(gameObject);
+        if(gameObject instanceof IEntity) {
+            IEntity entity = (IEntity) gameObject;
+            this.entities.get(entity.getType()).remove(entity);
+            this.activeEntities.get(entity.getType()).remove(entity);
+            this.inactiveEntities.get(entity.getType()).remove(entity);
+        }
+    }
+
+    /**
+     * Move a registered entity to the bucket matching it's current activation state.
+     * @param entity The entity to re-sort
+     */
+    private void updateActivationBucket(IEntity entity) {
+        List<IEntity> active = this.activeEntities.get(entity.getType());
+        List<IEntity> inactive = this.inactiveEntities.get(entity.getType());
+
+        if(!this.entities.get(entity.getType()).contains(entity)) {
+            return;
+        }
+
+        if(entity.isActive()) {
+            if(inactive.remove(entity)) {
+                active.add(entity);
+            }
+        } else {
+            if(active.remove(entity)) {
+                inactive.add(entity);
+            }
+        }
     }
 }
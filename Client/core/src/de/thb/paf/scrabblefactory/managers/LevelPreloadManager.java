@@ -0,0 +1,289 @@
+package de.thb.paf.scrabblefactory.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import de.thb.paf.scrabblefactory.io.AssetLoader;
+import de.thb.paf.scrabblefactory.io.PhysicsShapeRegistry;
+import de.thb.paf.scrabblefactory.io.PreparedAssets;
+import de.thb.paf.scrabblefactory.models.assets.AssetTargetType;
+import de.thb.paf.scrabblefactory.models.components.graphics.BasicGraphicsComponent;
+import de.thb.paf.scrabblefactory.models.components.graphics.LayeredTexturesGraphicsComponent;
+import de.thb.paf.scrabblefactory.models.components.graphics.SpriteAnimationGraphicsComponent;
+import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
+import de.thb.paf.scrabblefactory.settings.Settings;
+import de.thb.paf.scrabblefactory.utils.ScrabbleFactoryClassLoader;
+
+import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_COMPONENTS;
+import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_JAVA_PACKAGE;
+import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_NAME;
+import static de.thb.paf.scrabblefactory.settings.Settings.Game.RESOLUTION;
+import static de.thb.paf.scrabblefactory.settings.Settings.Game.VIRTUAL_SCALE;
+
+/**
+ * Manager class preparing levels in the background, so switching to a level does not freeze the game.
+ *
+ * A background thread parses the level's configurations, acquires the level's physics shapes and
+ * collects the level's texture atlases.
+ * The texture atlases get requested from the asset cache afterwards by {@link #update()}, which
+ * loads them asynchronously within the frame's time budget. The level factory takes the prepared
+ * assets when creating the level, so only the level's components and Box2D bodies are created
+ * synchronously.
+ * (Note: must only be used from the GL thread)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class LevelPreloadManager implements IGameManager {
+
+    /**
+     * The JSON key of the sprite animation's atlas names
+     */
+    private static final String JSON_KEY_ATLAS_NAMES = "atlasNames";
+
+    /**
+     * The singleton instance of the LevelPreloadManager
+     */
+    private static LevelPreloadManager instance;
+
+    /**
+     * The executor preparing the levels in the background (Note: created on demand)
+     */
+    private AsyncExecutor executor;
+
+    /**
+     * The levels being prepared in the background indexed by their unique identifier
+     */
+    private Map<Integer, AsyncResult<PreparedAssets>> pendingLevels;
+
+    /**
+     * The prepared levels indexed by their unique identifier
+     */
+    private Map<Integer, PreparedAssets> preparedLevels;
+
+    /**
+     * The asset loader required to check if a level exists
+     */
+    private AssetLoader assetLoader;
+
+    /**
+     * static initializer: called when the class is loaded by the JVM
+     */
+    static {
+        instance = new LevelPreloadManager();
+    }
+
+    /**
+     * Private singleton constructor.
+     */
+    private LevelPreloadManager() {
+        // the background thread parses the physics shapes, so the Box2D natives must be loaded
+        Box2D.init();
+        this.executor = null;
+        this.pendingLevels = new HashMap<>();
+        this.preparedLevels = new HashMap<>();
+        this.assetLoader = new AssetLoader();
+    }
+
+    /**
+     * Get the global LevelPreloadManager instance.
+     * @return The global level preload manager instance
+     */
+    public static LevelPreloadManager getInstance() {
+        return instance;
+    }
+
+    /**
+     * Start preparing a level in the background.
+     * @param levelID The level's unique identifier
+     * @return Status if the level is being prepared (Note: false if the level does not exist)
+     */
+    public boolean preload(final int levelID) {
+        if(this.pendingLevels.containsKey(levelID) || this.preparedLevels.containsKey(levelID)) {
+            return true;
+        }
+
+        if(!this.assetLoader.hasInitConfiguration(AssetTargetType.LEVEL, levelID)) {
+            return false;
+        }
+
+        // (Note: the executor is re-created if the singleton outlives a disposed application)
+        if(this.executor == null) {
+            this.executor = new AsyncExecutor(1);
+        }
+
+        final boolean isGraphicsEnabled = Settings.App.isGraphicsEnabled;
+        AsyncResult<PreparedAssets> result = this.executor.submit(new AsyncTask<PreparedAssets>() {
+            @Override
+            public PreparedAssets call() throws Exception {
+                return prepareLevel(levelID, isGraphicsEnabled);
+            }
+        });
+        this.pendingLevels.put(levelID, result);
+        return true;
+    }
+
+    /**
+     * Collect the levels prepared in the background and request their texture atlases.
+     * (Note: must be called once per frame from the GL thread)
+     */
+    public void update() {
+        Iterator<Map.Entry<Integer, AsyncResult<PreparedAssets>>> iterator = this.pendingLevels.entrySet().iterator();
+        while(iterator.hasNext()) {
+            Map.Entry<Integer, AsyncResult<PreparedAssets>> entry = iterator.next();
+            if(entry.getValue().isDone()) {
+                iterator.remove();
+                this.collectPreparedLevel(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Get the status if a level has been prepared and it's texture atlases have been loaded.
+     * @param levelID The level's unique identifier
+     * @return The preparation status
+     */
+    public boolean isPrepared(int levelID) {
+        PreparedAssets preparedAssets = this.preparedLevels.get(levelID);
+        return preparedAssets != null && preparedAssets.isLoaded();
+    }
+
+    /**
+     * Take the prepared assets of a level, so they are owned by the caller afterwards.
+     * (Note: waits for the level's preparation and it's texture atlases if not done yet)
+     * @param levelID The level's unique identifier
+     * @return The level's prepared assets (Note: null if the level has not been preloaded)
+     */
+    public PreparedAssets obtainPreparedAssets(int levelID) {
+        AsyncResult<PreparedAssets> result = this.pendingLevels.remove(levelID);
+        if(result != null) {
+            this.collectPreparedLevel(levelID, result);
+        }
+
+        PreparedAssets preparedAssets = this.preparedLevels.remove(levelID);
+        if(preparedAssets != null) {
+            preparedAssets.finishLoading();
+        }
+        return preparedAssets;
+    }
+
+    @Override
+    public void dispose() {
+        // wait for the levels being prepared, so their assets can be released as well
+        for(Map.Entry<Integer, AsyncResult<PreparedAssets>> entry : this.pendingLevels.entrySet()) {
+            this.collectPreparedLevel(entry.getKey(), entry.getValue());
+        }
+        this.pendingLevels.clear();
+
+        // all levels have been collected, so the background thread can be shut down
+        if(this.executor != null) {
+            this.executor.dispose();
+            this.executor = null;
+        }
+
+        for(PreparedAssets preparedAssets : this.preparedLevels.values()) {
+            preparedAssets.dispose();
+        }
+        this.preparedLevels.clear();
+    }
+
+    /**
+     * Wait for a level's preparation, store it's prepared assets and request it's texture atlases.
+     * (Note: a failed preparation is dropped, so the level gets loaded synchronously)
+     * @param levelID The level's unique identifier
+     * @param result The result of the level's preparation
+     */
+    private void collectPreparedLevel(int levelID, AsyncResult<PreparedAssets> result) {
+        try {
+            PreparedAssets preparedAssets = result.get();
+            preparedAssets.requestTextureAtlases();
+            this.preparedLevels.put(levelID, preparedAssets);
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("LevelPreloadManager", "failed to preload level " + levelID, e);
+        }
+    }
+
+    /**
+     * Parse a level's configurations, acquire it's physics shapes and collect it's texture atlases.
+     * (Note: called by the background thread, so the GL context must not be touched)
+     * @param levelID The level's unique identifier
+     * @param isGraphicsEnabled Status if the level's texture atlases should be prepared
+     * @return The level's prepared assets
+     */
+    private static PreparedAssets prepareLevel(int levelID, boolean isGraphicsEnabled) {
+        AssetLoader assetLoader = new AssetLoader();
+        PreparedAssets preparedAssets = new PreparedAssets();
+
+        JsonObject levelConfig = assetLoader.loadInitConfiguration(AssetTargetType.LEVEL, levelID);
+        preparedAssets.addInitConfiguration(AssetTargetType.LEVEL, levelID, levelConfig);
+
+        JsonArray componentDefinitions = levelConfig.get(JSON_KEY_COMPONENTS).getAsJsonArray();
+        for(int i=0; i<componentDefinitions.size(); i++) {
+            JsonObject componentDef = componentDefinitions.get(i).getAsJsonObject();
+            String componentName = componentDef.get(JSON_KEY_NAME).getAsString();
+            String javaPackageName = componentDef.get(JSON_KEY_JAVA_PACKAGE).getAsString();
+            Class<?> componentType = ScrabbleFactoryClassLoader.getClassForName(javaPackageName, componentName);
+            if(componentType == null) {
+                continue;
+            }
+
+            if(RigidBodyPhysicsComponent.class.isAssignableFrom(componentType)) {
+                if(!preparedAssets.hasPhysicsShapes(AssetTargetType.LEVEL, levelID)) {
+                    preparedAssets.addPhysicsShapes(
+                            AssetTargetType.LEVEL,
+                            levelID,
+                            PhysicsShapeRegistry.getInstance().acquire(
+                                    AssetTargetType.LEVEL,
+                                    levelID,
+                                    VIRTUAL_SCALE * RESOLUTION.virtualScaleFactor
+                            )
+                    );
+                }
+            } else if(isGraphicsEnabled) {
+                List<String> atlasNames = getAtlasNames(componentType, componentDef);
+                for(int j=0; j<atlasNames.size(); j++) {
+                    preparedAssets.addTextureAtlas(
+                            assetLoader.getTextureAtlasPath(AssetTargetType.LEVEL, atlasNames.get(j), levelID)
+                    );
+                }
+            }
+        }
+
+        return preparedAssets;
+    }
+
+    /**
+     * Get the names of the texture atlases a level's graphics component will load.
+     * @param componentType The graphics component's class type
+     * @param componentDef The graphics component's JSON definition
+     * @return List of texture atlas names (Note: empty if the component does not load any atlas)
+     */
+    private static List<String> getAtlasNames(Class<?> componentType, JsonObject componentDef) {
+        List<String> atlasNames = new ArrayList<>();
+        if(BasicGraphicsComponent.class.isAssignableFrom(componentType)
+                || LayeredTexturesGraphicsComponent.class.isAssignableFrom(componentType)) {
+            atlasNames.add(AssetTargetType.LEVEL.path);
+        } else if(SpriteAnimationGraphicsComponent.class.isAssignableFrom(componentType)
+                && componentDef.has(JSON_KEY_ATLAS_NAMES)) {
+            for(JsonElement atlasName : componentDef.get(JSON_KEY_ATLAS_NAMES).getAsJsonArray()) {
+                atlasNames.add(atlasName.getAsString());
+            }
+        }
+        return atlasNames;
+    }
+}
@@ -0,0 +1,100 @@
+package de.thb.paf.scrabblefactory.managers;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import de.thb.paf.scrabblefactory.io.AssetLoader;
+import de.thb.paf.scrabblefactory.models.assets.AssetTargetType;
+import de.thb.paf.scrabblefactory.models.prototypes.GameObjectPrototype;
+
+/**
+ * Manager class caching the prototypes of all created game objects.
+ *
+ * The first request of a game object loads and parses it's init configuration and resolves the
+ * classes of it's components and game actions. All further requests of the same game object, e.g.
+ * each spawned cheese, take the cached prototype instead.
+ * (Note: must only be used from the GL thread)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class PrototypeManager implements IGameManager {
+
+    /**
+     * The singleton instance of the PrototypeManager
+     */
+    private static PrototypeManager instance;
+
+    /**
+     * The cached game object prototypes indexed by their asset key
+     */
+    private Map<String, GameObjectPrototype> prototypes;
+
+    /**
+     * static initializer: called when the class is loaded by the JVM
+     */
+    static {
+        instance = new PrototypeManager();
+    }
+
+    /**
+     * Private singleton constructor.
+     */
+    private PrototypeManager() {
+        this.prototypes = new HashMap<>();
+    }
+
+    /**
+     * Get the global PrototypeManager instance.
+     * @return The global prototype manager instance
+     */
+    public static PrototypeManager getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the prototype of a game object and build it if it's not cached yet.
+     * @param assetTargetType The game object's asset target type
+     * @param assetID The game object's unique identifier
+     * @param assetLoader The asset loader to load the game object's init configuration with
+     * @return The game object's prototype
+     */
+    public GameObjectPrototype getPrototype(AssetTargetType assetTargetType, int assetID, AssetLoader assetLoader) {
+        String key = toKey(assetTargetType, assetID);
+        GameObjectPrototype prototype = this.prototypes.get(key);
+        if(prototype == null) {
+            prototype = new GameObjectPrototype(
+                    assetTargetType,
+                    assetID,
+                    assetLoader.loadInitConfiguration(assetTargetType, assetID)
+            );
+            this.prototypes.put(key, prototype);
+        }
+        return prototype;
+    }
+
+    /**
+     * Get the number of cached prototypes.
+     * @return The number of cached prototypes
+     */
+    public int getSize() {
+        return this.prototypes.size();
+    }
+
+    @Override
+    public void dispose() {
+        this.prototypes.clear();
+    }
+
+    /**
+     * Create the unique key of a game object.
+     * @param assetTargetType The game object's asset target type
+     * @param assetID The game object's unique identifier
+     * @return The game object's unique key
+     */
+    private static String toKey(AssetTargetType assetTargetType, int assetID) {
+        return assetTargetType.path + "/" + assetID;
+    }
+}
@@ -0,0 +1,204 @@
+package de.thb.paf.scrabblefactory.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import de.thb.paf.scrabblefactory.io.AssetCache;
+import de.thb.paf.scrabblefactory.settings.Settings;
+
+/**
+ * Manager class providing the UI resources shared by all screens and widgets.
+ *
+ * The UI skin and the screen images are loaded once via the asset cache. The button images of the
+ * current resolution are packed into a single texture atlas when they are requested the first time,
+ * so all buttons share a few textures and each button image is decoded only once.
+ * (Note: must only be used from the GL thread)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class UIResourceManager implements IGameManager {
+
+    /**
+     * The UI skin's file path
+     */
+    private static final String SKIN_PATH = "ui/glassy-ui.json";
+
+    /**
+     * The maximal size of the button atlas' pages (Note: supported by the GPUs of all target devices)
+     */
+    private static final int MAX_PAGE_SIZE = 2048;
+
+    /**
+     * The padding between two packed button images in pixels
+     */
+    private static final int PAGE_PADDING = 2;
+
+    /**
+     * The singleton instance of the UIResourceManager
+     */
+    private static UIResourceManager instance;
+
+    /**
+     * The shared UI skin (Note: loaded when requested the first time)
+     */
+    private Skin skin;
+
+    /**
+     * The packer packing the button images into the button atlas' pages (Note: created when requested the first time)
+     */
+    private PixmapPacker buttonPacker;
+
+    /**
+     * The texture atlas of all packed button images
+     */
+    private TextureAtlas buttonAtlas;
+
+    /**
+     * The shared button drawables indexed by their button image's name
+     */
+    private Map<String, Drawable> buttonDrawables;
+
+    /**
+     * The shared screen images indexed by their path
+     */
+    private Map<String, Texture> imageTextures;
+
+    /**
+     * static initializer: called when the class is loaded by the JVM
+     */
+    static {
+        instance = new UIResourceManager();
+    }
+
+    /**
+     * Private singleton constructor.
+     */
+    private UIResourceManager() {
+        this.buttonDrawables = new HashMap<>();
+        this.imageTextures = new HashMap<>();
+    }
+
+    /**
+     * Get the global UIResourceManager instance.
+     * @return The global UI resource manager instance
+     */
+    public static UIResourceManager getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the shared UI skin.
+     * @return The shared UI skin
+     */
+    public Skin getSkin() {
+        if(this.skin == null) {
+            this.skin = AssetCache.getInstance().get(SKIN_PATH, Skin.class);
+        }
+        return this.skin;
+    }
+
+    /**
+     * Get a button image of the current resolution as shared drawable.
+     * @param buttonName The button image's name (Note: without file ending)
+     * @return The button image's shared drawable
+     */
+    public Drawable getButtonDrawable(String buttonName) {
+        Drawable buttonDrawable = this.buttonDrawables.get(buttonName);
+        if(buttonDrawable == null) {
+            buttonDrawable = new TextureRegionDrawable(this.getButtonRegion(buttonName));
+            this.buttonDrawables.put(buttonName, buttonDrawable);
+        }
+        return buttonDrawable;
+    }
+
+    /**
+     * Get a button image of the current resolution from the button atlas.
+     * (Note: the button image gets packed into the button atlas if not done yet)
+     * @param buttonName The button image's name (Note: without file ending)
+     * @return The button image's atlas region
+     */
+    public TextureRegion getButtonRegion(String buttonName) {
+        if(this.buttonPacker == null) {
+            int pageSize = Math.min(MathUtils.nextPowerOfTwo(Settings.Game.RESOLUTION.maxWidth) / 2, MAX_PAGE_SIZE);
+            this.buttonPacker = new PixmapPacker(pageSize, pageSize, Pixmap.Format.RGBA8888, PAGE_PADDING, false);
+            this.buttonAtlas = new TextureAtlas();
+        }
+
+        TextureRegion buttonRegion = this.buttonAtlas.findRegion(buttonName);
+        if(buttonRegion == null) {
+            Pixmap buttonImage = new Pixmap(Gdx.files.internal(this.getImagePath("buttons/" + buttonName + ".png")));
+            this.buttonPacker.pack(buttonName, buttonImage);
+            buttonImage.dispose();
+
+            // (Note: only the page the button image has been packed into gets uploaded again)
+            this.buttonPacker.updateTextureAtlas(
+                    this.buttonAtlas,
+                    Texture.TextureFilter.Linear,
+                    Texture.TextureFilter.Linear,
+                    false
+            );
+            buttonRegion = this.buttonAtlas.findRegion(buttonName);
+        }
+        return buttonRegion;
+    }
+
+    /**
+     * Get a screen image of the current resolution as shared texture.
+     * @param imageName The image's path relative to the resolution's image directory, e.g. "backgrounds/background.png"
+     * @return The image's shared texture
+     */
+    public Texture getImageTexture(String imageName) {
+        String imagePath = this.getImagePath(imageName);
+        Texture imageTexture = this.imageTextures.get(imagePath);
+        if(imageTexture == null) {
+            imageTexture = AssetCache.getInstance().get(imagePath, Texture.class);
+            imageTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+            this.imageTextures.put(imagePath, imageTexture);
+        }
+        return imageTexture;
+    }
+
+    @Override
+    public void dispose() {
+        AssetCache assetCache = AssetCache.getInstance();
+        if(this.skin != null) {
+            assetCache.release(SKIN_PATH);
+            this.skin = null;
+        }
+        for(String imagePath : this.imageTextures.keySet()) {
+            assetCache.release(imagePath);
+        }
+        this.imageTextures.clear();
+
+        if(this.buttonPacker != null) {
+            this.buttonAtlas.dispose();
+            this.buttonPacker.dispose();
+            this.buttonAtlas = null;
+            this.buttonPacker = null;
+        }
+        this.buttonDrawables.clear();
+    }
+
+    /**
+     * Get the path of a screen image of the current resolution.
+     * @param imageName The image's path relative to the resolution's image directory
+     * @return The image's path
+     */
+    private String getImagePath(String imageName) {
+        return "images/" + Settings.Game.RESOLUTION.name + "/" + imageName;
+    }
+}
@@ -4,6 +4,10 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
 
 import de.thb.paf.scrabblefactory.gameplay.GameContactListener;
+import de.thb.paf.scrabblefactory.models.components.physics.SpatialHashGrid;
+
+import static de.thb.paf.scrabblefactory.settings.Settings.Game.VIRTUAL_HEIGHT;
+import static de.thb.paf.scrabblefactory.settings.Settings.Game.VIRTUAL_WIDTH;
 
 /**
  * Manager class responsible for holding and managing the global physical Box2D world's instance.
@@ -20,6 +24,11 @@ public class WorldPhysicsManager implements IGameManager {
      */
     private static final Vector2 DEFAULT_GRAVITY = new Vector2(0, 0);
 
+    /**
+     * The edge length of the entity grid's cells in meters
+     */
+    private static final float GRID_CELL_SIZE = 1f;
+
     /**
      * The singleton instance of the WorldPhysicsManager
      */
@@ -35,6 +44,21 @@ public class WorldPhysicsManager implements IGameManager {
      */
     private GameContactListener contactListener;
 
+    /**
+     * The interpolation factor between the previous and the current physics step
+     */
+    private float interpolationAlpha;
+
+    /**
+     * The number of rigid body pose transitions since the world has been created
+     */
+    private long bodyTransitionCount;
+
+    /**
+     * The spatial hash of all active, non-static entities rebuilt after each physics step
+     */
+    private SpatialHashGrid entityGrid;
+
     /**
      * static initializer: called when the class is loaded by the JVM
      */
@@ -47,6 +71,7 @@ public class WorldPhysicsManager implements IGameManager {
      */
     private WorldPhysicsManager() {
         this.physicalWorld = new World(DEFAULT_GRAVITY, true);
+        this.entityGrid = new SpatialHashGrid(VIRTUAL_WIDTH, VIRTUAL_HEIGHT, GRID_CELL_SIZE);
     }
 
     /**
@@ -89,8 +114,50 @@ public class WorldPhysicsManager implements IGameManager {
         this.contactListener = contactListener;
     }
 
+    /**
+     * Get the interpolation factor between the previous and the current physics step.
+     * @return The interpolation factor in range [0, 1]
+     */
+    public float getInterpolationAlpha() {
+        return this.interpolationAlpha;
+    }
+
+    /**
+     * Set the interpolation factor between the previous and the current physics step.
+     * @param interpolationAlpha The interpolation factor in range [0, 1]
+     */
+    public void setInterpolationAlpha(float interpolationAlpha) {
+        this.interpolationAlpha = interpolationAlpha;
+    }
+
+    /**
+     * Count a rigid body's pose transition.
+     */
+    public void countBodyTransition() {
+        this.bodyTransitionCount++;
+    }
+
+    /**
+     * Get the number of rigid body pose transitions since the world has been created.
+     * @return The number of pose transitions
+     */
+    public long getBodyTransitionCount() {
+        return this.bodyTransitionCount;
+    }
+
+    /**
+     * Get the spatial hash of all active, non-static entities.
+     * @return The entity grid rebuilt after each physics step
+     */
+    public SpatialHashGrid getEntityGrid() {
+        return this.entityGrid;
+    }
+
     @Override
     public void dispose() {
         this.physicalWorld = new World(DEFAULT_GRAVITY, true);
+        this.interpolationAlpha = 0;
+        this.bodyTransitionCount = 0;
+        this.entityGrid.clear();
     }
 }
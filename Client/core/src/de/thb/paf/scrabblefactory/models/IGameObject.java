@@ -80,6 +80,14 @@ public interface IGameObject {
      */
     IComponent getComponent(int id);
 
+    /**
+     * Get the first with the entity associated component which is an instance of the given class.
+     * @param componentClass The component's class or interface
+     * @param <T> The component's class type
+     * @return The found component (Note: might be null)
+     */
+    <T> T getComponent(Class<T> componentClass);
+
     /**
      * Set the game object's position.
      * @param position The new position vector to set
@@ -1,17 +1,12 @@
 package de.thb.paf.scrabblefactory.models.actions;
 
 
-import com.badlogic.gdx.Gdx;
-
-import java.util.Observable;
-
 import de.thb.paf.scrabblefactory.managers.GameEventManager;
+import de.thb.paf.scrabblefactory.models.IGameObject;
 import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
 import de.thb.paf.scrabblefactory.models.entities.Cheese;
 import de.thb.paf.scrabblefactory.models.entities.Player;
-import de.thb.paf.scrabblefactory.models.events.IGameEvent;
 import de.thb.paf.scrabblefactory.models.events.ItemContactEvent;
-import de.thb.paf.scrabblefactory.models.events.MoveEvent;
 
 import static de.thb.paf.scrabblefactory.models.events.GameEventType.MOVE;
 
@@ -37,20 +32,12 @@ public class CatchItemPlayerAction extends GameAction {
     public CatchItemPlayerAction(RigidBodyPhysicsComponent parent) {
         super();
         this.parent = parent;
+        this.handleEvents(ItemContactEvent.class, event -> this.handleItemContactEvent(event));
     }
 
     @Override
-    public void update(Observable observable, Object o) {
-        IGameEvent event = ((IGameEvent) observable);
-
-        switch(event.getEventType()) {
-            case ITEM_CONTACT:
-                this.handleItemContactEvent((ItemContactEvent)event);
-                break;
-            default:
-                // we ignore other events
-                break;
-        }
+    public IGameObject getEventTarget() {
+        return this.parent.getParent();
     }
 
     /**
@@ -74,19 +61,16 @@ public class CatchItemPlayerAction extends GameAction {
         Player player = (Player)this.parent.getParent();
         cheese.setCaught(true);
         player.addCheeseItem(cheese);
-        this.triggerMoveEventAsync();
+        this.postMoveEvent();
     }
 
     /**
-     * Asynchronously trigger a non-defined move event.
+     * Post a non-defined move event dispatched at the end of the current frame update.
      */
-    private void triggerMoveEventAsync() {
-        new Thread(() -> Gdx.app.postRunnable(() -> {
-                MoveEvent event = (MoveEvent) GameEventManager.getInstance().getGameEvent(MOVE);
-                event.setMoveActionType(MoveActionType.NONE);
-                event.setMoveDirectionType(MoveDirectionType.NONE);
-                GameEventManager.getInstance().triggerEvent(MOVE);
-            })
-        ).start();
+    private void postMoveEvent() {
+        GameEventManager gem = GameEventManager.getInstance();
+        gem.postEvent(gem.obtainEvent(MOVE)
+                .setMoveActionType(MoveActionType.NONE)
+                .setMoveDirectionType(MoveDirectionType.NONE));
     }
 }
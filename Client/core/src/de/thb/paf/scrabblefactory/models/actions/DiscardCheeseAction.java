@@ -3,11 +3,9 @@ package de.thb.paf.scrabblefactory.models.actions;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Fixture;
 
-import java.util.Observable;
-
+import de.thb.paf.scrabblefactory.models.IGameObject;
 import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
 import de.thb.paf.scrabblefactory.models.events.DiscardEvent;
-import de.thb.paf.scrabblefactory.models.events.IGameEvent;
 
 /**
  * Cheese action dedicated to handle the discard a cheese item.
@@ -31,20 +29,12 @@ public class DiscardCheeseAction extends GameAction {
     public DiscardCheeseAction(RigidBodyPhysicsComponent parent) {
         super();
         this.parent = parent;
+        this.handleEvents(DiscardEvent.class, event -> this.handleDiscardEvent(event));
     }
 
     @Override
-    public void update(Observable observable, Object o) {
-        IGameEvent event = ((IGameEvent) observable);
-
-        switch(event.getEventType()) {
-            case DISCARD:
-                this.handleDiscardEvent((DiscardEvent)event);
-                break;
-            default:
-                // we ignore other events
-                break;
-        }
+    public IGameObject getEventTarget() {
+        return this.parent.getParent();
     }
 
     /**
@@ -54,6 +44,8 @@ public class DiscardCheeseAction extends GameAction {
     private void handleDiscardEvent(DiscardEvent event) {
         if(event.getDiscardTarget() == this.parent.getParent()) {
             Body body = this.parent.getBody();
+            // the discarded item falls down again, so it has to hit the ground
+            this.parent.setResting(false);
             body.setActive(true);
             for(Fixture fixture : body.getFixtureList()) {
                 fixture.setSensor(true);
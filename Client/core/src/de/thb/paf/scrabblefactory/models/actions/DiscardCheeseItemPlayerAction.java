@@ -1,16 +1,12 @@
 package de.thb.paf.scrabblefactory.models.actions;
 
 
-import com.badlogic.gdx.Gdx;
-
-import java.util.Observable;
-
 import de.thb.paf.scrabblefactory.managers.GameEventManager;
+import de.thb.paf.scrabblefactory.models.IGameObject;
 import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
 import de.thb.paf.scrabblefactory.models.entities.Cheese;
 import de.thb.paf.scrabblefactory.models.entities.Player;
 import de.thb.paf.scrabblefactory.models.events.DiscardEvent;
-import de.thb.paf.scrabblefactory.models.events.IGameEvent;
 
 import static de.thb.paf.scrabblefactory.models.events.GameEventType.DISCARD;
 
@@ -36,20 +32,12 @@ public class DiscardCheeseItemPlayerAction extends GameAction {
     public DiscardCheeseItemPlayerAction(RigidBodyPhysicsComponent parent) {
         super();
         this.parent = parent;
+        this.handleEvents(DiscardEvent.class, event -> this.handleDiscardEvent(event));
     }
 
     @Override
-    public void update(Observable observable, Object o) {
-        IGameEvent event = ((IGameEvent) observable);
-
-        switch(event.getEventType()) {
-            case DISCARD:
-                this.handleDiscardEvent((DiscardEvent)event);
-                break;
-            default:
-                // we ignore other events
-                break;
-        }
+    public IGameObject getEventTarget() {
+        return this.parent.getParent();
     }
 
     /**
@@ -60,20 +48,17 @@ public class DiscardCheeseItemPlayerAction extends GameAction {
         if(event.getDiscardTarget() == this.parent.getParent()) {
             Player player = ((Player)this.parent.getParent());
             Cheese cheese = player.getCheeseItems().get(player.getCheeseItems().size() - 1);
-            this.triggerDiscardEventAsync(cheese);
+            this.postDiscardEvent(cheese);
             player.removeCheeseItem(cheese);
         }
     }
 
     /**
-     * Asynchronously trigger a discard event.
+     * Post a discard event dispatched at the end of the current frame update.
      * @param target The event's target
      */
-    private void triggerDiscardEventAsync(Cheese target) {
-        new Thread(() -> Gdx.app.postRunnable(() -> {
-            DiscardEvent event = (DiscardEvent) GameEventManager.getInstance().getGameEvent(DISCARD);
-            event.setDiscardTarget(target);
-            GameEventManager.getInstance().triggerEvent(DISCARD);
-        })).start();
+    private void postDiscardEvent(Cheese target) {
+        GameEventManager gem = GameEventManager.getInstance();
+        gem.postEvent(gem.obtainEvent(DISCARD).setTarget(target));
     }
 }
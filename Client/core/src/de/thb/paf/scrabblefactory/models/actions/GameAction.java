@@ -1,6 +1,11 @@
 package de.thb.paf.scrabblefactory.models.actions;
 
+import de.thb.paf.scrabblefactory.io.json.JsonDeserializable;
+import de.thb.paf.scrabblefactory.io.json.JsonField;
+import de.thb.paf.scrabblefactory.models.IGameObject;
 import de.thb.paf.scrabblefactory.models.events.GameEventType;
+import de.thb.paf.scrabblefactory.models.events.IGameEvent;
+import de.thb.paf.scrabblefactory.models.events.IGameEventListener;
 
 /**
  * Abstract representation of an game action.
@@ -10,18 +15,33 @@ import de.thb.paf.scrabblefactory.models.events.GameEventType;
  * @since 1.0
  */
 
+@JsonDeserializable
 public abstract class GameAction implements IGameAction {
 
     /**
      * List of event types the action is registered to
      */
-    private GameEventType[] eventsToHandle;
+    @JsonField
+    GameEventType[] eventsToHandle;
+
+    /**
+     * The priority the action gets notified with about events
+     */
+    @JsonField
+    int eventPriority;
+
+    /**
+     * The typed listeners per handled event class
+     */
+    private final transient GameEventHandlers eventHandlers;
 
     /**
      * Default Constructor
      */
     public GameAction() {
         this.eventsToHandle = new GameEventType[0];
+        this.eventPriority = 0;
+        this.eventHandlers = new GameEventHandlers();
     }
 
     @Override
@@ -33,4 +53,31 @@ public abstract class GameAction implements IGameAction {
     public void setEventTypesToHandle(GameEventType[] eventTypesToHandle) {
         this.eventsToHandle = eventTypesToHandle;
     }
+
+    @Override
+    public int getEventPriority() {
+        return this.eventPriority;
+    }
+
+    @Override
+    public IGameObject getEventTarget() {
+        // interested in all events by default
+        return null;
+    }
+
+    @Override
+    public GameEventHandlers getEventHandlers() {
+        return this.eventHandlers;
+    }
+
+    /**
+     * Add the listener handling all events of the given event class.
+     * (Note: only subscribed if the action is registered to handle the event class's type)
+     * @param eventClass The event class to handle
+     * @param listener The listener handling the events
+     * @param <T> The event class to handle
+     */
+    protected <T extends IGameEvent> void handleEvents(Class<T> eventClass, IGameEventListener<T> listener) {
+        this.eventHandlers.put(eventClass, listener);
+    }
 }
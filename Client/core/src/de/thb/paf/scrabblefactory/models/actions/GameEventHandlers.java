@@ -0,0 +1,112 @@
+package de.thb.paf.scrabblefactory.models.actions;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import de.thb.paf.scrabblefactory.managers.GameEventManager;
+import de.thb.paf.scrabblefactory.models.IGameObject;
+import de.thb.paf.scrabblefactory.models.events.GameEventType;
+import de.thb.paf.scrabblefactory.models.events.IGameEvent;
+import de.thb.paf.scrabblefactory.models.events.IGameEventListener;
+
+/**
+ * Collection of a game action's typed event listeners organized by their event type.
+ *
+ * Each listener handles the events of exactly one event class, so it neither has to switch on
+ * the event's type nor cast the received event. Only the listeners of the event types the action
+ * is registered to handle get subscribed.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class GameEventHandlers {
+
+    /**
+     * The typed event listeners indexed by their event type
+     */
+    private final Map<GameEventType, GameEventHandler<?>> handlers;
+
+    /**
+     * Default Constructor
+     */
+    public GameEventHandlers() {
+        this.handlers = new EnumMap<>(GameEventType.class);
+    }
+
+    /**
+     * Add the listener handling all events of the given event class.
+     * (Note: replaces the event class's previous listener)
+     * @param eventClass The event class to handle
+     * @param listener The listener handling the events
+     * @param <T> The event class to handle
+     */
+    public <T extends IGameEvent> void put(Class<T> eventClass, IGameEventListener<T> listener) {
+        this.handlers.put(GameEventType.of(eventClass), new GameEventHandler<>(eventClass, listener));
+    }
+
+    /**
+     * Subscribe the listeners of the given event types with the game event manager.
+     * (Note: event types without a listener are skipped)
+     * @param eventTypes The event types to subscribe to
+     * @param priority The subscriptions' priority (Note: higher priorities get notified first)
+     * @param target The game object the listeners are interested in (Note: null to receive all events)
+     */
+    public void subscribe(GameEventType[] eventTypes, int priority, IGameObject target) {
+        GameEventManager gem = GameEventManager.getInstance();
+        for(GameEventType eventType : eventTypes) {
+            GameEventHandler<?> handler = this.handlers.get(eventType);
+            if(handler != null) {
+                handler.subscribe(gem, priority, target);
+            }
+        }
+    }
+
+    /**
+     * Unsubscribe all listeners from the game event manager.
+     */
+    public void unsubscribe() {
+        GameEventManager gem = GameEventManager.getInstance();
+        for(GameEventHandler<?> handler : this.handlers.values()) {
+            gem.unsubscribe(handler.listener);
+        }
+    }
+
+    /**
+     * Typed listener of a certain event class.
+     * @param <T> The handled event class
+     */
+    private static class GameEventHandler<T extends IGameEvent> {
+
+        /**
+         * The handled event class
+         */
+        private final Class<T> eventClass;
+
+        /**
+         * The listener handling the events
+         */
+        private final IGameEventListener<T> listener;
+
+        /**
+         * Constructor.
+         * @param eventClass The handled event class
+         * @param listener The listener handling the events
+         */
+        private GameEventHandler(Class<T> eventClass, IGameEventListener<T> listener) {
+            this.eventClass = eventClass;
+            this.listener = listener;
+        }
+
+        /**
+         * Subscribe the listener to the handled event class.
+         * @param gem The game event manager to subscribe with
+         * @param priority The subscription's priority
+         * @param target The game object the listener is interested in
+         */
+        private void subscribe(GameEventManager gem, int priority, IGameObject target) {
+            gem.subscribe(this.eventClass, this.listener, priority, target);
+        }
+    }
+}
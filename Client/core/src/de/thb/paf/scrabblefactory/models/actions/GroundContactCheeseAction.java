@@ -3,11 +3,9 @@ package de.thb.paf.scrabblefactory.models.actions;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 
-import java.util.Observable;
-
+import de.thb.paf.scrabblefactory.models.IGameObject;
 import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
 import de.thb.paf.scrabblefactory.models.events.GroundContactEvent;
-import de.thb.paf.scrabblefactory.models.events.IGameEvent;
 import static de.thb.paf.scrabblefactory.settings.Settings.Game.VIRTUAL_SCALE;
 
 /**
@@ -32,20 +30,12 @@ public class GroundContactCheeseAction extends GameAction {
     public GroundContactCheeseAction(RigidBodyPhysicsComponent parent) {
         super();
         this.parent = parent;
+        this.handleEvents(GroundContactEvent.class, event -> this.handleGroundContactEvent(event));
     }
 
     @Override
-    public void update(Observable observable, Object o) {
-        IGameEvent event = ((IGameEvent) observable);
-
-        switch(event.getEventType()) {
-            case GROUND_CONTACT:
-                this.handleGroundContactEvent((GroundContactEvent)event);
-                break;
-            default:
-                // we ignore other events
-                break;
-        }
+    public IGameObject getEventTarget() {
+        return this.parent.getParent();
     }
 
     /**
@@ -61,6 +51,7 @@ public class GroundContactCheeseAction extends GameAction {
             body.applyForceToCenter(0,0, true);
             body.applyLinearImpulse(0, 0, 0, 0, true);
             body.setTransform(body.getTransform().getPosition().x, ((float)90 * VIRTUAL_SCALE) , 0);
+            this.parent.setResting(true);
         }
     }
 }
@@ -1,7 +1,6 @@
 package de.thb.paf.scrabblefactory.models.actions;
 
-import java.util.Observer;
-
+import de.thb.paf.scrabblefactory.models.IGameObject;
 import de.thb.paf.scrabblefactory.models.events.GameEventType;
 
 
@@ -14,7 +13,7 @@ import de.thb.paf.scrabblefactory.models.events.GameEventType;
  * @since 1.0
  */
 
-public interface IGameAction extends Observer {
+public interface IGameAction {
 
     /**
      * Get all the event types the action is registered to handle.
@@ -27,4 +26,23 @@ public interface IGameAction extends Observer {
      * @param eventTypesToHandle List of event types the action is registered to
      */
     void setEventTypesToHandle(GameEventType[] eventTypesToHandle);
+
+    /**
+     * Get the priority the action gets notified with about events.
+     * (Note: higher priorities get notified first)
+     * @return The action's event priority
+     */
+    int getEventPriority();
+
+    /**
+     * Get the game object the action is interested in events about.
+     * @return The action's event target (Note: null to receive all events)
+     */
+    IGameObject getEventTarget();
+
+    /**
+     * Get the action's typed listeners per handled event class.
+     * @return The action's event handlers
+     */
+    GameEventHandlers getEventHandlers();
 }
@@ -2,10 +2,8 @@ package de.thb.paf.scrabblefactory.models.actions;
 
 import com.badlogic.gdx.physics.box2d.Body;
 
-import java.util.Observable;
-
+import de.thb.paf.scrabblefactory.models.IGameObject;
 import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
-import de.thb.paf.scrabblefactory.models.events.IGameEvent;
 import de.thb.paf.scrabblefactory.models.events.ItemContactEvent;
 
 import static com.badlogic.gdx.physics.box2d.BodyDef.BodyType.DynamicBody;
@@ -32,20 +30,12 @@ public class RigidBodyDeactivateAction extends GameAction {
     public RigidBodyDeactivateAction(RigidBodyPhysicsComponent parent) {
         super();
         this.parent = parent;
+        this.handleEvents(ItemContactEvent.class, event -> this.handleItemContactEvent(event));
     }
 
     @Override
-    public void update(Observable observable, Object o) {
-        IGameEvent event = ((IGameEvent) observable);
-
-        switch(event.getEventType()) {
-            case ITEM_CONTACT:
-                this.handleItemContactEvent((ItemContactEvent)event);
-                break;
-            default:
-                // we ignore other events
-                break;
-        }
+    public IGameObject getEventTarget() {
+        return this.parent.getParent();
     }
 
     /**
@@ -3,23 +3,20 @@ package de.thb.paf.scrabblefactory.models.actions;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.physics.box2d.World;
-
-import java.util.Observable;
 
 import de.thb.paf.scrabblefactory.managers.GameEventManager;
+import de.thb.paf.scrabblefactory.models.IGameObject;
+import de.thb.paf.scrabblefactory.models.components.physics.IMovementListener;
+import de.thb.paf.scrabblefactory.models.components.physics.MovementController;
+import de.thb.paf.scrabblefactory.models.components.physics.MovementGoal;
 import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
 import de.thb.paf.scrabblefactory.models.events.GameEventType;
 import de.thb.paf.scrabblefactory.models.events.GroundContactEvent;
-import de.thb.paf.scrabblefactory.models.events.IGameEvent;
 import de.thb.paf.scrabblefactory.models.events.MoveEvent;
 import de.thb.paf.scrabblefactory.models.events.MoveToEvent;
 import de.thb.paf.scrabblefactory.settings.Settings;
 
 import static de.thb.paf.scrabblefactory.models.actions.MoveActionType.*;
-import static de.thb.paf.scrabblefactory.settings.Settings.Game.RESOLUTION;
-import static de.thb.paf.scrabblefactory.settings.Settings.Game.VIRTUAL_SCALE;
 
 /**
  * Represents a basic move action dedicated for a player's rigid body physics components.
@@ -29,7 +26,7 @@ import static de.thb.paf.scrabblefactory.settings.Settings.Game.VIRTUAL_SCALE;
  * @since 1.0
  */
 
-public class RigidBodyMovePlayerAction extends GameAction {
+public class RigidBodyMovePlayerAction extends GameAction implements IMovementListener {
 
     /**
      * The rigid body physics component to control
@@ -41,26 +38,15 @@ public class RigidBodyMovePlayerAction extends GameAction {
      */
     private MoveActionType moveActionType;
 
-    /**
-     * Semaphore access flag for securely switching the Box2D body
-     */
-    private boolean isSwitchingBody;
-
     /**
      * Status if the Box2D body already has ground contact
      */
     private boolean hasGroundContact;
 
     /**
-     * The currently active async move action (= custom runnable)
-     *
+     * The controller evaluating the body's walk and move-to goals once per physics step
      */
-    AsyncMoveAction asyncMoveAction;
-
-    /**
-     * The currently running thread executing the currently active async move action
-     */
-    Thread asyncMoveTask;
+    private MovementController movementController;
 
     /**
      * Constructor
@@ -70,28 +56,31 @@ public class RigidBodyMovePlayerAction extends GameAction {
         super();
         this.parent = parent;
         this.moveActionType = IDLE;
-        this.isSwitchingBody = false;
         this.hasGroundContact = false;
+        this.movementController = parent.getMovementController();
+        this.movementController.setMovementListener(this);
+
+        this.handleEvents(MoveEvent.class, event -> this.handleMoveEvent(event));
+        this.handleEvents(MoveToEvent.class, event -> this.handleMoveToEvent(event));
+        this.handleEvents(GroundContactEvent.class, event -> {
+            if(!this.hasGroundContact)
+                this.handleGroundContactEvent(event);
+        });
     }
 
     @Override
-    public void update(Observable observable, Object o) {
-        IGameEvent event = ((IGameEvent)observable);
+    public IGameObject getEventTarget() {
+        return this.parent.getParent();
+    }
 
-        switch(event.getEventType()) {
-            case MOVE:
-                this.handleMoveEvent((MoveEvent)event);
-                break;
-            case MOVE_TO:
-                this.handleMoveToEvent((MoveToEvent)event);
-                break;
-            case GROUND_CONTACT:
-                if(!this.hasGroundContact)
-                    this.handleGroundContactEvent((GroundContactEvent)event);
-                break;
-            default:
-                // do nothing here...
-                break;
+    @Override
+    public void onMovementGoalReached(MovementGoal goal) {
+        if(goal == MovementGoal.MOVE_TO) {
+            // (Note: posted, because the body must not be switched while the world gets stepped)
+            GameEventManager gem = GameEventManager.getInstance();
+            gem.postEvent(gem.obtainEvent(GameEventType.MOVE)
+                    .setMoveDirectionType(MoveDirectionType.NONE)
+                    .setMoveActionType(MoveActionType.IDLE));
         }
     }
 
@@ -184,11 +173,9 @@ public class RigidBodyMovePlayerAction extends GameAction {
         }
 
         if(!isMoveToEvent && canApplyImpulse) {
-            if(this.resetAsyncMoveTask()) {
-                this.triggerAsyncMoveTask(
-                    this.createAsyncMoveAction(impulse, event)
-                );
-            }
+            this.movementController.stop();
+            this.applyImpulse(impulse.x, impulse.y, event.getMoveDirectionType());
+            this.movementController.walk(event.getMoveDirectionType().xSign);
         }
     }
 
@@ -205,12 +192,12 @@ public class RigidBodyMovePlayerAction extends GameAction {
         );
 
         if(event.getMoveActionType() == WALK) {
-            if(this.resetAsyncMoveTask()) {
-                this.handleMoveEvent(event);
-                this.triggerAsyncMoveTask(
-                        this.createAsyncMoveToAction(event)
-                );
-            }
+            this.movementController.stop();
+            this.handleMoveEvent(event);
+
+            this.resetVelocity();
+            this.applyImpulse(this.parent.getVelocity().x, 0, event.getMoveDirectionType());
+            this.movementController.moveTo(event.getTargetPosition().x, event.getMoveDirectionType().xSign);
         } else if(event.getMoveActionType() == JUMP) {
             this.applyImpulse(0, this.parent.getVelocity().y, event.getMoveDirectionType());
         }
@@ -243,180 +230,11 @@ public class RigidBodyMovePlayerAction extends GameAction {
 
     /**
      * Switches the Box2D body as a function of it's given key and flipped status.
+     * (Note: the bodies of all poses are pre-built, so switching them only swaps their activation)
      * @param bodyKey The body's key to load the body's Box2D shape definition from the physicsShapeCache
      */
     private void switchPhysicsBody(String bodyKey) {
-        Body currentBody = this.parent.getBody();
-        World world = currentBody.getWorld();
-
-        if(!world.isLocked() && !this.isSwitchingBody) {
-            this.isSwitchingBody = true;
-            String flippedSuffixKey = this.parent.isFlipped() ? "_flipped" : "";
-            float scale = VIRTUAL_SCALE * RESOLUTION.virtualScaleFactor;
-
-
-            Body newBody = this.parent.getPhysicsShapeCache().createBody(
-                    bodyKey + flippedSuffixKey,
-                    world,
-                    scale, scale
-            );
-
-            if(newBody == null) {
-                return;
-            }
-
-            // set fixtures user data
-            for(Fixture f : newBody.getFixtureList()) {
-                f.setUserData(this.parent);
-            }
-
-            Vector2 position = currentBody.getPosition();
-            newBody.setTransform(position.x, position.y, 0);
-
-            currentBody.setActive(false);
-            world.destroyBody(currentBody);
-            this.parent.setBody(newBody);
-            
-            this.isSwitchingBody = false;
-        }
-    }
-
-    /**
-     * Triggers a new async move task.
-     * @param asyncMoveRunnable The async move action to execute
-     */
-    private void triggerAsyncMoveTask(AsyncMoveAction asyncMoveRunnable) {
-        this.asyncMoveAction = asyncMoveRunnable;
-        this.asyncMoveTask = new Thread(this.asyncMoveAction);
-        this.asyncMoveTask.start();
-    }
-
-    /**
-     * Stop and reset the currently active async move action.
-     * @return Status if the current move task has been stopped successfully
-     */
-    private boolean resetAsyncMoveTask() {
-        if(this.asyncMoveAction != null) {
-            this.asyncMoveAction.terminate();
-            try {
-                this.asyncMoveTask.join();
-                return true;
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-                return false;
-            }
-        }
-
-        return true;
-    }
-
-    /**
-     * Creates a new async move action.
-     * @param impulse The move impulse to apply
-     * @param event The move event to apply
-     * @return The new async move action
-     */
-    private AsyncMoveAction createAsyncMoveAction(Vector2 impulse, MoveEvent event) {
-        return new AsyncMoveAction() {
-            @Override
-            public void run() {
-                applyImpulse(impulse.x, impulse.y, event.getMoveDirectionType());
-                Vector2 bodySize = parent.getParent().getSize();
-
-                boolean willInterrupt = false;
-                while(this.isRunning() && !willInterrupt) {
-                    Vector2 currentPosition = parent.getBody().getPosition();
-                    switch(event.getMoveDirectionType()) {
-                        case LEFT:
-                            willInterrupt = !(currentPosition.x - 0.1 > 0
-                                    && currentPosition.y + 0.1 < (Settings.Game.VIRTUAL_HEIGHT - bodySize.y));
-                            break;
-                        case RIGHT:
-                            willInterrupt = !(currentPosition.x + 0.1 < Settings.Game.VIRTUAL_WIDTH - bodySize.x
-                                    && currentPosition.y + 0.1 < Settings.Game.VIRTUAL_HEIGHT - bodySize.y);
-                            break;
-                    }
-                }
-                resetVelocity();
-                this.terminate();
-            }
-        };
-    }
-
-    /**
-     * Creates a new async move-to action.
-     * @param event The move-to event to apply
-     * @return The new async move action
-     */
-    private AsyncMoveAction createAsyncMoveToAction(MoveToEvent event) {
-        return new AsyncMoveAction() {
-            @Override
-            public void run() {
-                resetVelocity();
-                applyImpulse(parent.getVelocity().x, 0, event.getMoveDirectionType());
-
-                Vector2 bodySize = parent.getParent().getSize();
-                Body body = parent.getBody();
-                boolean isTargetPositionReached = false;
-                while(this.isRunning() && !isTargetPositionReached) {
-                    switch(event.getMoveDirectionType()) {
-                        case LEFT:
-                            isTargetPositionReached =
-                                    (body.getTransform().getPosition().x - bodySize.x/2) <
-                                            event.getTargetPosition().x;
-                            break;
-                        case RIGHT:
-                            isTargetPositionReached =
-                                    (body.getTransform().getPosition().x + bodySize.x/2) >
-                                            event.getTargetPosition().x;
-                            break;
-                    }
-                }
-
-                GameEventManager gem = GameEventManager.getInstance();
-                MoveEvent moveEvent = (MoveEvent) gem.getGameEvent(GameEventType.MOVE);
-                moveEvent.setMoveDirectionType(MoveDirectionType.NONE);
-                moveEvent.setMoveActionType(MoveActionType.IDLE);
-                gem.triggerEvent(GameEventType.MOVE);
-
-                this.terminate();
-                resetVelocity();
-            }
-        };
-    }
-}
-
-/**
- * Represents a custom runnable for executing move actions asynchronously.
- *
- * @author Dominic Schiller
- * @version 1.0
- * @since 1.0
- */
-class AsyncMoveAction implements Runnable {
-    /**
-     * Status if the runnable is still active
-     */
-    private volatile boolean isRunning = true;
-
-    /**
-     * Terminate the runnable.
-     * (Set the running status to false)
-     */
-    public void terminate() {
-        this.isRunning = false;
-    }
-
-    /**
-     * Get the status if the runnable is still active.
-     * @return The status indicating if the runnable is still active.
-     */
-    public boolean isRunning() {
-        return this.isRunning;
-    }
-
-    @Override
-    public void run() {
-
+        String flippedSuffixKey = this.parent.isFlipped() ? "_flipped" : "";
+        this.parent.switchBody(bodyKey + flippedSuffixKey);
     }
 }
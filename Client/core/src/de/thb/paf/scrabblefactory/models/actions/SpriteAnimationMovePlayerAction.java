@@ -2,13 +2,11 @@ package de.thb.paf.scrabblefactory.models.actions;
 
 import com.badlogic.gdx.math.Vector2;
 
-import java.util.Observable;
-
+import de.thb.paf.scrabblefactory.models.IGameObject;
 import de.thb.paf.scrabblefactory.models.components.graphics.SpriteAnimationGraphicsComponent;
 import de.thb.paf.scrabblefactory.models.entities.Player;
 import de.thb.paf.scrabblefactory.models.events.DiscardEvent;
 import de.thb.paf.scrabblefactory.models.events.GroundContactEvent;
-import de.thb.paf.scrabblefactory.models.events.IGameEvent;
 import de.thb.paf.scrabblefactory.models.events.MoveEvent;
 import de.thb.paf.scrabblefactory.models.events.MoveToEvent;
 
@@ -43,29 +41,16 @@ public class SpriteAnimationMovePlayerAction extends GameAction {
         super();
         this.parent = parent;
         this.moveActionType = IDLE;
+
+        this.handleEvents(MoveEvent.class, event -> this.handleMoveEvent(event));
+        this.handleEvents(MoveToEvent.class, event -> this.handleMoveToEvent(event));
+        this.handleEvents(GroundContactEvent.class, event -> this.handleGroundContactEvent(event));
+        this.handleEvents(DiscardEvent.class, event -> this.handleDiscardEvent(event));
     }
 
     @Override
-    public void update(Observable observable, Object o) {
-        IGameEvent event = ((IGameEvent)observable);
-
-        switch(event.getEventType()) {
-            case MOVE:
-                this.handleMoveEvent((MoveEvent)event);
-                break;
-            case MOVE_TO:
-                this.handleMoveToEvent((MoveToEvent)event);
-                break;
-            case GROUND_CONTACT:
-                this.handleGroundContactEvent((GroundContactEvent)event);
-                break;
-            case DISCARD:
-                this.handleDiscardEvent((DiscardEvent)event);
-                break;
-            default:
-                // do nothing here...
-                break;
-        }
+    public IGameObject getEventTarget() {
+        return this.parent.getParent();
     }
 
     /**
@@ -12,7 +12,8 @@ public enum AssetFileType {
     JSON(".json"),
     XML(".xml"),
     TEXTURE_ATLAS(".atlas"),
-    TRUE_TYPE_FONT(".ttf");
+    TRUE_TYPE_FONT(".ttf"),
+    BITMAP_FONT(".fnt");
 
     /**
      * Private Constructor
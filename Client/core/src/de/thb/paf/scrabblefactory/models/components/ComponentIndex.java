@@ -0,0 +1,222 @@
+package de.thb.paf.scrabblefactory.models.components;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of a game object's associated components organized by component type, unique
+ * identifier and component class.
+ *
+ * All lookups are answered from lookup tables maintained while components are added or
+ * removed, so querying components from within the render loop does not allocate anything.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class ComponentIndex {
+
+    /**
+     * List of all indexed components in order of their addition
+     */
+    private final List<IComponent> components;
+
+    /**
+     * Read-only view on the list of all indexed components
+     */
+    private final List<IComponent> componentsView;
+
+    /**
+     * Indexed components organized by their component type
+     */
+    private final Map<ComponentType, List<IComponent>> componentsByType;
+
+    /**
+     * Read-only views on the indexed components organized by their component type
+     */
+    private final Map<ComponentType, List<IComponent>> componentsByTypeViews;
+
+    /**
+     * Indexed components organized by their unique identifier
+     */
+    private final Map<Integer, IComponent> componentsByID;
+
+    /**
+     * The first indexed component for each class or interface it is assignable to
+     */
+    private final Map<Class<?>, IComponent> componentsByClass;
+
+    /**
+     * Default Constructor
+     */
+    public ComponentIndex() {
+        this.components = new ArrayList<>();
+        this.componentsView = Collections.unmodifiableList(this.components);
+        this.componentsByType = new EnumMap<>(ComponentType.class);
+        this.componentsByTypeViews = new EnumMap<>(ComponentType.class);
+        this.componentsByID = new HashMap<>();
+        this.componentsByClass = new HashMap<>();
+
+        for(ComponentType type : ComponentType.values()) {
+            List<IComponent> typedComponents = new ArrayList<>();
+            this.componentsByType.put(type, typedComponents);
+            this.componentsByTypeViews.put(type, Collections.unmodifiableList(typedComponents));
+        }
+    }
+
+    /**
+     * Add a component to the index.
+     * @param component The component to add
+     */
+    public void add(IComponent component) {
+        this.components.add(component);
+        this.componentsByType.get(component.getType()).add(component);
+
+        if(!this.componentsByID.containsKey(component.getID())) {
+            this.componentsByID.put(component.getID(), component);
+        }
+
+        this.indexClassHierarchy(component, component.getClass());
+    }
+
+    /**
+     * Add a list of components to the index.
+     * @param components List of components to add
+     */
+    public void addAll(List<IComponent> components) {
+        for(int i=0; i<components.size(); i++) {
+            this.add(components.get(i));
+        }
+    }
+
+    /**
+     * Remove a component from the index.
+     * @param component The component to remove
+     * @return The success status
+     */
+    public boolean remove(IComponent component) {
+        if(!this.components.remove(component)) {
+            return false;
+        }
+
+        this.componentsByType.get(component.getType()).remove(component);
+        this.rebuildLookupTables();
+        return true;
+    }
+
+    /**
+     * Remove all components from the index.
+     * @return The success status
+     */
+    public boolean clear() {
+        boolean hasComponents = !this.components.isEmpty();
+
+        this.components.clear();
+        for(List<IComponent> typedComponents : this.componentsByType.values()) {
+            typedComponents.clear();
+        }
+        this.componentsByID.clear();
+        this.componentsByClass.clear();
+
+        return hasComponents;
+    }
+
+    /**
+     * Remove all components of a specific type from the index.
+     * @param type The components' type
+     * @return The success status
+     */
+    public boolean clear(ComponentType type) {
+        List<IComponent> typedComponents = this.componentsByType.get(type);
+        if(typedComponents.isEmpty()) {
+            return false;
+        }
+
+        this.components.removeAll(typedComponents);
+        typedComponents.clear();
+        this.rebuildLookupTables();
+        return true;
+    }
+
+    /**
+     * Get all indexed components.
+     * (Note: the returned list is a read-only view which must not be modified)
+     * @return List of all indexed components
+     */
+    public List<IComponent> getAll() {
+        return this.componentsView;
+    }
+
+    /**
+     * Get all indexed components of certain type.
+     * (Note: the returned list is a read-only view which must not be modified)
+     * @param type The components' type
+     * @return List of all indexed components of given type
+     */
+    public List<IComponent> getAll(ComponentType type) {
+        return this.componentsByTypeViews.get(type);
+    }
+
+    /**
+     * Get an indexed component by it's unique identifier.
+     * @param id The component's unique identifier
+     * @return The found component (Note: might be null)
+     */
+    public IComponent get(int id) {
+        return this.componentsByID.get(id);
+    }
+
+    /**
+     * Get the first indexed component which is an instance of the given class or interface.
+     * @param componentClass The component's class or interface
+     * @param <T> The component's class type
+     * @return The found component (Note: might be null)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Class<T> componentClass) {
+        return (T) this.componentsByClass.get(componentClass);
+    }
+
+    /**
+     * Rebuild the identifier and class lookup tables from the list of indexed components.
+     */
+    private void rebuildLookupTables() {
+        this.componentsByID.clear();
+        this.componentsByClass.clear();
+
+        for(int i=0; i<this.components.size(); i++) {
+            IComponent component = this.components.get(i);
+            if(!this.componentsByID.containsKey(component.getID())) {
+                this.componentsByID.put(component.getID(), component);
+            }
+            this.indexClassHierarchy(component, component.getClass());
+        }
+    }
+
+    /**
+     * Register the component for the given class, all of it's super classes and all
+     * implemented interfaces unless another component has been registered for them before.
+     * @param component The component to register
+     * @param classType The class or interface to register the component for
+     */
+    private void indexClassHierarchy(IComponent component, Class<?> classType) {
+        if(classType == null || classType == Object.class) {
+            return;
+        }
+
+        if(!this.componentsByClass.containsKey(classType)) {
+            this.componentsByClass.put(classType, component);
+        }
+
+        for(Class<?> interfaceType : classType.getInterfaces()) {
+            this.indexClassHierarchy(component, interfaceType);
+        }
+
+        this.indexClassHierarchy(component, classType.getSuperclass());
+    }
+}
@@ -3,6 +3,8 @@ package de.thb.paf.scrabblefactory.models.components;
 import java.util.ArrayList;
 import java.util.List;
 
+import de.thb.paf.scrabblefactory.io.AssetCache;
+import de.thb.paf.scrabblefactory.io.json.JsonDeserializable;
 import de.thb.paf.scrabblefactory.models.IGameObject;
 import de.thb.paf.scrabblefactory.models.actions.IGameAction;
 import de.thb.paf.scrabblefactory.models.entities.IEntity;
@@ -14,6 +16,7 @@ import de.thb.paf.scrabblefactory.models.entities.IEntity;
  * @version 1.0
  * @since 1.0
  */
+@JsonDeserializable
 public abstract class GameComponent implements IComponent {
 
     /**
@@ -36,6 +39,11 @@ public abstract class GameComponent implements IComponent {
      */
     private List<IGameAction> gameActions;
 
+    /**
+     * List of shared assets acquired from the asset cache (Note: created when the first asset is added)
+     */
+    private transient List<Object> assetReferences;
+
     /**
      * Constructor
      * @param id The game component's unique id
@@ -65,7 +73,12 @@ public abstract class GameComponent implements IComponent {
 
     @Override
     public void dispose() {
-        // TODO: implement here....
+        if(this.assetReferences != null) {
+            for(int i=0; i<this.assetReferences.size(); i++) {
+                AssetCache.getInstance().release(this.assetReferences.get(i));
+            }
+            this.assetReferences.clear();
+        }
     }
 
     @Override
@@ -112,4 +125,12 @@ public abstract class GameComponent implements IComponent {
     public boolean removeAction(IGameAction action) {
         return this.gameActions.remove(action);
     }
+
+    @Override
+    public void addAssetReference(Object asset) {
+        if(this.assetReferences == null) {
+            this.assetReferences = new ArrayList<>();
+        }
+        this.assetReferences.add(asset);
+    }
 }
\ No newline at end of file
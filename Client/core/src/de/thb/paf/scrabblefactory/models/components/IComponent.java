@@ -80,4 +80,10 @@ public interface IComponent {
      */
     boolean removeAction(IGameAction action);
 
+    /**
+     * Add a shared asset acquired from the asset cache, which gets released when the component is disposed.
+     * @param asset The shared asset to release on dispose
+     */
+    void addAssetReference(Object asset);
+
 }
\ No newline at end of file
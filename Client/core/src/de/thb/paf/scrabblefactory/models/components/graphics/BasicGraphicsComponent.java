@@ -1,12 +1,13 @@
 package de.thb.paf.scrabblefactory.models.components.graphics;
 
-import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.Vector2;
 
+import de.thb.paf.scrabblefactory.io.json.JsonField;
 import de.thb.paf.scrabblefactory.models.components.ComponentType;
 import de.thb.paf.scrabblefactory.models.components.GameComponent;
 import de.thb.paf.scrabblefactory.models.entities.IEntity;
+import de.thb.paf.scrabblefactory.utils.graphics.RenderQueue;
 
 /**
  * Graphics component responsible for rendering static textures.
@@ -25,22 +26,26 @@ public class BasicGraphicsComponent extends GameComponent implements IGraphicsCo
     /**
      * The name of the associated texture file
      */
-    public final String textureName;
+    @JsonField
+    public String textureName;
 
     /**
      * The component's relative on screen alignment
      */
-    public final Alignment alignment;
+    @JsonField
+    public Alignment alignment;
 
     /**
      * The component's relative on screen margins
      */
-    public final int[] margin;
+    @JsonField
+    public int[] margin;
 
     /**
      * Flag whether to align the graphics relative to the parent's bounds
      */
-    public final boolean isRelativeToParent;
+    @JsonField
+    public boolean isRelativeToParent;
 
 
     /**
@@ -88,10 +93,8 @@ public class BasicGraphicsComponent extends GameComponent implements IGraphicsCo
     }
 
     @Override
-    public void render(Batch batch) {
-        batch.begin();
-        this.texture.draw(batch);
-        batch.end();
+    public void render(RenderQueue renderQueue) {
+        renderQueue.submit(this.texture);
     }
 
     @Override
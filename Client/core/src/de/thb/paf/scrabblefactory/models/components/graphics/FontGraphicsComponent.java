@@ -1,17 +1,17 @@
 package de.thb.paf.scrabblefactory.models.components.graphics;
 
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.Vector2;
 
-import de.thb.paf.scrabblefactory.ScrabbleFactory;
+import de.thb.paf.scrabblefactory.io.json.JsonField;
 import de.thb.paf.scrabblefactory.models.assets.FontAsset;
 import de.thb.paf.scrabblefactory.models.components.ComponentType;
 import de.thb.paf.scrabblefactory.models.components.GameComponent;
 import de.thb.paf.scrabblefactory.utils.graphics.AlignmentHelper;
+import de.thb.paf.scrabblefactory.utils.graphics.RenderQueue;
 
 import static de.thb.paf.scrabblefactory.settings.Settings.Game.PPM;
 import static de.thb.paf.scrabblefactory.settings.Settings.Game.VIRTUAL_SCALE;
@@ -29,7 +29,7 @@ public class FontGraphicsComponent extends GameComponent implements IGraphicsCom
     //TODO: make properties private
 
     /**
-     * The bitmap font for rendering text messages
+     * The bitmap font for rendering text messages (Note: shared via the asset cache)
      */
     public BitmapFont font;
 
@@ -41,51 +41,61 @@ public class FontGraphicsComponent extends GameComponent implements IGraphicsCom
     /**
      * The text message to render via the font
      */
+    @JsonField
     public String text;
 
     /**
      * The font's font size
      */
+    @JsonField
     public int fontSize;
 
     /**
      * The font's border with
      */
+    @JsonField
     public int borderWidth;
 
     /**
      * The associated font asset
      */
+    @JsonField
     public FontAsset fontAsset;
 
     /**
      * The font's fill color
      */
+    @JsonField
     public String fillColor;
 
     /**
      * The font's border color
      */
+    @JsonField
     public String borderColor;
 
     /**
      * The component's absolute on screen position
      */
+    @JsonField
     public Vector2 position;
 
     /**
      * The font's relative on screen alignment
      */
+    @JsonField
     public Alignment alignment;
 
     /**
      * The font's relative on screen margin
      */
+    @JsonField
     public int[] margin;
 
     /**
      * Flag whether to align the graphics relative to the parent's bounds
      */
+    @JsonField
     public boolean isRelativeToParent;
 
     /**
@@ -97,23 +107,16 @@ public class FontGraphicsComponent extends GameComponent implements IGraphicsCom
     }
 
     @Override
-    public void render(Batch batch) {
+    public void render(RenderQueue renderQueue) {
         if(this.text.length() > 1) {
-            Batch textBatch = ScrabbleFactory.getInstance().batch;
-            textBatch.setProjectionMatrix(ScrabbleFactory.getInstance().textRenderMatrix);
-            textBatch.begin();
-            this.font.draw(
-                    textBatch,
+            renderQueue.submitText(
+                    this.font,
                     this.text.toUpperCase(),
                     this.position.x * PPM,
                     (this.position.y * PPM) + this.font.getCapHeight()
             );
-            textBatch.end();
-            textBatch.setProjectionMatrix(ScrabbleFactory.getInstance().renderMatrix);
         } else {
-            batch.begin();
-            this.fontSprite.draw(batch);
-            batch.end();
+            renderQueue.submit(this.fontSprite);
         }
     }
 
@@ -159,8 +162,8 @@ public class FontGraphicsComponent extends GameComponent implements IGraphicsCom
 
     @Override
     public void dispose() {
+        // (Note: the shared font is released by the super class)
         super.dispose();
-        this.font.dispose();
     }
 
     /**
@@ -169,14 +172,39 @@ public class FontGraphicsComponent extends GameComponent implements IGraphicsCom
      */
     public void setFont(BitmapFont font) {
         this.font = font;
+        this.fontSprite = null;
+        this.updateFontSprite();
+    }
+
+    /**
+     * Set the text message to render and update the pre-rendered sprite.
+     * (Note: the sprite is reused, so only it's glyph region changes)
+     * @param text The new text message to render
+     */
+    public void setText(String text) {
+        this.text = text;
+        if(this.font != null) {
+            this.updateFontSprite();
+        }
+    }
 
+    /**
+     * Update the pre-rendered sprite to the glyph of the text's first letter.
+     */
+    private void updateFontSprite() {
         char letter = this.text.toUpperCase().charAt(0);
         BitmapFont.Glyph glyph = this.font.getData().getGlyph(letter);
         int srcX = glyph.srcX + this.font.getRegion().getRegionX();
         int srcY = glyph.srcY+ this.font.getRegion().getRegionY();
-        this.fontSprite = new Sprite(this.font.getRegion().getTexture(), srcX, srcY, glyph.width, glyph.height);
-        this.fontSprite.getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        this.fontSprite.setSize(this.fontSprite.getWidth() * VIRTUAL_SCALE, this.fontSprite.getHeight() * VIRTUAL_SCALE);
+
+        if(this.fontSprite == null) {
+            this.fontSprite = new Sprite(this.font.getRegion().getTexture(), srcX, srcY, glyph.width, glyph.height);
+            this.fontSprite.getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        } else {
+            this.fontSprite.setRegion(srcX, srcY, glyph.width, glyph.height);
+        }
+
+        this.fontSprite.setSize(glyph.width * VIRTUAL_SCALE, glyph.height * VIRTUAL_SCALE);
         this.fontSprite.setOrigin(fontSprite.getWidth()/2, fontSprite.getHeight()/2);
         this.fontSprite.setPosition(
                 this.position.x,
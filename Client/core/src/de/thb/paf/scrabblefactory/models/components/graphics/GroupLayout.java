@@ -81,6 +81,11 @@ public class GroupLayout extends Group implements IGameObject {
         return null;
     }
 
+    @Override
+    public <T> T getComponent(Class<T> componentClass) {
+        return null;
+    }
+
     @Override
     public void setPosition(Vector2 position) {}
 
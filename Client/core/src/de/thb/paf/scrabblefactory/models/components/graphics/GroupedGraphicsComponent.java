@@ -1,8 +1,7 @@
 package de.thb.paf.scrabblefactory.models.components.graphics;
 
-import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Affine2;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.Actor;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,8 +9,7 @@ import java.util.List;
 import de.thb.paf.scrabblefactory.models.components.ComponentType;
 import de.thb.paf.scrabblefactory.models.components.GameComponent;
 import de.thb.paf.scrabblefactory.models.components.IComponent;
-
-import static de.thb.paf.scrabblefactory.settings.Settings.Game.PPM;
+import de.thb.paf.scrabblefactory.utils.graphics.RenderQueue;
 
 /**
  * Graphics component responsible for rendering a group layout container.
@@ -34,6 +32,11 @@ public class GroupedGraphicsComponent extends GameComponent implements IGraphics
      */
     private List<IGraphicsComponent> components;
 
+    /**
+     * The group layout's world transform applied to all associated graphics components
+     */
+    private transient Affine2 groupTransform;
+
     /**
      * Constructor
      * @param id The game component's unique id
@@ -41,6 +44,7 @@ public class GroupedGraphicsComponent extends GameComponent implements IGraphics
     public GroupedGraphicsComponent(Integer id) {
         super(id, ComponentType.GFX_COMPONENT);
         this.components = new ArrayList<>();
+        this.groupTransform = new Affine2();
     }
 
     @Override
@@ -61,8 +65,33 @@ public class GroupedGraphicsComponent extends GameComponent implements IGraphics
     }
 
     @Override
-    public void render(Batch batch) {
-        this.groupLayout.draw(batch, 1.0f);
+    public void render(RenderQueue renderQueue) {
+        GroupLayout layout = this.groupLayout;
+        float originX = layout.getOriginX();
+        float originY = layout.getOriginY();
+
+        this.groupTransform.setToTrnRotScl(
+                layout.getX() + originX,
+                layout.getY() + originY,
+                layout.getRotation(),
+                layout.getScaleX(),
+                layout.getScaleY()
+        );
+        if(originX != 0 || originY != 0) {
+            this.groupTransform.translate(-originX, -originY);
+        }
+
+        // keep the entity's components together and stack them in their order of definition
+        int group = renderQueue.beginGroup();
+        int zIndex = renderQueue.getZIndex();
+        renderQueue.setTransform(this.groupTransform);
+        for(int i=0; i<this.components.size(); i++) {
+            renderQueue.setZIndex(zIndex + i);
+            this.components.get(i).render(renderQueue);
+        }
+        renderQueue.clearTransform();
+        renderQueue.setZIndex(zIndex);
+        renderQueue.endGroup(group);
     }
 
     @Override
@@ -106,20 +135,6 @@ public class GroupedGraphicsComponent extends GameComponent implements IGraphics
      * Initialize the group layout required to render all associated graphics components.
      */
     private void initGroupLayout() {
-
         this.groupLayout = new GroupLayout(this.getParent());
-
-        final Actor groupedCanvas = new Actor() {
-            @Override
-            public void draw(Batch batch, float parentAlpha) {
-                for(IGraphicsComponent component : components) {
-                    component.render(batch);
-                }
-            }
-        };
-
-        Vector2 size = this.getParent().getSize();
-        groupedCanvas.setBounds(0, 0, size.x / PPM, size.y / PPM);
-        this.groupLayout.addActor(groupedCanvas);
     }
 }
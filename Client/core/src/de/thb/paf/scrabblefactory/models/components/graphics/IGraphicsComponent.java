@@ -1,6 +1,6 @@
 package de.thb.paf.scrabblefactory.models.components.graphics;
 
-import com.badlogic.gdx.graphics.g2d.Batch;
+import de.thb.paf.scrabblefactory.utils.graphics.RenderQueue;
 
 /**
  * Interface that declares methods a dedicated  graphics  component class must implement in order to get it's rendering triggered.
@@ -12,9 +12,9 @@ import com.badlogic.gdx.graphics.g2d.Batch;
 public interface IGraphicsComponent {
 
     /**
-     * Renders the graphics component's content to the screen.
-     * @param batch The global render batch to render the graphical content with
+     * Submits the graphics component's content to the render queue.
+     * @param renderQueue The global render queue collecting all draw commands of the frame
      */
-    void render(Batch batch);
+    void render(RenderQueue renderQueue);
 
 }
\ No newline at end of file
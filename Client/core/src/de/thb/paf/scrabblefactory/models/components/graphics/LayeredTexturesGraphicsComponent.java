@@ -1,11 +1,13 @@
 package de.thb.paf.scrabblefactory.models.components.graphics;
 
-import com.badlogic.gdx.graphics.g2d.Batch;
 
+import de.thb.paf.scrabblefactory.io.json.JsonField;
 import de.thb.paf.scrabblefactory.models.components.ComponentType;
 import de.thb.paf.scrabblefactory.models.components.GameComponent;
 import de.thb.paf.scrabblefactory.models.entities.IEntity;
+import de.thb.paf.scrabblefactory.settings.Settings;
 import de.thb.paf.scrabblefactory.utils.graphics.AlignmentHelper;
+import de.thb.paf.scrabblefactory.utils.graphics.RenderQueue;
 
 import static de.thb.paf.scrabblefactory.settings.Settings.Game.VIRTUAL_WIDTH;
 
@@ -18,15 +20,22 @@ import static de.thb.paf.scrabblefactory.settings.Settings.Game.VIRTUAL_WIDTH;
  */
 public class LayeredTexturesGraphicsComponent extends GameComponent implements IGraphicsComponent {
 
+    /**
+     * The update rate the movable layers' speeds are defined for (two updates per frame at 60 fps)
+     */
+    private static final float MOVEMENT_REFERENCE_RATE = 2 * Settings.App.FPS;
+
     /**
      * List of static textures to render stacked
      */
-    private TextureLayer[] staticLayers;
+    @JsonField
+    TextureLayer[] staticLayers;
 
     /**
      * List of movable textures to render stacked
      */
-    private MovableTextureLayer[] movableLayers;
+    @JsonField
+    MovableTextureLayer[] movableLayers;
 
     /**
      * Constructor
@@ -54,7 +63,7 @@ public class LayeredTexturesGraphicsComponent extends GameComponent implements I
             AlignmentHelper.updatePositionByAutoMovement(
                     layer.texture,
                     layer.direction,
-                    layer.speed,
+                    layer.speed * deltaTime * MOVEMENT_REFERENCE_RATE,
                     layer.isInfiniteLoop
             );
         }
@@ -62,23 +71,21 @@ public class LayeredTexturesGraphicsComponent extends GameComponent implements I
     }
 
     @Override
-    public void render(Batch batch) {
-        batch.begin();
+    public void render(RenderQueue renderQueue) {
         for(TextureLayer layer : this.staticLayers) {
-            layer.texture.draw(batch);
+            renderQueue.setZIndex(layer.zIndex);
+            renderQueue.submit(layer.texture);
         }
         for(TextureLayer layer : this.movableLayers) {
-            layer.texture.draw(batch);
+            renderQueue.setZIndex(layer.zIndex);
+            renderQueue.submit(layer.texture);
             // draw a "ghost" copy of the moving sprite
             // to ensure a seamless auto loop transition
-            batch.draw(
+            renderQueue.submit(
                     layer.texture,
                     layer.texture.getX() + layer.texture.getWidth() + VIRTUAL_WIDTH - layer.texture.getWidth(),
                     layer.texture.getY(), layer.texture.getWidth(), layer.texture.getHeight());
-
-
         }
-        batch.end();
     }
 
     @Override
@@ -4,6 +4,8 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
 
 import java.util.*;
 
+import de.thb.paf.scrabblefactory.io.json.JsonField;
+
 /**
  * Represents a advanced movable texture layer  which can be used by the LayerdTexturesGraphicsComponent.
  * 
@@ -18,18 +20,28 @@ public class MovableTextureLayer extends TextureLayer {
     /**
      * Indicator whether to loop the movement animation in the case the texture has passed the screen's borders or not
      */
-    public final boolean isInfiniteLoop;
+    @JsonField
+    public boolean isInfiniteLoop;
 
     /**
      * The movement speed
      */
-    public final float speed;
+    @JsonField
+    public float speed;
 
     /**
      * The movement direction
      */
+    @JsonField
     public MovementDirection direction;
 
+    /**
+     * Default Constructor (Note: used by the generated JSON deserializer)
+     */
+    MovableTextureLayer() {
+        this(null, 0, 0, false);
+    }
+
     /**
      * Constructor
      * @param texture The texture to render
@@ -2,19 +2,19 @@ package de.thb.paf.scrabblefactory.models.components.graphics;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 
 import java.util.Map;
-import java.util.Observable;
 
+import de.thb.paf.scrabblefactory.io.json.JsonField;
 import de.thb.paf.scrabblefactory.models.components.ComponentType;
 import de.thb.paf.scrabblefactory.models.components.GameComponent;
 import de.thb.paf.scrabblefactory.models.entities.IEntity;
 import de.thb.paf.scrabblefactory.models.events.IGameEvent;
 import de.thb.paf.scrabblefactory.models.events.MoveEvent;
 import de.thb.paf.scrabblefactory.settings.Settings;
+import de.thb.paf.scrabblefactory.utils.graphics.RenderQueue;
 
 /**
  * Graphics component responsible for rendering sprite animations based on texture atlases.
@@ -44,22 +44,26 @@ public class SpriteAnimationGraphicsComponent extends GameComponent implements I
     /**
      * Names of all associated animation atlas files
      */
+    @JsonField
     public String[] atlasNames;
 
     /**
      * The currently selected texture atlases key
      */
-    private String selectedAtlasName;
+    @JsonField
+    String selectedAtlasName;
 
     /**
      * Indicator whether the animation is infinitely looping or stop after the last frame
      */
-    private boolean isInfiniteLoop;
+    @JsonField
+    boolean isInfiniteLoop;
 
     /**
      * The animation's frames-per-seconds rate
      */
-    private int fps;
+    @JsonField
+    int fps;
 
     /**
      * The elapsed time since the last rendering
@@ -230,9 +234,7 @@ public class SpriteAnimationGraphicsComponent extends GameComponent implements I
     }
 
     @Override
-    public void render(Batch batch) {
-        batch.begin();
-
+    public void render(RenderQueue renderQueue) {
         Vector2 position = this.getParent().getPosition();
         TextureRegion texture = this.animation.getKeyFrame(this.elapsedTime, this.isInfiniteLoop);
 
@@ -242,16 +244,13 @@ public class SpriteAnimationGraphicsComponent extends GameComponent implements I
 
         float width = texture.getRegionWidth() * Settings.Game.VIRTUAL_SCALE;
         float height = texture.getRegionHeight() * Settings.Game.VIRTUAL_SCALE;
-        batch.draw(
+        renderQueue.submit(
                 texture,
                 position.x,
                 position.y,
                 width,
                 height
-
         );
-
-        batch.end();
     }
 
     @Override
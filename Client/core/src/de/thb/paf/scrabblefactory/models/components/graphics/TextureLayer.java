@@ -3,6 +3,9 @@ package de.thb.paf.scrabblefactory.models.components.graphics;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.google.gson.annotations.SerializedName;
 
+import de.thb.paf.scrabblefactory.io.json.JsonDeserializable;
+import de.thb.paf.scrabblefactory.io.json.JsonField;
+
 /**
  * Represents a basic texture layer  which can be used by the LayeredTexturesGraphicsComponent.
  * 
@@ -11,6 +14,7 @@ import com.google.gson.annotations.SerializedName;
  * @since 1.0
  * @see LayeredTexturesGraphicsComponent
  */
+@JsonDeserializable
 public class TextureLayer {
 
     /**
@@ -22,25 +26,36 @@ public class TextureLayer {
      * The texture's file name
      */
     @SerializedName("textureName")
-    public final String textureName;
+    @JsonField
+    public String textureName;
 
     /**
      * The texture's alignment
      */
     @SerializedName("alignment")
-    public final Alignment alignment;
+    @JsonField
+    public Alignment alignment;
 
     /**
      * The layer's margins
      */
     @SerializedName("margin")
-    public final int[] margin;
+    @JsonField
+    public int[] margin;
 
     /**
      * The z-index representing the order in the layer-stack
      */
     @SerializedName("zIndex")
-    public final int zIndex;
+    @JsonField
+    public int zIndex;
+
+    /**
+     * Default Constructor (Note: used by the generated JSON deserializer)
+     */
+    TextureLayer() {
+        this(null, 0);
+    }
 
     /**
      * Constructor
@@ -0,0 +1,78 @@
+package de.thb.paf.scrabblefactory.models.components.physics;
+
+import com.google.gson.annotations.SerializedName;
+
+import de.thb.paf.scrabblefactory.models.IGameObject;
+import de.thb.paf.scrabblefactory.models.entities.IEntity;
+
+/**
+ * Enumeration of all Box2D collision categories, i.e. the level's ground, one category
+ * per entity type and the resting category of landed cheese items. Each category owns
+ * a unique category bit.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public enum CollisionCategory {
+    @SerializedName("ground")
+    GROUND,
+    @SerializedName("player")
+    PLAYER,
+    @SerializedName("cheese")
+    CHEESE,
+    @SerializedName("landed-cheese")
+    LANDED_CHEESE;
+
+    /**
+     * The Box2D mask bits colliding with all categories
+     */
+    public static final short MASK_ALL = (short)0xFFFF;
+
+    /**
+     * The category's unique Box2D category bit
+     */
+    public final short bits;
+
+    /**
+     * Constructor.
+     */
+    CollisionCategory() {
+        this.bits = (short)(1 << this.ordinal());
+    }
+
+    /**
+     * Get the collision category of a game object derived from it's entity type.
+     * @param gameObject The game object to get the collision category for
+     * @return The game object's collision category (Note: non-entities are treated as ground)
+     */
+    public static CollisionCategory of(IGameObject gameObject) {
+        if(gameObject instanceof IEntity && ((IEntity)gameObject).getType() != null) {
+            switch(((IEntity)gameObject).getType()) {
+                case PLAYER:
+                    return PLAYER;
+                case CHEESE:
+                    return CHEESE;
+            }
+        }
+        return GROUND;
+    }
+
+    /**
+     * Combine the bits of all given categories to Box2D mask bits.
+     * @param categories The categories to collide with (Note: null to collide with all categories)
+     * @return The combined mask bits
+     */
+    public static short toMaskBits(CollisionCategory[] categories) {
+        if(categories == null) {
+            return MASK_ALL;
+        }
+
+        short maskBits = 0;
+        for(CollisionCategory category : categories) {
+            maskBits |= category.bits;
+        }
+        return maskBits;
+    }
+}
@@ -0,0 +1,19 @@
+package de.thb.paf.scrabblefactory.models.components.physics;
+
+/**
+ * This interface defines methods a movement controller will call
+ * back for registered movement listeners.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public interface IMovementListener {
+
+    /**
+     * Called right after the physics step the movement goal has been reached in.
+     * @param goal The reached movement goal
+     */
+    void onMovementGoalReached(MovementGoal goal);
+}
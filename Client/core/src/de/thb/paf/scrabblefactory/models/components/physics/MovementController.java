@@ -0,0 +1,179 @@
+package de.thb.paf.scrabblefactory.models.components.physics;
+
+import com.badlogic.gdx.math.Vector2;
+
+import de.thb.paf.scrabblefactory.settings.Settings;
+
+/**
+ * Controller evaluating a rigid body's movement goal once per physics step.
+ *
+ * The goal is evaluated right after each fixed world step on the game thread, so walking
+ * towards the world's boundaries or moving to a target position costs no extra thread.
+ * Reaching the goal stops the body and notifies the registered movement listener.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class MovementController {
+
+    /**
+     * The minimum distance in meters to keep to the world's boundaries
+     */
+    private static final float BOUNDARY_MARGIN = 0.1f;
+
+    /**
+     * The rigid body physics component to control
+     */
+    private final RigidBodyPhysicsComponent parent;
+
+    /**
+     * The current movement goal
+     */
+    private MovementGoal goal;
+
+    /**
+     * The positive/negative sign of the movement along the x-axis
+     */
+    private int xSign;
+
+    /**
+     * The target position on the x-axis to move to
+     */
+    private float targetX;
+
+    /**
+     * The listener to notify when a movement goal has been reached (Note: might be null)
+     */
+    private IMovementListener movementListener;
+
+    /**
+     * Constructor.
+     * @param parent The rigid body physics component to control
+     */
+    MovementController(RigidBodyPhysicsComponent parent) {
+        this.parent = parent;
+        this.goal = MovementGoal.NONE;
+        this.xSign = 0;
+        this.targetX = 0;
+        this.movementListener = null;
+    }
+
+    /**
+     * Keep walking until the body reaches the world's boundaries.
+     * @param xSign The positive/negative sign of the movement along the x-axis
+     */
+    public void walk(int xSign) {
+        this.goal = MovementGoal.WALK;
+        this.xSign = xSign;
+    }
+
+    /**
+     * Keep moving until the body reaches the given position on the x-axis.
+     * @param targetX The target position on the x-axis to move to
+     * @param xSign The positive/negative sign of the movement along the x-axis
+     */
+    public void moveTo(float targetX, int xSign) {
+        this.goal = MovementGoal.MOVE_TO;
+        this.targetX = targetX;
+        this.xSign = xSign;
+    }
+
+    /**
+     * Stop the current movement and reset the body's velocity.
+     * (Note: the movement listener does not get notified)
+     */
+    public void stop() {
+        if(this.goal != MovementGoal.NONE) {
+            this.goal = MovementGoal.NONE;
+            this.resetVelocity();
+        }
+    }
+
+    /**
+     * Get the current movement goal.
+     * @return The current movement goal
+     */
+    public MovementGoal getGoal() {
+        return this.goal;
+    }
+
+    /**
+     * Set the listener to notify when a movement goal has been reached.
+     * @param movementListener The listener to notify (Note: might be null)
+     */
+    public void setMovementListener(IMovementListener movementListener) {
+        this.movementListener = movementListener;
+    }
+
+    /**
+     * Evaluate the current movement goal.
+     * (Note: called right after each physics step)
+     */
+    void evaluate() {
+        if(this.goal == MovementGoal.NONE) {
+            return;
+        }
+
+        boolean isGoalReached = false;
+        switch(this.goal) {
+            case WALK:
+                isGoalReached = this.isBoundaryReached();
+                break;
+            case MOVE_TO:
+                isGoalReached = this.isTargetReached();
+                break;
+        }
+
+        if(isGoalReached) {
+            MovementGoal reachedGoal = this.goal;
+            this.goal = MovementGoal.NONE;
+            this.resetVelocity();
+
+            if(this.movementListener != null) {
+                this.movementListener.onMovementGoalReached(reachedGoal);
+            }
+        }
+    }
+
+    /**
+     * Verify if the body reached the world's boundaries in the current movement direction.
+     * @return Status if the boundaries have been reached
+     */
+    private boolean isBoundaryReached() {
+        Vector2 position = this.parent.getBody().getPosition();
+        Vector2 bodySize = this.parent.getParent().getSize();
+        boolean isBelowCeiling = position.y + BOUNDARY_MARGIN < Settings.Game.VIRTUAL_HEIGHT - bodySize.y;
+
+        if(this.xSign < 0) {
+            return !(position.x - BOUNDARY_MARGIN > 0 && isBelowCeiling);
+        } else if(this.xSign > 0) {
+            return !(position.x + BOUNDARY_MARGIN < Settings.Game.VIRTUAL_WIDTH - bodySize.x && isBelowCeiling);
+        }
+        return false;
+    }
+
+    /**
+     * Verify if the body reached the target position in the current movement direction.
+     * @return Status if the target position has been reached
+     */
+    private boolean isTargetReached() {
+        float x = this.parent.getBody().getPosition().x;
+        float halfWidth = this.parent.getParent().getSize().x / 2;
+
+        if(this.xSign < 0) {
+            return x - halfWidth < this.targetX;
+        } else if(this.xSign > 0) {
+            return x + halfWidth > this.targetX;
+        }
+        return true;
+    }
+
+    /**
+     * Reset the body's linear velocity.
+     */
+    private void resetVelocity() {
+        this.parent.getBody().setLinearVelocity(0, 0);
+    }
+}
@@ -0,0 +1,16 @@
+package de.thb.paf.scrabblefactory.models.components.physics;
+
+/**
+ * Enumeration of supported movement goals evaluated by a movement controller.
+ * @see MovementController
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public enum MovementGoal {
+    NONE,
+    WALK,
+    MOVE_TO
+}
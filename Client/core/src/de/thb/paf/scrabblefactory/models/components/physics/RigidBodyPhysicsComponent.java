@@ -2,9 +2,17 @@ package de.thb.paf.scrabblefactory.models.components.physics;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Filter;
+import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.World;
-import com.codeandweb.physicseditor.PhysicsShapeCache;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import de.thb.paf.scrabblefactory.io.PhysicsShapeRegistry;
+import de.thb.paf.scrabblefactory.io.PhysicsShapes;
+import de.thb.paf.scrabblefactory.io.json.JsonField;
+import de.thb.paf.scrabblefactory.managers.WorldPhysicsManager;
 import de.thb.paf.scrabblefactory.models.IGameObject;
 import de.thb.paf.scrabblefactory.models.entities.IEntity;
 
@@ -22,39 +30,110 @@ public class RigidBodyPhysicsComponent extends AbstractPhysicsComponent {
     /**
      * List of body keys which can be used to load a body
      */
-    private String[] bodyKeys;
+    @JsonField
+    String[] bodyKeys;
 
     /**
      * The active body's name
      */
-    private String activeBodyName;
+    @JsonField
+    String activeBodyName;
+
+    /**
+     * The body's collision category (Note: derived from the parent's entity type if not configured)
+     */
+    @JsonField
+    CollisionCategory collisionCategory;
+
+    /**
+     * The collision categories the body collides with (Note: collides with all categories if not configured)
+     */
+    @JsonField
+    CollisionCategory[] collisionMask;
+
+    /**
+     * The body's collision category once it has come to rest (Note: keeps the collision category if not configured)
+     */
+    @JsonField
+    CollisionCategory restingCollisionCategory;
+
+    /**
+     * The collision categories the body collides with once it has come to rest
+     * (Note: keeps the collision mask if not configured)
+     */
+    @JsonField
+    CollisionCategory[] restingCollisionMask;
+
+    /**
+     * Status if the body has come to rest, e.g. a cheese item which has landed on the ground
+     */
+    private transient boolean isResting;
 
     /**
-     * The Box2D physics shape cache to create bodies from
+     * The shared pre-scaled physics shapes to create bodies from
      */
-    private PhysicsShapeCache physicsShapeCache;
+    private PhysicsShapes physicsShapes;
 
     /**
      * The LibGDX Box2D body instance
      */
     private Body body;
 
+    /**
+     * The pre-built Box2D bodies organized by their body name (i.e. the body's poses)
+     */
+    private transient Map<String, Body> poseBodies;
+
     /**
      * Movement velocity vector
      */
-    private Vector2 velocity;
+    @JsonField
+    Vector2 velocity;
 
     /**
      * Viewing direction status (true: sprite looks to the left, false: sprite looks to the right)
      */
     private boolean isFlipped;
 
+    /**
+     * The body's position before the last world step
+     */
+    private transient Vector2 previousPosition;
+
+    /**
+     * The body's angle before the last world step
+     */
+    private transient float previousAngle;
+
+    /**
+     * The body's position right after the last world step
+     */
+    private transient Vector2 steppedPosition;
+
+    /**
+     * The body's angle right after the last world step
+     */
+    private transient float steppedAngle;
+
+    /**
+     * The body's position interpolated between the last two world steps
+     */
+    private transient Vector2 interpolatedPosition;
+
+    /**
+     * The controller evaluating the body's movement goal once per physics step
+     */
+    private transient MovementController movementController;
+
     /**
      * Constructor
      * @param id The component's unique identifier
      */
     public RigidBodyPhysicsComponent(Integer id) {
         super(id, PhysicsType.RIGID_BODY);
+        this.previousPosition = new Vector2();
+        this.steppedPosition = new Vector2();
+        this.interpolatedPosition = new Vector2();
     }
 
     /**
@@ -63,8 +142,8 @@ public class RigidBodyPhysicsComponent extends AbstractPhysicsComponent {
      * @param body The LibGDX Box2D body instance
      */
     public RigidBodyPhysicsComponent(Integer id, Body body) {
-        super(id, PhysicsType.RIGID_BODY);
-        this.body = body;
+        this(id);
+        this.setBody(body);
     }
 
     @Override
@@ -72,23 +151,94 @@ public class RigidBodyPhysicsComponent extends AbstractPhysicsComponent {
 
         // apply activation state
         super.update(deltaTime);
-        float rotation = (float) Math.toDegrees(this.body.getAngle());
+
+        Vector2 position = this.body.getPosition();
+        float angle = this.body.getAngle();
+
+        // the body has been moved outside of a world step, so don't blend with the old transform
+        if(!position.equals(this.steppedPosition) || angle != this.steppedAngle) {
+            this.resetInterpolation();
+        }
+
+        float alpha = WorldPhysicsManager.getInstance().getInterpolationAlpha();
+        this.interpolatedPosition.set(this.previousPosition).lerp(position, alpha);
+        float rotation = (float) Math.toDegrees(this.previousAngle + (angle - this.previousAngle) * alpha);
 
         IGameObject parent = this.getParent();
         parent.setRotation(rotation);
-        parent.setPosition(this.body.getPosition());
+        parent.setPosition(this.interpolatedPosition);
     }
 
     @Override
     public void dispose() {
         super.dispose();
-        this.physicsShapeCache.dispose();
+        PhysicsShapeRegistry.getInstance().release(this.physicsShapes);
         World world = this.body.getWorld();
         if(world.getBodyCount() > 0) {
             this.body.getWorld().destroyBody(this.body);
         }
+
+        if(this.poseBodies != null) {
+            for(Body poseBody : this.poseBodies.values()) {
+                if(poseBody != this.body && world.getBodyCount() > 0) {
+                    world.destroyBody(poseBody);
+                }
+            }
+            this.poseBodies.clear();
+        }
+    }
+
+    /**
+     * Pre-build an inactive Box2D body for each of the component's body keys, so switching
+     * the body's pose does not need to create and destroy bodies any more.
+     * (Note: requires the physics shapes and the active body to be set)
+     */
+    public void prebuildPoseBodies() {
+        this.poseBodies = new HashMap<>();
+        this.poseBodies.put(this.activeBodyName, this.body);
+
+        if(this.bodyKeys != null) {
+            for(String bodyKey : this.bodyKeys) {
+                this.getPoseBody(bodyKey);
+            }
+        }
+    }
+
+    /**
+     * Switch the active Box2D body to the pre-built body of the given pose.
+     * The switched body starts at rest at the current body's position, like a newly created body.
+     * @param bodyName The pose's body name
+     * @return The success status (Note: bodies can't be switched while the world is stepped)
+     */
+    public boolean switchBody(String bodyName) {
+        World world = this.body.getWorld();
+        if(world.isLocked()) {
+            return false;
+        }
+
+        Body poseBody = this.getPoseBody(bodyName);
+        if(poseBody == null) {
+            return false;
+        }
+
+        if(poseBody != this.body) {
+            Vector2 position = this.body.getPosition();
+            poseBody.setTransform(position.x, position.y, 0);
+
+            this.body.setActive(false);
+            poseBody.setActive(true);
+
+            this.activeBodyName = bodyName;
+            this.setBody(poseBody);
+            WorldPhysicsManager.getInstance().countBodyTransition();
+        }
+
+        poseBody.setLinearVelocity(0, 0);
+        poseBody.setAngularVelocity(0);
+        return true;
     }
 
+
     /**
      * Get the active body's name.
      * @return The active body's name
@@ -98,11 +248,11 @@ public class RigidBodyPhysicsComponent extends AbstractPhysicsComponent {
     }
 
     /**
-     * Get the Box2D physics shape cache containing all body definitions
-     * @return The Box2D physics shape cache
+     * Get the shared physics shapes containing all body definitions
+     * @return The shared physics shapes
      */
-    public PhysicsShapeCache getPhysicsShapeCache() {
-        return this.physicsShapeCache;
+    public PhysicsShapes getPhysicsShapes() {
+        return this.physicsShapes;
     }
 
     /**
@@ -113,6 +263,18 @@ public class RigidBodyPhysicsComponent extends AbstractPhysicsComponent {
         return this.body;
     }
 
+    /**
+     * Get the controller evaluating the body's movement goal once per physics step.
+     * @return The body's movement controller
+     */
+    public MovementController getMovementController() {
+        // (Note: created lazily, so it's never copied over from a parsed component)
+        if(this.movementController == null) {
+            this.movementController = new MovementController(this);
+        }
+        return this.movementController;
+    }
+
     /**
      * Get the rigid body's velocity.
      * @return The rigid body's velocity vector
@@ -129,6 +291,72 @@ public class RigidBodyPhysicsComponent extends AbstractPhysicsComponent {
         return isFlipped;
     }
 
+    /**
+     * Get the body's current collision category.
+     * @return The body's collision category (Note: the resting collision category once the body has come to rest)
+     */
+    public CollisionCategory getCollisionCategory() {
+        if(this.isResting && this.restingCollisionCategory != null) {
+            return this.restingCollisionCategory;
+        }
+        return this.collisionCategory;
+    }
+
+    /**
+     * Set the body's collision category.
+     * @param collisionCategory The body's collision category
+     */
+    public void setCollisionCategory(CollisionCategory collisionCategory) {
+        this.collisionCategory = collisionCategory;
+    }
+
+    /**
+     * Get the status if the body has come to rest.
+     * @return The body's resting status
+     */
+    public boolean isResting() {
+        return this.isResting;
+    }
+
+    /**
+     * Set the status if the body has come to rest and apply the matching collision filter
+     * to the body and all of it's pre-built poses.
+     * @param isResting The body's resting status
+     */
+    public void setResting(boolean isResting) {
+        if(this.isResting == isResting) {
+            return;
+        }
+
+        this.isResting = isResting;
+        this.applyCollisionFilter(this.body);
+        if(this.poseBodies != null) {
+            for(Body poseBody : this.poseBodies.values()) {
+                if(poseBody != this.body) {
+                    this.applyCollisionFilter(poseBody);
+                }
+            }
+        }
+    }
+
+    /**
+     * Apply the component's current collision category and mask to all fixtures of the given body.
+     * @param body The body to filter the collisions for
+     */
+    public void applyCollisionFilter(Body body) {
+        CollisionCategory[] collisionMask = this.isResting && this.restingCollisionMask != null
+                ? this.restingCollisionMask
+                : this.collisionMask;
+        short maskBits = CollisionCategory.toMaskBits(collisionMask);
+        short categoryBits = this.getCollisionCategory().bits;
+        for(Fixture fixture : body.getFixtureList()) {
+            Filter filter = fixture.getFilterData();
+            filter.categoryBits = categoryBits;
+            filter.maskBits = maskBits;
+            fixture.setFilterData(filter);
+        }
+    }
+
     /**
      * Set the active body's name.
      * @param bodyName The active body's name
@@ -138,11 +366,11 @@ public class RigidBodyPhysicsComponent extends AbstractPhysicsComponent {
     }
 
     /**
-     * The Box2D physics shape cache containing all body definitions
-     * @param physicsShapeShapeCache The Box2D physics shape cache
+     * Set the shared physics shapes containing all body definitions
+     * @param physicsShapes The shared physics shapes (Note: acquired from the physics shape registry)
      */
-    public void setPhysicsShapeShapeCache(PhysicsShapeCache physicsShapeShapeCache) {
-        this.physicsShapeCache = physicsShapeShapeCache;
+    public void setPhysicsShapes(PhysicsShapes physicsShapes) {
+        this.physicsShapes = physicsShapes;
     }
 
     /**
@@ -151,6 +379,9 @@ public class RigidBodyPhysicsComponent extends AbstractPhysicsComponent {
      */
     public void setBody(Body body) {
         this.body = body;
+        if(body != null) {
+            this.resetInterpolation();
+        }
     }
 
     /**
@@ -160,4 +391,66 @@ public class RigidBodyPhysicsComponent extends AbstractPhysicsComponent {
     public void setFlipped(boolean isFlipped) {
         this.isFlipped = isFlipped;
     }
+
+    /**
+     * Remember the body's transform right before the physical world gets stepped.
+     */
+    void onBeforeWorldStep() {
+        this.previousPosition.set(this.body.getPosition());
+        this.previousAngle = this.body.getAngle();
+    }
+
+    /**
+     * Remember the body's transform right after the physical world has been stepped
+     * and evaluate the body's movement goal.
+     */
+    void onAfterWorldStep() {
+        this.steppedPosition.set(this.body.getPosition());
+        this.steppedAngle = this.body.getAngle();
+
+        if(this.movementController != null) {
+            this.movementController.evaluate();
+        }
+    }
+
+    /**
+     * Get the pre-built body of the given pose and build it if not done yet.
+     * @param bodyName The pose's body name
+     * @return The pose's body (Note: null if the physics shape cache does not define it)
+     */
+    private Body getPoseBody(String bodyName) {
+        if(this.poseBodies == null) {
+            this.prebuildPoseBodies();
+        }
+
+        Body poseBody = this.poseBodies.get(bodyName);
+        if(poseBody == null) {
+            poseBody = this.physicsShapes.createBody(bodyName, this.body.getWorld());
+            if(poseBody == null) {
+                return null;
+            }
+
+            for(Fixture fixture : poseBody.getFixtureList()) {
+                fixture.setUserData(this);
+            }
+            this.applyCollisionFilter(poseBody);
+            Vector2 position = this.body.getPosition();
+            poseBody.setTransform(position.x, position.y, 0);
+            poseBody.setActive(false);
+
+            this.poseBodies.put(bodyName, poseBody);
+        }
+
+        return poseBody;
+    }
+
+    /**
+     * Reset the interpolation state to the body's current transform.
+     */
+    private void resetInterpolation() {
+        this.previousPosition.set(this.body.getPosition());
+        this.previousAngle = this.body.getAngle();
+        this.steppedPosition.set(this.previousPosition);
+        this.steppedAngle = this.previousAngle;
+    }
 }
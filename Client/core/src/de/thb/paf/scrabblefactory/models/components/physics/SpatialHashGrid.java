@@ -0,0 +1,317 @@
+package de.thb.paf.scrabblefactory.models.components.physics;
+
+import com.badlogic.gdx.utils.Array;
+
+import de.thb.paf.scrabblefactory.models.entities.IEntity;
+
+/**
+ * Uniform grid spatial hash of entity positions in world units (i.e. meters).
+ *
+ * The grid is rebuilt as a whole after each physics step: all entities get added and are
+ * sorted into their cells by a counting sort afterwards, so rebuilding takes linear time and
+ * querying an area only visits the entries of the cells covering the area. Positions outside
+ * of the grid's bounds are clamped to the border cells.
+ * (Note: must only be used from the game thread)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class SpatialHashGrid {
+
+    /**
+     * The initial number of entries
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The cell's edge length in meters
+     */
+    private final float cellSize;
+
+    /**
+     * The number of cells along the x-axis
+     */
+    private final int columns;
+
+    /**
+     * The number of cells along the y-axis
+     */
+    private final int rows;
+
+    /**
+     * The index of each cell's first entry (Note: the last element marks the end of the last cell)
+     */
+    private final int[] cellStarts;
+
+    /**
+     * The added entities in insertion order
+     */
+    private IEntity[] addedEntities;
+
+    /**
+     * The added entities' positions on the x-axis
+     */
+    private float[] addedX;
+
+    /**
+     * The added entities' positions on the y-axis
+     */
+    private float[] addedY;
+
+    /**
+     * The added entities' cell indices
+     */
+    private int[] addedCells;
+
+    /**
+     * The entities sorted by their cells
+     */
+    private IEntity[] entities;
+
+    /**
+     * The sorted entities' positions on the x-axis
+     */
+    private float[] entityX;
+
+    /**
+     * The sorted entities' positions on the y-axis
+     */
+    private float[] entityY;
+
+    /**
+     * The number of entities
+     */
+    private int size;
+
+    /**
+     * Status if the grid has been built since it's last clearance
+     */
+    private boolean isBuilt;
+
+    /**
+     * Constructor.
+     * @param width The grid's width in meters
+     * @param height The grid's height in meters
+     * @param cellSize The cell's edge length in meters
+     */
+    public SpatialHashGrid(float width, float height, float cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int)Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int)Math.ceil(height / cellSize));
+        this.cellStarts = new int[this.columns * this.rows + 1];
+        this.allocate(INITIAL_CAPACITY);
+        this.size = 0;
+        this.isBuilt = false;
+    }
+
+    /**
+     * Remove all entities in order to add them again.
+     */
+    public void clear() {
+        for(int i=0; i<this.size; i++) {
+            this.addedEntities[i] = null;
+            this.entities[i] = null;
+        }
+        this.size = 0;
+        this.isBuilt = false;
+    }
+
+    /**
+     * Add an entity at the given position.
+     * (Note: the entity can't be queried until the grid has been built)
+     * @param entity The entity to add
+     * @param x The entity's position on the x-axis
+     * @param y The entity's position on the y-axis
+     */
+    public void add(IEntity entity, float x, float y) {
+        if(this.size == this.addedEntities.length) {
+            this.grow();
+        }
+
+        this.addedEntities[this.size] = entity;
+        this.addedX[this.size] = x;
+        this.addedY[this.size] = y;
+        this.addedCells[this.size] = this.toRow(y) * this.columns + this.toColumn(x);
+        this.size++;
+    }
+
+    /**
+     * Sort all added entities into their cells.
+     */
+    public void build() {
+        int cellCount = this.cellStarts.length - 1;
+        for(int i=0; i<=cellCount; i++) {
+            this.cellStarts[i] = 0;
+        }
+
+        // count the entries per cell and convert the counts into start indices
+        for(int i=0; i<this.size; i++) {
+            this.cellStarts[this.addedCells[i] + 1]++;
+        }
+        for(int i=1; i<=cellCount; i++) {
+            this.cellStarts[i] += this.cellStarts[i - 1];
+        }
+
+        // scatter the entries by using the start indices as insert positions
+        for(int i=0; i<this.size; i++) {
+            int cell = this.addedCells[i];
+            int index = this.cellStarts[cell]++;
+            this.entities[index] = this.addedEntities[i];
+            this.entityX[index] = this.addedX[i];
+            this.entityY[index] = this.addedY[i];
+        }
+
+        // restore the start indices shifted by the scattering
+        for(int i=cellCount; i>0; i--) {
+            this.cellStarts[i] = this.cellStarts[i - 1];
+        }
+        this.cellStarts[0] = 0;
+
+        this.isBuilt = true;
+    }
+
+    /**
+     * Query all entities positioned within the given area.
+     * @param minX The area's lower bound on the x-axis
+     * @param minY The area's lower bound on the y-axis
+     * @param maxX The area's upper bound on the x-axis
+     * @param maxY The area's upper bound on the y-axis
+     * @param result The array to add the found entities to (Note: gets cleared before)
+     * @return The array of found entities
+     */
+    public Array<IEntity> queryArea(float minX, float minY, float maxX, float maxY, Array<IEntity> result) {
+        result.clear();
+
+        int minColumn = this.toColumn(minX);
+        int maxColumn = this.toColumn(maxX);
+        int minRow = this.toRow(minY);
+        int maxRow = this.toRow(maxY);
+
+        for(int row=minRow; row<=maxRow; row++) {
+            for(int column=minColumn; column<=maxColumn; column++) {
+                int cell = row * this.columns + column;
+                for(int i=this.cellStarts[cell]; i<this.cellStarts[cell + 1]; i++) {
+                    float x = this.entityX[i];
+                    float y = this.entityY[i];
+                    if(x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                        result.add(this.entities[i]);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Query all entities positioned within the given radius around the given position.
+     * @param x The center's position on the x-axis
+     * @param y The center's position on the y-axis
+     * @param radius The radius to search within
+     * @param result The array to add the found entities to (Note: gets cleared before)
+     * @return The array of found entities
+     */
+    public Array<IEntity> queryRadius(float x, float y, float radius, Array<IEntity> result) {
+        result.clear();
+
+        int minColumn = this.toColumn(x - radius);
+        int maxColumn = this.toColumn(x + radius);
+        int minRow = this.toRow(y - radius);
+        int maxRow = this.toRow(y + radius);
+        float radiusSquared = radius * radius;
+
+        for(int row=minRow; row<=maxRow; row++) {
+            for(int column=minColumn; column<=maxColumn; column++) {
+                int cell = row * this.columns + column;
+                for(int i=this.cellStarts[cell]; i<this.cellStarts[cell + 1]; i++) {
+                    float dx = this.entityX[i] - x;
+                    float dy = this.entityY[i] - y;
+                    if(dx * dx + dy * dy <= radiusSquared) {
+                        result.add(this.entities[i]);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Query all entities positioned within the given range on the x-axis.
+     * @param minX The range's lower bound on the x-axis
+     * @param maxX The range's upper bound on the x-axis
+     * @param result The array to add the found entities to (Note: gets cleared before)
+     * @return The array of found entities
+     */
+    public Array<IEntity> queryRange(float minX, float maxX, Array<IEntity> result) {
+        return this.queryArea(minX, -Float.MAX_VALUE, maxX, Float.MAX_VALUE, result);
+    }
+
+    /**
+     * Get the number of entities within the grid.
+     * @return The number of entities
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Get the status if the grid has been built since it's last clearance.
+     * @return The built status (Note: queries only find entities if the grid has been built)
+     */
+    public boolean isBuilt() {
+        return this.isBuilt;
+    }
+
+    /**
+     * Map a position on the x-axis to it's clamped column.
+     * @param x The position on the x-axis
+     * @return The column's index
+     */
+    private int toColumn(float x) {
+        int column = (int)Math.floor(x / this.cellSize);
+        return Math.max(0, Math.min(this.columns - 1, column));
+    }
+
+    /**
+     * Map a position on the y-axis to it's clamped row.
+     * @param y The position on the y-axis
+     * @return The row's index
+     */
+    private int toRow(float y) {
+        int row = (int)Math.floor(y / this.cellSize);
+        return Math.max(0, Math.min(this.rows - 1, row));
+    }
+
+    /**
+     * Double the number of entries the grid can hold.
+     */
+    private void grow() {
+        IEntity[] addedEntities = this.addedEntities;
+        float[] addedX = this.addedX;
+        float[] addedY = this.addedY;
+        int[] addedCells = this.addedCells;
+
+        this.allocate(addedEntities.length * 2);
+        System.arraycopy(addedEntities, 0, this.addedEntities, 0, this.size);
+        System.arraycopy(addedX, 0, this.addedX, 0, this.size);
+        System.arraycopy(addedY, 0, this.addedY, 0, this.size);
+        System.arraycopy(addedCells, 0, this.addedCells, 0, this.size);
+    }
+
+    /**
+     * Allocate the entry arrays.
+     * @param capacity The number of entries to hold
+     */
+    private void allocate(int capacity) {
+        this.addedEntities = new IEntity[capacity];
+        this.addedX = new float[capacity];
+        this.addedY = new float[capacity];
+        this.addedCells = new int[capacity];
+        this.entities = new IEntity[capacity];
+        this.entityX = new float[capacity];
+        this.entityY = new float[capacity];
+    }
+}
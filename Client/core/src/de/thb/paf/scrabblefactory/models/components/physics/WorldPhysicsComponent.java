@@ -1,11 +1,25 @@
 package de.thb.paf.scrabblefactory.models.components.physics;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+
+import de.thb.paf.scrabblefactory.io.json.JsonField;
+import de.thb.paf.scrabblefactory.managers.WorldPhysicsManager;
+import de.thb.paf.scrabblefactory.models.entities.IEntity;
+import de.thb.paf.scrabblefactory.utils.debug.FrameMetric;
+import de.thb.paf.scrabblefactory.utils.debug.FrameProfiler;
 
 /**
  * Represents a physical world where all (dynamic) physic simulation is happening.
  *
+ * The world is stepped with a fixed time step independent of the frame rate. Slow frames
+ * are caught up with several steps (limited by the maximum number of sub steps) and the
+ * remaining time is published as interpolation factor for rendering the rigid bodies.
+ *
  * @author Dominic Schiller - Technische Hochschule Brandenburg
  * @version 1.0
  * @since 1.0
@@ -13,6 +27,21 @@ import com.badlogic.gdx.physics.box2d.World;
 
 public class WorldPhysicsComponent extends AbstractPhysicsComponent {
 
+    /**
+     * The maximum frame time to simulate (prevents the simulation from spiraling after long stalls)
+     */
+    private static final float MAX_FRAME_TIME = 0.25f;
+
+    /**
+     * The Box2D velocity constraint solver iterations
+     */
+    private static final int VELOCITY_ITERATIONS = 6;
+
+    /**
+     * The Box2D position constraint solver iterations
+     */
+    private static final int POSITION_ITERATIONS = 2;
+
     /**
      * The LibGDX Box2D world instance
      */
@@ -21,11 +50,33 @@ public class WorldPhysicsComponent extends AbstractPhysicsComponent {
     /**
      * The active gravity vector
      */
-    private Vector2 gravity;
+    @JsonField
+    Vector2 gravity;
 
-    private float mAccumulator;
+    /**
+     * The accumulated simulation time not yet stepped through
+     */
+    private transient float accumulator;
+
+    /**
+     * The fixed time step in seconds
+     */
+    private transient float timeStep;
 
-    private float sps;
+    /**
+     * The maximum number of steps per update
+     */
+    private transient int maxSubSteps;
+
+    /**
+     * The simulation's time scale
+     */
+    private transient float timeScale;
+
+    /**
+     * Reusable list of all bodies within the physical world
+     */
+    private transient Array<Body> bodies;
 
     /**
      * Default Constructor
@@ -33,7 +84,11 @@ public class WorldPhysicsComponent extends AbstractPhysicsComponent {
      */
     public WorldPhysicsComponent(Integer id) {
         super(id, PhysicsType.WORLD);
-        mAccumulator = 0;
+        this.accumulator = 0;
+        this.timeStep = 1/60f;
+        this.maxSubSteps = 1;
+        this.timeScale = 1;
+        this.bodies = new Array<>();
     }
 
     /**
@@ -85,22 +140,107 @@ public class WorldPhysicsComponent extends AbstractPhysicsComponent {
      * @param sps The world's steps-per-seconds rate
      */
     public void setSPS(float sps) {
-        this.sps = 1/sps;
+        this.timeStep = 1/sps;
+    }
+
+    /**
+     * Set the maximum number of steps per update to catch up with a slow frame rate.
+     * @param maxSubSteps The maximum number of steps per update
+     */
+    public void setMaxSubSteps(int maxSubSteps) {
+        this.maxSubSteps = Math.max(1, maxSubSteps);
     }
 
     /**
-     * Steps though the world
-     * @link https://www.codeandweb.com/texturepacker/tutorials/libgdx-physics
+     * Set the simulation's time scale.
+     * @param timeScale The simulation's time scale (1: real time)
+     */
+    public void setTimeScale(float timeScale) {
+        this.timeScale = timeScale;
+    }
+
+    /**
+     * Steps though the world with a fixed time step
+     * @link https://gafferongames.com/post/fix_your_timestep/
      * @param deltaTime The game's current deltaTime (calculated through each render loop cycle)
      */
     private void stepWorld(float deltaTime) {
-        mAccumulator += Math.min(deltaTime, 0.25f);
+        this.accumulator += Math.min(deltaTime, MAX_FRAME_TIME) * this.timeScale;
+
+        int steps = 0;
+        while(this.accumulator >= this.timeStep && steps < this.maxSubSteps) {
+            this.notifyRigidBodies(true);
+            FrameProfiler.getInstance().begin(FrameMetric.WORLD_STEP);
+            this.world.step(this.timeStep, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+            FrameProfiler.getInstance().end(FrameMetric.WORLD_STEP);
+            this.notifyRigidBodies(false);
+
+            this.accumulator -= this.timeStep;
+            steps++;
+        }
+
+        if(steps > 0) {
+            this.updateEntityGrid();
+        }
+
+        // drop the time we could not catch up with
+        if(this.accumulator >= this.timeStep) {
+            this.accumulator %= this.timeStep;
+        }
 
-        if(mAccumulator >= this.sps) {
-            mAccumulator -= this.sps;
+        WorldPhysicsManager.getInstance().setInterpolationAlpha(this.accumulator / this.timeStep);
+    }
 
-            this.world.step(this.sps, 6, 2);
+    /**
+     * Rebuild the spatial hash of all active, non-static entities from the stepped bodies.
+     * (Note: the bodies have been fetched by the last world step's notification)
+     */
+    private void updateEntityGrid() {
+        SpatialHashGrid entityGrid = WorldPhysicsManager.getInstance().getEntityGrid();
+        entityGrid.clear();
+
+        for(int i=0; i<this.bodies.size; i++) {
+            Body body = this.bodies.get(i);
+            if(!body.isActive() || body.getType() == BodyDef.BodyType.StaticBody) {
+                continue;
+            }
+
+            Array<Fixture> fixtures = body.getFixtureList();
+            if(fixtures.size > 0 && fixtures.get(0).getUserData() instanceof RigidBodyPhysicsComponent) {
+                RigidBodyPhysicsComponent component = (RigidBodyPhysicsComponent) fixtures.get(0).getUserData();
+                if(component.getBody() == body && component.getParent() instanceof IEntity) {
+                    Vector2 position = body.getPosition();
+                    entityGrid.add((IEntity)component.getParent(), position.x, position.y);
+                }
+            }
         }
+
+        entityGrid.build();
     }
 
+    /**
+     * Notify all rigid body components within the physical world about a world step.
+     * @param isBeforeStep Status whether the world is about to be stepped or has just been stepped
+     */
+    private void notifyRigidBodies(boolean isBeforeStep) {
+        this.world.getBodies(this.bodies);
+
+        for(int i=0; i<this.bodies.size; i++) {
+            Body body = this.bodies.get(i);
+            Array<Fixture> fixtures = body.getFixtureList();
+            if(fixtures.size > 0 && fixtures.get(0).getUserData() instanceof RigidBodyPhysicsComponent) {
+                RigidBodyPhysicsComponent component = (RigidBodyPhysicsComponent) fixtures.get(0).getUserData();
+                // skip the component's pre-built pose bodies not in use
+                if(component.getBody() != body) {
+                    continue;
+                }
+
+                if(isBeforeStep) {
+                    component.onBeforeWorldStep();
+                } else {
+                    component.onAfterWorldStep();
+                }
+            }
+        }
+    }
 }
@@ -3,14 +3,12 @@ package de.thb.paf.scrabblefactory.models.entities;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 
-import de.thb.paf.scrabblefactory.models.components.IComponent;
 import de.thb.paf.scrabblefactory.models.components.graphics.FontGraphicsComponent;
 import de.thb.paf.scrabblefactory.models.components.graphics.GroupedGraphicsComponent;
 import de.thb.paf.scrabblefactory.models.components.graphics.IGraphicsComponent;
 import de.thb.paf.scrabblefactory.models.components.graphics.SpriteAnimationGraphicsComponent;
 import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
 
-import static de.thb.paf.scrabblefactory.models.components.ComponentType.GFX_COMPONENT;
 import static de.thb.paf.scrabblefactory.settings.Settings.Game.PPM;
 
 /**
@@ -130,16 +128,13 @@ public class Cheese extends GameEntity {
      */
     public void setLetter(char letter) {
         this.letter = letter;
-        for(IComponent component : this.components) {
-            if(component instanceof GroupedGraphicsComponent) {
-               for(IGraphicsComponent subComponent : ((GroupedGraphicsComponent)component).getGraphicsComponents()) {
-                   if(subComponent instanceof FontGraphicsComponent) {
-                       FontGraphicsComponent fontGfxComponent = ((FontGraphicsComponent)subComponent);
-                       fontGfxComponent.text = "" + this.letter;
-                       fontGfxComponent.setFont(fontGfxComponent.font);
-                   }
+        GroupedGraphicsComponent groupedGfxComponent = this.getComponent(GroupedGraphicsComponent.class);
+        if(groupedGfxComponent != null) {
+           for(IGraphicsComponent subComponent : groupedGfxComponent.getGraphicsComponents()) {
+               if(subComponent instanceof FontGraphicsComponent) {
+                   ((FontGraphicsComponent)subComponent).setText(String.valueOf(this.letter));
                }
-            }
+           }
         }
     }
 
@@ -165,25 +160,20 @@ public class Cheese extends GameEntity {
 
         // check if we're carried by a player and update our position relative to our carrier
         if(this.carrier != null) {
-            for(IComponent component : this.components) {
-                if(component instanceof RigidBodyPhysicsComponent) {
-                   for(IComponent gfxComponent : this.carrier.getAllComponents(GFX_COMPONENT)) {
-                       if(gfxComponent instanceof SpriteAnimationGraphicsComponent) {
-                           Body body = ((RigidBodyPhysicsComponent)component).getBody();
-                           Vector2 carrierPosition = this.carrier.getPosition();
-                           Vector2 carrierSize = this.carrier.getSize();
-                           float verticalOffset = ((this.carrier.getCheeseItems().indexOf(this)) * (this.getSize().x / PPM));
-                           float horizontalOffset = ((this.carrier.getSize().x / 2) - (this.getSize().x / PPM / 2))
-                                   + (((SpriteAnimationGraphicsComponent) gfxComponent).isFlipped() ? (-7 / PPM) : (7 / PPM));
-                           body.setTransform(
-                                   carrierPosition.x + horizontalOffset,
-                                   carrierPosition.y + carrierSize.y + verticalOffset,
-                                   0
-                           );
-                           break;
-                       }
-                   }
-                }
+            RigidBodyPhysicsComponent physicsComponent = this.getComponent(RigidBodyPhysicsComponent.class);
+            SpriteAnimationGraphicsComponent gfxComponent = this.carrier.getComponent(SpriteAnimationGraphicsComponent.class);
+            if(physicsComponent != null && gfxComponent != null) {
+                Body body = physicsComponent.getBody();
+                Vector2 carrierPosition = this.carrier.getPosition();
+                Vector2 carrierSize = this.carrier.getSize();
+                float verticalOffset = ((this.carrier.getCheeseItems().indexOf(this)) * (this.getSize().x / PPM));
+                float horizontalOffset = ((this.carrier.getSize().x / 2) - (this.getSize().x / PPM / 2))
+                        + (gfxComponent.isFlipped() ? (-7 / PPM) : (7 / PPM));
+                body.setTransform(
+                        carrierPosition.x + horizontalOffset,
+                        carrierPosition.y + carrierSize.y + verticalOffset,
+                        0
+                );
             }
         }
     }
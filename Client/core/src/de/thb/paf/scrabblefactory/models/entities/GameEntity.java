@@ -2,10 +2,11 @@ package de.thb.paf.scrabblefactory.models.entities;
 
 import com.badlogic.gdx.math.Vector2;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import de.thb.paf.scrabblefactory.managers.GameObjectManager;
 import de.thb.paf.scrabblefactory.models.assets.AssetTargetType;
+import de.thb.paf.scrabblefactory.models.components.ComponentIndex;
 import de.thb.paf.scrabblefactory.models.components.ComponentType;
 import de.thb.paf.scrabblefactory.models.components.IComponent;
 import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
@@ -65,15 +66,15 @@ abstract class GameEntity implements IEntity {
     private AssetTargetType assetTargetType;
 
     /**
-     * List of associated components
+     * Index of associated components
      */
-    List<IComponent> components;
+    transient ComponentIndex components;
 
     /**
      * Default COnstructor
      */
     GameEntity() {
-        this.components = new ArrayList<>();
+        this.components = new ComponentIndex();
     }
 
     /**
@@ -90,14 +91,15 @@ abstract class GameEntity implements IEntity {
 
     @Override
     public void update(float deltaTime) {
-        for(IComponent component : this.components) {
-            component.update(deltaTime);
+        List<IComponent> components = this.components.getAll();
+        for(int i=0; i<components.size(); i++) {
+            components.get(i).update(deltaTime);
         }
     }
 
     @Override
     public void dispose() {
-        for(IComponent component : this.components) {
+        for(IComponent component : this.components.getAll()) {
             component.dispose();
         }
     }
@@ -139,25 +141,22 @@ abstract class GameEntity implements IEntity {
 
     @Override
     public List<IComponent> getAllComponents() {
-        return this.components;
+        return this.components.getAll();
     }
 
     @Override
     public List<IComponent> getAllComponents(ComponentType type) {
-        List<IComponent> filteredComponents = new ArrayList<>();
-        for(IComponent component : this.components) {
-            if(component.getType().equals(type)) {
-                filteredComponents.add(component);
-            }
-        }
-
-        return filteredComponents;
+        return this.components.getAll(type);
     }
 
     @Override
     public IComponent getComponent(int id) {
-        // TODO implement here
-        return null;
+        return this.components.get(id);
+    }
+
+    @Override
+    public <T> T getComponent(Class<T> componentClass) {
+        return this.components.get(componentClass);
     }
 
     @Override
@@ -198,40 +197,38 @@ abstract class GameEntity implements IEntity {
     @Override
     public void setActive(boolean isActive) {
         this.isActive = isActive;
-        for(IComponent component : this.components) {
-            if(component instanceof RigidBodyPhysicsComponent) {
-                ((RigidBodyPhysicsComponent)component).getBody().setActive(isActive);
-            }
+        RigidBodyPhysicsComponent physicsComponent = this.getComponent(RigidBodyPhysicsComponent.class);
+        if(physicsComponent != null) {
+            physicsComponent.getBody().setActive(isActive);
         }
+
+        GameObjectManager.getInstance().onActivationChanged(this);
     }
 
     @Override
     public void addComponent(IComponent component) {
-        // TODO implement here
+        this.components.add(component);
     }
 
     @Override
     public void addComponents(List<IComponent> components) {
-        // TODO implement here
         this.components.addAll(components);
     }
 
     @Override
     public boolean removeAllComponents() {
-        // TODO implement here
-        return false;
+        return this.components.clear();
     }
 
     @Override
     public boolean removeComponent(int id) {
-        // TODO implement here
-        return false;
+        IComponent component = this.components.get(id);
+        return component != null && this.components.remove(component);
     }
 
     @Override
     public boolean removeAllComponents(ComponentType type) {
-        // TODO implement here
-        return false;
+        return this.components.clear(type);
     }
 
 }
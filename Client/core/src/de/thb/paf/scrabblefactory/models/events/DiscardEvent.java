@@ -24,6 +24,16 @@ public class DiscardEvent extends GameEvent {
         super(GameEventType.DISCARD);
     }
 
+    @Override
+    public boolean isTargeting(IGameObject gameObject) {
+        return this.discardTarget == gameObject;
+    }
+
+    @Override
+    public void applyPayload(GameEventPayload payload) {
+        this.discardTarget = payload.getTarget();
+    }
+
     /**
      * Get the event's target which should be triggered.
      * @return The event's target
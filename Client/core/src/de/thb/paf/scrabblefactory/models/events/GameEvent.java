@@ -1,7 +1,6 @@
 package de.thb.paf.scrabblefactory.models.events;
 
-import java.util.Observable;
-import java.util.Observer;
+import de.thb.paf.scrabblefactory.models.IGameObject;
 
 /**
  * Abstract representation of a game event.
@@ -11,7 +10,7 @@ import java.util.Observer;
  * @since 1.0
  */
 
-abstract class GameEvent extends Observable implements IGameEvent {
+abstract class GameEvent implements IGameEvent {
 
     /**
      * The associated game event type
@@ -27,23 +26,18 @@ abstract class GameEvent extends Observable implements IGameEvent {
     }
 
     @Override
-    public void invoke() {
-        this.setChanged();
-        this.notifyObservers();
+    public boolean isTargeting(IGameObject gameObject) {
+        // not dedicated to a specific game object by default
+        return true;
     }
 
     @Override
-    public GameEventType getEventType() {
-        return eventType;
+    public void applyPayload(GameEventPayload payload) {
+        // no values to apply by default
     }
 
     @Override
-    public void addListener(Observer observer) {
-        this.addObserver(observer);
-    }
-
-    @Override
-    public void removeListener(Observer observer) {
-        this.deleteObserver(observer);
+    public GameEventType getEventType() {
+        return eventType;
     }
 }
@@ -0,0 +1,173 @@
+package de.thb.paf.scrabblefactory.models.events;
+
+import de.thb.paf.scrabblefactory.models.IGameObject;
+import de.thb.paf.scrabblefactory.models.actions.MoveActionType;
+import de.thb.paf.scrabblefactory.models.actions.MoveDirectionType;
+
+/**
+ * Represents the values of a queued game event which get applied to the registered
+ * game event instance right before it gets invoked.
+ * @see GameEventQueue
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class GameEventPayload {
+
+    /**
+     * The associated game event type
+     */
+    private GameEventType eventType;
+
+    /**
+     * The game object involved as contact (e.g. of a collision)
+     */
+    private IGameObject contact;
+
+    /**
+     * The game item involved in a collision
+     */
+    private IGameObject item;
+
+    /**
+     * The game object the event targets (e.g. to discard)
+     */
+    private IGameObject target;
+
+    /**
+     * The move action type
+     */
+    private MoveActionType moveActionType;
+
+    /**
+     * The move direction type
+     */
+    private MoveDirectionType moveDirectionType;
+
+    /**
+     * Default Constructor
+     */
+    GameEventPayload() {
+        this.reset();
+    }
+
+    /**
+     * Reset all values so the payload can be reused.
+     */
+    void reset() {
+        this.eventType = null;
+        this.contact = null;
+        this.item = null;
+        this.target = null;
+        this.moveActionType = null;
+        this.moveDirectionType = null;
+    }
+
+    /**
+     * Get the associated game event type.
+     * @return The associated game event type
+     */
+    public GameEventType getEventType() {
+        return this.eventType;
+    }
+
+    /**
+     * Set the associated game event type.
+     * @param eventType The associated game event type
+     */
+    void setEventType(GameEventType eventType) {
+        this.eventType = eventType;
+    }
+
+    /**
+     * Get the game object involved as contact.
+     * @return The involved contact
+     */
+    public IGameObject getContact() {
+        return this.contact;
+    }
+
+    /**
+     * Set the game object involved as contact.
+     * @param contact The involved contact
+     * @return The payload itself
+     */
+    public GameEventPayload setContact(IGameObject contact) {
+        this.contact = contact;
+        return this;
+    }
+
+    /**
+     * Get the game item involved in a collision.
+     * @return The involved item
+     */
+    public IGameObject getItem() {
+        return this.item;
+    }
+
+    /**
+     * Set the game item involved in a collision.
+     * @param item The involved item
+     * @return The payload itself
+     */
+    public GameEventPayload setItem(IGameObject item) {
+        this.item = item;
+        return this;
+    }
+
+    /**
+     * Get the game object the event targets.
+     * @return The event's target
+     */
+    public IGameObject getTarget() {
+        return this.target;
+    }
+
+    /**
+     * Set the game object the event targets.
+     * @param target The event's target
+     * @return The payload itself
+     */
+    public GameEventPayload setTarget(IGameObject target) {
+        this.target = target;
+        return this;
+    }
+
+    /**
+     * Get the move action type.
+     * @return The move action type
+     */
+    public MoveActionType getMoveActionType() {
+        return this.moveActionType;
+    }
+
+    /**
+     * Set the move action type.
+     * @param moveActionType The move action type
+     * @return The payload itself
+     */
+    public GameEventPayload setMoveActionType(MoveActionType moveActionType) {
+        this.moveActionType = moveActionType;
+        return this;
+    }
+
+    /**
+     * Get the move direction type.
+     * @return The move direction type
+     */
+    public MoveDirectionType getMoveDirectionType() {
+        return this.moveDirectionType;
+    }
+
+    /**
+     * Set the move direction type.
+     * @param moveDirectionType The move direction type
+     * @return The payload itself
+     */
+    public GameEventPayload setMoveDirectionType(MoveDirectionType moveDirectionType) {
+        this.moveDirectionType = moveDirectionType;
+        return this;
+    }
+}
@@ -0,0 +1,177 @@
+package de.thb.paf.scrabblefactory.models.events;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free ring buffer of pooled game event payloads posted by a single producer and
+ * drained by a single consumer (i.e. the game thread once per frame).
+ *
+ * The ring's slots are pre-allocated payloads which get filled in place, so posting an event
+ * neither allocates anything nor creates a thread. If the ring is full, further payloads are
+ * queued in an overflow queue until the ring has been drained, so no event gets lost and the
+ * posting order is kept.
+ *
+ * Usage (producer): obtain a payload, fill it and post it before obtaining the next one.
+ * Usage (consumer): poll a payload, process it and release it before polling the next one.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class GameEventQueue {
+
+    /**
+     * The default number of ring slots
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The pre-allocated payloads of the ring buffer
+     */
+    private final GameEventPayload[] slots;
+
+    /**
+     * The bit mask to map a sequence number to a ring slot
+     */
+    private final int mask;
+
+    /**
+     * The sequence number of the next payload to poll (Note: written by the consumer only)
+     */
+    private final AtomicLong head;
+
+    /**
+     * The sequence number of the next payload to post (Note: written by the producer only)
+     */
+    private final AtomicLong tail;
+
+    /**
+     * Payloads posted while the ring has been full
+     */
+    private final ConcurrentLinkedQueue<GameEventPayload> overflow;
+
+    /**
+     * The payload obtained by the producer but not posted yet
+     */
+    private GameEventPayload obtainedPayload;
+
+    /**
+     * The payload polled by the consumer but not released yet
+     */
+    private GameEventPayload polledPayload;
+
+    /**
+     * Default Constructor
+     */
+    public GameEventQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     * @param capacity The minimum number of ring slots (Note: rounded up to the next power of two)
+     */
+    public GameEventQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new GameEventPayload[size];
+        for(int i=0; i<size; i++) {
+            this.slots[i] = new GameEventPayload();
+        }
+        this.mask = size - 1;
+        this.head = new AtomicLong(0);
+        this.tail = new AtomicLong(0);
+        this.overflow = new ConcurrentLinkedQueue<>();
+        this.obtainedPayload = null;
+        this.polledPayload = null;
+    }
+
+    /**
+     * Obtain an empty payload to fill for the given event type.
+     * (Note: must be posted before obtaining the next payload)
+     * @param eventType The event type to queue
+     * @return The payload to fill
+     */
+    public GameEventPayload obtain(GameEventType eventType) {
+        long sequence = this.tail.get();
+        boolean isRingFull = sequence - this.head.get() >= this.slots.length;
+
+        // keep the posting order once payloads went to the overflow queue
+        if(isRingFull || !this.overflow.isEmpty()) {
+            this.obtainedPayload = new GameEventPayload();
+        } else {
+            this.obtainedPayload = this.slots[(int)(sequence & this.mask)];
+        }
+
+        this.obtainedPayload.setEventType(eventType);
+        return this.obtainedPayload;
+    }
+
+    /**
+     * Post the obtained payload, so it gets polled by the consumer.
+     * @param payload The obtained and filled payload
+     */
+    public void post(GameEventPayload payload) {
+        if(payload != this.obtainedPayload) {
+            throw new IllegalStateException("Only the last obtained payload can be posted");
+        }
+        this.obtainedPayload = null;
+
+        long sequence = this.tail.get();
+        if(payload == this.slots[(int)(sequence & this.mask)]) {
+            // publish the filled slot to the consumer
+            this.tail.lazySet(sequence + 1);
+        } else {
+            this.overflow.add(payload);
+        }
+    }
+
+    /**
+     * Poll the next posted payload.
+     * (Note: must be released before polling the next payload)
+     * @return The next payload (Note: null if the queue is empty)
+     */
+    public GameEventPayload poll() {
+        long sequence = this.head.get();
+        if(sequence < this.tail.get()) {
+            this.polledPayload = this.slots[(int)(sequence & this.mask)];
+        } else {
+            this.polledPayload = this.overflow.poll();
+        }
+        return this.polledPayload;
+    }
+
+    /**
+     * Release the polled payload, so it's slot can be reused by the producer.
+     * @param payload The polled payload
+     */
+    public void release(GameEventPayload payload) {
+        if(payload != this.polledPayload) {
+            throw new IllegalStateException("Only the last polled payload can be released");
+        }
+        this.polledPayload = null;
+        payload.reset();
+
+        long sequence = this.head.get();
+        if(sequence < this.tail.get() && payload == this.slots[(int)(sequence & this.mask)]) {
+            this.head.lazySet(sequence + 1);
+        }
+    }
+
+    /**
+     * Get the status if no payload is waiting to be polled.
+     * @return The empty status
+     */
+    public boolean isEmpty() {
+        return this.head.get() >= this.tail.get() && this.overflow.isEmpty();
+    }
+
+    /**
+     * Get the number of ring slots.
+     * @return The number of ring slots
+     */
+    public int getCapacity() {
+        return this.slots.length;
+    }
+}
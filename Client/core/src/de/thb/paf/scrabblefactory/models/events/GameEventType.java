@@ -4,7 +4,7 @@ package de.thb.paf.scrabblefactory.models.events;
 import com.google.gson.annotations.SerializedName;
 
 /**
- * Enumeration of available game events.
+ * Enumeration of available game events and their event classes.
  *
  * @author Dominic Schiller
  * @version 1.0
@@ -13,17 +13,44 @@ import com.google.gson.annotations.SerializedName;
 
 public enum GameEventType {
     @SerializedName("move")
-    MOVE,
+    MOVE(MoveEvent.class),
     @SerializedName("move-to")
-    MOVE_TO,
+    MOVE_TO(MoveToEvent.class),
     @SerializedName("discard")
-    DISCARD,
+    DISCARD(DiscardEvent.class),
     @SerializedName("ground-contact")
-    GROUND_CONTACT,
+    GROUND_CONTACT(GroundContactEvent.class),
     @SerializedName("item-contact")
-    ITEM_CONTACT,
+    ITEM_CONTACT(ItemContactEvent.class),
     @SerializedName("player-health-changed")
-    PLAYER_HEALTH_CHANGED,
+    PLAYER_HEALTH_CHANGED(PlayerHealthChangedEvent.class),
     @SerializedName("remaining-time-update")
-    REMAINING_TIME_UPDATE
-}
\ No newline at end of file
+    REMAINING_TIME_UPDATE(RemainingTimeUpdateEvent.class);
+
+    /**
+     * The class of all triggered events of this type
+     */
+    public final Class<? extends IGameEvent> eventClass;
+
+    /**
+     * Constructor.
+     * @param eventClass The class of all triggered events of this type
+     */
+    GameEventType(Class<? extends IGameEvent> eventClass) {
+        this.eventClass = eventClass;
+    }
+
+    /**
+     * Get the game event type of an event class.
+     * @param eventClass The event class to get the type for
+     * @return The event class's game event type
+     */
+    public static GameEventType of(Class<? extends IGameEvent> eventClass) {
+        for(GameEventType eventType : values()) {
+            if(eventType.eventClass == eventClass) {
+                return eventType;
+            }
+        }
+        throw new IllegalArgumentException("No game event type defined for " + eventClass.getName());
+    }
+}
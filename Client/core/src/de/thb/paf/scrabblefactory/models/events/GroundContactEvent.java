@@ -26,6 +26,16 @@ public class GroundContactEvent extends GameEvent {
         this.contact = null;
     }
 
+    @Override
+    public boolean isTargeting(IGameObject gameObject) {
+        return this.contact == gameObject;
+    }
+
+    @Override
+    public void applyPayload(GameEventPayload payload) {
+        this.contact = payload.getContact();
+    }
+
     /**
      * Set the in the collision involved contact.
      * @param contact The involved contact
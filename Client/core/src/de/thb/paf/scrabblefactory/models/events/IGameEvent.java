@@ -1,6 +1,6 @@
 package de.thb.paf.scrabblefactory.models.events;
 
-import java.util.Observer;
+import de.thb.paf.scrabblefactory.models.IGameObject;
 
 /**
  * Interface that declares methods a dedicated game event must implement.
@@ -19,19 +19,16 @@ public interface IGameEvent {
     GameEventType getEventType();
 
     /**
-     * Add observer to the list of listeners.
-     * @param observer The observer to add
+     * Get the status if the event is dedicated to the given game object.
+     * (Note: events not dedicated to specific game objects target all of them)
+     * @param gameObject The game object to verify
+     * @return Status if the event targets the game object
      */
-    void addListener(Observer observer);
+    boolean isTargeting(IGameObject gameObject);
 
     /**
-     * Remove observer from the list of listeners.
-     * @param observer The observer to remove
+     * Apply the values of a queued payload to the event before it gets invoked.
+     * @param payload The queued payload
      */
-    void removeListener(Observer observer);
-
-    /**
-     * Invoke the game event and notifies all listeners.
-     */
-    void invoke();
+    void applyPayload(GameEventPayload payload);
 }
@@ -0,0 +1,19 @@
+package de.thb.paf.scrabblefactory.models.events;
+
+/**
+ * This interface defines the method the game event dispatcher will call
+ * back for subscribed game event listeners.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public interface IGameEventListener<T extends IGameEvent> {
+
+    /**
+     * Called when a subscribed game event has been triggered.
+     * @param event The triggered game event
+     */
+    void onGameEvent(T event);
+}
@@ -30,6 +30,17 @@ public class ItemContactEvent extends GameEvent {
         super(GameEventType.ITEM_CONTACT);
     }
 
+    @Override
+    public boolean isTargeting(IGameObject gameObject) {
+        return this.contact == gameObject || this.item == gameObject;
+    }
+
+    @Override
+    public void applyPayload(GameEventPayload payload) {
+        this.contact = payload.getContact();
+        this.item = payload.getItem();
+    }
+
     /**
      * Get the in the collision involved contact.
      * @return The in the collision involved contact.
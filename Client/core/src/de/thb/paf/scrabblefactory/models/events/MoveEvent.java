@@ -1,7 +1,5 @@
 package de.thb.paf.scrabblefactory.models.events;
 
-import java.util.Observer;
-
 import de.thb.paf.scrabblefactory.models.actions.MoveActionType;
 import de.thb.paf.scrabblefactory.models.actions.MoveDirectionType;
 
@@ -42,16 +40,10 @@ public class MoveEvent extends GameEvent {
         this.moveActionType = MoveActionType.IDLE;
     }
 
-    /**
-     * Constructor
-     * @param observers List of observers to register
-     */
-    public MoveEvent(Observer... observers) {
-        super(GameEventType.MOVE);
-
-        for(Observer observer : observers) {
-            this.addListener(observer);
-        }
+    @Override
+    public void applyPayload(GameEventPayload payload) {
+        this.moveActionType = payload.getMoveActionType();
+        this.moveDirectionType = payload.getMoveDirectionType();
     }
 
     /**
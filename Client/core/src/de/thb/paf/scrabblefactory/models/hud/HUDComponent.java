@@ -2,14 +2,18 @@ package de.thb.paf.scrabblefactory.models.hud;
 
 import com.badlogic.gdx.math.Vector2;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import de.thb.paf.scrabblefactory.models.IGameObject;
+import de.thb.paf.scrabblefactory.models.actions.GameEventHandlers;
 import de.thb.paf.scrabblefactory.models.assets.AssetTargetType;
+import de.thb.paf.scrabblefactory.models.components.ComponentIndex;
 import de.thb.paf.scrabblefactory.models.components.ComponentType;
 import de.thb.paf.scrabblefactory.models.components.IComponent;
 import de.thb.paf.scrabblefactory.models.components.graphics.Alignment;
 import de.thb.paf.scrabblefactory.models.events.GameEventType;
+import de.thb.paf.scrabblefactory.models.events.IGameEvent;
+import de.thb.paf.scrabblefactory.models.events.IGameEventListener;
 
 /**
  * Abstract representation of a HUD component.
@@ -42,9 +46,14 @@ public abstract class HUDComponent implements IHUDComponent {
     private Vector2 size;
 
     /**
-     * List of associated components
+     * Index of associated components
      */
-    List<IComponent> components;
+    transient ComponentIndex components;
+
+    /**
+     * The typed listeners per handled event class
+     */
+    private transient GameEventHandlers eventHandlers;
 
     /**
      * The HUD component's asset target type
@@ -73,7 +82,8 @@ public abstract class HUDComponent implements IHUDComponent {
     HUDComponent() {
         this.assetTargetType = AssetTargetType.HUD;
         this.eventsToHandle = new GameEventType[0];
-        this.components = new ArrayList<>();
+        this.components = new ComponentIndex();
+        this.eventHandlers = new GameEventHandlers();
     }
 
     @Override
@@ -81,7 +91,7 @@ public abstract class HUDComponent implements IHUDComponent {
 
     @Override
     public void dispose() {
-        for(IComponent component : this.components) {
+        for(IComponent component : this.components.getAll()) {
             component.dispose();
         }
         this.components.clear();
@@ -124,24 +134,22 @@ public abstract class HUDComponent implements IHUDComponent {
 
     @Override
     public List<IComponent> getAllComponents() {
-        return this.components;
+        return this.components.getAll();
     }
 
     @Override
     public List<IComponent> getAllComponents(ComponentType type) {
-        List<IComponent> filteredComponents = new ArrayList<>();
-        for(IComponent component : this.components) {
-            if(component.getType().equals(type)) {
-                filteredComponents.add(component);
-            }
-        }
-
-        return filteredComponents;
+        return this.components.getAll(type);
     }
 
     @Override
     public IComponent getComponent(int id) {
-        return null;
+        return this.components.get(id);
+    }
+
+    @Override
+    public <T> T getComponent(Class<T> componentClass) {
+        return this.components.get(componentClass);
     }
 
     @Override
@@ -171,17 +179,18 @@ public abstract class HUDComponent implements IHUDComponent {
 
     @Override
     public boolean removeAllComponents() {
-        return false;
+        return this.components.clear();
     }
 
     @Override
     public boolean removeAllComponents(ComponentType type) {
-        return false;
+        return this.components.clear(type);
     }
 
     @Override
     public boolean removeComponent(int id) {
-        return false;
+        IComponent component = this.components.get(id);
+        return component != null && this.components.remove(component);
     }
 
     @Override
@@ -198,4 +207,31 @@ public abstract class HUDComponent implements IHUDComponent {
     public GameEventType[] getEventTypesToHandle() {
         return this.eventsToHandle;
     }
+
+    @Override
+    public int getEventPriority() {
+        return 0;
+    }
+
+    @Override
+    public IGameObject getEventTarget() {
+        // HUD components are interested in all events
+        return null;
+    }
+
+    @Override
+    public GameEventHandlers getEventHandlers() {
+        return this.eventHandlers;
+    }
+
+    /**
+     * Add the listener handling all events of the given event class.
+     * (Note: only subscribed if the HUD component is registered to handle the event class's type)
+     * @param eventClass The event class to handle
+     * @param listener The listener handling the events
+     * @param <T> The event class to handle
+     */
+    protected <T extends IGameEvent> void handleEvents(Class<T> eventClass, IGameEventListener<T> listener) {
+        this.eventHandlers.put(eventClass, listener);
+    }
 }
@@ -1,8 +1,5 @@
 package de.thb.paf.scrabblefactory.models.hud;
 
-import java.util.Observable;
-
-import de.thb.paf.scrabblefactory.models.events.IGameEvent;
 import de.thb.paf.scrabblefactory.models.events.PlayerHealthChangedEvent;
 
 /**
@@ -25,6 +22,7 @@ public class HealthHUD extends HUDComponent {
      */
     public HealthHUD() {
         super();
+        this.handleEvents(PlayerHealthChangedEvent.class, event -> this.setHealth(event.getHealth()));
     }
 
     /**
@@ -42,15 +40,4 @@ public class HealthHUD extends HUDComponent {
     public void setHealth(int health) {
         this.health = health;
     }
-
-    @Override
-    public void update(Observable observable, Object arg) {
-        IGameEvent event = ((IGameEvent) observable);
-
-        switch(event.getEventType()) {
-            case PLAYER_HEALTH_CHANGED:
-                this.setHealth(((PlayerHealthChangedEvent)event).getHealth());
-                break;
-        }
-    }
 }
@@ -1,8 +1,5 @@
 package de.thb.paf.scrabblefactory.models.hud;
 
-
-import java.util.Observable;
-
 import de.thb.paf.scrabblefactory.models.components.ComponentType;
 import de.thb.paf.scrabblefactory.models.components.IComponent;
 import de.thb.paf.scrabblefactory.models.components.graphics.FontGraphicsComponent;
@@ -46,11 +43,6 @@ public class SearchWordHUD extends HUDComponent {
         this.updateFontComponents();
     }
 
-    @Override
-    public void update(Observable o, Object arg) {
-
-    }
-
     /**
      * Update all associated font graphics components for displaying the
      * current set search word.
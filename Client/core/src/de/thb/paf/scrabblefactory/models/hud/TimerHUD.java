@@ -1,13 +1,10 @@
 package de.thb.paf.scrabblefactory.models.hud;
 
 
-import java.util.Observable;
-
 import de.thb.paf.scrabblefactory.models.components.ComponentType;
 import de.thb.paf.scrabblefactory.models.components.IComponent;
 import de.thb.paf.scrabblefactory.models.components.graphics.Alignment;
 import de.thb.paf.scrabblefactory.models.components.graphics.FontGraphicsComponent;
-import de.thb.paf.scrabblefactory.models.events.IGameEvent;
 import de.thb.paf.scrabblefactory.models.events.RemainingTimeUpdateEvent;
 
 /**
@@ -30,6 +27,10 @@ public class TimerHUD extends HUDComponent {
      */
     public TimerHUD() {
         super();
+        this.handleEvents(RemainingTimeUpdateEvent.class, event -> {
+            this.time = event.getTime();
+            this.updateFontComponents();
+        });
     }
 
     /**
@@ -48,18 +49,6 @@ public class TimerHUD extends HUDComponent {
         this.time = time;
     }
 
-    @Override
-    public void update(Observable observable, Object arg) {
-        IGameEvent event = ((IGameEvent) observable);
-
-        switch(event.getEventType()) {
-            case REMAINING_TIME_UPDATE:
-                this.time = ((RemainingTimeUpdateEvent)event).getTime();
-                this.updateFontComponents();
-                break;
-        }
-    }
-
     /**
      * Update the associated font graphics components for displaying the current remaining
      * minutes and seconds.
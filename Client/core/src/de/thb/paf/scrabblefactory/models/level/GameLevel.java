@@ -2,10 +2,10 @@ package de.thb.paf.scrabblefactory.models.level;
 
 import com.badlogic.gdx.math.Vector2;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import de.thb.paf.scrabblefactory.models.assets.AssetTargetType;
+import de.thb.paf.scrabblefactory.models.components.ComponentIndex;
 import de.thb.paf.scrabblefactory.models.components.ComponentType;
 import de.thb.paf.scrabblefactory.models.components.IComponent;
 
@@ -30,9 +30,9 @@ abstract class GameLevel implements ILevel {
     private Vector2 size;
 
     /**
-     * List of associated components
+     * Index of associated components
      */
-    List<IComponent> components;
+    transient ComponentIndex components;
 
     /**
      * The level's unique identifier
@@ -58,20 +58,21 @@ abstract class GameLevel implements ILevel {
      * Default Constructor
      */
     GameLevel() {
-        this.components = new ArrayList<IComponent>();
+        this.components = new ComponentIndex();
     }
 
     @Override
     public void update(float deltaTime) {
         //TODO: implement here...
-        for(IComponent component : this.components) {
-            component.update(deltaTime);
+        List<IComponent> components = this.components.getAll();
+        for(int i=0; i<components.size(); i++) {
+            components.get(i).update(deltaTime);
         }
     }
 
     @Override
     public void dispose() {
-        for(IComponent component: this.components) {
+        for(IComponent component: this.components.getAll()) {
             component.dispose();
         }
     }
@@ -113,24 +114,22 @@ abstract class GameLevel implements ILevel {
 
     @Override
     public List<IComponent> getAllComponents() {
-        return this.components;
+        return this.components.getAll();
     }
 
     @Override
     public List<IComponent> getAllComponents(ComponentType type) {
-        List<IComponent> filteredComponents = new ArrayList<>();
-        for(IComponent component : this.components) {
-            if(component.getType().equals(type)) {
-                filteredComponents.add(component);
-            }
-        }
-
-        return filteredComponents;
+        return this.components.getAll(type);
     }
 
     @Override
     public IComponent getComponent(int id) {
-        return null;
+        return this.components.get(id);
+    }
+
+    @Override
+    public <T> T getComponent(Class<T> componentClass) {
+        return this.components.get(componentClass);
     }
 
     @Override
@@ -160,16 +159,17 @@ abstract class GameLevel implements ILevel {
 
     @Override
     public boolean removeAllComponents() {
-        return false;
+        return this.components.clear();
     }
 
     @Override
     public boolean removeAllComponents(ComponentType type) {
-        return false;
+        return this.components.clear(type);
     }
 
     @Override
     public boolean removeComponent(int id) {
-        return false;
+        IComponent component = this.components.get(id);
+        return component != null && this.components.remove(component);
     }
 }
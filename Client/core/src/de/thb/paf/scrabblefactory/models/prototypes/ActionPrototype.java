@@ -0,0 +1,86 @@
+package de.thb.paf.scrabblefactory.models.prototypes;
+
+import com.google.gson.JsonObject;
+
+import de.thb.paf.scrabblefactory.io.json.JsonDeserializers;
+import de.thb.paf.scrabblefactory.utils.CloneComponentHelper;
+import de.thb.paf.scrabblefactory.utils.ScrabbleFactoryClassLoader;
+
+import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_JAVA_PACKAGE;
+import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_NAME;
+
+/**
+ * Immutable prototype of a game action holding it's resolved class type and JSON definition.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class ActionPrototype {
+
+    /**
+     * The game action's resolved class type (Note: might be null if the class does not exist)
+     */
+    private final Class<?> actionType;
+
+    /**
+     * The game action's JSON definition (Note: must not be modified)
+     */
+    private final JsonObject definition;
+
+    /**
+     * The game action's JSON definition as text read by the generated JSON deserializers
+     */
+    private final String json;
+
+    /**
+     * Constructor.
+     * @param definition The game action's JSON definition
+     */
+    public ActionPrototype(JsonObject definition) {
+        this.actionType = ScrabbleFactoryClassLoader.getClassForName(
+                definition.get(JSON_KEY_JAVA_PACKAGE).getAsString(),
+                definition.get(JSON_KEY_NAME).getAsString()
+        );
+        this.definition = definition;
+        this.json = definition.toString();
+    }
+
+    /**
+     * Populate a game action instance with the JSON definition's field values.
+     * (Note: falls back to copying the values of a parsed template if no deserializer has been generated)
+     * @param action The game action instance to populate
+     */
+    public void populate(Object action) {
+        if(!JsonDeserializers.read(this.json, action)) {
+            CloneComponentHelper.cloneFieldValues(this.parse(action.getClass()), action);
+        }
+    }
+
+    /**
+     * Parse a new game action template from the JSON definition.
+     * @param type The game action's class type to parse
+     * @param <T> The game action's type
+     * @return The parsed game action template
+     */
+    public <T> T parse(Class<T> type) {
+        return GameObjectPrototype.GSON.fromJson(this.definition, type);
+    }
+
+    /**
+     * Get the game action's resolved class type.
+     * @return The game action's class type (Note: might be null if the class does not exist)
+     */
+    public Class<?> getActionType() {
+        return this.actionType;
+    }
+
+    /**
+     * Get the game action's JSON definition.
+     * @return The game action's JSON definition (Note: must not be modified)
+     */
+    public JsonObject getDefinition() {
+        return this.definition;
+    }
+}
@@ -0,0 +1,154 @@
+package de.thb.paf.scrabblefactory.models.prototypes;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import de.thb.paf.scrabblefactory.io.json.JsonDeserializers;
+import de.thb.paf.scrabblefactory.utils.CloneComponentHelper;
+import de.thb.paf.scrabblefactory.utils.ScrabbleFactoryClassLoader;
+
+import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_COMPONENTS;
+import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_JAVA_PACKAGE;
+import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_NAME;
+
+/**
+ * Immutable prototype of a component holding it's resolved class type, JSON definition, game
+ * actions and sub components.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class ComponentPrototype {
+
+    /**
+     * The JSON key of the component's game action definitions
+     */
+    private static final String JSON_KEY_ACTIONS = "actions";
+
+    /**
+     * The component's resolved class type (Note: might be null if the class does not exist)
+     */
+    private final Class<?> componentType;
+
+    /**
+     * The component's JSON definition (Note: must not be modified)
+     */
+    private final JsonObject definition;
+
+    /**
+     * The component's JSON definition as text read by the generated JSON deserializers
+     */
+    private final String json;
+
+    /**
+     * The prototypes of the component's game actions
+     */
+    private final List<ActionPrototype> actions;
+
+    /**
+     * The prototypes of the component's sub components, e.g. of a grouped graphics component
+     */
+    private final List<ComponentPrototype> components;
+
+    /**
+     * Constructor.
+     * @param definition The component's JSON definition
+     */
+    public ComponentPrototype(JsonObject definition) {
+        this(
+                ScrabbleFactoryClassLoader.getClassForName(
+                        definition.get(JSON_KEY_JAVA_PACKAGE).getAsString(),
+                        definition.get(JSON_KEY_NAME).getAsString()
+                ),
+                definition
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param componentType The component's resolved class type
+     * @param definition The component's JSON definition
+     */
+    public ComponentPrototype(Class<?> componentType, JsonObject definition) {
+        this.componentType = componentType;
+        this.definition = definition;
+        this.json = definition.toString();
+
+        List<ActionPrototype> actions = new ArrayList<>();
+        JsonArray actionDefinitions = definition.getAsJsonArray(JSON_KEY_ACTIONS);
+        if(actionDefinitions != null) {
+            for(int i=0; i<actionDefinitions.size(); i++) {
+                actions.add(new ActionPrototype(actionDefinitions.get(i).getAsJsonObject()));
+            }
+        }
+        this.actions = Collections.unmodifiableList(actions);
+
+        List<ComponentPrototype> components = new ArrayList<>();
+        JsonArray componentDefinitions = definition.getAsJsonArray(JSON_KEY_COMPONENTS);
+        if(componentDefinitions != null) {
+            for(int i=0; i<componentDefinitions.size(); i++) {
+                components.add(new ComponentPrototype(componentDefinitions.get(i).getAsJsonObject()));
+            }
+        }
+        this.components = Collections.unmodifiableList(components);
+    }
+
+    /**
+     * Populate a component instance with the JSON definition's field values.
+     * (Note: falls back to copying the values of a parsed template if no deserializer has been generated)
+     * @param component The component instance to populate
+     */
+    public void populate(Object component) {
+        if(!JsonDeserializers.read(this.json, component)) {
+            CloneComponentHelper.cloneFieldValues(this.parse(component.getClass()), component);
+        }
+    }
+
+    /**
+     * Parse a new component template from the JSON definition.
+     * @param type The component's class type to parse
+     * @param <T> The component's type
+     * @return The parsed component template
+     */
+    public <T> T parse(Class<T> type) {
+        return GameObjectPrototype.GSON.fromJson(this.definition, type);
+    }
+
+    /**
+     * Get the component's resolved class type.
+     * @return The component's class type (Note: might be null if the class does not exist)
+     */
+    public Class<?> getComponentType() {
+        return this.componentType;
+    }
+
+    /**
+     * Get the component's JSON definition.
+     * @return The component's JSON definition (Note: must not be modified)
+     */
+    public JsonObject getDefinition() {
+        return this.definition;
+    }
+
+    /**
+     * Get the prototypes of the component's game actions.
+     * @return Unmodifiable list of game action prototypes
+     */
+    public List<ActionPrototype> getActions() {
+        return this.actions;
+    }
+
+    /**
+     * Get the prototypes of the component's sub components.
+     * @return Unmodifiable list of sub component prototypes (Note: empty if the component has none)
+     */
+    public List<ComponentPrototype> getComponents() {
+        return this.components;
+    }
+}
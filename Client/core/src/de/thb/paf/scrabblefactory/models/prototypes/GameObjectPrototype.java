@@ -0,0 +1,120 @@
+package de.thb.paf.scrabblefactory.models.prototypes;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import de.thb.paf.scrabblefactory.models.assets.AssetTargetType;
+
+import static de.thb.paf.scrabblefactory.settings.Constants.Json.JSON_KEY_COMPONENTS;
+
+/**
+ * Immutable prototype of a game object (i.e. an entity or a level) built from it's parsed init
+ * configuration.
+ *
+ * The prototype resolves all component and game action classes once, so creating further instances
+ * of the same game object only parses the already loaded JSON definitions into new objects.
+ * (Note: instances are parsed instead of copied from a template, since the game objects and
+ * components hold mutable values which must not be shared)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class GameObjectPrototype {
+
+    /**
+     * The JSON parser shared by all prototypes (Note: caches the type adapters of the parsed classes)
+     */
+    static final Gson GSON = new GsonBuilder().create();
+
+    /**
+     * The game object's asset target type
+     */
+    private final AssetTargetType assetTargetType;
+
+    /**
+     * The game object's unique identifier
+     */
+    private final int id;
+
+    /**
+     * The game object's JSON definition (Note: must not be modified)
+     */
+    private final JsonObject definition;
+
+    /**
+     * The prototypes of the game object's components (Note: excludes components with unknown classes)
+     */
+    private final List<ComponentPrototype> components;
+
+    /**
+     * Constructor.
+     * @param assetTargetType The game object's asset target type
+     * @param id The game object's unique identifier
+     * @param definition The game object's parsed init configuration
+     */
+    public GameObjectPrototype(AssetTargetType assetTargetType, int id, JsonObject definition) {
+        this.assetTargetType = assetTargetType;
+        this.id = id;
+        this.definition = definition;
+
+        List<ComponentPrototype> components = new ArrayList<>();
+        JsonArray componentDefinitions = definition.get(JSON_KEY_COMPONENTS).getAsJsonArray();
+        for(int i=0; i<componentDefinitions.size(); i++) {
+            ComponentPrototype component = new ComponentPrototype(componentDefinitions.get(i).getAsJsonObject());
+            if(component.getComponentType() != null) {
+                components.add(component);
+            }
+        }
+        this.components = Collections.unmodifiableList(components);
+    }
+
+    /**
+     * Parse a new game object instance from the JSON definition.
+     * @param type The game object's class type to parse
+     * @param <T> The game object's type
+     * @return The parsed game object instance (Note: without components)
+     */
+    public <T> T parse(Class<T> type) {
+        return GSON.fromJson(this.definition, type);
+    }
+
+    /**
+     * Get the game object's asset target type.
+     * @return The game object's asset target type
+     */
+    public AssetTargetType getAssetTargetType() {
+        return this.assetTargetType;
+    }
+
+    /**
+     * Get the game object's unique identifier.
+     * @return The game object's unique identifier
+     */
+    public int getID() {
+        return this.id;
+    }
+
+    /**
+     * Get the game object's JSON definition.
+     * @return The game object's JSON definition (Note: must not be modified)
+     */
+    public JsonObject getDefinition() {
+        return this.definition;
+    }
+
+    /**
+     * Get the prototypes of the game object's components.
+     * @return Unmodifiable list of component prototypes
+     */
+    public List<ComponentPrototype> getComponents() {
+        return this.components;
+    }
+}
@@ -13,6 +13,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.utils.ActorGestureListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 
@@ -22,6 +23,7 @@ import de.thb.paf.scrabblefactory.auth.AuthenticationManager;
 import de.thb.paf.scrabblefactory.gameplay.timer.CountdownTimer;
 import de.thb.paf.scrabblefactory.gameplay.timer.ICountdownListener;
 import de.thb.paf.scrabblefactory.managers.GameScreenManager;
+import de.thb.paf.scrabblefactory.managers.UIResourceManager;
 import de.thb.paf.scrabblefactory.models.assets.FontAsset;
 import de.thb.paf.scrabblefactory.models.components.graphics.Alignment;
 import de.thb.paf.scrabblefactory.persistence.DataStore;
@@ -165,10 +167,7 @@ public class ChallengeScoreDialogScreen extends GameScreen implements ICountdown
     private float initBackgroundScene() {
         float scaling = (Settings.App.DEVICE_SCREEN_WIDTH / (float)Settings.Game.RESOLUTION.maxWidth);
 
-        Texture dialogTexture = new Texture(
-                Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/backgrounds/dialog_bg.png")
-        );
-        dialogTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+        Texture dialogTexture = UIResourceManager.getInstance().getImageTexture("backgrounds/dialog_bg.png");
         this.dialogBackground = new Image(dialogTexture);
         this.dialogBackground.setScale(scaling);
 
@@ -188,15 +187,11 @@ public class ChallengeScoreDialogScreen extends GameScreen implements ICountdown
      * Setup all UI widgets required to represent the main menu.
      */
     private void setupWidgets(float scaling) {
-        Texture stopTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/finish.png"));
-        Texture stopPressedTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/finishPressed.png"));
-        stopTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
-        stopPressedTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+        Drawable stopDrawable = UIResourceManager.getInstance().getButtonDrawable("finish");
+        Drawable stopPressedDrawable = UIResourceManager.getInstance().getButtonDrawable("finishPressed");
 
-        Texture retryTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/retry.png"));
-        Texture retryPressedTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/retryPressed.png"));
-        retryTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
-        retryPressedTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+        Drawable retryDrawable = UIResourceManager.getInstance().getButtonDrawable("retry");
+        Drawable retryPressedDrawable = UIResourceManager.getInstance().getButtonDrawable("retryPressed");
 
         int multiplier = (int)Settings.Game.VIRTUAL_PIXEL_DENSITY_MULTIPLIER;
 
@@ -258,11 +253,11 @@ public class ChallengeScoreDialogScreen extends GameScreen implements ICountdown
                 .alignment(Alignment.MIDDLE)
                 .margins(
                         (int)((this.dialogBackground.getHeight() * scaling)/2)
-                                - stopTexture.getHeight() - (10 * multiplier),
+                                - (int)stopDrawable.getMinHeight() - (10 * multiplier),
                         (int)((this.dialogBackground.getWidth() * scaling)/2)
-                                - (stopTexture.getWidth()/2) - (50 * multiplier),
+                                - (int)(stopDrawable.getMinWidth()/2) - (50 * multiplier),
                         0, 0)
-                .imageButtonTextures(stopTexture, stopPressedTexture)
+                .imageButtonDrawables(stopDrawable, stopPressedDrawable)
                 .actorGestureListener(
                         new ActorGestureListener() {
                             @Override
@@ -279,11 +274,11 @@ public class ChallengeScoreDialogScreen extends GameScreen implements ICountdown
                 .alignment(Alignment.MIDDLE)
                 .margins(
                         (int)((this.dialogBackground.getHeight() * scaling)/2)
-                                - (int)stopTexture.getHeight() - (10 * multiplier),
+                                - (int)stopDrawable.getMinHeight() - (10 * multiplier),
                         0, 0,
                         (int)((this.dialogBackground.getWidth() * scaling)/2)
-                                - (int)(stopTexture.getWidth()/2) - (50 * multiplier))
-                .imageButtonTextures(retryTexture, retryPressedTexture)
+                                - (int)(stopDrawable.getMinWidth()/2) - (50 * multiplier))
+                .imageButtonDrawables(retryDrawable, retryPressedDrawable)
                 .actorGestureListener(
                         new ActorGestureListener() {
                             @Override
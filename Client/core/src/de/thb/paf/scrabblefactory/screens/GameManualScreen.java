@@ -5,7 +5,6 @@ import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
@@ -14,9 +13,11 @@ import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.utils.ActorGestureListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 
 import de.thb.paf.scrabblefactory.managers.GameScreenManager;
+import de.thb.paf.scrabblefactory.managers.UIResourceManager;
 import de.thb.paf.scrabblefactory.models.assets.FontAsset;
 import de.thb.paf.scrabblefactory.models.components.graphics.Alignment;
 import de.thb.paf.scrabblefactory.settings.Settings;
@@ -130,9 +131,7 @@ public class GameManualScreen extends GameScreen {
      * Initialize and setup the screen's background.
      */
     private float initBackgroundScene() {
-        Image background = new Image(new Texture(
-                Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/backgrounds/background.png")
-        ));
+        Image background = new Image(UIResourceManager.getInstance().getImageTexture("backgrounds/background.png"));
 
         float backgroundScaling = (Settings.App.DEVICE_SCREEN_WIDTH / background.getWidth());
         background.setScale(backgroundScaling);
@@ -165,23 +164,23 @@ public class GameManualScreen extends GameScreen {
             }
         };
 
-        Texture playTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/tapPlay.png"));
-        Texture playPressedTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/tapPlayPressed.png"));
+        Drawable playDrawable = UIResourceManager.getInstance().getButtonDrawable("tapPlay");
+        Drawable playPressedDrawable = UIResourceManager.getInstance().getButtonDrawable("tapPlayPressed");
         ImageButton playButton = (ImageButton)new UIWidgetBuilder(UIWidgetType.IMAGE_BUTTON)
                 .identifier("play")
                 .alignment(Alignment.BOTTOM_RIGHT)
                 .margins(0, 15 * multiplier, 5 * multiplier, 0)
-                .imageButtonTextures(playTexture, playPressedTexture)
+                .imageButtonDrawables(playDrawable, playPressedDrawable)
                 .actorGestureListener(gestureListener)
                 .create();
 
-        Texture backTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/tapBack.png"));
-        Texture backPressedTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/tapBackPressed.png"));
+        Drawable backDrawable = UIResourceManager.getInstance().getButtonDrawable("tapBack");
+        Drawable backPressedDrawable = UIResourceManager.getInstance().getButtonDrawable("tapBackPressed");
         ImageButton backButton = (ImageButton)new UIWidgetBuilder(UIWidgetType.IMAGE_BUTTON)
                 .identifier("back")
                 .alignment(Alignment.BOTTOM_RIGHT)
                 .margins(0, (int)((25 * multiplier) + playButton.getWidth()), 5 * multiplier, 0)
-                .imageButtonTextures(backTexture, backPressedTexture)
+                .imageButtonDrawables(backDrawable, backPressedDrawable)
                 .actorGestureListener(gestureListener)
                 .create();
 
@@ -12,10 +12,12 @@ import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.utils.ActorGestureListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 
 import de.thb.paf.scrabblefactory.managers.GameScreenManager;
+import de.thb.paf.scrabblefactory.managers.UIResourceManager;
 import de.thb.paf.scrabblefactory.models.assets.FontAsset;
 import de.thb.paf.scrabblefactory.models.components.graphics.Alignment;
 import de.thb.paf.scrabblefactory.settings.Settings;
@@ -104,10 +106,7 @@ public class GameOverDialogScreen extends GameScreen {
     private float initBackgroundScene() {
         float scaling = (Settings.App.DEVICE_SCREEN_WIDTH / (float)Settings.Game.RESOLUTION.maxWidth);
 
-        Texture dialogTexture = new Texture(
-                Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/backgrounds/dialog_bg.png")
-        );
-        dialogTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+        Texture dialogTexture = UIResourceManager.getInstance().getImageTexture("backgrounds/dialog_bg.png");
         this.dialogBackground = new Image(dialogTexture);
         this.dialogBackground.setScale(scaling);
 
@@ -127,15 +126,11 @@ public class GameOverDialogScreen extends GameScreen {
      * Setup all UI widgets required to represent the main menu.
      */
     private void setupWidgets(float scaling) {
-        Texture stopTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/finish.png"));
-        Texture stopPressedTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/finishPressed.png"));
-        stopTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
-        stopPressedTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+        Drawable stopDrawable = UIResourceManager.getInstance().getButtonDrawable("finish");
+        Drawable stopPressedDrawable = UIResourceManager.getInstance().getButtonDrawable("finishPressed");
 
-        Texture retryTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/retry.png"));
-        Texture retryPressedTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/retryPressed.png"));
-        retryTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
-        retryPressedTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+        Drawable retryDrawable = UIResourceManager.getInstance().getButtonDrawable("retry");
+        Drawable retryPressedDrawable = UIResourceManager.getInstance().getButtonDrawable("retryPressed");
 
         int multiplier = (int)Settings.Game.VIRTUAL_PIXEL_DENSITY_MULTIPLIER;
 
@@ -173,11 +168,11 @@ public class GameOverDialogScreen extends GameScreen {
                 .alignment(Alignment.MIDDLE)
                 .margins(
                         (int)((this.dialogBackground.getHeight() * scaling)/2)
-                                - stopTexture.getHeight() - (10 * multiplier),
+                                - (int)stopDrawable.getMinHeight() - (10 * multiplier),
                         (int)((this.dialogBackground.getWidth() * scaling)/2)
-                                - (stopTexture.getWidth()/2) - (50 * multiplier),
+                                - (int)(stopDrawable.getMinWidth()/2) - (50 * multiplier),
                         0, 0)
-                .imageButtonTextures(stopTexture, stopPressedTexture)
+                .imageButtonDrawables(stopDrawable, stopPressedDrawable)
                 .actorGestureListener(
                         new ActorGestureListener() {
                             @Override
@@ -194,11 +189,11 @@ public class GameOverDialogScreen extends GameScreen {
                 .alignment(Alignment.MIDDLE)
                 .margins(
                         (int)((this.dialogBackground.getHeight() * scaling)/2)
-                                - retryTexture.getHeight() - (10 * multiplier),
+                                - (int)retryDrawable.getMinHeight() - (10 * multiplier),
                         0, 0,
                         (int)((this.dialogBackground.getWidth() * scaling)/2)
-                                - (stopTexture.getWidth()/2) - (50 * multiplier))
-                .imageButtonTextures(retryTexture, retryPressedTexture)
+                                - (int)(stopDrawable.getMinWidth()/2) - (50 * multiplier))
+                .imageButtonDrawables(retryDrawable, retryPressedDrawable)
                 .actorGestureListener(
                         new ActorGestureListener() {
                             @Override
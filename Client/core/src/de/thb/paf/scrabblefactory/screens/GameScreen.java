@@ -1,15 +1,14 @@
 package de.thb.paf.scrabblefactory.screens;
 
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 
 import de.thb.paf.scrabblefactory.ScrabbleFactory;
+import de.thb.paf.scrabblefactory.managers.UIResourceManager;
 import de.thb.paf.scrabblefactory.models.components.graphics.Alignment;
 import de.thb.paf.scrabblefactory.settings.Settings;
 import de.thb.paf.scrabblefactory.utils.graphics.AlignmentHelper;
@@ -92,9 +91,7 @@ public abstract class GameScreen implements IGameScreen {
         DEFAULT_INPUT_HEIGHT = (int)(25 * multiplier);
         DEFAULT_WIDGET_WIDTH = (int)(DEVICE_SCREEN_WIDTH * 0.6);
 
-        DEFAULT_BACKGROUND = new Image(new Texture(
-                Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name +"/backgrounds/background.png")
-        ));
+        DEFAULT_BACKGROUND = new Image(UIResourceManager.getInstance().getImageTexture("backgrounds/background.png"));
         Vector2 backgroundPosition = AlignmentHelper.getRelativePosition(
                 new Vector2(DEFAULT_BACKGROUND.getWidth(), DEFAULT_BACKGROUND.getHeight()),
                 new Vector2(DEVICE_SCREEN_WIDTH, DEVICE_SCREEN_HEIGHT),
@@ -4,7 +4,6 @@ package de.thb.paf.scrabblefactory.screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -13,10 +12,12 @@ import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ActorGestureListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 
 import de.thb.paf.scrabblefactory.io.SaveGameHandler;
 import de.thb.paf.scrabblefactory.managers.GameScreenManager;
+import de.thb.paf.scrabblefactory.managers.UIResourceManager;
 import de.thb.paf.scrabblefactory.models.components.graphics.Alignment;
 import de.thb.paf.scrabblefactory.persistence.DataStore;
 import de.thb.paf.scrabblefactory.persistence.entities.SaveGame;
@@ -137,22 +138,20 @@ public class LandingScreen extends GameScreen {
 
             this.stage.addActor(loginButton);
 
-            Texture exportTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/export.png"));
-            Texture exportPressedTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/exportPressed.png"));
-            exportTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
-            exportPressedTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+            Drawable exportDrawable = UIResourceManager.getInstance().getButtonDrawable("export");
+            Drawable exportPressedDrawable = UIResourceManager.getInstance().getButtonDrawable("exportPressed");
 
             ImageButton exportBtn = (ImageButton)new UIWidgetBuilder(UIWidgetType.IMAGE_BUTTON)
                     .identifier("export")
-                    .size((int)(exportTexture.getWidth() * scaling), (int)(exportTexture.getHeight() * scaling))
+                    .size((int)(exportDrawable.getMinWidth() * scaling), (int)(exportDrawable.getMinHeight() * scaling))
                     .alignment(Alignment.BOTTOM_RIGHT)
                     .margins(
                             0,
-                            (30 * multiplier) + (int)(exportTexture.getWidth() * scaling),
+                            (30 * multiplier) + (int)(exportDrawable.getMinWidth() * scaling),
                             (15 * multiplier),
                             0
                     )
-                    .imageButtonTextures(exportTexture, exportPressedTexture)
+                    .imageButtonDrawables(exportDrawable, exportPressedDrawable)
                     .actorGestureListener(
                             new ActorGestureListener() {
                                 @Override
@@ -188,14 +187,12 @@ public class LandingScreen extends GameScreen {
                 .create();
         this.stage.addActor(createAccountButton);
 
-        Texture importTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/import.png"));
-        Texture importPressedTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/importPressed.png"));
-        importTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
-        importPressedTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+        Drawable importDrawable = UIResourceManager.getInstance().getButtonDrawable("import");
+        Drawable importPressedDrawable = UIResourceManager.getInstance().getButtonDrawable("importPressed");
 
         ImageButton importBtn = (ImageButton)new UIWidgetBuilder(UIWidgetType.IMAGE_BUTTON)
                 .identifier("import")
-                .size((int)(importTexture.getWidth() * scaling), (int)(importTexture.getHeight() * scaling))
+                .size((int)(importDrawable.getMinWidth() * scaling), (int)(importDrawable.getMinHeight() * scaling))
                 .alignment(Alignment.BOTTOM_RIGHT)
                 .margins(
                         0,
@@ -203,7 +200,7 @@ public class LandingScreen extends GameScreen {
                         (15 * multiplier),
                         0
                 )
-                .imageButtonTextures(importTexture, importPressedTexture)
+                .imageButtonDrawables(importDrawable, importPressedDrawable)
                 .actorGestureListener(
                         new ActorGestureListener() {
                             @Override
@@ -4,7 +4,6 @@ package de.thb.paf.scrabblefactory.screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -14,6 +13,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.TextField;
 import com.badlogic.gdx.scenes.scene2d.utils.ActorGestureListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 
@@ -22,6 +22,7 @@ import de.thb.paf.scrabblefactory.auth.PasswordHashGenerator;
 import de.thb.paf.scrabblefactory.gameplay.timer.CountdownTimer;
 import de.thb.paf.scrabblefactory.gameplay.timer.ICountdownListener;
 import de.thb.paf.scrabblefactory.managers.GameScreenManager;
+import de.thb.paf.scrabblefactory.managers.UIResourceManager;
 import de.thb.paf.scrabblefactory.models.assets.FontAsset;
 import de.thb.paf.scrabblefactory.models.components.graphics.Alignment;
 import de.thb.paf.scrabblefactory.persistence.DataStore;
@@ -206,18 +207,16 @@ public class LoginScreen extends GameScreen implements ICountdownListener {
         this.stage.addActor(this.loginBtn);
 
         // setup the back Button
-        Texture backTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/back.png"));
-        Texture backPressedTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/backPressed.png"));
-        backTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
-        backPressedTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+        Drawable backDrawable = UIResourceManager.getInstance().getButtonDrawable("back");
+        Drawable backPressedDrawable = UIResourceManager.getInstance().getButtonDrawable("backPressed");
 
         ImageButton backBtn = (ImageButton)new UIWidgetBuilder(UIWidgetType.IMAGE_BUTTON)
                 .identifier("back")
-                .size((int)(backTexture.getWidth() * scaling), (int)(backTexture.getHeight() * scaling))
+                .size((int)(backDrawable.getMinWidth() * scaling), (int)(backDrawable.getMinHeight() * scaling))
                 .alignment(Alignment.TOP_LEFT)
                 .margins((15 * multiplier), 0, 0, (20 * multiplier)
                 )
-                .imageButtonTextures(backTexture, backPressedTexture)
+                .imageButtonDrawables(backDrawable, backPressedDrawable)
                 .actorGestureListener(
                         new ActorGestureListener() {
                             @Override
@@ -15,10 +15,13 @@ import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.utils.ActorGestureListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 
 import de.thb.paf.scrabblefactory.auth.AuthenticationManager;
 import de.thb.paf.scrabblefactory.managers.GameScreenManager;
+import de.thb.paf.scrabblefactory.managers.LevelPreloadManager;
+import de.thb.paf.scrabblefactory.managers.UIResourceManager;
 import de.thb.paf.scrabblefactory.models.assets.FontAsset;
 import de.thb.paf.scrabblefactory.models.components.graphics.Alignment;
 import de.thb.paf.scrabblefactory.settings.Settings;
@@ -76,6 +79,11 @@ public class MainMenuScreen extends GameScreen {
         if(!this.backgroundMusic.isPlaying()) {
             this.backgroundMusic.play();
         }
+
+        // prepare the first level in the background unless it's still held by the play screen
+        if(GameScreenManager.getInstance().getScreen(ScreenState.PLAY) == null) {
+            LevelPreloadManager.getInstance().preload(Settings.Game.FIRST_LEVEL_ID);
+        }
     }
 
     @Override
@@ -121,21 +129,11 @@ public class MainMenuScreen extends GameScreen {
         boolean isMale = AuthenticationManager.getInstance()
                 .getCurrentUser().getGender().getShortcut().equals("m");
 
-        Texture backgroundTexture = new Texture(
-                Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/backgrounds/home-background.png")
-        );
-        Texture titleTexture = new Texture(
-                Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/backgrounds/scrabblefactory-title.png")
-        );
-        Texture userTexture = new Texture(
-                Gdx.files.internal("images/"
-                        + Settings.Game.RESOLUTION.name + "/icons/"
-                        + (isMale ? "boy" : "girl")
-                        + ".png")
+        Texture backgroundTexture = UIResourceManager.getInstance().getImageTexture("backgrounds/home-background.png");
+        Texture titleTexture = UIResourceManager.getInstance().getImageTexture("backgrounds/scrabblefactory-title.png");
+        Texture userTexture = UIResourceManager.getInstance().getImageTexture(
+                "icons/" + (isMale ? "boy" : "girl") + ".png"
         );
-        backgroundTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
-        titleTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
-        userTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
 
         Image background = new Image(backgroundTexture);
         Image titleImage = new Image(titleTexture);
@@ -205,34 +203,30 @@ public class MainMenuScreen extends GameScreen {
      * Setup all UI widgets required to represent the main menu.
      */
     private void setupUIWidgets() {
-        Texture buttonDefaultTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/tap.png"));
-        Texture buttonPressedTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/tapPressed.png"));
-        buttonDefaultTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
-        buttonPressedTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+        Drawable buttonDefaultDrawable = UIResourceManager.getInstance().getButtonDrawable("tap");
+        Drawable buttonPressedDrawable = UIResourceManager.getInstance().getButtonDrawable("tapPressed");
 
         this.addLabelImageButtonGroup("PLAY", "play",
                 new Color((int)Long.parseLong("e000cbFF", 16)), 75,
-                buttonDefaultTexture, buttonPressedTexture);
+                buttonDefaultDrawable, buttonPressedDrawable);
         this.addLabelImageButtonGroup("HIGHSCORES", "highScore",
                 new Color((int)Long.parseLong("23B7E5FF", 16)), 135,
-                buttonDefaultTexture, buttonPressedTexture);
+                buttonDefaultDrawable, buttonPressedDrawable);
         this.addLabelImageButtonGroup("MANUAL", "description",
-                new Color((int)Long.parseLong("4B0093FF", 16)), 195, buttonDefaultTexture, buttonPressedTexture);
+                new Color((int)Long.parseLong("4B0093FF", 16)), 195, buttonDefaultDrawable, buttonPressedDrawable);
 
 
-        Texture logoutTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/logout.png"));
-        Texture logoutPressedTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/logoutPressed.png"));
-        logoutTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
-        logoutPressedTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+        Drawable logoutDrawable = UIResourceManager.getInstance().getButtonDrawable("logout");
+        Drawable logoutPressedDrawable = UIResourceManager.getInstance().getButtonDrawable("logoutPressed");
 
         float scaling = Settings.App.DEVICE_SCREEN_WIDTH/(float)Settings.Game.RESOLUTION.maxWidth;
         int multiplier = (int)Settings.Game.VIRTUAL_PIXEL_DENSITY_MULTIPLIER;
         ImageButton logoutBtn = (ImageButton)new UIWidgetBuilder(UIWidgetType.IMAGE_BUTTON)
                 .identifier("logout")
-                .size((int)(logoutTexture.getWidth() * scaling), (int)(logoutTexture.getHeight() * scaling))
+                .size((int)(logoutDrawable.getMinWidth() * scaling), (int)(logoutDrawable.getMinHeight() * scaling))
                 .alignment(Alignment.BOTTOM_RIGHT)
                 .margins(0, 20 * multiplier, 15 * multiplier, 0)
-                .imageButtonTextures(logoutTexture, logoutPressedTexture)
+                .imageButtonDrawables(logoutDrawable, logoutPressedDrawable)
                 .actorGestureListener(
                     new ActorGestureListener() {
                         @Override
@@ -262,16 +256,16 @@ public class MainMenuScreen extends GameScreen {
      * @param identifier The image button's identifier
      * @param labelColor The label's color to apply
      * @param marginTop The image button's top margin
-     * @param buttonTextures The button textures to apply
+     * @param buttonDrawables The button drawables to apply
      */
-    private void addLabelImageButtonGroup(String labelTitle, String identifier, Color labelColor, int marginTop, Texture... buttonTextures) {
+    private void addLabelImageButtonGroup(String labelTitle, String identifier, Color labelColor, int marginTop, Drawable... buttonDrawables) {
         int multiplier = (int)Settings.Game.VIRTUAL_PIXEL_DENSITY_MULTIPLIER;
         int topPosition = (int)(marginTop * multiplier);
         ImageButton imageButton = (ImageButton)new UIWidgetBuilder(UIWidgetType.IMAGE_BUTTON)
                 .identifier(identifier)
                 .alignment(Alignment.TOP_CENTER)
                 .margins(topPosition, 0, 0, 0)
-                .imageButtonTextures(buttonTextures)
+                .imageButtonDrawables(buttonDrawables)
                 .actorGestureListener(
                     new ActorGestureListener() {
                         @Override
@@ -12,10 +12,12 @@ import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.utils.ActorGestureListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 
 import de.thb.paf.scrabblefactory.managers.GameScreenManager;
+import de.thb.paf.scrabblefactory.managers.UIResourceManager;
 import de.thb.paf.scrabblefactory.models.assets.FontAsset;
 import de.thb.paf.scrabblefactory.models.components.graphics.Alignment;
 import de.thb.paf.scrabblefactory.settings.Settings;
@@ -108,10 +110,7 @@ public class PauseDialogScreen extends GameScreen {
     private float initBackgroundScene() {
         float scaling = (Settings.App.DEVICE_SCREEN_WIDTH / (float)Settings.Game.RESOLUTION.maxWidth);
 
-        Texture dialogTexture = new Texture(
-                Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/backgrounds/dialog_bg.png")
-        );
-        dialogTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+        Texture dialogTexture = UIResourceManager.getInstance().getImageTexture("backgrounds/dialog_bg.png");
         this.dialogBackground = new Image(dialogTexture);
         this.dialogBackground.setScale(scaling);
 
@@ -131,20 +130,14 @@ public class PauseDialogScreen extends GameScreen {
      * Setup all UI widgets required to represent the main menu.
      */
     private void setupWidgets(float scaling) {
-        Texture closeTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/cancel.png"));
-        Texture closePressedTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/cancelPressed.png"));
-        closeTexture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Linear);
-        closePressedTexture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Linear);
+        Drawable closeDrawable = UIResourceManager.getInstance().getButtonDrawable("cancel");
+        Drawable closePressedDrawable = UIResourceManager.getInstance().getButtonDrawable("cancelPressed");
 
-        Texture stopTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/finish.png"));
-        Texture stopPressedTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/finishPressed.png"));
-        stopTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
-        stopPressedTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+        Drawable stopDrawable = UIResourceManager.getInstance().getButtonDrawable("finish");
+        Drawable stopPressedDrawable = UIResourceManager.getInstance().getButtonDrawable("finishPressed");
 
-        Texture resumeTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/resume.png"));
-        Texture resumePressedTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/resumePressed.png"));
-        resumeTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
-        resumePressedTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+        Drawable resumeDrawable = UIResourceManager.getInstance().getButtonDrawable("resume");
+        Drawable resumePressedDrawable = UIResourceManager.getInstance().getButtonDrawable("resumePressed");
 
         int multiplier = (int)Settings.Game.VIRTUAL_PIXEL_DENSITY_MULTIPLIER;
 
@@ -179,14 +172,14 @@ public class PauseDialogScreen extends GameScreen {
 
         ImageButton closeButton = (ImageButton)new UIWidgetBuilder(UIWidgetType.IMAGE_BUTTON)
                 .identifier("cancel")
-                .size((int)(closeTexture.getWidth() * scaling), (int)(closeTexture.getHeight() * scaling))
+                .size((int)(closeDrawable.getMinWidth() * scaling), (int)(closeDrawable.getMinHeight() * scaling))
                 .alignment(Alignment.MIDDLE)
                 .margins(
                         0, 0,
                         (int)((this.dialogBackground.getHeight() * scaling)/2) - (5 * multiplier),
                         (int)((this.dialogBackground.getWidth() * scaling)/2)  - (5 * multiplier)
                 )
-                .imageButtonTextures(closeTexture, closePressedTexture)
+                .imageButtonDrawables(closeDrawable, closePressedDrawable)
                 .actorGestureListener(
                         new ActorGestureListener() {
                             @Override
@@ -205,9 +198,9 @@ public class PauseDialogScreen extends GameScreen {
                         (int)((this.dialogBackground.getHeight() * scaling)/2)
                                 - (int)closeButton.getHeight() - (10 * multiplier),
                         (int)((this.dialogBackground.getWidth() * scaling)/2)
-                                - (int)(stopTexture.getWidth()/2) - (50 * multiplier),
+                                - (int)(stopDrawable.getMinWidth()/2) - (50 * multiplier),
                         0, 0)
-                .imageButtonTextures(stopTexture, stopPressedTexture)
+                .imageButtonDrawables(stopDrawable, stopPressedDrawable)
                 .actorGestureListener(
                         new ActorGestureListener() {
                             @Override
@@ -227,8 +220,8 @@ public class PauseDialogScreen extends GameScreen {
                                 - (int)closeButton.getHeight() - (10 * multiplier),
                         0, 0,
                         (int)((this.dialogBackground.getWidth() * scaling)/2)
-                                - (int)(stopTexture.getWidth()/2) - (50 * multiplier))
-                .imageButtonTextures(resumeTexture, resumePressedTexture)
+                                - (int)(stopDrawable.getMinWidth()/2) - (50 * multiplier))
+                .imageButtonDrawables(resumeDrawable, resumePressedDrawable)
                 .actorGestureListener(
                         new ActorGestureListener() {
                             @Override
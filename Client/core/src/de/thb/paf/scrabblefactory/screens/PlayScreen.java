@@ -6,44 +6,37 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.input.GestureDetector;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ActorGestureListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 
 import java.util.List;
 
 import de.thb.paf.scrabblefactory.ScrabbleFactory;
-import de.thb.paf.scrabblefactory.factories.EntityFactory;
 import de.thb.paf.scrabblefactory.factories.HUDSystemFactory;
-import de.thb.paf.scrabblefactory.factories.LevelFactory;
-import de.thb.paf.scrabblefactory.gameplay.GameItemSpawnCenter;
-import de.thb.paf.scrabblefactory.gameplay.GameItemSpawnPool;
-import de.thb.paf.scrabblefactory.managers.PlayScreenRestoreManager;
-import de.thb.paf.scrabblefactory.gameplay.ScrabbleChallengeWatchdog;
-import de.thb.paf.scrabblefactory.gameplay.ScrabbleScoreCalculator;
-import de.thb.paf.scrabblefactory.gameplay.timer.CountdownTimer;
+import de.thb.paf.scrabblefactory.gameplay.GameSession;
+import de.thb.paf.scrabblefactory.gameplay.IGameSessionListener;
 import de.thb.paf.scrabblefactory.gameplay.timer.ICountdownListener;
 import de.thb.paf.scrabblefactory.io.KeyboardInputProcessor;
 import de.thb.paf.scrabblefactory.io.TouchInputProcessor;
 import de.thb.paf.scrabblefactory.managers.GameEventManager;
 import de.thb.paf.scrabblefactory.managers.GameObjectManager;
 import de.thb.paf.scrabblefactory.managers.GameScreenManager;
+import de.thb.paf.scrabblefactory.managers.UIResourceManager;
 import de.thb.paf.scrabblefactory.managers.WorldPhysicsManager;
 import de.thb.paf.scrabblefactory.models.IGameObject;
 import de.thb.paf.scrabblefactory.models.components.ComponentType;
 import de.thb.paf.scrabblefactory.models.components.IComponent;
 import de.thb.paf.scrabblefactory.models.components.graphics.Alignment;
 import de.thb.paf.scrabblefactory.models.components.graphics.IGraphicsComponent;
-import de.thb.paf.scrabblefactory.models.components.physics.RigidBodyPhysicsComponent;
 import de.thb.paf.scrabblefactory.models.entities.EntityType;
 import de.thb.paf.scrabblefactory.models.entities.IEntity;
 import de.thb.paf.scrabblefactory.models.events.RemainingTimeUpdateEvent;
@@ -52,11 +45,12 @@ import de.thb.paf.scrabblefactory.models.hud.HUDSystem;
 import de.thb.paf.scrabblefactory.models.hud.HUDSystemType;
 import de.thb.paf.scrabblefactory.models.hud.IHUDComponent;
 import de.thb.paf.scrabblefactory.models.hud.SearchWordHUD;
-import de.thb.paf.scrabblefactory.models.level.BasicLevel;
-import de.thb.paf.scrabblefactory.models.level.ILevel;
 import de.thb.paf.scrabblefactory.settings.Settings;
-import de.thb.paf.scrabblefactory.utils.Randomizer;
+import de.thb.paf.scrabblefactory.utils.debug.FrameMetric;
+import de.thb.paf.scrabblefactory.utils.debug.FrameProfiler;
 import de.thb.paf.scrabblefactory.utils.debug.VisualGameDebugger;
+import de.thb.paf.scrabblefactory.utils.graphics.RenderLayer;
+import de.thb.paf.scrabblefactory.utils.graphics.RenderQueue;
 import de.thb.paf.scrabblefactory.utils.graphics.widgets.UIWidgetBuilder;
 import de.thb.paf.scrabblefactory.utils.graphics.widgets.UIWidgetType;
 
@@ -72,7 +66,7 @@ import static de.thb.paf.scrabblefactory.settings.Settings.Game.VIRTUAL_WIDTH;
  * @version 1.0
  * @since 1.0
  */
-public class PlayScreen extends GameScreen implements ICountdownListener {
+public class PlayScreen extends GameScreen implements ICountdownListener, IGameSessionListener {
 
     /**
      * The overlay displayed when a dialog window will pop up
@@ -85,40 +79,20 @@ public class PlayScreen extends GameScreen implements ICountdownListener {
     private VisualGameDebugger debugRenderer;
 
     /**
-     * The level's challenge search word
+     * The render queue collecting all draw commands of a frame
      */
-    private String searchWord;
+    private RenderQueue renderQueue;
 
     /**
-     * The current game level
+     * The game session holding the level's game state
      */
-    private ILevel level;
+    private GameSession session;
 
     /**
      * The single player HUD system
      */
     private HUDSystem hud;
 
-    /**
-     * The current player entity
-     */
-    private IEntity player;
-
-    /**
-     * The spawn center required to spawn cheese items
-     */
-    private GameItemSpawnCenter spawnCenter;
-
-    /**
-     * The watchdog observing if the challenge is won or not
-     */
-    private ScrabbleChallengeWatchdog challengeWatchdog;
-
-    /**
-     * The countdown timer counting down the level's defined time-frame
-     */
-    private CountdownTimer timer;
-
     /**
      * The screen's multiplexed input handler listening for touch and keyboard inputs
      */
@@ -139,15 +113,13 @@ public class PlayScreen extends GameScreen implements ICountdownListener {
      */
     private boolean isPauseRequested;
 
-    private boolean isChallengeWon;
-
     /**
      * Default Constructor
      */
     public PlayScreen() {
         super(ScreenState.PLAY);
-        this.isChallengeWon = false;
         this.isPauseRequested = false;
+        this.renderQueue = new RenderQueue();
 
         this.applyProjectionMatrix();
 
@@ -172,8 +144,7 @@ public class PlayScreen extends GameScreen implements ICountdownListener {
     public void update(float deltaTime) {
         // TODO: Implement here...
         if(this.isInitialized) {
-            this.level.update(deltaTime);
-            GameObjectManager.getInstance().updateGameObjects(deltaTime);
+            this.session.update(deltaTime);
         }
     }
 
@@ -184,34 +155,21 @@ public class PlayScreen extends GameScreen implements ICountdownListener {
 
         if(!this.isInitialized) {
             if(Settings.Debug.isDebugModeEnabled) {
-                this.debugRenderer = new VisualGameDebugger();
+                FrameProfiler profiler = FrameProfiler.getInstance();
+                profiler.setEnabled(true);
+                profiler.setOverlayVisible(true);
             }
 
             this.setupUIWidgets();
 
-            this.level = new LevelFactory().getLevel(1);
+            this.session = new GameSession(Settings.Game.FIRST_LEVEL_ID);
+            this.session.addSessionListener(this);
+            this.session.addCountdownListener(this);
+            this.session.init();
             this.hud = new HUDSystemFactory().getHUDSystem(HUDSystemType.SINGLE_PLAYER_HUD);
-            this.player = new EntityFactory().getEntity(EntityType.PLAYER, 1);
-
-            String[] searchWords = ((BasicLevel)this.level).getWordPool();
-            int randomIndex = Randomizer.nextRandomInt(0, searchWords.length - 1);
-            this.searchWord = searchWords[randomIndex].toUpperCase();
-
-            this.spawnCenter = new GameItemSpawnCenter(
-                    this.searchWord,
-                    new GameItemSpawnPool(EntityType.CHEESE, 2, 10, searchWord.length())
-            );
 
             // init search word
-            SearchWordHUD searchWordHUD = (SearchWordHUD) this.hud.getHUDComponent(HUDComponentType.SEARCH_WORD);
-            if(searchWordHUD != null && this.level instanceof BasicLevel) {
-                searchWordHUD.setSearchWord(searchWord);
-            }
-
-            timer = new CountdownTimer(this.level.getCountdown());
-            timer.addCountdownListener(this);
-            timer.addCountdownListener(this.spawnCenter);
-            timer.start();
+            this.updateSearchWordHUD();
 
             /**
              * Level sound and music
@@ -223,8 +181,10 @@ public class PlayScreen extends GameScreen implements ICountdownListener {
 
             this.wonSound = Gdx.audio.newSound(Gdx.files.internal("audio/sounds/tada.mp3"));
 
-            this.spawnCenter.startSpawning();
-            this.challengeWatchdog = new ScrabbleChallengeWatchdog(searchWord);
+            this.startRound();
+
+            // register all game objects created while initializing the level
+            GameObjectManager.getInstance().applyPendingChanges();
 
             this.isInitialized = true;
         } else {
@@ -239,8 +199,12 @@ public class PlayScreen extends GameScreen implements ICountdownListener {
     public void render(float delta) {
         // just render the content if initialized so far
         if(this.isInitialized) {
+            FrameProfiler profiler = FrameProfiler.getInstance();
+
             // update the screen first before rendering it's content
+            profiler.begin(FrameMetric.SCREEN_UPDATE);
             this.update(delta);
+            profiler.end(FrameMetric.SCREEN_UPDATE);
 
             Gdx.gl.glClearColor(1/255f, 8/255f, 15/255f, 1);
             Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
@@ -248,47 +212,67 @@ public class PlayScreen extends GameScreen implements ICountdownListener {
             ScrabbleFactory.getInstance().renderMatrix = this.camera.combined;
             ScrabbleFactory.getInstance().textRenderMatrix = this.camera.combined.cpy().scl(1/PPM);
 
-            //TODO Implement more elegant method to render components
-            List<IComponent> components = this.level.getAllComponents(ComponentType.GFX_COMPONENT);
-            for(IComponent component : components) {
-                ((IGraphicsComponent) component).render(batch);
-            }
+            // collect all draw commands and submit them sorted in one pass per projection
+            profiler.begin(FrameMetric.RENDER_LEVEL);
+            this.renderQueue.setLayer(RenderLayer.LEVEL);
+            this.renderGraphicsComponents(this.session.getLevel());
+            profiler.end(FrameMetric.RENDER_LEVEL);
 
             GameObjectManager gom = GameObjectManager.getInstance();
-            components = this.player.getAllComponents(ComponentType.GFX_COMPONENT);
-            for(IComponent component : components) {
-                ((IGraphicsComponent) component).render(batch);
-            }
-
-            List<IEntity> cheeseItems =  gom.getGameEntity(EntityType.CHEESE);
-            for(IGameObject cheese : cheeseItems) {
-                if(((IEntity)cheese).isActive()) {
-                    components = cheese.getAllComponents(ComponentType.GFX_COMPONENT);
-                    for(IComponent component : components) {
-                        ((IGraphicsComponent) component).render(batch);
-                    }
-                }
+            profiler.begin(FrameMetric.RENDER_PLAYER);
+            this.renderQueue.setLayer(RenderLayer.PLAYER);
+            this.renderGraphicsComponents(this.session.getPlayer());
+            profiler.end(FrameMetric.RENDER_PLAYER);
+
+            profiler.begin(FrameMetric.RENDER_ITEMS);
+            this.renderQueue.setLayer(RenderLayer.ITEMS);
+            List<IEntity> cheeseItems =  gom.getActiveGameEntities(EntityType.CHEESE);
+            for(int i=0; i<cheeseItems.size(); i++) {
+                this.renderGraphicsComponents(cheeseItems.get(i));
             }
+            profiler.end(FrameMetric.RENDER_ITEMS);
 
             // render HUD components
+            profiler.begin(FrameMetric.RENDER_HUD);
+            this.renderQueue.setLayer(RenderLayer.HUD);
             List<IHUDComponent> hudComponents = this.hud.getHUDComponents();
-            for(IGameObject hudComponent: hudComponents) {
-                components = hudComponent.getAllComponents(ComponentType.GFX_COMPONENT);
-                for(IComponent component : components) {
-                    ((IGraphicsComponent) component).render(batch);
-                }
+            for(int i=0; i<hudComponents.size(); i++) {
+                this.renderGraphicsComponents(hudComponents.get(i));
             }
+            profiler.end(FrameMetric.RENDER_HUD);
 
-            if(Settings.Debug.isDebugModeEnabled) {
+            profiler.begin(FrameMetric.RENDER_FLUSH);
+            this.renderQueue.flush(
+                    this.batch,
+                    ScrabbleFactory.getInstance().renderMatrix,
+                    ScrabbleFactory.getInstance().textRenderMatrix
+            );
+            profiler.end(FrameMetric.RENDER_FLUSH);
+            profiler.record(FrameMetric.RENDER_CALLS, this.renderQueue.getRenderCalls());
+            profiler.record(FrameMetric.MAX_SPRITES_IN_BATCH, this.batch.maxSpritesInBatch);
+            this.batch.maxSpritesInBatch = 0;
+
+            if(profiler.isOverlayVisible()) {
+                if(this.debugRenderer == null) {
+                    this.debugRenderer = new VisualGameDebugger();
+                }
                 this.batch.setProjectionMatrix(this.camera.combined.cpy().scl(1/PPM));
-                this.debugRenderer.render(batch);
+                this.debugRenderer.render(batch, this.renderQueue.getRenderCalls());
                 this.batch.setProjectionMatrix(this.camera.combined);
             }
 
             this.camera.setToOrtho(false, VIRTUAL_WIDTH, VIRTUAL_HEIGHT);
 
+            profiler.begin(FrameMetric.STAGE_ACT);
             stage.act(delta);
+            profiler.end(FrameMetric.STAGE_ACT);
+            profiler.begin(FrameMetric.STAGE_DRAW);
             stage.draw();
+            profiler.end(FrameMetric.STAGE_DRAW);
+            profiler.endFrame();
+
+            // apply all game object changes queued during this frame
+            gom.applyPendingChanges();
         }
     }
 
@@ -300,7 +284,7 @@ public class PlayScreen extends GameScreen implements ICountdownListener {
     @Override
     public void pause() {
         if(this.isPauseRequested) {
-            this.timer.pauseTimer();
+            this.session.pause();
         }
     }
 
@@ -310,7 +294,7 @@ public class PlayScreen extends GameScreen implements ICountdownListener {
             this.overlay.remove();
         }
         this.isPauseRequested = false;
-        this.timer.resumeTimer();
+        this.session.resume();
     }
 
     @Override
@@ -322,10 +306,11 @@ public class PlayScreen extends GameScreen implements ICountdownListener {
     public void dispose() {
 
         GameObjectManager.getInstance().dispose();
+        GameEventManager.getInstance().dispose();
 
-        this.spawnCenter.clear();
+        this.session.dispose();
         this.hud.dispose();
-        this.level.dispose();
+        this.session.getLevel().dispose();
 
         this.wonSound.dispose();
         this.backgroundMusic.dispose();
@@ -342,25 +327,24 @@ public class PlayScreen extends GameScreen implements ICountdownListener {
     @Override
     public void onCountdownTick(long time) {
         this.triggerRemainingTimeUpdateEvent(time);
-        this.isChallengeWon = this.challengeWatchdog.isChallengeWon();
-        if(this.isChallengeWon) {
-            this.stage.addActor(this.overlay);
+    }
 
-            this.timer.stopTimer();
-            this.backgroundMusic.stop();
-            wonSound.play(1);
+    @Override
+    public void onCountdownFinished(long time) {}
 
-            int score = ScrabbleScoreCalculator.calculateScore(
-                    this.searchWord, time);
-            this.showChallengeResultDialog(score);
-        }
+    @Override
+    public void onChallengeWon(int score, long time) {
+        this.stage.addActor(this.overlay);
+
+        this.backgroundMusic.stop();
+        wonSound.play(1);
+
+        this.showChallengeResultDialog(score);
     }
 
     @Override
-    public void onCountdownFinished(long time) {
-        if(!this.isChallengeWon) {
-            this.showGameOverDialog();
-        }
+    public void onChallengeLost() {
+        this.showGameOverDialog();
     }
 
     /**
@@ -369,44 +353,41 @@ public class PlayScreen extends GameScreen implements ICountdownListener {
     public void resetLevel() {
         if(this.isInitialized) {
             this.overlay.remove();
-            this.isChallengeWon = false;
-
-            String[] searchWords = ((BasicLevel)this.level).getWordPool();
-            int randomIndex = Randomizer.nextRandomInt(0, searchWords.length - 1);
-            this.searchWord = searchWords[randomIndex].toUpperCase();
-
-            this.isChallengeWon = false;
-            this.challengeWatchdog = new ScrabbleChallengeWatchdog(this.searchWord);
-
-            // reset player position
-            PlayScreenRestoreManager restoreManager = PlayScreenRestoreManager.getInstance();
-            for(IEntity player : GameObjectManager.getInstance().getGameEntity(EntityType.PLAYER)) {
-                Vector2 playerPosition = restoreManager.getRestorePosition(player);
-                for(IComponent component : player.getAllComponents(ComponentType.PHYS_COMPONENT)) {
-                    if(component instanceof RigidBodyPhysicsComponent) {
-                        ((RigidBodyPhysicsComponent) component).getBody().setTransform(
-                                playerPosition.x,
-                                playerPosition.y,
-                                0
-                        );
-                    }
-                }
-            }
 
-            //reset spawn center
-            this.spawnCenter.reset(this.searchWord);
+            this.session.reset();
 
             // init search word
-            SearchWordHUD searchWordHUD = (SearchWordHUD) this.hud.getHUDComponent(HUDComponentType.SEARCH_WORD);
-            if(searchWordHUD != null && this.level instanceof BasicLevel) {
-                searchWordHUD.setSearchWord(searchWord);
-            }
+            this.updateSearchWordHUD();
+
+            this.startRound();
+        }
+    }
+
+    /**
+     * Start a new round counting down the level's time-frame.
+     */
+    private void startRound() {
+        this.session.start();
+    }
+
+    /**
+     * Display the session's current search word in the HUD.
+     */
+    private void updateSearchWordHUD() {
+        SearchWordHUD searchWordHUD = (SearchWordHUD) this.hud.getHUDComponent(HUDComponentType.SEARCH_WORD);
+        if(searchWordHUD != null) {
+            searchWordHUD.setSearchWord(this.session.getSearchWord());
+        }
+    }
 
-            timer = new CountdownTimer(this.level.getCountdown());
-            timer.addCountdownListener(this);
-            timer.addCountdownListener(this.spawnCenter);
-            this.spawnCenter.startSpawning();
-            timer.start();
+    /**
+     * Submit all graphics components associated with the given game object to the render queue.
+     * @param gameObject The game object to render
+     */
+    private void renderGraphicsComponents(IGameObject gameObject) {
+        List<IComponent> components = gameObject.getAllComponents(ComponentType.GFX_COMPONENT);
+        for(int i=0; i<components.size(); i++) {
+            ((IGraphicsComponent) components.get(i)).render(this.renderQueue);
         }
     }
 
@@ -414,14 +395,10 @@ public class PlayScreen extends GameScreen implements ICountdownListener {
      * Setup all UI widgets required.
      */
     private void setupUIWidgets() {
-        Texture pauseBtnTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/pause.png"));
-        Texture pauseBtnPressedTexture = new Texture(Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/buttons/pausePressed.png"));
-        pauseBtnTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
-        pauseBtnPressedTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest);
+        Drawable pauseBtnDrawable = UIResourceManager.getInstance().getButtonDrawable("pause");
+        Drawable pauseBtnPressedDrawable = UIResourceManager.getInstance().getButtonDrawable("pausePressed");
 
-        this.overlay = new Image(new Texture(
-                Gdx.files.internal("images/" + Settings.Game.RESOLUTION.name + "/backgrounds/overlay.png")
-        ));
+        this.overlay = new Image(UIResourceManager.getInstance().getImageTexture("backgrounds/overlay.png"));
 
         int multiplier = (int)Settings.Game.VIRTUAL_PIXEL_DENSITY_MULTIPLIER;
         int padding = (1 * multiplier);
@@ -429,9 +406,9 @@ public class PlayScreen extends GameScreen implements ICountdownListener {
                 .identifier("pause")
                 .useVirtualScale(true)
                 .alignment(Alignment.TOP_LEFT)
-                .size(pauseBtnTexture.getWidth(), pauseBtnTexture.getHeight())
+                .size((int)pauseBtnDrawable.getMinWidth(), (int)pauseBtnDrawable.getMinHeight())
                 .margins(padding, 0, 0, padding)
-                .imageButtonTextures(pauseBtnTexture, pauseBtnPressedTexture)
+                .imageButtonDrawables(pauseBtnDrawable, pauseBtnPressedDrawable)
                 .actorGestureListener(
                         new ActorGestureListener() {
                             @Override
@@ -497,12 +474,6 @@ public class PlayScreen extends GameScreen implements ICountdownListener {
             render(Gdx.graphics.getDeltaTime());
         });
 
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
         Gdx.app.postRunnable(() -> {
             GameScreenManager gsm = GameScreenManager.getInstance();
             IGameScreen screen = gsm.getScreen(ScreenState.CHALLENGE_WON);
@@ -39,6 +39,16 @@ public final class Settings {
         Settings.Game.update();
     }
 
+    /**
+     * Update variable settings for a given screen size instead of the device's screen.
+     * @param screenWidth The screen's width
+     * @param screenHeight The screen's height
+     */
+    public static void update(int screenWidth, int screenHeight) {
+        Settings.App.update(screenWidth, screenHeight);
+        Settings.Game.update();
+    }
+
     /**
      * Settings section embracing all application relevant settings.
      *
@@ -69,6 +79,11 @@ public final class Settings {
          */
         public static final int FPS = 60;
 
+        /**
+         * Status if graphics components get created (Note: disabled for headless simulations)
+         */
+        public static boolean isGraphicsEnabled = true;
+
         static {
             update();
         }
@@ -84,8 +99,17 @@ public final class Settings {
          * Update variable app settings.
          */
         public static void update() {
-            DEVICE_SCREEN_WIDTH = Gdx.graphics.getWidth();
-            DEVICE_SCREEN_HEIGHT = Gdx.graphics.getHeight();
+            update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        }
+
+        /**
+         * Update variable app settings for a given screen size.
+         * @param screenWidth The screen's width
+         * @param screenHeight The screen's height
+         */
+        public static void update(int screenWidth, int screenHeight) {
+            DEVICE_SCREEN_WIDTH = screenWidth;
+            DEVICE_SCREEN_HEIGHT = screenHeight;
         }
     }
 
@@ -133,6 +157,27 @@ public final class Settings {
          */
         public static float VIRTUAL_PIXEL_DENSITY_MULTIPLIER;
 
+        /**
+         * The physics simulation's fixed steps-per-seconds rate
+         */
+        public static final int PHYSICS_SPS = 60;
+
+        /**
+         * The maximum number of physics steps per frame to catch up with a slow frame rate
+         */
+        public static final int PHYSICS_MAX_SUB_STEPS = 8;
+
+        /**
+         * The physics simulation's time scale
+         * (Note: all physics settings are tuned for a simulation running at twice the real time)
+         */
+        public static final float PHYSICS_TIME_SCALE = 2f;
+
+        /**
+         * The unique identifier of the level started from the main menu
+         */
+        public static final int FIRST_LEVEL_ID = 1;
+
         static {
             update();
         }
@@ -1,12 +1,11 @@
 package de.thb.paf.scrabblefactory.utils;
 
-import java.lang.reflect.Field;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Utility class which helps cloning a component's data to another component.
+ * (Note: the fields to copy are resolved once per pair of classes and cached afterwards)
  *
  * @author Dominic Schiller - Technische Hochschule Brandenburg
  * @version 1.0
@@ -15,6 +14,11 @@ import java.util.List;
 
 public class CloneComponentHelper {
 
+    /**
+     * The resolved field copy plans indexed by their source and destination class types
+     */
+    private static final Map<Class<?>, Map<Class<?>, FieldCopyPlan>> FIELD_COPY_PLANS = new HashMap<>();
+
     /**
      * Private Constructor
      */
@@ -28,52 +32,27 @@ public class CloneComponentHelper {
      * @param destObject The destination objectto set all the cloned field values to
      */
     public static void cloneFieldValues(Object srcObject, Object destObject) {
-        List<Field> fields = new ArrayList<>();
-        fields.addAll(Arrays.asList(srcObject.getClass().getDeclaredFields()));
-
-        boolean hasSuperClass = true;
-        Class<?> classReference = srcObject.getClass();
-        do {
-            Class<?> superClass = classReference.getSuperclass();
-            if(superClass != null && classReference != superClass) {
-                classReference = superClass;
-                Field[] superFields = superClass.getDeclaredFields();
-                fields.addAll((Arrays.asList(superFields)));
-            } else {
-                hasSuperClass = false;
-            }
-        } while(hasSuperClass);
-
-        for(Field field : fields) {
-            copyFieldValues(field, srcObject, destObject, destObject.getClass());
-        }
+        getFieldCopyPlan(srcObject.getClass(), destObject.getClass()).copy(srcObject, destObject);
     }
 
     /**
-     * Copy assigned field value from source to destination object.
-     * @param field The field to copy the value from
-     * @param srcObject The source object
-     * @param destObject The destination object
-     * @param srcClassType the source class type
+     * Get the cached field copy plan between two classes and resolve it if not done yet.
+     * @param srcClassType The source object's class type
+     * @param destClassType The destination object's class type
+     * @return The field copy plan
      */
-    private static void copyFieldValues(Field field, Object srcObject, Object destObject, Class<?> srcClassType) {
-        try {
-            Field srcField = srcClassType.getDeclaredField(field.getName());
-            srcField.setAccessible(true);
-            Object srcFieldValue = srcField.get(srcObject);
+    private static synchronized FieldCopyPlan getFieldCopyPlan(Class<?> srcClassType, Class<?> destClassType) {
+        Map<Class<?>, FieldCopyPlan> fieldCopyPlans = FIELD_COPY_PLANS.get(srcClassType);
+        if(fieldCopyPlans == null) {
+            fieldCopyPlans = new HashMap<>();
+            FIELD_COPY_PLANS.put(srcClassType, fieldCopyPlans);
+        }
 
-            if(srcFieldValue != null) {
-                field.setAccessible(true);
-                field.set(destObject, srcFieldValue);
-            }
-        } catch (NoSuchFieldException e) {
-            Class<?> srcSuperClass = srcClassType.getSuperclass();
-            if(srcSuperClass != null && srcSuperClass != srcClassType) {
-                // try to get the field value from the super class
-                copyFieldValues(field, srcObject, destObject, srcSuperClass);
-            }
-        } catch(IllegalAccessException e) {
-            // ignore
+        FieldCopyPlan fieldCopyPlan = fieldCopyPlans.get(destClassType);
+        if(fieldCopyPlan == null) {
+            fieldCopyPlan = new FieldCopyPlan(srcClassType, destClassType);
+            fieldCopyPlans.put(destClassType, fieldCopyPlan);
         }
+        return fieldCopyPlan;
     }
 }
@@ -0,0 +1,122 @@
+package de.thb.paf.scrabblefactory.utils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolved constructor of a class for a specific list of parameter classes, so instances can be
+ * created without scanning the class' constructors again.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ * @see ScrabbleFactoryClassLoader
+ */
+
+class ConstructorPlan {
+
+    /**
+     * The parameter classes in the order they are passed to the plan
+     */
+    private final Class<?>[] paramTypes;
+
+    /**
+     * The resolved constructor (Note: null if the class has no matching constructor)
+     */
+    private final Constructor<?> constructor;
+
+    /**
+     * The index of the passed parameter handed over as each of the constructor's parameters
+     */
+    private final int[] paramOrder;
+
+    /**
+     * Constructor.
+     * (Note: resolves the first constructor taking exactly the passed parameters in any order)
+     * @param classType The class type to resolve the constructor for
+     * @param params The parameters which will be handed over to the constructor
+     */
+    ConstructorPlan(Class<?> classType, Object... params) {
+        this.paramTypes = new Class<?>[params.length];
+        for(int i=0; i<params.length; i++) {
+            this.paramTypes[i] = params[i].getClass();
+        }
+
+        Constructor<?> targetConstructor = null;
+        List<Integer> orderedParams = new ArrayList<>();
+        for(Constructor<?> constructor : classType.getDeclaredConstructors()) {
+            Class<?>[] constructorParamTypes = constructor.getParameterTypes();
+            if(constructorParamTypes.length == params.length) {
+                targetConstructor = constructor;
+                for(Class<?> constructorParamType : constructorParamTypes) {
+                    for(int i=0; i<this.paramTypes.length; i++) {
+                        if(constructorParamType.equals(this.paramTypes[i])) {
+                            orderedParams.add(i);
+                        }
+                    }
+                }
+
+                // if we did not found the right constructor we need to clear the stored ordered params list
+                if(orderedParams.size() == params.length) {
+                    break;
+                } else {
+                    orderedParams.clear();
+                }
+            }
+        }
+
+        if(targetConstructor != null && orderedParams.size() == params.length) {
+            this.constructor = targetConstructor;
+            this.paramOrder = new int[orderedParams.size()];
+            for(int i=0; i<this.paramOrder.length; i++) {
+                this.paramOrder[i] = orderedParams.get(i);
+            }
+        } else {
+            this.constructor = null;
+            this.paramOrder = null;
+        }
+    }
+
+    /**
+     * Check if the plan has been resolved for the passed parameters' classes.
+     * @param params The parameters to check
+     * @return Status if the parameters' classes match the plan's parameter classes
+     */
+    boolean matches(Object... params) {
+        if(params.length != this.paramTypes.length) {
+            return false;
+        }
+
+        for(int i=0; i<params.length; i++) {
+            if(params[i].getClass() != this.paramTypes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create a new instance with the resolved constructor.
+     * @param params The parameters to hand over to the constructor (Note: must match the plan)
+     * @return The created instance (Note: might be null)
+     */
+    Object newInstance(Object... params) {
+        if(this.constructor == null) {
+            return null;
+        }
+
+        Object[] orderedParams = new Object[this.paramOrder.length];
+        for(int i=0; i<orderedParams.length; i++) {
+            orderedParams[i] = params[this.paramOrder[i]];
+        }
+
+        try {
+            return this.constructor.newInstance(orderedParams);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+}
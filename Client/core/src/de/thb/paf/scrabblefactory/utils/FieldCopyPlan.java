@@ -0,0 +1,99 @@
+package de.thb.paf.scrabblefactory.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolved pairs of fields to copy the field values from a source object to a destination object,
+ * so the class hierarchies don't have to be searched again for each copy.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ * @see CloneComponentHelper
+ */
+
+class FieldCopyPlan {
+
+    /**
+     * The fields to read the values from the source object with
+     */
+    private final Field[] srcFields;
+
+    /**
+     * The fields to write the values to the destination object with
+     */
+    private final Field[] destFields;
+
+    /**
+     * Constructor.
+     * (Note: static fields are not copied)
+     * @param srcClassType The source object's class type
+     * @param destClassType The destination object's class type
+     */
+    FieldCopyPlan(Class<?> srcClassType, Class<?> destClassType) {
+        List<Field> srcFields = new ArrayList<>();
+        List<Field> destFields = new ArrayList<>();
+
+        // (Note: each destination field is read from the field of the same name declared by the source's classes)
+        Class<?> classReference = destClassType;
+        while(classReference != null) {
+            for(Field destField : classReference.getDeclaredFields()) {
+                if(Modifier.isStatic(destField.getModifiers())) {
+                    continue;
+                }
+
+                Field srcField = findField(srcClassType, destField.getName());
+                if(srcField != null) {
+                    srcField.setAccessible(true);
+                    destField.setAccessible(true);
+                    srcFields.add(srcField);
+                    destFields.add(destField);
+                }
+            }
+            classReference = classReference.getSuperclass();
+        }
+
+        this.srcFields = srcFields.toArray(new Field[srcFields.size()]);
+        this.destFields = destFields.toArray(new Field[destFields.size()]);
+    }
+
+    /**
+     * Copy all assigned field values from the source to the destination object.
+     * @param srcObject The source object
+     * @param destObject The destination object
+     */
+    void copy(Object srcObject, Object destObject) {
+        for(int i=0; i<this.srcFields.length; i++) {
+            try {
+                Object srcFieldValue = this.srcFields[i].get(srcObject);
+                if(srcFieldValue != null) {
+                    this.destFields[i].set(destObject, srcFieldValue);
+                }
+            } catch(IllegalAccessException e) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * Find a field by it's name in a class or it's super classes.
+     * @param classType The class type to start searching at
+     * @param fieldName The field's name
+     * @return The found field (Note: null if no class declares the field)
+     */
+    private static Field findField(Class<?> classType, String fieldName) {
+        Class<?> classReference = classType;
+        while(classReference != null) {
+            for(Field field : classReference.getDeclaredFields()) {
+                if(field.getName().equals(fieldName) && !Modifier.isStatic(field.getModifiers())) {
+                    return field;
+                }
+            }
+            classReference = classReference.getSuperclass();
+        }
+        return null;
+    }
+}
@@ -1,12 +1,13 @@
 package de.thb.paf.scrabblefactory.utils;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Utility class which helps creating class instances defined just by it's class name.
+ * (Note: resolved classes and constructors are cached, so each class is only scanned once)
  *
  * @author Dominic Schiller
  * @version 1.0
@@ -15,6 +16,16 @@ import java.util.List;
 
 public class ScrabbleFactoryClassLoader {
 
+    /**
+     * The resolved class types indexed by their full class name (Note: null if the class does not exist)
+     */
+    private static final Map<String, Class<?>> CLASS_TYPES = new HashMap<>();
+
+    /**
+     * The resolved constructors indexed by their class type
+     */
+    private static final Map<Class<?>, List<ConstructorPlan>> CONSTRUCTOR_PLANS = new HashMap<>();
+
     /**
      * Private Constructor
      */
@@ -52,44 +63,7 @@ public class ScrabbleFactoryClassLoader {
      * @return The created instance (Note: might be null)
      */
     public static Object createInstance(Class<?> classType, Object... params) {
-        Constructor[] constructors = classType.getDeclaredConstructors();
-
-        Constructor targetConstructor = null;
-        List<Object> orderedParams = new ArrayList<>();
-
-        for(Constructor constructor : constructors) {
-            Class<?>[] constructorParamTypes = constructor.getParameterTypes();
-            if(constructorParamTypes.length == params.length) {
-                targetConstructor = constructor;
-                for(Class<?> constructorParamType : constructorParamTypes) {
-                    for(Object param : params) {
-                        Class<?> paramClassType = param.getClass();
-                        if(constructorParamType.equals(paramClassType)) {
-                            orderedParams.add(param);
-                        }
-                    }
-                }
-
-                // if we did not found the right constructor we need to clear the stored ordered params list
-                if(orderedParams.size() == params.length) {
-                    break;
-                } else {
-                    orderedParams.clear();
-                }
-            }
-        }
-
-        Object instance = null;
-
-        if(targetConstructor != null && orderedParams.size() == params.length) {
-            try {
-                instance = targetConstructor.newInstance(orderedParams.toArray());
-            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                e.printStackTrace();
-            }
-        }
-
-        return instance;
+        return getConstructorPlan(classType, params).newInstance(params);
     }
 
     /**
@@ -97,13 +71,19 @@ public class ScrabbleFactoryClassLoader {
      * @param className The full class name (including package name)
      * @return The Java class type (Note: might be null)
      */
-    public static Class<?> getClassForName(String className) {
+    public static synchronized Class<?> getClassForName(String className) {
+        if(CLASS_TYPES.containsKey(className)) {
+            return CLASS_TYPES.get(className);
+        }
 
+        Class<?> classType;
         try  {
-            return Class.forName(className);
+            classType = Class.forName(className);
         }  catch (ClassNotFoundException e) {
-            return null;
+            classType = null;
         }
+        CLASS_TYPES.put(className, classType);
+        return classType;
     }
 
     /**
@@ -115,4 +95,28 @@ public class ScrabbleFactoryClassLoader {
     public static Class<?> getClassForName(String packageName, String className) {
         return getClassForName(packageName + "." + className);
     }
+
+    /**
+     * Get the cached constructor plan of a class for the passed parameters and resolve it if not done yet.
+     * @param classType The class type to create an instance from
+     * @param params List of parameters which will be handed over a matching class constructor
+     * @return The constructor plan
+     */
+    private static synchronized ConstructorPlan getConstructorPlan(Class<?> classType, Object... params) {
+        List<ConstructorPlan> constructorPlans = CONSTRUCTOR_PLANS.get(classType);
+        if(constructorPlans == null) {
+            constructorPlans = new ArrayList<>();
+            CONSTRUCTOR_PLANS.put(classType, constructorPlans);
+        }
+
+        for(int i=0; i<constructorPlans.size(); i++) {
+            if(constructorPlans.get(i).matches(params)) {
+                return constructorPlans.get(i);
+            }
+        }
+
+        ConstructorPlan constructorPlan = new ConstructorPlan(classType, params);
+        constructorPlans.add(constructorPlan);
+        return constructorPlan;
+    }
 }
@@ -0,0 +1,60 @@
+package de.thb.paf.scrabblefactory.utils.debug;
+
+/**
+ * Enumeration of all metrics recorded by the frame profiler, i.e. the durations of the
+ * frame's phases as well as the frame's render, physics and memory counters.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public enum FrameMetric {
+    SCREEN_UPDATE("screen update", "ms"),
+    GAME_OBJECTS_UPDATE("game objects update", "ms"),
+    WORLD_STEP("world step", "ms"),
+    EVENT_DISPATCH("event dispatch", "ms"),
+    RENDER_LEVEL("render level", "ms"),
+    RENDER_PLAYER("render player", "ms"),
+    RENDER_ITEMS("render items", "ms"),
+    RENDER_HUD("render hud", "ms"),
+    RENDER_FLUSH("render flush", "ms"),
+    STAGE_ACT("stage act", "ms"),
+    STAGE_DRAW("stage draw", "ms"),
+    RENDER_CALLS("render calls", ""),
+    MAX_SPRITES_IN_BATCH("max sprites in batch", ""),
+    TEXTURE_BINDINGS("texture bindings", ""),
+    BODY_COUNT("bodies", ""),
+    CONTACT_COUNT("contacts", ""),
+    HEAP_USED("heap used", "kb"),
+    HEAP_DELTA("heap delta", "kb"),
+    HEAP_SHRINKS("heap shrinks", "");
+
+    /**
+     * The metric's human readable label
+     */
+    public final String label;
+
+    /**
+     * The metric's unit (Note: empty for plain counters)
+     */
+    public final String unit;
+
+    /**
+     * Constructor.
+     * @param label The metric's human readable label
+     * @param unit The metric's unit
+     */
+    FrameMetric(String label, String unit) {
+        this.label = label;
+        this.unit = unit;
+    }
+
+    /**
+     * Get the status if the metric measures the duration of a frame phase.
+     * @return Status if the metric is a frame phase
+     */
+    public boolean isPhase() {
+        return this.ordinal() <= STAGE_DRAW.ordinal();
+    }
+}
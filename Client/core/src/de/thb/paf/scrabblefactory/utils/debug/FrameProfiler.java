@@ -0,0 +1,340 @@
+package de.thb.paf.scrabblefactory.utils.debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.physics.box2d.World;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+import java.util.Locale;
+
+import de.thb.paf.scrabblefactory.managers.WorldPhysicsManager;
+
+/**
+ * Profiler measuring the durations of the frame's phases and recording the frame's render,
+ * physics and memory counters. Each metric is kept as rolling window of the latest frames
+ * providing it's minimum, average and 99th percentile.
+ *
+ * The profiler can be enabled at runtime and costs a single status check per measurement
+ * while disabled. Recording is independent of the overlay's visibility, so metrics can be
+ * collected and exported without the overlay's own rendering costs. The collected metrics
+ * can be exported as CSV or JSON for comparing them across builds.
+ * (Note: must only be used from the game thread)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class FrameProfiler {
+
+    /**
+     * The number of frames to keep per metric
+     */
+    public static final int WINDOW_SIZE = 300;
+
+    /**
+     * The number of frames between two summaries of all metrics
+     */
+    private static final int SUMMARY_INTERVAL = 30;
+
+    /**
+     * The directory to export the metrics to (relative to the local storage)
+     */
+    private static final String EXPORT_DIRECTORY = "profiling/";
+
+    /**
+     * The singleton instance of the FrameProfiler
+     */
+    private static FrameProfiler instance;
+
+    /**
+     * The rolling statistics indexed by their metric
+     */
+    private final RollingStatistics[] statistics;
+
+    /**
+     * The values accumulated within the current frame indexed by their metric
+     */
+    private final double[] frameValues;
+
+    /**
+     * The start times in nanoseconds of the running phases indexed by their metric
+     */
+    private final long[] phaseStartTimes;
+
+    /**
+     * Status if the profiler is recording
+     */
+    private boolean isEnabled;
+
+    /**
+     * Status if the profiler's overlay is visible
+     */
+    private boolean isOverlayVisible;
+
+    /**
+     * The OpenGL profiler counting texture bindings (Note: created when enabled)
+     */
+    private GLProfiler glProfiler;
+
+    /**
+     * The used heap memory in bytes at the end of the last frame
+     */
+    private long lastUsedHeap;
+
+    /**
+     * The number of recorded frames
+     */
+    private long frameCount;
+
+    /**
+     * static initializer: called when the class is loaded by the JVM
+     */
+    static {
+        instance = new FrameProfiler();
+    }
+
+    /**
+     * Private singleton constructor.
+     */
+    private FrameProfiler() {
+        FrameMetric[] metrics = FrameMetric.values();
+        this.statistics = new RollingStatistics[metrics.length];
+        for(int i=0; i<metrics.length; i++) {
+            this.statistics[i] = new RollingStatistics(WINDOW_SIZE);
+        }
+        this.frameValues = new double[metrics.length];
+        this.phaseStartTimes = new long[metrics.length];
+        this.isEnabled = false;
+        this.isOverlayVisible = false;
+        this.frameCount = 0;
+    }
+
+    /**
+     * Get the global FrameProfiler instance.
+     * @return The global frame profiler instance
+     */
+    public static FrameProfiler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Start measuring a frame phase.
+     * @param phase The phase to measure
+     */
+    public void begin(FrameMetric phase) {
+        if(this.isEnabled) {
+            this.phaseStartTimes[phase.ordinal()] = System.nanoTime();
+        }
+    }
+
+    /**
+     * Stop measuring a frame phase and add it's duration to the current frame.
+     * (Note: phases running several times per frame, e.g. the world step, get summed up)
+     * @param phase The phase to measure
+     */
+    public void end(FrameMetric phase) {
+        if(this.isEnabled) {
+            long duration = System.nanoTime() - this.phaseStartTimes[phase.ordinal()];
+            this.frameValues[phase.ordinal()] += duration / 1000000.0;
+        }
+    }
+
+    /**
+     * Record a counter of the current frame.
+     * @param metric The metric to record
+     * @param value The counter's value
+     */
+    public void record(FrameMetric metric, double value) {
+        if(this.isEnabled) {
+            this.frameValues[metric.ordinal()] = value;
+        }
+    }
+
+    /**
+     * Finish the current frame by recording the texture bindings, the Box2D and heap counters
+     * and adding all of the frame's values to their rolling statistics.
+     */
+    public void endFrame() {
+        if(!this.isEnabled) {
+            return;
+        }
+
+        this.frameValues[FrameMetric.TEXTURE_BINDINGS.ordinal()] = this.glProfiler.getTextureBindings();
+        this.glProfiler.reset();
+
+        World world = WorldPhysicsManager.getInstance().getPhysicalWorld();
+        this.frameValues[FrameMetric.BODY_COUNT.ordinal()] = world.getBodyCount();
+        this.frameValues[FrameMetric.CONTACT_COUNT.ordinal()] = world.getContactCount();
+
+        Runtime runtime = Runtime.getRuntime();
+        long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+        long heapDelta = this.frameCount > 0 ? usedHeap - this.lastUsedHeap : 0;
+        this.frameValues[FrameMetric.HEAP_USED.ordinal()] = usedHeap / 1024.0;
+        this.frameValues[FrameMetric.HEAP_DELTA.ordinal()] = heapDelta / 1024.0;
+        // (Note: Android provides no GC notifications, so only a shrinking heap is observable)
+        this.frameValues[FrameMetric.HEAP_SHRINKS.ordinal()] = heapDelta < 0 ? 1 : 0;
+        this.lastUsedHeap = usedHeap;
+
+        for(int i=0; i<this.frameValues.length; i++) {
+            this.statistics[i].add((float)this.frameValues[i]);
+            this.frameValues[i] = 0;
+        }
+
+        if(++this.frameCount % SUMMARY_INTERVAL == 0) {
+            this.summarize();
+        }
+    }
+
+    /**
+     * Calculate the minimum, average and 99th percentile of all metrics.
+     */
+    public void summarize() {
+        for(int i=0; i<this.statistics.length; i++) {
+            this.statistics[i].summarize();
+        }
+    }
+
+    /**
+     * Get the rolling statistics of a metric as of the last summary.
+     * @param metric The metric to get the statistics for
+     * @return The metric's rolling statistics
+     */
+    public RollingStatistics getStatistics(FrameMetric metric) {
+        return this.statistics[metric.ordinal()];
+    }
+
+    /**
+     * Enable or disable recording.
+     * @param isEnabled The new recording status
+     */
+    public void setEnabled(boolean isEnabled) {
+        if(this.isEnabled == isEnabled) {
+            return;
+        }
+
+        if(isEnabled) {
+            if(this.glProfiler == null) {
+                this.glProfiler = new GLProfiler(Gdx.graphics);
+            }
+            this.glProfiler.enable();
+            this.clear();
+        } else {
+            this.glProfiler.disable();
+        }
+        this.isEnabled = isEnabled;
+    }
+
+    /**
+     * Toggle recording.
+     */
+    public void toggleEnabled() {
+        this.setEnabled(!this.isEnabled);
+    }
+
+    /**
+     * Get the status if the profiler is recording.
+     * @return The recording status
+     */
+    public boolean isEnabled() {
+        return this.isEnabled;
+    }
+
+    /**
+     * Show or hide the profiler's overlay.
+     * (Note: doesn't affect recording, the overlay only shows metrics while recording)
+     * @param isOverlayVisible The new visibility status
+     */
+    public void setOverlayVisible(boolean isOverlayVisible) {
+        this.isOverlayVisible = isOverlayVisible;
+    }
+
+    /**
+     * Toggle the visibility of the profiler's overlay.
+     */
+    public void toggleOverlay() {
+        this.setOverlayVisible(!this.isOverlayVisible);
+    }
+
+    /**
+     * Get the status if the profiler's overlay is visible.
+     * @return The visibility status
+     */
+    public boolean isOverlayVisible() {
+        return this.isOverlayVisible;
+    }
+
+    /**
+     * Remove all recorded values.
+     */
+    public void clear() {
+        for(int i=0; i<this.statistics.length; i++) {
+            this.statistics[i].clear();
+            this.frameValues[i] = 0;
+        }
+        this.frameCount = 0;
+    }
+
+    /**
+     * Export the summary of all metrics as CSV and JSON file to the local storage.
+     * @return The exported CSV file
+     */
+    public FileHandle export() {
+        String fileName = EXPORT_DIRECTORY + "frame-metrics-" + System.currentTimeMillis();
+        FileHandle csvFile = Gdx.files.local(fileName + ".csv");
+        this.exportCSV(csvFile);
+        this.exportJSON(Gdx.files.local(fileName + ".json"));
+        return csvFile;
+    }
+
+    /**
+     * Export the summary of all metrics as CSV file.
+     * @param file The file to write
+     */
+    public void exportCSV(FileHandle file) {
+        this.summarize();
+
+        StringBuilder csv = new StringBuilder("metric,unit,samples,min,avg,p99\n");
+        for(FrameMetric metric : FrameMetric.values()) {
+            RollingStatistics metricStatistics = this.getStatistics(metric);
+            csv.append(metric.name().toLowerCase()).append(',')
+                    .append(metric.unit).append(',')
+                    .append(metricStatistics.getCount()).append(',')
+                    .append(String.format(Locale.US, "%.4f,%.4f,%.4f",
+                            metricStatistics.getMin(),
+                            metricStatistics.getAverage(),
+                            metricStatistics.getP99()))
+                    .append('\n');
+        }
+        file.writeString(csv.toString(), false, "UTF-8");
+    }
+
+    /**
+     * Export the summary of all metrics as JSON file.
+     * @param file The file to write
+     */
+    public void exportJSON(FileHandle file) {
+        this.summarize();
+
+        JsonObject metrics = new JsonObject();
+        for(FrameMetric metric : FrameMetric.values()) {
+            RollingStatistics metricStatistics = this.getStatistics(metric);
+            JsonObject metricSummary = new JsonObject();
+            metricSummary.addProperty("unit", metric.unit);
+            metricSummary.addProperty("samples", metricStatistics.getCount());
+            metricSummary.addProperty("min", metricStatistics.getMin());
+            metricSummary.addProperty("avg", metricStatistics.getAverage());
+            metricSummary.addProperty("p99", metricStatistics.getP99());
+            metrics.add(metric.name().toLowerCase(), metricSummary);
+        }
+
+        JsonObject export = new JsonObject();
+        export.addProperty("timestamp", System.currentTimeMillis());
+        export.addProperty("platform", Gdx.app.getType().name().toLowerCase());
+        export.addProperty("windowSize", WINDOW_SIZE);
+        export.add("metrics", metrics);
+        file.writeString(new GsonBuilder().setPrettyPrinting().create().toJson(export), false, "UTF-8");
+    }
+}
@@ -0,0 +1,137 @@
+package de.thb.paf.scrabblefactory.utils.debug;
+
+import java.util.Arrays;
+
+/**
+ * Rolling window of the latest samples of a single metric providing it's minimum,
+ * average and 99th percentile.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+public class RollingStatistics {
+
+    /**
+     * The ring buffer of samples
+     */
+    private final float[] samples;
+
+    /**
+     * The buffer used to sort the samples when calculating percentiles
+     */
+    private final float[] sortedSamples;
+
+    /**
+     * The number of samples within the window
+     */
+    private int count;
+
+    /**
+     * The ring buffer's next write index
+     */
+    private int nextIndex;
+
+    /**
+     * The minimum sample at the last summary
+     */
+    private float min;
+
+    /**
+     * The average sample at the last summary
+     */
+    private float average;
+
+    /**
+     * The 99th percentile at the last summary
+     */
+    private float p99;
+
+    /**
+     * Constructor.
+     * @param windowSize The maximum number of samples to keep
+     */
+    public RollingStatistics(int windowSize) {
+        this.samples = new float[windowSize];
+        this.sortedSamples = new float[windowSize];
+        this.clear();
+    }
+
+    /**
+     * Add a new sample replacing the oldest one if the window is full.
+     * @param sample The sample to add
+     */
+    public void add(float sample) {
+        this.samples[this.nextIndex] = sample;
+        this.nextIndex = (this.nextIndex + 1) % this.samples.length;
+        this.count = Math.min(this.count + 1, this.samples.length);
+    }
+
+    /**
+     * Calculate the minimum, average and 99th percentile of the current window.
+     */
+    public void summarize() {
+        if(this.count == 0) {
+            this.min = 0;
+            this.average = 0;
+            this.p99 = 0;
+            return;
+        }
+
+        System.arraycopy(this.samples, 0, this.sortedSamples, 0, this.count);
+        Arrays.sort(this.sortedSamples, 0, this.count);
+
+        double sum = 0;
+        for(int i=0; i<this.count; i++) {
+            sum += this.sortedSamples[i];
+        }
+
+        this.min = this.sortedSamples[0];
+        this.average = (float)(sum / this.count);
+        this.p99 = this.sortedSamples[Math.max(0, (int)Math.ceil(this.count * 0.99) - 1)];
+    }
+
+    /**
+     * Remove all samples.
+     */
+    public void clear() {
+        this.count = 0;
+        this.nextIndex = 0;
+        this.min = 0;
+        this.average = 0;
+        this.p99 = 0;
+    }
+
+    /**
+     * Get the number of samples within the window.
+     * @return The number of samples
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Get the minimum sample at the last summary.
+     * @return The minimum sample
+     */
+    public float getMin() {
+        return this.min;
+    }
+
+    /**
+     * Get the average sample at the last summary.
+     * @return The average sample
+     */
+    public float getAverage() {
+        return this.average;
+    }
+
+    /**
+     * Get the 99th percentile at the last summary.
+     * @return The 99th percentile
+     */
+    public float getP99() {
+        return this.p99;
+    }
+}
@@ -2,7 +2,6 @@ package de.thb.paf.scrabblefactory.utils.debug;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.math.Matrix4;
@@ -20,7 +19,7 @@ import static de.thb.paf.scrabblefactory.settings.Settings.Game.VIRTUAL_PIXEL_DE
 import static de.thb.paf.scrabblefactory.settings.Settings.Game.VIRTUAL_WIDTH;
 
 /**
- * Utility class helping visualizing FPS and physical Box2D elements.
+ * Utility class helping visualizing FPS, the frame profiler's metrics and physical Box2D elements.
  *
  * @author Dominic Schiller - Technische Hochschule Brandenburg
  * @version 1.0
@@ -44,42 +43,77 @@ public class VisualGameDebugger {
      */
     private Box2DDebugRenderer physicsDebugRenderer;
 
+    /**
+     * The reused builder composing the displayed lines (Note: avoids allocations per frame)
+     */
+    private final StringBuilder line;
+
     /**
      * Default Constructor
      */
     public VisualGameDebugger() {
         //init debug font
         int size = (int)(DEBUG_FONT_SIZE * VIRTUAL_PIXEL_DENSITY_MULTIPLIER);
-        fpsDisplay = new AssetLoader().loadFont(
+        float scaleFactor = RESOLUTION.virtualScaleFactor * 1/VIRTUAL_PIXEL_DENSITY_MULTIPLIER;
+        fpsDisplay = new AssetLoader().loadScaledFont(
                 FontAsset.OPEN_SANS,
                 size,
+                scaleFactor,
                 0,
                 new Color(0xcc1331ff),
                 Color.BLACK
         );
-        fpsDisplay.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        float scaleFactor = RESOLUTION.virtualScaleFactor * 1/VIRTUAL_PIXEL_DENSITY_MULTIPLIER;
-        fpsDisplay.getData().setScale(scaleFactor);
 
         // init the debug renderer
-        physicsDebugRenderer = new Box2DDebugRenderer();
+        // (Note: inactive bodies are skipped, so the player's pre-built pose bodies don't overlap)
+        physicsDebugRenderer = new Box2DDebugRenderer(true, true, false, false, false, true);
         physicsDebugRenderer.SHAPE_AWAKE.r = 204/255f;
         physicsDebugRenderer.SHAPE_AWAKE.g = 19/255f;
         physicsDebugRenderer.SHAPE_AWAKE.b = 49/255f;
         physicsDebugRenderer.SHAPE_AWAKE.a = 1.0f;
+
+        this.line = new StringBuilder();
     }
 
     /**
      * Renders all debug information to screen.
      * @param batch The game's global render batch
+     * @param renderCalls The number of draw calls issued for the last frame
      */
-    public void render(Batch batch) {
+    public void render(Batch batch, int renderCalls) {
         batch.begin();
 //        batch.setProjectionMatrix(test);
         float x = 7;
         float y = (VIRTUAL_HEIGHT * PPM) - 50;
 
-        fpsDisplay.draw(batch, "fps: " + Gdx.graphics.getFramesPerSecond(), x, y);
+        StringBuilder line = this.line;
+        line.setLength(0);
+        line.append("fps: ").append(Gdx.graphics.getFramesPerSecond());
+        fpsDisplay.draw(batch, line, x, y);
+        line.setLength(0);
+        line.append("draw calls: ").append(renderCalls);
+        fpsDisplay.draw(batch, line, x, y - fpsDisplay.getLineHeight());
+        line.setLength(0);
+        line.append("body transitions: ").append(WorldPhysicsManager.getInstance().getBodyTransitionCount());
+        fpsDisplay.draw(batch, line, x, y - 2 * fpsDisplay.getLineHeight());
+
+        // draw the profiled metrics as min / avg / p99 of the rolling window
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        if(profiler.isEnabled()) {
+            FrameMetric[] metrics = FrameMetric.values();
+            for(int i=0; i<metrics.length; i++) {
+                RollingStatistics statistics = profiler.getStatistics(metrics[i]);
+                line.setLength(0);
+                line.append(metrics[i].label).append(": ");
+                this.appendValue(statistics.getMin());
+                line.append(" / ");
+                this.appendValue(statistics.getAverage());
+                line.append(" / ");
+                this.appendValue(statistics.getP99());
+                line.append(' ').append(metrics[i].unit);
+                fpsDisplay.draw(batch, line, x, y - (3 + i) * fpsDisplay.getLineHeight());
+            }
+        }
 //        batch.setProjectionMatrix(previousProjectionMatrix);
         batch.end();
 
@@ -89,4 +123,23 @@ public class VisualGameDebugger {
                 WorldPhysicsManager.getInstance().getPhysicalWorld(),
                 ScrabbleFactory.getInstance().batch.getProjectionMatrix());
     }
+
+    /**
+     * Append a value rounded to two decimal places to the line builder.
+     * (Note: formatted by hand, since String.format and appending floats allocate)
+     * @param value The value to append
+     */
+    private void appendValue(float value) {
+        int hundredths = Math.round(value * 100);
+        if(hundredths < 0) {
+            this.line.append('-');
+            hundredths = -hundredths;
+        }
+        int fraction = hundredths % 100;
+        this.line.append(hundredths / 100).append('.');
+        if(fraction < 10) {
+            this.line.append('0');
+        }
+        this.line.append(fraction);
+    }
 }
@@ -0,0 +1,171 @@
+package de.thb.paf.scrabblefactory.utils.graphics;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Affine2;
+
+/**
+ * Represents a single draw command collected by the render queue.
+ * (Note: commands are pooled by the render queue and reused every frame)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ * @see RenderQueue
+ */
+class RenderCommand implements Comparable<RenderCommand> {
+
+    /**
+     * Enumeration of all kinds of draw commands.
+     */
+    enum Kind {
+        SPRITE,
+        REGION,
+        TRANSFORMED_REGION,
+        TEXT
+    }
+
+    /**
+     * The kind of draw command
+     */
+    Kind kind;
+
+    /**
+     * The projection to render the command with
+     */
+    RenderProjection projection;
+
+    /**
+     * The render layer the command belongs to
+     */
+    RenderLayer layer;
+
+    /**
+     * The render group the command belongs to (Note: 0 if submitted outside of any group)
+     */
+    int group;
+
+    /**
+     * The z-order within the render group
+     */
+    int zIndex;
+
+    /**
+     * The handle of the texture the command draws from
+     */
+    int textureHandle;
+
+    /**
+     * The submission order used to keep the sorting stable
+     */
+    int sequence;
+
+    /**
+     * The sprite to draw
+     */
+    Sprite sprite;
+
+    /**
+     * The texture region to draw
+     */
+    TextureRegion region;
+
+    /**
+     * The bitmap font to draw the text with
+     */
+    BitmapFont font;
+
+    /**
+     * The text to draw
+     */
+    CharSequence text;
+
+    /**
+     * The on screen x-position
+     */
+    float x;
+
+    /**
+     * The on screen y-position
+     */
+    float y;
+
+    /**
+     * The on screen width
+     */
+    float width;
+
+    /**
+     * The on screen height
+     */
+    float height;
+
+    /**
+     * The world transform applied to transformed texture regions
+     */
+    final Affine2 transform = new Affine2();
+
+    /**
+     * Draw the command's content with the given batch.
+     * (Note: the batch must have been begun with the command's projection)
+     * @param batch The render batch to draw with
+     */
+    void draw(Batch batch) {
+        switch(this.kind) {
+            case SPRITE:
+                this.sprite.draw(batch);
+                break;
+            case REGION:
+                batch.draw(this.region, this.x, this.y, this.width, this.height);
+                break;
+            case TRANSFORMED_REGION:
+                batch.draw(this.region, this.width, this.height, this.transform);
+                break;
+            case TEXT:
+                this.font.draw(batch, this.text, this.x, this.y);
+                break;
+        }
+    }
+
+    /**
+     * Release all references held by the command so it can be reused.
+     */
+    void reset() {
+        this.sprite = null;
+        this.region = null;
+        this.font = null;
+        this.text = null;
+    }
+
+    /**
+     * Get the handle of the given texture used as sort key.
+     * @param texture The texture to get the handle for
+     * @return The texture's OpenGL handle
+     */
+    static int handleOf(Texture texture) {
+        return texture.getTextureObjectHandle();
+    }
+
+    @Override
+    public int compareTo(RenderCommand other) {
+        if(this.projection != other.projection) {
+            return this.projection.ordinal() - other.projection.ordinal();
+        }
+        if(this.layer != other.layer) {
+            return this.layer.ordinal() - other.layer.ordinal();
+        }
+        if(this.group != other.group) {
+            return Integer.compare(this.group, other.group);
+        }
+        if(this.zIndex != other.zIndex) {
+            return Integer.compare(this.zIndex, other.zIndex);
+        }
+        if(this.textureHandle != other.textureHandle) {
+            return Integer.compare(this.textureHandle, other.textureHandle);
+        }
+        return Integer.compare(this.sequence, other.sequence);
+    }
+}
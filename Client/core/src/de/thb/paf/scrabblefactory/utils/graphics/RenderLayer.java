@@ -0,0 +1,15 @@
+package de.thb.paf.scrabblefactory.utils.graphics;
+
+/**
+ * Enumeration of all render layers in the order they get drawn to the screen.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+public enum RenderLayer {
+    LEVEL,
+    PLAYER,
+    ITEMS,
+    HUD
+}
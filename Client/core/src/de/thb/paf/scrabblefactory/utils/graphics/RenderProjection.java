@@ -0,0 +1,14 @@
+package de.thb.paf.scrabblefactory.utils.graphics;
+
+/**
+ * Enumeration of all projections a draw command can be rendered with.
+ * (Note: each projection is rendered in a single pass in the declared order)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+public enum RenderProjection {
+    WORLD,
+    TEXT
+}
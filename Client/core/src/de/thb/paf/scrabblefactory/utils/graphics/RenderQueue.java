@@ -0,0 +1,320 @@
+package de.thb.paf.scrabblefactory.utils.graphics;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Render stage collecting the draw commands of all graphics components within a frame.
+ *
+ * Graphics components submit their content instead of drawing it directly. On flush the
+ * collected commands get sorted by projection, render layer, render group, z-index and texture
+ * and are submitted within a single begin/end block per projection, so the batch only flushes
+ * when the texture changes instead of once per component.
+ *
+ * Render groups keep the content of a single entity together: all commands of a group are drawn
+ * before the commands of the next group, so stacked textures of one entity never end up behind
+ * the textures of another entity. Commands submitted outside of any group are drawn first and
+ * get batched by texture across entities.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ * @see de.thb.paf.scrabblefactory.models.components.graphics.IGraphicsComponent
+ */
+
+public class RenderQueue {
+
+    /**
+     * The default initial capacity of the command pool
+     */
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * List of draw commands collected during the current frame
+     */
+    private final Array<RenderCommand> commands;
+
+    /**
+     * Pool of draw commands available for reuse
+     */
+    private final Array<RenderCommand> pool;
+
+    /**
+     * The parent transform applied to submitted sprites (Note: only valid if hasTransform is set)
+     */
+    private final Affine2 transform;
+
+    /**
+     * Indicator whether a parent transform is currently applied or not
+     */
+    private boolean hasTransform;
+
+    /**
+     * The render layer assigned to submitted commands
+     */
+    private RenderLayer layer;
+
+    /**
+     * The render group assigned to submitted commands
+     */
+    private int group;
+
+    /**
+     * The number of render groups started since the last flush
+     */
+    private int groupCount;
+
+    /**
+     * The z-index assigned to submitted commands
+     */
+    private int zIndex;
+
+    /**
+     * The number of submitted commands since the last flush
+     */
+    private int sequence;
+
+    /**
+     * The number of draw calls issued by the last flush
+     */
+    private int renderCalls;
+
+    /**
+     * Default Constructor
+     */
+    public RenderQueue() {
+        this.commands = new Array<>(false, DEFAULT_CAPACITY, RenderCommand.class);
+        this.pool = new Array<>(false, DEFAULT_CAPACITY, RenderCommand.class);
+        this.transform = new Affine2();
+        this.hasTransform = false;
+        this.layer = RenderLayer.LEVEL;
+        this.group = 0;
+        this.groupCount = 0;
+        this.zIndex = 0;
+        this.sequence = 0;
+        this.renderCalls = 0;
+
+        for(int i=0; i<DEFAULT_CAPACITY; i++) {
+            this.pool.add(new RenderCommand());
+        }
+    }
+
+    /**
+     * Set the render layer assigned to subsequently submitted commands.
+     * (Note: resets the current z-index)
+     * @param layer The render layer
+     */
+    public void setLayer(RenderLayer layer) {
+        this.layer = layer;
+        this.zIndex = 0;
+    }
+
+    /**
+     * Start a new render group all subsequently submitted commands get assigned to.
+     * (Note: groups are sorted in the order they were started)
+     * @return The previous render group to restore with endGroup
+     */
+    public int beginGroup() {
+        int previousGroup = this.group;
+        this.group = ++this.groupCount;
+        return previousGroup;
+    }
+
+    /**
+     * End the current render group and restore the previous one.
+     * @param previousGroup The render group returned by the matching beginGroup call
+     */
+    public void endGroup(int previousGroup) {
+        this.group = previousGroup;
+    }
+
+    /**
+     * Get the z-index assigned to subsequently submitted commands.
+     * @return The current z-index
+     */
+    public int getZIndex() {
+        return this.zIndex;
+    }
+
+    /**
+     * Set the z-index assigned to subsequently submitted commands.
+     * @param zIndex The z-order within the current render group
+     */
+    public void setZIndex(int zIndex) {
+        this.zIndex = zIndex;
+    }
+
+    /**
+     * Apply a parent transform to all subsequently submitted sprites.
+     * @param transform The parent's world transform
+     */
+    public void setTransform(Affine2 transform) {
+        this.transform.set(transform);
+        this.hasTransform = true;
+    }
+
+    /**
+     * Remove the currently applied parent transform.
+     */
+    public void clearTransform() {
+        this.hasTransform = false;
+    }
+
+    /**
+     * Submit a sprite to draw.
+     * @param sprite The sprite to draw
+     */
+    public void submit(Sprite sprite) {
+        RenderCommand command = this.obtain(RenderProjection.WORLD);
+        command.textureHandle = RenderCommand.handleOf(sprite.getTexture());
+
+        if(this.hasTransform) {
+            float originX = sprite.getOriginX();
+            float originY = sprite.getOriginY();
+
+            command.kind = RenderCommand.Kind.TRANSFORMED_REGION;
+            command.region = sprite;
+            command.width = sprite.getWidth();
+            command.height = sprite.getHeight();
+            command.transform.set(this.transform)
+                    .translate(sprite.getX() + originX, sprite.getY() + originY)
+                    .rotate(sprite.getRotation())
+                    .translate(-originX, -originY);
+        } else {
+            command.kind = RenderCommand.Kind.SPRITE;
+            command.sprite = sprite;
+        }
+    }
+
+    /**
+     * Submit a texture region to draw.
+     * @param region The texture region to draw
+     * @param x The on screen x-position
+     * @param y The on screen y-position
+     * @param width The on screen width
+     * @param height The on screen height
+     */
+    public void submit(TextureRegion region, float x, float y, float width, float height) {
+        RenderCommand command = this.obtain(RenderProjection.WORLD);
+        command.textureHandle = RenderCommand.handleOf(region.getTexture());
+        command.kind = RenderCommand.Kind.REGION;
+        command.region = region;
+        command.x = x;
+        command.y = y;
+        command.width = width;
+        command.height = height;
+    }
+
+    /**
+     * Submit a text message to draw with the text projection.
+     * @param font The bitmap font to draw the text with
+     * @param text The text message to draw
+     * @param x The on screen x-position (in pixels)
+     * @param y The on screen y-position (in pixels)
+     */
+    public void submitText(BitmapFont font, CharSequence text, float x, float y) {
+        RenderCommand command = this.obtain(RenderProjection.TEXT);
+        command.textureHandle = RenderCommand.handleOf(font.getRegion().getTexture());
+        command.kind = RenderCommand.Kind.TEXT;
+        command.font = font;
+        command.text = text;
+        command.x = x;
+        command.y = y;
+    }
+
+    /**
+     * Sort and draw all collected commands and clear the queue afterwards.
+     * (Note: the batch is left with the world projection applied)
+     * @param batch The global render batch (must not be drawing)
+     * @param worldProjection The projection matrix for world space commands
+     * @param textProjection The projection matrix for text commands
+     */
+    public void flush(Batch batch, Matrix4 worldProjection, Matrix4 textProjection) {
+        this.commands.sort();
+        this.renderCalls = 0;
+
+        RenderProjection currentProjection = null;
+        for(int i=0; i<this.commands.size; i++) {
+            RenderCommand command = this.commands.get(i);
+
+            if(command.projection != currentProjection) {
+                if(currentProjection != null) {
+                    this.end(batch);
+                }
+                currentProjection = command.projection;
+                batch.setProjectionMatrix(
+                        currentProjection == RenderProjection.TEXT ? textProjection : worldProjection
+                );
+                batch.begin();
+            }
+
+            command.draw(batch);
+        }
+
+        if(currentProjection != null) {
+            this.end(batch);
+        }
+        batch.setProjectionMatrix(worldProjection);
+
+        this.clear();
+    }
+
+    /**
+     * Discard all collected commands without drawing them.
+     */
+    public void clear() {
+        for(int i=0; i<this.commands.size; i++) {
+            RenderCommand command = this.commands.get(i);
+            command.reset();
+            this.pool.add(command);
+        }
+        this.commands.clear();
+        this.hasTransform = false;
+        this.layer = RenderLayer.LEVEL;
+        this.group = 0;
+        this.groupCount = 0;
+        this.zIndex = 0;
+        this.sequence = 0;
+    }
+
+    /**
+     * Get the number of draw calls issued by the last flush.
+     * @return The number of draw calls
+     */
+    public int getRenderCalls() {
+        return this.renderCalls;
+    }
+
+    /**
+     * Get a pooled command initialized with the current layer, group and z-index.
+     * @param projection The projection to render the command with
+     * @return The queued command
+     */
+    private RenderCommand obtain(RenderProjection projection) {
+        RenderCommand command = this.pool.size > 0 ? this.pool.pop() : new RenderCommand();
+        command.projection = projection;
+        command.layer = this.layer;
+        command.group = this.group;
+        command.zIndex = this.zIndex;
+        command.sequence = this.sequence++;
+        this.commands.add(command);
+        return command;
+    }
+
+    /**
+     * End the batch's current pass and track the issued draw calls.
+     * @param batch The global render batch
+     */
+    private void end(Batch batch) {
+        batch.end();
+        if(batch instanceof SpriteBatch) {
+            this.renderCalls += ((SpriteBatch) batch).renderCalls;
+        }
+    }
+}
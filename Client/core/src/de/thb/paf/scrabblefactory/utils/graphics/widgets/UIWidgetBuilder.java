@@ -1,11 +1,8 @@
 package de.thb.paf.scrabblefactory.utils.graphics.widgets;
 
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
@@ -16,9 +13,11 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.TextField;
 import com.badlogic.gdx.scenes.scene2d.utils.ActorGestureListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 
+import de.thb.paf.scrabblefactory.io.AssetCache;
 import de.thb.paf.scrabblefactory.io.AssetLoader;
+import de.thb.paf.scrabblefactory.managers.UIResourceManager;
 import de.thb.paf.scrabblefactory.models.assets.FontAsset;
 import de.thb.paf.scrabblefactory.models.components.graphics.Alignment;
 import de.thb.paf.scrabblefactory.settings.Settings;
@@ -44,7 +43,7 @@ public class UIWidgetBuilder {
     private boolean isVirtualScale;
 
     /**
-     * The ui element's style definition
+     * The ui element's style definition (Note: shared by all widgets)
      */
     private Skin uiSkin;
 
@@ -84,7 +83,7 @@ public class UIWidgetBuilder {
     private int[] size;
 
     /**
-     * The widget's custom font
+     * The widget's custom font (Note: shared via the asset cache with all widgets using the same font)
      */
     private BitmapFont font;
 
@@ -109,9 +108,9 @@ public class UIWidgetBuilder {
     private Object[] selectBoxItems;
 
     /**
-     * A image button's textures: (default, pressed)
+     * A image button's drawables: (default, pressed)
      */
-    private Texture[] imageButtonTextures;
+    private Drawable[] imageButtonDrawables;
 
     /**
      * Constructor
@@ -129,7 +128,7 @@ public class UIWidgetBuilder {
         this.textFieldListener = null;
 
         this.widget = null;
-        this.uiSkin = new Skin(Gdx.files.internal("ui/glassy-ui.json"));
+        this.uiSkin = UIResourceManager.getInstance().getSkin();
 
         this.isVirtualScale = false;
     }
@@ -203,6 +202,9 @@ public class UIWidgetBuilder {
      * @return The current builder instance
      */
     public UIWidgetBuilder font(FontAsset font, int fontSize, Color textColor, Color... outlineColor) {
+        if(this.font != null) {
+            AssetCache.getInstance().release(this.font);
+        }
         this.font = new AssetLoader().loadFont(
                 font,
                 fontSize,
@@ -224,12 +226,13 @@ public class UIWidgetBuilder {
     }
 
     /**
-     * Set a image button's textures: (default, pressed)
-     * @param imageButtonTextures Lis of textures to apply
+     * Set a image button's drawables: (default, pressed)
+     * @param imageButtonDrawables List of drawables to apply
      * @return The current builder instance
+     * @see UIResourceManager#getButtonDrawable(String)
      */
-    public UIWidgetBuilder imageButtonTextures(Texture... imageButtonTextures) {
-        this.imageButtonTextures = imageButtonTextures;
+    public UIWidgetBuilder imageButtonDrawables(Drawable... imageButtonDrawables) {
+        this.imageButtonDrawables = imageButtonDrawables;
         return this;
     }
 
@@ -268,14 +271,12 @@ public class UIWidgetBuilder {
      * @return The requested UI widget
      */
     public Actor create() {
-        this.applyStyles();
-
         switch(this.widgetType) {
             case IMAGE_BUTTON:
-                if(this.imageButtonTextures != null && this.imageButtonTextures.length > 1) {
+                if(this.imageButtonDrawables != null && this.imageButtonDrawables.length > 1) {
                     this.widget = new ImageButton(
-                        new TextureRegionDrawable(new TextureRegion(this.imageButtonTextures[0])),
-                            new TextureRegionDrawable(new TextureRegion(this.imageButtonTextures[1]))
+                            this.imageButtonDrawables[0],
+                            this.imageButtonDrawables[1]
                     );
                 } else {
                     this.widget = new ImageButton(this.uiSkin);
@@ -285,14 +286,14 @@ public class UIWidgetBuilder {
                 this.widget = new TextButton(this.title, this.uiSkin);
                 break;
             case TEXT_FIELD:
-                this.widget = new TextField(this.title, this.uiSkin);
+                this.widget = new TextField(this.title, this.getTextFieldStyle());
                 break;
             case TEXT_LABEL:
-                this.widget = new Label(this.title, this.uiSkin);
+                this.widget = new Label(this.title, this.getLabelStyle());
                 ((Label)this.widget).setWrap(true);
                 break;
             case SELECT_BOX:
-                this.widget = new SelectBox(this.uiSkin);
+                this.widget = new SelectBox(this.getSelectBoxStyle());
                 ((SelectBox)this.widget).setItems(this.selectBoxItems);
                 break;
         }
@@ -304,26 +305,46 @@ public class UIWidgetBuilder {
     }
 
     /**
-     * Apply all custom style configurations.
+     * Get a text input widget's style with the custom font applied.
+     * (Note: the shared skin's style is copied, so it's not changed for other widgets)
+     * @return The text input widget's style
      */
-    private void applyStyles() {
+    private TextField.TextFieldStyle getTextFieldStyle() {
+        TextField.TextFieldStyle textFieldStyle = this.uiSkin.get(TextField.TextFieldStyle.class);
         if(this.font != null) {
-            switch(this.widgetType) {
-                case TEXT_FIELD:
-                    TextField.TextFieldStyle textFieldStyle = this.uiSkin.get(TextField.TextFieldStyle.class);
-                    textFieldStyle.font = this.font;
-                    break;
-                case TEXT_LABEL:
-                    Label.LabelStyle labelStyle = this.uiSkin.get(Label.LabelStyle.class);
-                    labelStyle.font = this.font;
-                    break;
-                case SELECT_BOX:
-                    SelectBox.SelectBoxStyle selectBoxStyle = this.uiSkin.get(SelectBox.SelectBoxStyle.class);
-                    selectBoxStyle.font = this.font;
-                    selectBoxStyle.listStyle.font = this.font;
-                    break;
-            }
+            textFieldStyle = new TextField.TextFieldStyle(textFieldStyle);
+            textFieldStyle.font = this.font;
+        }
+        return textFieldStyle;
+    }
+
+    /**
+     * Get a label's style with the custom font applied.
+     * (Note: the shared skin's style is copied, so it's not changed for other widgets)
+     * @return The label's style
+     */
+    private Label.LabelStyle getLabelStyle() {
+        Label.LabelStyle labelStyle = this.uiSkin.get(Label.LabelStyle.class);
+        if(this.font != null) {
+            labelStyle = new Label.LabelStyle(labelStyle);
+            labelStyle.font = this.font;
+        }
+        return labelStyle;
+    }
+
+    /**
+     * Get a select box's style with the custom font applied.
+     * (Note: the shared skin's style is copied, so it's not changed for other widgets)
+     * @return The select box's style
+     */
+    private SelectBox.SelectBoxStyle getSelectBoxStyle() {
+        SelectBox.SelectBoxStyle selectBoxStyle = this.uiSkin.get(SelectBox.SelectBoxStyle.class);
+        if(this.font != null) {
+            selectBoxStyle = new SelectBox.SelectBoxStyle(selectBoxStyle);
+            selectBoxStyle.font = this.font;
+            selectBoxStyle.listStyle.font = this.font;
         }
+        return selectBoxStyle;
     }
 
     /**
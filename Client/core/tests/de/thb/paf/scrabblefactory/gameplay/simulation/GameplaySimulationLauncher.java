@@ -0,0 +1,51 @@
+package de.thb.paf.scrabblefactory.gameplay.simulation;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Launcher responsible for running the headless gameplay simulation benchmark.
+ *
+ * Usage: GameplaySimulationLauncher [rounds] [round length in seconds] [level id]
+ * (Note: must be run with the android assets directory as working directory)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ * @see GameplaySimulator
+ */
+public class GameplaySimulationLauncher {
+
+    /**
+     * The default number of rounds to simulate
+     */
+    private static final int DEFAULT_ROUNDS = 100;
+
+    /**
+     * The default level to simulate
+     */
+    private static final int DEFAULT_LEVEL_ID = 1;
+
+    public static void main(String[] args) {
+        final int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        final long roundDuration = args.length > 1 ? Long.parseLong(args[1]) * 1000 : 0;
+        final int levelID = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_LEVEL_ID;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                GameplaySimulator simulator = new GameplaySimulator(levelID);
+                simulator.setRoundDuration(roundDuration);
+                // we're blocking the backend's main loop, so execute posted runnables every frame
+                simulator.setFrameHook(() -> ((HeadlessApplication) Gdx.app).executeRunnables());
+
+                SimulationReport report = simulator.run(rounds);
+                System.out.println(report);
+                Gdx.app.exit();
+            }
+        }, config);
+    }
+}
@@ -0,0 +1,135 @@
+package de.thb.paf.scrabblefactory.gameplay.timer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import de.thb.paf.scrabblefactory.ScrabbleFactoryTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests of the countdown timer counting down on a game clock.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+public class CountdownTimerTest extends ScrabbleFactoryTest {
+
+    /**
+     * The time to count down from in milliseconds
+     */
+    private static final long COUNTDOWN_TIME = 3000;
+
+    /**
+     * The clock the timer counts down on
+     */
+    private GameClock clock;
+
+    /**
+     * The timer under test
+     */
+    private CountdownTimer timer;
+
+    /**
+     * The notified countdown events in order of their notification (e.g. "tick:2000")
+     */
+    private List<String> notifications;
+
+    @Before
+    public void setUp() {
+        this.clock = new GameClock();
+        this.timer = new CountdownTimer(this.clock, COUNTDOWN_TIME);
+        this.notifications = new ArrayList<>();
+        this.timer.addCountdownListener(new ICountdownListener() {
+            @Override
+            public void onCountdownStarted(long time) {
+                notifications.add("started:" + time);
+            }
+
+            @Override
+            public void onCountdownTick(long time) {
+                notifications.add("tick:" + time);
+            }
+
+            @Override
+            public void onCountdownFinished(long time) {
+                notifications.add("finished:" + time);
+            }
+        });
+    }
+
+    @Test
+    public void testTicksAndFinishes() {
+        this.timer.start();
+        this.clock.advance(1000);
+        assertEquals(Arrays.asList("started:3000", "tick:2000"), this.notifications);
+
+        // the remaining ticks get due within a single frame
+        this.clock.advance(5000);
+        assertEquals(
+                Arrays.asList("started:3000", "tick:2000", "tick:1000", "tick:0", "finished:0"),
+                this.notifications
+        );
+        assertFalse(this.timer.isRunning());
+    }
+
+    @Test
+    public void testPauseKeepsRemainingTime() {
+        this.timer.start();
+        this.clock.advance(1500);
+        assertEquals(2000, this.timer.getRemainingTime());
+
+        this.timer.pauseTimer();
+        this.clock.advance(5000);
+        assertEquals(2, this.notifications.size());
+
+        // the next tick was due in 500 ms when the timer has been paused
+        this.timer.resumeTimer();
+        this.clock.advance(499);
+        assertEquals(2, this.notifications.size());
+        this.clock.advance(1);
+        assertEquals("tick:1000", this.notifications.get(2));
+        assertTrue(this.timer.isRunning());
+    }
+
+    @Test
+    public void testPausedClockHoldsCountdown() {
+        this.timer.start();
+        this.clock.pause();
+        this.clock.update(10f);
+        assertEquals(COUNTDOWN_TIME, this.timer.getRemainingTime());
+
+        this.clock.resume();
+        this.clock.update(1f);
+        assertEquals(2000, this.timer.getRemainingTime());
+    }
+
+    @Test
+    public void testStopFinishesCountdown() {
+        this.timer.start();
+        this.clock.advance(1000);
+        this.timer.stopTimer();
+        this.clock.advance(5000);
+
+        assertEquals(Arrays.asList("started:3000", "tick:2000", "finished:2000"), this.notifications);
+        assertFalse(this.timer.isRunning());
+    }
+
+    @Test
+    public void testRestartCountsDownFromStart() {
+        this.timer.start();
+        this.clock.advance(2000);
+        this.timer.restartTimer();
+        assertEquals(COUNTDOWN_TIME, this.timer.getRemainingTime());
+
+        this.clock.advance(1000);
+        assertEquals(2000, this.timer.getRemainingTime());
+    }
+}
@@ -0,0 +1,146 @@
+package de.thb.paf.scrabblefactory.gameplay.timer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.thb.paf.scrabblefactory.ScrabbleFactoryTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests of the frame-driven game clock.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+public class GameClockTest extends ScrabbleFactoryTest {
+
+    /**
+     * The clock under test
+     */
+    private GameClock clock;
+
+    /**
+     * The clock's elapsed times at which the scheduled tasks have been executed
+     */
+    private List<Long> executionTimes;
+
+    @Before
+    public void setUp() {
+        this.clock = new GameClock();
+        this.executionTimes = new ArrayList<>();
+    }
+
+    @Test
+    public void testCarriesSubMillisecondRemainderOver() {
+        for(int i=0; i<3; i++) {
+            this.clock.update(0.0005f);
+        }
+        assertEquals(1, this.clock.getElapsedTime());
+
+        this.clock.update(0.0005f);
+        assertEquals(2, this.clock.getElapsedTime());
+    }
+
+    @Test
+    public void testAppliesTimeScale() {
+        this.clock.setTimeScale(0.5f);
+        this.clock.update(1f);
+        assertEquals(500, this.clock.getElapsedTime());
+    }
+
+    @Test
+    public void testExecutesTaskOnceWhenDue() {
+        this.clock.schedule(100, this::recordExecution);
+
+        this.clock.advance(99);
+        assertTrue(this.executionTimes.isEmpty());
+
+        this.clock.advance(1);
+        this.clock.advance(1000);
+        assertEquals(1, this.executionTimes.size());
+        assertEquals(100L, (long)this.executionTimes.get(0));
+    }
+
+    @Test
+    public void testExecutesRepeatedTaskForEachIntervalWithinOneFrame() {
+        this.clock.schedule(100, 100, this::recordExecution);
+        this.clock.advance(350);
+
+        assertEquals(3, this.executionTimes.size());
+        for(int i=0; i<3; i++) {
+            assertEquals(100L * (i + 1), (long)this.executionTimes.get(i));
+        }
+        assertEquals(350, this.clock.getElapsedTime());
+    }
+
+    @Test
+    public void testPausedClockDoesNotAdvance() {
+        this.clock.schedule(100, this::recordExecution);
+
+        this.clock.pause();
+        this.clock.update(1f);
+        assertEquals(0, this.clock.getElapsedTime());
+        assertTrue(this.executionTimes.isEmpty());
+
+        this.clock.resume();
+        this.clock.update(0.1f);
+        assertEquals(100, this.clock.getElapsedTime());
+        assertEquals(1, this.executionTimes.size());
+    }
+
+    @Test
+    public void testKeepsRemainingFrameTimeIfTaskPausesClock() {
+        this.clock.schedule(100, () -> {
+            this.recordExecution();
+            this.clock.pause();
+        });
+
+        this.clock.advance(250);
+        assertTrue(this.clock.isPaused());
+        assertEquals(100, this.clock.getElapsedTime());
+
+        // the 150 ms not advanced yet are accounted with the next frame
+        this.clock.resume();
+        this.clock.update(0.001f);
+        assertEquals(251, this.clock.getElapsedTime());
+    }
+
+    @Test
+    public void testPausedTaskKeepsRemainingTime() {
+        GameClockTask task = this.clock.schedule(100, this::recordExecution);
+        this.clock.advance(40);
+
+        task.pause();
+        this.clock.advance(500);
+        assertTrue(this.executionTimes.isEmpty());
+
+        task.resume();
+        this.clock.advance(59);
+        assertTrue(this.executionTimes.isEmpty());
+        this.clock.advance(1);
+        assertEquals(600L, (long)this.executionTimes.get(0));
+    }
+
+    @Test
+    public void testClearCancelsAllTasks() {
+        GameClockTask task = this.clock.schedule(100, 100, this::recordExecution);
+        this.clock.clear();
+        this.clock.advance(1000);
+
+        assertTrue(task.isCancelled());
+        assertTrue(this.executionTimes.isEmpty());
+    }
+
+    /**
+     * Record the clock's elapsed time a task has been executed at.
+     */
+    private void recordExecution() {
+        this.executionTimes.add(this.clock.getElapsedTime());
+    }
+}
@@ -0,0 +1,171 @@
+package de.thb.paf.scrabblefactory.models.components.physics;
+
+import com.badlogic.gdx.utils.Array;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import de.thb.paf.scrabblefactory.ScrabbleFactoryTest;
+import de.thb.paf.scrabblefactory.models.entities.IEntity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests of the spatial hash grid's insertion and queries.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+public class SpatialHashGridTest extends ScrabbleFactoryTest {
+
+    /**
+     * The grid's width in meters
+     */
+    private static final float WIDTH = 10;
+
+    /**
+     * The grid's height in meters
+     */
+    private static final float HEIGHT = 5;
+
+    /**
+     * The cell's edge length in meters
+     */
+    private static final float CELL_SIZE = 1;
+
+    /**
+     * The grid under test
+     */
+    private SpatialHashGrid grid;
+
+    /**
+     * The array receiving the query results
+     */
+    private Array<IEntity> result;
+
+    @Before
+    public void setUp() {
+        this.grid = new SpatialHashGrid(WIDTH, HEIGHT, CELL_SIZE);
+        this.result = new Array<>();
+    }
+
+    @Test
+    public void testFindsNothingUntilBuilt() {
+        this.add(1, 1);
+
+        assertFalse(this.grid.isBuilt());
+        assertEquals(0, this.grid.queryArea(0, 0, WIDTH, HEIGHT, this.result).size);
+
+        this.grid.build();
+        assertTrue(this.grid.isBuilt());
+        assertEquals(1, this.grid.queryArea(0, 0, WIDTH, HEIGHT, this.result).size);
+    }
+
+    @Test
+    public void testQueryAreaAcrossCellBoundaries() {
+        IEntity leftOfBoundary = this.add(0.99f, 0.5f);
+        IEntity onBoundary = this.add(1f, 0.5f);
+        IEntity onUpperCorner = this.add(2.5f, 1.5f);
+        IEntity outside = this.add(2.51f, 1.5f);
+        this.grid.build();
+
+        this.grid.queryArea(0.5f, 0, 1.5f, 1, this.result);
+        this.assertFound(leftOfBoundary, onBoundary);
+
+        // the area's bounds are inclusive
+        this.grid.queryArea(1f, 0.5f, 2.5f, 1.5f, this.result);
+        this.assertFound(onBoundary, onUpperCorner);
+        assertFalse(this.result.contains(outside, true));
+    }
+
+    @Test
+    public void testQueryRadiusEdges() {
+        IEntity center = this.add(3, 3);
+        IEntity onRadius = this.add(4, 3);
+        IEntity beyondRadius = this.add(4.01f, 3);
+        IEntity diagonalNeighbour = this.add(3.7f, 3.7f);
+        IEntity cornerOfBounds = this.add(3.8f, 3.8f);
+        this.grid.build();
+
+        // the neighbours lie in adjacent cells, the corner of the query bounds is out of radius
+        this.grid.queryRadius(3, 3, 1, this.result);
+        this.assertFound(center, onRadius, diagonalNeighbour);
+        assertFalse(this.result.contains(beyondRadius, true));
+        assertFalse(this.result.contains(cornerOfBounds, true));
+    }
+
+    @Test
+    public void testQueryRangeCoversAllRows() {
+        IEntity bottom = this.add(2, 0);
+        IEntity top = this.add(2.5f, HEIGHT - 0.1f);
+        IEntity onUpperBound = this.add(3, 2);
+        IEntity outside = this.add(3.01f, 2);
+        this.grid.build();
+
+        this.grid.queryRange(2, 3, this.result);
+        this.assertFound(bottom, top, onUpperBound);
+        assertFalse(this.result.contains(outside, true));
+    }
+
+    @Test
+    public void testClampsPositionsOutsideOfBounds() {
+        IEntity belowLeft = this.add(-5, -5);
+        IEntity aboveRight = this.add(WIDTH + 40, HEIGHT + 10);
+        IEntity inside = this.add(0.5f, 0.5f);
+        this.grid.build();
+
+        this.grid.queryArea(-10, -10, 0, 0, this.result);
+        this.assertFound(belowLeft);
+
+        this.grid.queryRadius(WIDTH + 40, HEIGHT + 10, 0.1f, this.result);
+        this.assertFound(aboveRight);
+
+        this.grid.queryRange(-Float.MAX_VALUE, Float.MAX_VALUE, this.result);
+        this.assertFound(belowLeft, aboveRight, inside);
+    }
+
+    @Test
+    public void testRebuildsAfterClearanceAndGrowth() {
+        int count = 200;
+        for(int i=0; i<count; i++) {
+            this.add((i % 10) + 0.5f, (i % 5) + 0.5f);
+        }
+        this.grid.build();
+        assertEquals(count, this.grid.getSize());
+        assertEquals(count, this.grid.queryArea(0, 0, WIDTH, HEIGHT, this.result).size);
+        assertEquals(count / 10, this.grid.queryArea(0, 0, 1, 1, this.result).size);
+
+        this.grid.clear();
+        IEntity entity = this.add(7.5f, 2.5f);
+        this.grid.build();
+        this.grid.queryArea(0, 0, WIDTH, HEIGHT, this.result);
+        this.assertFound(entity);
+    }
+
+    /**
+     * Add a new entity at the given position.
+     * @param x The entity's position on the x-axis
+     * @param y The entity's position on the y-axis
+     * @return The added entity
+     */
+    private IEntity add(float x, float y) {
+        IEntity entity = Mockito.mock(IEntity.class);
+        this.grid.add(entity, x, y);
+        return entity;
+    }
+
+    /**
+     * Verify the last query found exactly the given entities.
+     * @param entities The expected entities
+     */
+    private void assertFound(IEntity... entities) {
+        assertEquals(entities.length, this.result.size);
+        for(IEntity entity : entities) {
+            assertTrue(this.result.contains(entity, true));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package de.thb.paf.scrabblefactory.models.events;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import de.thb.paf.scrabblefactory.ScrabbleFactoryTest;
+import de.thb.paf.scrabblefactory.models.IGameObject;
+
+import static de.thb.paf.scrabblefactory.models.events.GameEventType.ITEM_CONTACT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests of the lock-free game event queue.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+public class GameEventQueueTest extends ScrabbleFactoryTest {
+
+    /**
+     * The number of ring slots of the tested queue
+     */
+    private static final int CAPACITY = 4;
+
+    /**
+     * The queue under test
+     */
+    private GameEventQueue queue;
+
+    /**
+     * The game objects marking the posted payloads in order of their posting
+     */
+    private IGameObject[] targets;
+
+    @Before
+    public void setUp() {
+        this.queue = new GameEventQueue(CAPACITY);
+        this.targets = new IGameObject[4 * CAPACITY];
+        for(int i=0; i<this.targets.length; i++) {
+            this.targets[i] = Mockito.mock(IGameObject.class);
+        }
+    }
+
+    @Test
+    public void testCapacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(4, new GameEventQueue(4).getCapacity());
+        assertEquals(8, new GameEventQueue(5).getCapacity());
+        assertEquals(2, new GameEventQueue(0).getCapacity());
+    }
+
+    @Test
+    public void testPollsInPostingOrderAcrossRingWrapAround() {
+        GameEventPayload[] ringSlots = new GameEventPayload[CAPACITY];
+        for(int i=0; i<CAPACITY; i++) {
+            ringSlots[i] = this.post(i);
+        }
+        this.assertPolled(0, CAPACITY);
+
+        // the second round starts at the ring's first slot again
+        for(int i=CAPACITY; i<3 * CAPACITY; i++) {
+            assertSame(ringSlots[i % CAPACITY], this.post(i));
+            this.assertPolled(i, i + 1);
+        }
+        assertTrue(this.queue.isEmpty());
+    }
+
+    @Test
+    public void testKeepsPostingOrderWhileOverflowing() {
+        GameEventPayload[] ringSlots = new GameEventPayload[CAPACITY];
+        for(int i=0; i<CAPACITY; i++) {
+            ringSlots[i] = this.post(i);
+        }
+
+        // the ring is full, so the following payloads go to the overflow queue
+        GameEventPayload overflowPayload = this.post(CAPACITY);
+        for(int i=0; i<CAPACITY; i++) {
+            assertNotSame(ringSlots[i], overflowPayload);
+        }
+
+        // draining a single slot must not let later payloads overtake the overflowing ones
+        this.assertPolled(0, 1);
+        for(int i=0; i<CAPACITY; i++) {
+            assertNotSame(ringSlots[i], this.post(CAPACITY + 1 + i));
+        }
+
+        this.assertPolled(1, 2 * CAPACITY + 1);
+        assertTrue(this.queue.isEmpty());
+
+        // once drained the ring's slots are used again
+        assertSame(ringSlots[0], this.post(0));
+    }
+
+    @Test
+    public void testReleaseResetsPayload() {
+        GameEventPayload posted = this.queue.obtain(ITEM_CONTACT)
+                .setTarget(this.targets[0])
+                .setItem(this.targets[1]);
+        this.queue.post(posted);
+
+        GameEventPayload payload = this.queue.poll();
+        assertSame(this.targets[0], payload.getTarget());
+        this.queue.release(payload);
+
+        assertNull(payload.getEventType());
+        assertNull(payload.getTarget());
+        assertNull(payload.getItem());
+        assertNull(this.queue.poll());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPostRequiresObtainedPayload() {
+        this.queue.post(new GameEventPayload());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReleaseRequiresPolledPayload() {
+        this.post(0);
+        this.queue.release(new GameEventPayload());
+    }
+
+    /**
+     * Obtain, fill and post a payload marked with the given target.
+     * @param index The index of the payload's target
+     * @return The posted payload
+     */
+    private GameEventPayload post(int index) {
+        GameEventPayload payload = this.queue.obtain(ITEM_CONTACT).setTarget(this.targets[index]);
+        this.queue.post(payload);
+        return payload;
+    }
+
+    /**
+     * Poll and release the given range of payloads and verify their posting order.
+     * @param from The index of the first expected target (inclusive)
+     * @param to The index of the last expected target (exclusive)
+     */
+    private void assertPolled(int from, int to) {
+        for(int i=from; i<to; i++) {
+            GameEventPayload payload = this.queue.poll();
+            assertSame(this.targets[i], payload.getTarget());
+            assertSame(ITEM_CONTACT, payload.getEventType());
+            this.queue.release(payload);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package de.thb.paf.scrabblefactory.tools;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tools.bmfont.BitmapFontWriter;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import de.thb.paf.scrabblefactory.io.AssetLoader;
+import de.thb.paf.scrabblefactory.models.assets.AssetFileType;
+import de.thb.paf.scrabblefactory.models.assets.AssetType;
+import de.thb.paf.scrabblefactory.models.assets.FontAsset;
+import de.thb.paf.scrabblefactory.settings.ScreenResolution;
+import de.thb.paf.scrabblefactory.settings.Settings;
+
+/**
+ * Build tool pre-baking the bitmap fonts used by the game, so they don't have to be generated by
+ * FreeType at runtime.
+ *
+ * Each font listed in the fonts manifest gets baked for every screen resolution with all pixel
+ * density multipliers a device of that resolution might use. The sizes and border widths of the
+ * manifest are given in virtual pixels, just like the game multiplies them at runtime.
+ *
+ * Usage: BitmapFontBaker [fonts manifest path]
+ * (Note: must be run with the android assets directory as working directory)
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ * @see AssetLoader#loadFont
+ */
+public class BitmapFontBaker {
+
+    /**
+     * The default fonts manifest's path (relative to the android assets directory)
+     */
+    private static final String DEFAULT_MANIFEST_PATH = "../../core/fonts.json";
+
+    /**
+     * The minimal size of a baked font's pages
+     */
+    private static final int MIN_PAGE_SIZE = 256;
+
+    /**
+     * The maximal size of a baked font's pages (Note: supported by the GPUs of all target devices)
+     */
+    private static final int MAX_PAGE_SIZE = 2048;
+
+    /**
+     * The padding between two packed glyphs in pixels
+     */
+    private static final int PAGE_PADDING = 2;
+
+    /**
+     * The screen width in pixels of a device with a pixel density multiplier of one
+     */
+    private static final int VIRTUAL_SCREEN_WIDTH = (int)(Settings.Game.VIRTUAL_WIDTH * Settings.Game.PPM);
+
+    public static void main(final String[] args) {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                FileHandle manifestFile = args.length > 0 ?
+                        Gdx.files.absolute(args[0]) : Gdx.files.local(DEFAULT_MANIFEST_PATH);
+                JsonObject manifest = new JsonParser().parse(manifestFile.reader("UTF-8")).getAsJsonObject();
+
+                int bakedFontCount = bakeFonts(manifest.get("fonts").getAsJsonArray());
+                System.out.println("baked " + bakedFontCount + " bitmap fonts");
+                Gdx.app.exit();
+            }
+        }, config);
+    }
+
+    /**
+     * Bake all fonts of the fonts manifest for all screen resolutions.
+     * @param fontDefinitions The fonts manifest's font definitions
+     * @return The number of baked fonts
+     */
+    private static int bakeFonts(JsonArray fontDefinitions) {
+        int bakedFontCount = 0;
+        for(ScreenResolution resolution : ScreenResolution.values()) {
+            FileHandle outputDirectory = Gdx.files.local(
+                    AssetType.FONT.path + "/" + AssetLoader.BAKED_FONT_DIRECTORY + "/" + resolution.name
+            );
+            outputDirectory.emptyDirectory();
+
+            int minMultiplier = Math.max(1, resolution.minHeight / VIRTUAL_SCREEN_WIDTH);
+            int maxMultiplier = Math.max(1, resolution.maxWidth / VIRTUAL_SCREEN_WIDTH);
+            for(int multiplier=minMultiplier; multiplier<=maxMultiplier; multiplier++) {
+                for(int i=0; i<fontDefinitions.size(); i++) {
+                    bakedFontCount += bakeFont(fontDefinitions.get(i).getAsJsonObject(), multiplier, outputDirectory);
+                }
+            }
+        }
+        return bakedFontCount;
+    }
+
+    /**
+     * Bake a font definition in all of it's fill colors for a pixel density multiplier.
+     * @param fontDefinition The font definition to bake
+     * @param multiplier The pixel density multiplier to apply to the size and border width
+     * @param outputDirectory The directory to write the baked fonts to
+     * @return The number of baked fonts
+     */
+    private static int bakeFont(JsonObject fontDefinition, int multiplier, FileHandle outputDirectory) {
+        FontAsset font = getFontAsset(fontDefinition.get("font").getAsString());
+        int fontSize = fontDefinition.get("size").getAsInt() * multiplier;
+        int borderWidth = fontDefinition.get("borderWidth").getAsInt() * multiplier;
+        Color borderColor = Color.valueOf(fontDefinition.get("borderColor").getAsString());
+        JsonArray fillColors = fontDefinition.get("fillColors").getAsJsonArray();
+
+        FreeTypeFontGenerator fontGenerator = new FreeTypeFontGenerator(Gdx.files.internal(
+                AssetType.FONT.path + "/" + font.fileName + AssetFileType.TRUE_TYPE_FONT.fileEnding
+        ));
+
+        int bakedFontCount = 0;
+        for(int i=0; i<fillColors.size(); i++) {
+            Color fillColor = Color.valueOf(fillColors.get(i).getAsString());
+            FreeTypeFontGenerator.FreeTypeFontParameter fontParameter = AssetLoader.createFontParameter(
+                    fontSize, borderWidth, fillColor, borderColor
+            );
+            String fontName = AssetLoader.getBakedFontName(font, fontParameter);
+            if(outputDirectory.child(fontName + AssetFileType.BITMAP_FONT.fileEnding).exists()) {
+                // (Note: skips fonts listed several times in the manifest)
+                continue;
+            }
+
+            int pageSize = getPageSize(fontParameter);
+            PixmapPacker packer = new PixmapPacker(
+                    pageSize, pageSize, Pixmap.Format.RGBA8888, PAGE_PADDING, false, new PixmapPacker.SkylineStrategy()
+            );
+            fontParameter.packer = packer;
+            FreeTypeFontGenerator.FreeTypeBitmapFontData fontData = fontGenerator.generateData(fontParameter);
+
+            String[] pageReferences = BitmapFontWriter.writePixmaps(packer.getPages(), outputDirectory, fontName);
+            BitmapFontWriter.FontInfo fontInfo = new BitmapFontWriter.FontInfo();
+            fontInfo.face = font.fileName;
+            fontInfo.size = fontSize;
+            BitmapFontWriter.writeFont(
+                    fontData,
+                    pageReferences,
+                    outputDirectory.child(fontName + AssetFileType.BITMAP_FONT.fileEnding),
+                    fontInfo,
+                    pageSize,
+                    pageSize
+            );
+
+            packer.dispose();
+            bakedFontCount++;
+        }
+
+        fontGenerator.dispose();
+        return bakedFontCount;
+    }
+
+    /**
+     * Get the page size fitting all glyphs of a font (Note: might still need several pages for large fonts).
+     * @param fontParameter The FreeType parameters of the font to bake
+     * @return The font's page size
+     */
+    private static int getPageSize(FreeTypeFontGenerator.FreeTypeFontParameter fontParameter) {
+        int glyphSize = fontParameter.size + 2 * MathUtils.ceil(fontParameter.borderWidth) + PAGE_PADDING;
+        int glyphsArea = fontParameter.characters.length() * glyphSize * glyphSize;
+        int pageSize = MathUtils.nextPowerOfTwo((int)Math.ceil(Math.sqrt(glyphsArea)));
+        return MathUtils.clamp(pageSize, MIN_PAGE_SIZE, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Get the font asset by it's file name.
+     * @param fileName The font asset's file name
+     * @return The font asset
+     */
+    private static FontAsset getFontAsset(String fileName) {
+        for(FontAsset font : FontAsset.values()) {
+            if(font.fileName.equals(fileName)) {
+                return font;
+            }
+        }
+        throw new IllegalArgumentException("unknown font asset: " + fileName);
+    }
+}
@@ -0,0 +1,666 @@
+package de.thb.paf.scrabblefactory.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor generating a JSON deserializer for each class annotated with (or inheriting)
+ * the JsonDeserializable annotation, plus an index registering the deserializers of all concrete classes.
+ *
+ * Each generated deserializer reads the class' own JsonField fields from a streaming JSON reader and
+ * delegates all other keys to the deserializer of it's super class. Supported field types are
+ * primitives and their boxed types, strings, enums (mapped by their serialized names), libGDX
+ * vectors, deserializable classes with a no-arg constructor and arrays of all of them.
+ *
+ * @author Dominic Schiller - Technische Hochschule Brandenburg
+ * @version 1.0
+ * @since 1.0
+ */
+
+@SupportedAnnotationTypes({
+        JsonDeserializerProcessor.JSON_DESERIALIZABLE,
+        JsonDeserializerProcessor.JSON_FIELD,
+        JsonDeserializerProcessor.SERIALIZED_NAME
+})
+public class JsonDeserializerProcessor extends AbstractProcessor {
+
+    /**
+     * The full class name of the annotation marking deserializable classes
+     */
+    static final String JSON_DESERIALIZABLE = "de.thb.paf.scrabblefactory.io.json.JsonDeserializable";
+
+    /**
+     * The full class name of the annotation marking deserialized fields
+     */
+    static final String JSON_FIELD = "de.thb.paf.scrabblefactory.io.json.JsonField";
+
+    /**
+     * The full class name of Gson's serialized name annotation
+     */
+    static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+
+    /**
+     * The full class name of libGDX' 2D vector
+     */
+    private static final String VECTOR2 = "com.badlogic.gdx.math.Vector2";
+
+    /**
+     * The java package of the deserializer interfaces and the generated index
+     */
+    private static final String JSON_PACKAGE = "de.thb.paf.scrabblefactory.io.json";
+
+    /**
+     * The class name of the generated index (Note: must match JsonDeserializers.INDEX_CLASS_NAME)
+     */
+    private static final String INDEX_NAME = "JsonDeserializerIndex";
+
+    /**
+     * The suffix appended to a class' name to get it's deserializer's name
+     */
+    private static final String DESERIALIZER_SUFFIX = "JsonDeserializer";
+
+    /**
+     * The indentation of one block level in the generated sources
+     */
+    private static final String INDENT = "    ";
+
+    /**
+     * Status if the deserializers have been generated (Note: generated sources are not processed again)
+     */
+    private boolean isProcessed;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        // (Note: the supported annotations are claimed, since no other processor handles them)
+        if(this.isProcessed || roundEnv.processingOver()) {
+            return true;
+        }
+
+        TypeElement deserializableAnnotation = this.processingEnv.getElementUtils().getTypeElement(JSON_DESERIALIZABLE);
+        if(deserializableAnnotation == null) {
+            return true;
+        }
+
+        List<TypeElement> indexedTypes = new ArrayList<>();
+        for(Element element : roundEnv.getElementsAnnotatedWith(deserializableAnnotation)) {
+            if(element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+
+            TypeElement type = (TypeElement) element;
+            if(this.generateDeserializer(type) && this.isIndexable(type)) {
+                indexedTypes.add(type);
+            }
+        }
+
+        if(!indexedTypes.isEmpty()) {
+            this.generateIndex(indexedTypes);
+        }
+        this.isProcessed = true;
+        return true;
+    }
+
+    /**
+     * Generate the deserializer of a deserializable class.
+     * @param type The deserializable class
+     * @return The success status
+     */
+    private boolean generateDeserializer(TypeElement type) {
+        String packageName = this.getPackageName(type);
+        String typeName = this.getTypeName(type.asType());
+        String deserializerName = this.getDeserializerName(type);
+        TypeElement superType = this.getDeserializableSuperType(type);
+
+        Map<String, String> enumMethods = new LinkedHashMap<>();
+        StringBuilder fieldCases = new StringBuilder();
+        StringBuilder fieldMethods = new StringBuilder();
+        boolean isValid = true;
+
+        for(VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if(this.getAnnotationMirror(field, JSON_FIELD) == null) {
+                continue;
+            }
+
+            Set<Modifier> modifiers = field.getModifiers();
+            if(modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL) || modifiers.contains(Modifier.STATIC)) {
+                this.error(field, "JSON fields must neither be private, nor final, nor static");
+                isValid = false;
+                continue;
+            }
+
+            String fieldName = field.getSimpleName().toString();
+            String methodName = "parse" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+            String method = this.createFieldMethod(methodName, field.asType(), enumMethods);
+            if(method == null) {
+                this.error(field, "unsupported JSON field type: " + field.asType());
+                isValid = false;
+                continue;
+            }
+            fieldMethods.append("\n").append(method);
+
+            fieldCases.append(indent(3)).append("case \"").append(escape(this.getJsonName(field))).append("\":\n")
+                    .append(indent(4)).append("if(reader.peek() == JsonToken.NULL) {\n")
+                    .append(indent(5)).append("reader.nextNull();\n")
+                    .append(indent(4)).append("} else {\n")
+                    .append(indent(5)).append("target.").append(fieldName).append(" = ").append(methodName).append("(reader);\n")
+                    .append(indent(4)).append("}\n")
+                    .append(indent(4)).append("return true;\n");
+        }
+
+        if(!isValid) {
+            return false;
+        }
+
+        String unknownFieldStatement = superType != null ?
+                "return " + this.getQualifiedDeserializerName(superType) + ".INSTANCE.readField(reader, name, target);\n" :
+                "return false;\n";
+
+        StringBuilder source = new StringBuilder();
+        if(!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import com.google.gson.stream.JsonReader;\n")
+                .append("import com.google.gson.stream.JsonToken;\n\n")
+                .append("import java.io.IOException;\n")
+                .append("import java.util.ArrayList;\n")
+                .append("import java.util.List;\n\n")
+                .append("import ").append(JSON_PACKAGE).append(".IJsonDeserializer;\n\n")
+                .append("/**\n")
+                .append(" * JSON deserializer of {@link ").append(typeName).append("}.\n")
+                .append(" * (Note: generated by ").append(this.getClass().getSimpleName()).append(", do not edit)\n")
+                .append(" */\n")
+                .append("public final class ").append(deserializerName)
+                .append(" implements IJsonDeserializer<").append(typeName).append("> {\n\n")
+                .append(indent(1)).append("/**\n")
+                .append(indent(1)).append(" * The shared deserializer instance\n")
+                .append(indent(1)).append(" */\n")
+                .append(indent(1)).append("public static final ").append(deserializerName)
+                .append(" INSTANCE = new ").append(deserializerName).append("();\n\n");
+
+        if(this.isCreatable(type)) {
+            source.append(indent(1)).append("/**\n")
+                    .append(indent(1)).append(" * Create a new instance and read the reader's next JSON object into it.\n")
+                    .append(indent(1)).append(" * @param reader The JSON reader positioned at the object to read\n")
+                    .append(indent(1)).append(" * @return The created instance\n")
+                    .append(indent(1)).append(" * @throws IOException if the JSON can't be read\n")
+                    .append(indent(1)).append(" */\n")
+                    .append(indent(1)).append("public static ").append(typeName).append(" create(JsonReader reader) throws IOException {\n")
+                    .append(indent(2)).append(typeName).append(" target = new ").append(typeName).append("();\n")
+                    .append(indent(2)).append("INSTANCE.read(reader, target);\n")
+                    .append(indent(2)).append("return target;\n")
+                    .append(indent(1)).append("}\n\n");
+        }
+
+        source.append(indent(1)).append("@Override\n")
+                .append(indent(1)).append("public void read(JsonReader reader, ").append(typeName).append(" target) throws IOException {\n")
+                .append(indent(2)).append("reader.beginObject();\n")
+                .append(indent(2)).append("while(reader.hasNext()) {\n")
+                .append(indent(3)).append("if(!this.readField(reader, reader.nextName(), target)) {\n")
+                .append(indent(4)).append("reader.skipValue();\n")
+                .append(indent(3)).append("}\n")
+                .append(indent(2)).append("}\n")
+                .append(indent(2)).append("reader.endObject();\n")
+                .append(indent(1)).append("}\n\n")
+                .append(indent(1)).append("@Override\n")
+                .append(indent(1)).append("public boolean readField(JsonReader reader, String name, ").append(typeName).append(" target) throws IOException {\n");
+
+        if(fieldCases.length() > 0) {
+            source.append(indent(2)).append("switch(name) {\n")
+                    .append(fieldCases)
+                    .append(indent(3)).append("default:\n")
+                    .append(indent(4)).append(unknownFieldStatement)
+                    .append(indent(2)).append("}\n");
+        } else {
+            source.append(indent(2)).append(unknownFieldStatement);
+        }
+        source.append(indent(1)).append("}\n")
+                .append(fieldMethods);
+
+        for(Map.Entry<String, String> enumMethod : enumMethods.entrySet()) {
+            source.append("\n").append(this.createEnumMethod(enumMethod.getValue(), enumMethod.getKey()));
+        }
+        source.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? deserializerName : packageName + "." + deserializerName;
+        return this.writeSource(qualifiedName, source.toString(), type);
+    }
+
+    /**
+     * Generate the index registering the deserializers of all concrete classes.
+     * @param types The concrete deserializable classes
+     */
+    private void generateIndex(List<TypeElement> types) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(JSON_PACKAGE).append(";\n\n")
+                .append("import java.util.Map;\n\n")
+                .append("/**\n")
+                .append(" * Index of the JSON deserializers of all concrete deserializable classes.\n")
+                .append(" * (Note: generated by ").append(this.getClass().getSimpleName()).append(", do not edit)\n")
+                .append(" */\n")
+                .append("public final class ").append(INDEX_NAME).append(" implements IJsonDeserializerIndex {\n\n")
+                .append(indent(1)).append("@Override\n")
+                .append(indent(1)).append("public void register(Map<Class<?>, IJsonDeserializer<?>> deserializers) {\n");
+
+        for(int i=0; i<types.size(); i++) {
+            TypeElement type = types.get(i);
+            source.append(indent(2)).append("deserializers.put(")
+                    .append(this.getTypeName(type.asType())).append(".class, ")
+                    .append(this.getQualifiedDeserializerName(type)).append(".INSTANCE);\n");
+        }
+
+        source.append(indent(1)).append("}\n")
+                .append("}\n");
+        this.writeSource(JSON_PACKAGE + "." + INDEX_NAME, source.toString(), types.toArray(new Element[types.size()]));
+    }
+
+    /**
+     * Create the method parsing a field's value.
+     * @param methodName The method's name
+     * @param fieldType The field's type
+     * @param enumMethods The names of the enum parsing methods indexed by the enum's class name
+     * @return The method's source (Note: null if the field's type is not supported)
+     */
+    private String createFieldMethod(String methodName, TypeMirror fieldType, Map<String, String> enumMethods) {
+        String fieldTypeName = this.getTypeName(fieldType);
+        StringBuilder method = new StringBuilder();
+        method.append(indent(1)).append("private static ").append(fieldTypeName).append(" ")
+                .append(methodName).append("(JsonReader reader) throws IOException {\n");
+
+        if(fieldType.getKind() != TypeKind.ARRAY) {
+            String valueExpression = this.getValueExpression(fieldType, enumMethods);
+            if(valueExpression == null) {
+                return null;
+            }
+            method.append(indent(2)).append("return ").append(valueExpression).append(";\n");
+        } else {
+            TypeMirror componentType = ((ArrayType) fieldType).getComponentType();
+            String valueExpression = this.getValueExpression(componentType, enumMethods);
+            if(valueExpression == null) {
+                return null;
+            }
+
+            boolean isPrimitive = componentType.getKind().isPrimitive();
+            String componentTypeName = this.getTypeName(componentType);
+            String elementTypeName = isPrimitive ?
+                    this.processingEnv.getTypeUtils().boxedClass((javax.lang.model.type.PrimitiveType) componentType).getQualifiedName().toString() :
+                    componentTypeName;
+
+            method.append(indent(2)).append("List<").append(elementTypeName).append("> values = new ArrayList<>();\n")
+                    .append(indent(2)).append("reader.beginArray();\n")
+                    .append(indent(2)).append("while(reader.hasNext()) {\n");
+            if(isPrimitive) {
+                method.append(indent(3)).append("values.add(").append(valueExpression).append(");\n");
+            } else {
+                method.append(indent(3)).append("if(reader.peek() == JsonToken.NULL) {\n")
+                        .append(indent(4)).append("reader.nextNull();\n")
+                        .append(indent(4)).append("values.add(null);\n")
+                        .append(indent(3)).append("} else {\n")
+                        .append(indent(4)).append("values.add(").append(valueExpression).append(");\n")
+                        .append(indent(3)).append("}\n");
+            }
+            method.append(indent(2)).append("}\n")
+                    .append(indent(2)).append("reader.endArray();\n");
+
+            if(isPrimitive) {
+                method.append(indent(2)).append(fieldTypeName).append(" array = new ").append(componentTypeName).append("[values.size()];\n")
+                        .append(indent(2)).append("for(int i=0; i<array.length; i++) {\n")
+                        .append(indent(3)).append("array[i] = values.get(i);\n")
+                        .append(indent(2)).append("}\n")
+                        .append(indent(2)).append("return array;\n");
+            } else {
+                method.append(indent(2)).append("return values.toArray(new ").append(componentTypeName).append("[values.size()]);\n");
+            }
+        }
+
+        method.append(indent(1)).append("}\n");
+        return method.toString();
+    }
+
+    /**
+     * Create the method mapping a serialized name to it's enum constant.
+     * @param methodName The method's name
+     * @param enumName The enum's full class name
+     * @return The method's source
+     */
+    private String createEnumMethod(String methodName, String enumName) {
+        TypeElement enumType = this.processingEnv.getElementUtils().getTypeElement(enumName);
+
+        // (Note: keeps the first constant of duplicate serialized names like Gson does)
+        Map<String, String> constants = new LinkedHashMap<>();
+        for(Element element : enumType.getEnclosedElements()) {
+            if(element.getKind() == ElementKind.ENUM_CONSTANT) {
+                String serializedName = this.getAnnotationValue(element, SERIALIZED_NAME);
+                String constantName = element.getSimpleName().toString();
+                String jsonName = serializedName != null ? serializedName : constantName;
+                if(!constants.containsKey(jsonName)) {
+                    constants.put(jsonName, constantName);
+                }
+            }
+        }
+
+        StringBuilder method = new StringBuilder();
+        method.append(indent(1)).append("private static ").append(enumName).append(" ").append(methodName).append("(String value) {\n")
+                .append(indent(2)).append("switch(value) {\n");
+        for(Map.Entry<String, String> constant : constants.entrySet()) {
+            method.append(indent(3)).append("case \"").append(escape(constant.getKey())).append("\":\n")
+                    .append(indent(4)).append("return ").append(enumName).append(".").append(constant.getValue()).append(";\n");
+        }
+        method.append(indent(3)).append("default:\n")
+                .append(indent(4)).append("return null;\n")
+                .append(indent(2)).append("}\n")
+                .append(indent(1)).append("}\n");
+        return method.toString();
+    }
+
+    /**
+     * Get the expression reading a single value of a type from the JSON reader.
+     * @param type The value's type
+     * @param enumMethods The names of the enum parsing methods indexed by the enum's class name
+     * @return The value's expression (Note: null if the type is not supported)
+     */
+    private String getValueExpression(TypeMirror type, Map<String, String> enumMethods) {
+        TypeMirror valueType = type;
+        if(valueType.getKind() == TypeKind.DECLARED) {
+            try {
+                valueType = this.processingEnv.getTypeUtils().unboxedType(valueType);
+            } catch(IllegalArgumentException e) {
+                // not a boxed primitive type
+            }
+        }
+
+        switch(valueType.getKind()) {
+            case BOOLEAN:
+                return "reader.nextBoolean()";
+            case BYTE:
+                return "(byte)reader.nextInt()";
+            case SHORT:
+                return "(short)reader.nextInt()";
+            case INT:
+                return "reader.nextInt()";
+            case LONG:
+                return "reader.nextLong()";
+            case FLOAT:
+                return "(float)reader.nextDouble()";
+            case DOUBLE:
+                return "reader.nextDouble()";
+            case CHAR:
+                return "reader.nextString().charAt(0)";
+            case DECLARED:
+                break;
+            default:
+                return null;
+        }
+
+        TypeElement typeElement = (TypeElement) ((DeclaredType) valueType).asElement();
+        String typeName = typeElement.getQualifiedName().toString();
+        if(typeName.equals(String.class.getName())) {
+            return "reader.nextString()";
+        } else if(typeName.equals(VECTOR2)) {
+            return JSON_PACKAGE + ".JsonReaderHelper.readVector2(reader)";
+        } else if(typeElement.getKind() == ElementKind.ENUM) {
+            String methodName = enumMethods.get(typeName);
+            if(methodName == null) {
+                methodName = "to" + typeElement.getSimpleName();
+                while(enumMethods.containsValue(methodName)) {
+                    methodName += "_";
+                }
+                enumMethods.put(typeName, methodName);
+            }
+            return methodName + "(reader.nextString())";
+        } else if(this.isCreatable(typeElement)) {
+            return this.getQualifiedDeserializerName(typeElement) + ".create(reader)";
+        }
+        return null;
+    }
+
+    /**
+     * Get the nearest super class of a class which is deserializable.
+     * @param type The class to get the super class for
+     * @return The deserializable super class (Note: null if there is none)
+     */
+    private TypeElement getDeserializableSuperType(TypeElement type) {
+        TypeMirror superType = type.getSuperclass();
+        if(superType.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        TypeElement superElement = (TypeElement) ((DeclaredType) superType).asElement();
+        return this.isDeserializable(superElement) ? superElement : null;
+    }
+
+    /**
+     * Check if a class is deserializable, i.e. annotated with or inheriting the JsonDeserializable annotation.
+     * @param type The class to check
+     * @return Status if the class is deserializable
+     */
+    private boolean isDeserializable(TypeElement type) {
+        for(AnnotationMirror annotation : this.processingEnv.getElementUtils().getAllAnnotationMirrors(type)) {
+            if(annotation.getAnnotationType().toString().equals(JSON_DESERIALIZABLE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if the deserializer of a class can create new instances, i.e. the class is concrete and
+     * has a no-arg constructor visible to it's package.
+     * @param type The class to check
+     * @return Status if the class' instances can be created
+     */
+    private boolean isCreatable(TypeElement type) {
+        if(type.getKind() != ElementKind.CLASS
+                || type.getModifiers().contains(Modifier.ABSTRACT)
+                || !this.isDeserializable(type)) {
+            return false;
+        }
+
+        if(type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+
+        for(ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if(constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if a class can be registered by the generated index, i.e. it's concrete and public.
+     * @param type The class to check
+     * @return Status if the class can be indexed
+     */
+    private boolean isIndexable(TypeElement type) {
+        if(type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+
+        Element element = type;
+        while(element instanceof TypeElement) {
+            if(!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * Get the JSON key of a field.
+     * @param field The field
+     * @return The field's JSON key
+     */
+    private String getJsonName(VariableElement field) {
+        String jsonName = this.getAnnotationValue(field, JSON_FIELD);
+        if(jsonName == null || jsonName.isEmpty()) {
+            jsonName = this.getAnnotationValue(field, SERIALIZED_NAME);
+        }
+        if(jsonName == null || jsonName.isEmpty()) {
+            jsonName = field.getSimpleName().toString();
+        }
+        return jsonName;
+    }
+
+    /**
+     * Get an annotation of an element.
+     * @param element The annotated element
+     * @param annotationName The annotation's full class name
+     * @return The annotation (Note: null if the element is not annotated with it)
+     */
+    private AnnotationMirror getAnnotationMirror(Element element, String annotationName) {
+        for(AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if(annotation.getAnnotationType().toString().equals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the explicitly set 'value' of an element's annotation.
+     * @param element The annotated element
+     * @param annotationName The annotation's full class name
+     * @return The annotation's value (Note: null if the element is not annotated or the value is not set)
+     */
+    private String getAnnotationValue(Element element, String annotationName) {
+        AnnotationMirror annotation = this.getAnnotationMirror(element, annotationName);
+        if(annotation == null) {
+            return null;
+        }
+
+        for(Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : annotation.getElementValues().entrySet()) {
+            if(value.getKey().getSimpleName().contentEquals("value")) {
+                return String.valueOf(value.getValue().getValue());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the java package name of a class.
+     * @param type The class
+     * @return The class' package name (Note: empty for the default package)
+     */
+    private String getPackageName(TypeElement type) {
+        return this.processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    }
+
+    /**
+     * Get the source name of a type without type arguments.
+     * @param type The type
+     * @return The type's source name
+     */
+    private String getTypeName(TypeMirror type) {
+        return this.processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    /**
+     * Get the simple name of a class' deserializer (Note: nested classes are joined by underscores).
+     * @param type The class
+     * @return The deserializer's simple name
+     */
+    private String getDeserializerName(TypeElement type) {
+        String name = type.getSimpleName().toString();
+        Element element = type.getEnclosingElement();
+        while(element instanceof TypeElement) {
+            name = element.getSimpleName() + "_" + name;
+            element = element.getEnclosingElement();
+        }
+        return name + DESERIALIZER_SUFFIX;
+    }
+
+    /**
+     * Get the full class name of a class' deserializer.
+     * @param type The class
+     * @return The deserializer's full class name
+     */
+    private String getQualifiedDeserializerName(TypeElement type) {
+        String packageName = this.getPackageName(type);
+        String deserializerName = this.getDeserializerName(type);
+        return packageName.isEmpty() ? deserializerName : packageName + "." + deserializerName;
+    }
+
+    /**
+     * Write a generated source file.
+     * @param qualifiedName The generated class' full class name
+     * @param source The generated source
+     * @param originatingElements The elements the source has been generated from
+     * @return The success status
+     */
+    private boolean writeSource(String qualifiedName, String source, Element... originatingElements) {
+        try {
+            Writer writer = this.processingEnv.getFiler().createSourceFile(qualifiedName, originatingElements).openWriter();
+            writer.write(source);
+            writer.close();
+            return true;
+        } catch(IOException e) {
+            this.processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "failed to write " + qualifiedName + ": " + e.getMessage()
+            );
+            return false;
+        }
+    }
+
+    /**
+     * Report an error on an element.
+     * @param element The erroneous element
+     * @param message The error message
+     */
+    private void error(Element element, String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * Get the indentation of a block level.
+     * @param level The block level
+     * @return The level's indentation
+     */
+    private static String indent(int level) {
+        StringBuilder indentation = new StringBuilder();
+        for(int i=0; i<level; i++) {
+            indentation.append(INDENT);
+        }
+        return indentation.toString();
+    }
+
+    /**
+     * Escape a text to be used as Java string literal.
+     * @param text The text to escape
+     * @return The escaped text
+     */
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}